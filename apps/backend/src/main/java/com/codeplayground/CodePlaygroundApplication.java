@@ -4,6 +4,9 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
 /**
  * CodePlayground 메인 애플리케이션 클래스.
  *
@@ -25,6 +28,8 @@ public class CodePlaygroundApplication {
      * @param args 명령줄 인수
      */
     public static void main(final String[] args) {
+        // DB(hibernate.jdbc.time_zone)와 JSON이 UTC를 사용하므로 LocalDateTime.now()도 UTC 기준으로 맞춥니다.
+        TimeZone.setDefault(TimeZone.getTimeZone(ZoneOffset.UTC));
         SpringApplication.run(CodePlaygroundApplication.class, args);
     }
 }
\ No newline at end of file
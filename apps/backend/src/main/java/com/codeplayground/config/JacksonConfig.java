@@ -0,0 +1,79 @@
+package com.codeplayground.config;
+
+import com.codeplayground.dto.SparseFieldSet;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Jackson 설정 클래스.
+ * {@link SparseFieldSet} 필터가 지정되지 않은 직렬화에서는 요약 응답 DTO의 모든 필드를 포함하도록
+ * 기본 필터 제공자를 등록합니다.
+ *
+ * <p>JSON 외에 {@code application/cbor}와 {@code application/x-jackson-smile} 요청/응답을 지원합니다.
+ * 바이너리 변환기는 JSON과 같은 {@link Jackson2ObjectMapperBuilder}로 만들어 날짜 형식, 필드 필터 등 설정이 같고,
+ * 메시지 변환기 순서상 JSON 뒤에 있으므로 Accept 헤더가 없거나 모든 형식을 허용하면 JSON으로 응답합니다.
+ * 같은 URL이 Accept에 따라 다른 표현을 가지므로 API 응답에 {@code Vary: Accept}를 추가하고,
+ * ETag는 {@link ResponseFormatNegotiator}로 형식마다 다르게 만듭니다.</p>
+ */
+@Configuration
+public class JacksonConfig implements WebMvcConfigurer {
+
+    /**
+     * 알 수 없는 필터 ID를 무시하는 기본 필터 제공자를 등록합니다.
+     *
+     * @return ObjectMapper 빌더 설정
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    /**
+     * CBOR 메시지 변환기를 등록합니다.
+     *
+     * @param builder 애플리케이션 설정이 적용된 ObjectMapper 빌더
+     * @return CBOR 메시지 변환기
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile 메시지 변환기를 등록합니다.
+     *
+     * @param builder 애플리케이션 설정이 적용된 ObjectMapper 빌더
+     * @return Smile 메시지 변환기
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                                     final Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
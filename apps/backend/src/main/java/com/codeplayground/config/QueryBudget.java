@@ -0,0 +1,27 @@
+package com.codeplayground.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드의 요청당 최대 SQL 실행 수.
+ * 초과하면 경고 로그와 {@code code_playground.http.db.budget.exceeded} 메트릭을 남기고,
+ * {@code code-playground.query-stats.fail-on-budget-exceeded}가 true이면(테스트 프로필) 요청을 실패시킵니다.
+ *
+ * <p>N+1 조회처럼 데이터 양에 따라 쿼리 수가 늘어나는 회귀를 테스트와 운영 메트릭에서 바로 드러내기 위해 사용합니다.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * 허용하는 최대 SQL 실행 수 (JDBC 배치는 한 번으로 셉니다).
+     *
+     * @return 최대 SQL 실행 수
+     */
+    int maxQueries();
+}
@@ -0,0 +1,44 @@
+package com.codeplayground.config;
+
+import lombok.Getter;
+
+/**
+ * 요청 하나의 SQL 실행 통계.
+ * 요청을 처리하는 스레드에서만 갱신되며, {@link QueryStatisticsContext}로 접근합니다.
+ */
+@Getter
+public class QueryStatistics {
+
+    /**
+     * 실행한 SQL 수 (JDBC 배치는 한 번).
+     */
+    private long queries;
+
+    /**
+     * 결과 집합에서 읽은 행 수.
+     */
+    private long rows;
+
+    /**
+     * 결과 집합에서 읽은 문자열과 바이너리 값의 크기 합계 (바이트). 문자열은 문자 수로 어림합니다.
+     */
+    private long readBytes;
+
+    /**
+     * SQL 실행에 걸린 시간 합계 (밀리초). 결과 집합을 읽는 시간은 포함하지 않습니다.
+     */
+    private long elapsedMillis;
+
+    void recordQuery(final long elapsed) {
+        queries++;
+        elapsedMillis += elapsed;
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    void recordRead(final long bytes) {
+        readBytes += bytes;
+    }
+}
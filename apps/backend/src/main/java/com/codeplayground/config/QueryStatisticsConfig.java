@@ -0,0 +1,66 @@
+package com.codeplayground.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 통계 설정 클래스.
+ * 애플리케이션 DataSource를 datasource-proxy로 감싸 요청별 SQL 실행 수, 읽은 행 수와 값 크기, DB 시간을 수집합니다.
+ *
+ * <p>감싸는 대상은 {@code dataSource} 빈 하나이므로 읽기 복제본 라우팅 여부와 관계없이 모든 JPA/JDBC 접근이 집계됩니다.
+ * 커넥션 풀 자체와 복제 지연 확인 쿼리는 프록시를 거치지 않습니다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "code-playground.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsConfig implements WebMvcConfigurer {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * QueryStatisticsConfig 생성자.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public QueryStatisticsConfig(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * {@code dataSource} 빈을 SQL 실행 통계 프록시로 감쌉니다.
+     *
+     * @return DataSource 후처리기
+     */
+    @Bean
+    public static BeanPostProcessor queryStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                final QueryStatisticsListener listener = new QueryStatisticsListener();
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .methodListener(listener)
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatisticsInterceptor(meterRegistry)).addPathPatterns("/api/**");
+    }
+}
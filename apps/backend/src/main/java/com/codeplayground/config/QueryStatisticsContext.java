@@ -0,0 +1,39 @@
+package com.codeplayground.config;
+
+/**
+ * SQL 실행 통계 컨텍스트.
+ * 현재 스레드가 처리 중인 요청의 {@link QueryStatistics}를 보관합니다.
+ *
+ * <p>요청이 시작될 때 {@link QueryStatisticsInterceptor}가 만들고, 요청이 끝나면 지웁니다.
+ * 배치 저장기나 스케줄러처럼 요청 밖의 스레드에서 실행된 SQL은 집계되지 않습니다.</p>
+ */
+public final class QueryStatisticsContext {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryStatisticsContext() {
+    }
+
+    /**
+     * 현재 스레드의 통계 수집을 새로 시작합니다.
+     */
+    public static void start() {
+        CURRENT.set(new QueryStatistics());
+    }
+
+    /**
+     * 현재 스레드의 통계를 반환합니다.
+     *
+     * @return 수집 중인 통계, 수집 중이 아니면 null
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 통계를 지웁니다.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,111 @@
+package com.codeplayground.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 실행 통계 인터셉터.
+ * 컨트롤러 메서드 요청마다 SQL 실행 수, 읽은 행 수와 값 크기, DB 시간을 모아 컨트롤러 메서드별 메트릭으로 기록합니다.
+ *
+ * <ul>
+ *   <li>{@code code_playground.http.db.queries}, {@code code_playground.http.db.rows}: 요청당 분포</li>
+ *   <li>{@code code_playground.http.db.read.bytes}: 요청당 결과 집합에서 읽은 문자열/바이너리 값 크기 분포</li>
+ *   <li>{@code code_playground.http.db.time}: 요청당 SQL 실행 시간 합계</li>
+ *   <li>{@code code_playground.http.db.budget.exceeded}: {@link QueryBudget}를 넘은 요청 수</li>
+ * </ul>
+ *
+ * <p>모든 메트릭은 {@code handler} 태그(예: {@code CodeSnippetController.getCodeSnippet})를 가집니다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryStatisticsContext.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request, final HttpServletResponse response,
+                                               final Object handler) {
+        // 비동기 응답은 다른 스레드에서 쓰이므로 요청 스레드의 통계만 지웁니다.
+        QueryStatisticsContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+        final QueryStatistics statistics = QueryStatisticsContext.current();
+        if (statistics == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        try {
+            record(handlerMethod, statistics);
+        } finally {
+            QueryStatisticsContext.clear();
+        }
+    }
+
+    private void record(final HandlerMethod handlerMethod, final QueryStatistics statistics) {
+        final String handler = handlerName(handlerMethod);
+        DistributionSummary.builder("code_playground.http.db.queries")
+                .description("SQL statements executed per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getQueries());
+        DistributionSummary.builder("code_playground.http.db.rows")
+                .description("Result set rows read per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        DistributionSummary.builder("code_playground.http.db.read.bytes")
+                .description("String and binary result set bytes read per request")
+                .baseUnit("bytes")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getReadBytes());
+        Timer.builder("code_playground.http.db.time")
+                .description("Total SQL execution time per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        final QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget != null && statistics.getQueries() > budget.maxQueries()) {
+            Counter.builder("code_playground.http.db.budget.exceeded")
+                    .description("Requests that executed more SQL statements than their @QueryBudget")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} executed {} SQL statements, exceeding its budget of {}",
+                    handler, statistics.getQueries(), budget.maxQueries());
+        }
+    }
+
+    /**
+     * 메트릭 태그로 사용할 컨트롤러 메서드 이름을 만듭니다.
+     *
+     * @param handlerMethod 컨트롤러 메서드
+     * @return "컨트롤러.메서드" 형식의 이름
+     */
+    static String handlerName(final HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
@@ -0,0 +1,50 @@
+package com.codeplayground.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * DataSource 프록시 리스너.
+ * SQL 실행 수와 실행 시간, 결과 집합에서 읽은 행 수와 값 크기를 현재 요청의 {@link QueryStatistics}에 더합니다.
+ * 수집 중인 요청이 없으면 아무것도 하지 않습니다.
+ */
+public class QueryStatisticsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        final QueryStatistics statistics = QueryStatisticsContext.current();
+        if (statistics != null) {
+            statistics.recordQuery(execInfo.getElapsedTime());
+        }
+    }
+
+    @Override
+    public void beforeMethod(final MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(final MethodExecutionContext executionContext) {
+        final QueryStatistics statistics = QueryStatisticsContext.current();
+        if (statistics == null || !(executionContext.getTarget() instanceof ResultSet)) {
+            return;
+        }
+        final Object result = executionContext.getResult();
+        if (result instanceof String value) {
+            statistics.recordRead(value.length());
+        } else if (result instanceof byte[] value) {
+            statistics.recordRead(value.length);
+        } else if ("next".equals(executionContext.getMethod().getName()) && Boolean.TRUE.equals(result)) {
+            statistics.recordRow();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.codeplayground.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * SQL 실행 통계 응답 처리기.
+ * 응답 본문을 쓰기 직전에 디버그 헤더를 추가하고, 테스트 프로필에서는 {@link QueryBudget} 초과 요청을 실패시킵니다.
+ *
+ * <p>헤더 값은 본문을 쓰기 전까지의 통계이며, 본문이 없는 응답에는 추가되지 않습니다.</p>
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "code-playground.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * 요청에서 실행한 SQL 수 헤더.
+     */
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    /**
+     * 요청에서 읽은 결과 행 수 헤더.
+     */
+    public static final String QUERY_ROWS_HEADER = "X-Query-Rows";
+
+    /**
+     * 요청에서 읽은 문자열/바이너리 값 크기 합계 헤더 (바이트).
+     */
+    public static final String QUERY_READ_BYTES_HEADER = "X-Query-Read-Bytes";
+
+    /**
+     * 요청의 SQL 실행 시간 합계 헤더 (밀리초).
+     */
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private final boolean responseHeaders;
+    private final boolean failOnBudgetExceeded;
+
+    /**
+     * QueryStatisticsResponseAdvice 생성자.
+     *
+     * @param responseHeaders      디버그 헤더 추가 여부
+     * @param failOnBudgetExceeded {@link QueryBudget} 초과 시 요청 실패 여부
+     */
+    public QueryStatisticsResponseAdvice(
+            @Value("${code-playground.query-stats.response-headers:false}") final boolean responseHeaders,
+            @Value("${code-playground.query-stats.fail-on-budget-exceeded:false}")
+            final boolean failOnBudgetExceeded) {
+        this.responseHeaders = responseHeaders;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    @Override
+    public boolean supports(final MethodParameter returnType,
+                            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return responseHeaders || (failOnBudgetExceeded && returnType.hasMethodAnnotation(QueryBudget.class));
+    }
+
+    @Override
+    public Object beforeBodyWrite(final Object body, final MethodParameter returnType,
+                                  final MediaType selectedContentType,
+                                  final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  final ServerHttpRequest request, final ServerHttpResponse response) {
+        final QueryStatistics statistics = QueryStatisticsContext.current();
+        if (statistics == null) {
+            return body;
+        }
+
+        final QueryBudget budget = returnType.getMethodAnnotation(QueryBudget.class);
+        if (failOnBudgetExceeded && budget != null && statistics.getQueries() > budget.maxQueries()) {
+            throw new IllegalStateException(String.format(
+                    "%s.%s executed %d SQL statements, exceeding its budget of %d",
+                    returnType.getContainingClass().getSimpleName(), returnType.getExecutable().getName(),
+                    statistics.getQueries(), budget.maxQueries()));
+        }
+
+        if (responseHeaders) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, Long.toString(statistics.getQueries()));
+            response.getHeaders().set(QUERY_ROWS_HEADER, Long.toString(statistics.getRows()));
+            response.getHeaders().set(QUERY_READ_BYTES_HEADER, Long.toString(statistics.getReadBytes()));
+            response.getHeaders().set(QUERY_TIME_HEADER, Long.toString(statistics.getElapsedMillis()));
+        }
+        return body;
+    }
+}
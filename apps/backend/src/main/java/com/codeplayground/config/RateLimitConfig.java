@@ -0,0 +1,43 @@
+package com.codeplayground.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Set;
+
+/**
+ * 요청 속도 제한 설정 클래스.
+ * {@link RateLimited} 그룹별 토큰 버킷으로 코드 실행, 검색처럼 비용이 큰 엔드포인트의 클라이언트별 호출 속도를 제한합니다.
+ *
+ * <p>상태는 인스턴스 메모리에만 있으므로 여러 인스턴스로 운영하면 인스턴스마다 따로 제한됩니다.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(name = "code-playground.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * RateLimitConfig 생성자.
+     *
+     * @param properties    속도 제한 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public RateLimitConfig(final RateLimitProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = new RateLimiter(properties, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, properties.getApiKeyHeader(),
+                        Set.copyOf(properties.getApiKeys())))
+                .addPathPatterns("/api/**");
+    }
+}
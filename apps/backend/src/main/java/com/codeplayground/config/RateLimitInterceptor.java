@@ -0,0 +1,63 @@
+package com.codeplayground.config;
+
+import com.codeplayground.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * 요청 속도 제한 인터셉터.
+ * {@link RateLimited}가 붙은 컨트롤러 메서드 요청마다 클라이언트의 토큰 하나를 사용하고,
+ * 응답에 {@code RateLimit-Limit}, {@code RateLimit-Remaining}, {@code RateLimit-Reset} 헤더를 추가합니다.
+ *
+ * <p>클라이언트는 발급된 API 키가 있으면 API 키로, 없으면 클라이언트 IP로 구분합니다.
+ * 발급되지 않은 키는 무시하므로 요청마다 키를 바꿔 새 버킷을 받을 수 없습니다.
+ * 프록시 뒤에서는 {@code server.forward-headers-strategy}를 설정해야 실제 클라이언트 IP로 구분됩니다.
+ * 토큰이 없으면 {@link RateLimitExceededException}으로 429 응답을 보냅니다.</p>
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String LIMIT_HEADER = "RateLimit-Limit";
+    private static final String REMAINING_HEADER = "RateLimit-Remaining";
+    private static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final RateLimiter rateLimiter;
+    private final String apiKeyHeader;
+    private final Set<String> issuedApiKeys;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        final RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        final RateLimiter.Decision decision = rateLimiter.tryAcquire(rateLimited.value(), clientKey(request));
+        if (decision == null) {
+            return true;
+        }
+        response.setHeader(LIMIT_HEADER, Long.toString(decision.limit()));
+        response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+        response.setHeader(RESET_HEADER, Long.toString(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(
+                    "요청이 너무 많습니다. " + decision.retryAfterSeconds() + "초 후에 다시 시도하세요",
+                    decision.retryAfterSeconds());
+        }
+        return true;
+    }
+
+    private String clientKey(final HttpServletRequest request) {
+        final String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && issuedApiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+}
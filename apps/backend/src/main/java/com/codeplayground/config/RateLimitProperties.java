@@ -0,0 +1,61 @@
+package com.codeplayground.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 속도 제한 설정.
+ * application.yml의 code-playground.rate-limit 설정을 바인딩합니다.
+ */
+@Data
+@ConfigurationProperties("code-playground.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 속도 제한 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 클라이언트를 구분할 API 키 헤더. 헤더가 없거나 발급된 키가 아닌 요청은 클라이언트 IP로 구분합니다.
+     */
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * 발급된 API 키 목록. 목록에 없는 키는 클라이언트 구분에 사용하지 않습니다.
+     */
+    private Set<String> apiKeys = new HashSet<>();
+
+    /**
+     * 그룹마다 보관할 최대 클라이언트 수. 넘으면 새 클라이언트는 그룹 공용 버킷을 함께 사용합니다.
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * 그룹 이름별 토큰 버킷 설정.
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /**
+     * 그룹별 토큰 버킷 설정.
+     */
+    @Data
+    public static class Group {
+
+        /**
+         * 버킷 용량 (연속으로 허용하는 최대 요청 수).
+         */
+        private long capacity = 10;
+
+        /**
+         * 토큰 하나가 충전되는 간격.
+         */
+        private Duration refillInterval = Duration.ofSeconds(1);
+    }
+}
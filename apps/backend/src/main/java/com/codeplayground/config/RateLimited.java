@@ -0,0 +1,27 @@
+package com.codeplayground.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드의 요청 속도 제한 그룹.
+ * 같은 그룹의 엔드포인트는 클라이언트별로 하나의 토큰 버킷을 함께 사용하며,
+ * 그룹별 용량과 충전 속도는 {@code code-playground.rate-limit.groups}에서 설정합니다.
+ *
+ * <p>설정에 없는 그룹은 제한하지 않습니다.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimited {
+
+    /**
+     * 속도 제한 그룹 이름.
+     *
+     * @return 그룹 이름 (예: {@code execute}, {@code search})
+     */
+    String value();
+}
@@ -0,0 +1,167 @@
+package com.codeplayground.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트별 토큰 버킷 속도 제한기.
+ *
+ * <ul>
+ *   <li>버킷 하나는 {@link AtomicLong} 하나(버킷이 다시 가득 차는 이론적 시각, GCRA)로 표현하며,
+ *       잠금 없이 CAS로 갱신합니다. 토큰 수와 마지막 충전 시각을 따로 두지 않으므로 경쟁 상태가 없습니다.</li>
+ *   <li>버킷은 그룹별 Caffeine 캐시(내부적으로 세분화된 ConcurrentHashMap)에 보관합니다.
+ *       이론적 시각은 마지막 사용 시각보다 버킷이 가득 차는 시간 이상 앞서지 않으므로, 그 시간 동안 쓰지 않은 버킷은
+ *       이미 가득 차 새 버킷과 같습니다. 버킷은 이렇게 만료될 때만 제거되고 크기 기준으로는 제거되지 않으므로,
+ *       제한이 걸린 클라이언트의 버킷이 다른 키에 밀려 초기화되지 않습니다.</li>
+ *   <li>보관 중인 클라이언트 수가 그룹 상한에 이르면 새 클라이언트는 버킷을 만들지 않고 그룹 공용 버킷 하나를 함께 씁니다.
+ *       키를 바꿔 가며 요청해도 메모리는 상한 근처에 머물고, 새 키들은 공용 버킷 하나만큼만 허용됩니다.</li>
+ * </ul>
+ *
+ * <p>요청당 비용은 캐시 조회 한 번과 CAS 한 번입니다.</p>
+ */
+@Slf4j
+public class RateLimiter {
+
+    private final Map<String, GroupLimiter> groups = new HashMap<>();
+
+    /**
+     * RateLimiter 생성자.
+     *
+     * @param properties    속도 제한 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public RateLimiter(final RateLimitProperties properties, final MeterRegistry meterRegistry) {
+        properties.getGroups().forEach((name, group) -> {
+            if (group.getCapacity() <= 0 || group.getRefillInterval().isZero()
+                    || group.getRefillInterval().isNegative()) {
+                throw new IllegalArgumentException("속도 제한 그룹 설정이 올바르지 않습니다: " + name);
+            }
+            groups.put(name, new GroupLimiter(name, group, properties.getMaxKeys(), meterRegistry));
+            log.info("Rate limit group {}: capacity {}, one token every {}",
+                    name, group.getCapacity(), group.getRefillInterval());
+        });
+    }
+
+    /**
+     * 그룹에서 클라이언트의 토큰 하나를 사용합니다.
+     *
+     * @param group     속도 제한 그룹 이름
+     * @param clientKey 클라이언트 키
+     * @return 판정 결과, 설정에 없는 그룹이면 null
+     */
+    public Decision tryAcquire(final String group, final String clientKey) {
+        final GroupLimiter limiter = groups.get(group);
+        return limiter == null ? null : limiter.tryAcquire(clientKey, System.nanoTime());
+    }
+
+    /**
+     * 속도 제한 판정 결과.
+     *
+     * @param allowed           허용 여부
+     * @param limit             버킷 용량
+     * @param remaining         남은 토큰 수
+     * @param resetSeconds      버킷이 가득 찰 때까지 남은 시간 (초, 올림)
+     * @param retryAfterSeconds 거부된 경우 다음 토큰까지 남은 시간 (초, 올림), 허용되면 0
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+
+    /**
+     * 그룹 하나의 버킷 저장소.
+     */
+    private static final class GroupLimiter {
+
+        private final long capacity;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final long maxKeys;
+        private final Cache<String, AtomicLong> buckets;
+        private final AtomicLong overflowBucket;
+        private final long cleanUpIntervalNanos;
+        private final AtomicLong nextCleanUp;
+        private final Counter rejectedCounter;
+        private final Counter overflowCounter;
+
+        GroupLimiter(final String name, final RateLimitProperties.Group group, final long maxKeys,
+                     final MeterRegistry meterRegistry) {
+            this.capacity = group.getCapacity();
+            this.intervalNanos = group.getRefillInterval().toNanos();
+            this.burstNanos = Math.multiplyExact(capacity, intervalNanos);
+            this.maxKeys = maxKeys;
+            this.buckets = Caffeine.newBuilder()
+                    .expireAfterAccess(Duration.ofNanos(burstNanos))
+                    .build();
+            this.overflowBucket = new AtomicLong(System.nanoTime());
+            this.cleanUpIntervalNanos = Math.min(burstNanos, TimeUnit.SECONDS.toNanos(1));
+            this.nextCleanUp = new AtomicLong(System.nanoTime());
+            this.rejectedCounter = Counter.builder("code_playground.rate_limit.rejected")
+                    .description("Requests rejected by the per-client rate limiter")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            this.overflowCounter = Counter.builder("code_playground.rate_limit.overflow")
+                    .description("Requests from new clients that shared the group bucket because max-keys was reached")
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+
+        Decision tryAcquire(final String clientKey, final long now) {
+            // 이론적 시각이 현재 시각 이하이면 버킷이 가득 찬 상태입니다.
+            final AtomicLong bucket = bucket(clientKey, now);
+            while (true) {
+                final long stored = bucket.get();
+                final long tat = Math.max(stored, now);
+                final long next = tat + intervalNanos;
+                if (next - now > burstNanos) {
+                    rejectedCounter.increment();
+                    return new Decision(false, capacity, 0, toSeconds(tat - now), toSeconds(next - now - burstNanos));
+                }
+                if (bucket.compareAndSet(stored, next)) {
+                    return new Decision(true, capacity, (burstNanos - (next - now)) / intervalNanos,
+                            toSeconds(next - now), 0);
+                }
+            }
+        }
+
+        private AtomicLong bucket(final String clientKey, final long now) {
+            final AtomicLong bucket = buckets.getIfPresent(clientKey);
+            if (bucket != null) {
+                return bucket;
+            }
+            // 동시에 추가되는 키만큼 상한을 조금 넘을 수 있지만, 이미 있는 버킷은 제거하지 않습니다.
+            if (buckets.estimatedSize() >= maxKeys && (!cleanUpExpired(now) || buckets.estimatedSize() >= maxKeys)) {
+                overflowCounter.increment();
+                return overflowBucket;
+            }
+            return buckets.get(clientKey, key -> new AtomicLong(now));
+        }
+
+        /**
+         * 만료된 버킷을 제거합니다. 새 키가 공용 버킷만 쓰는 동안에는 캐시 쓰기가 없어 만료 항목이 정리되지 않으므로
+         * 상한에 이른 뒤에는 직접 정리하되, 정리 비용이 요청마다 들지 않도록 간격을 둡니다.
+         *
+         * @param now 현재 시각 ({@link System#nanoTime()})
+         * @return 이번 호출에서 정리했으면 true
+         */
+        private boolean cleanUpExpired(final long now) {
+            final long due = nextCleanUp.get();
+            if (now - due < 0 || !nextCleanUp.compareAndSet(due, now + cleanUpIntervalNanos)) {
+                return false;
+            }
+            buckets.cleanUp();
+            return true;
+        }
+
+        private static long toSeconds(final long nanos) {
+            return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.codeplayground.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 라우팅 컨텍스트.
+ * 현재 스레드의 읽기 전용 트랜잭션을 복제본 대신 주 DB로 보내야 하는지 보관합니다.
+ *
+ * <p>요청 헤더로 고정하거나, 같은 요청에서 쓰기 트랜잭션이 실행된 뒤 자동으로 고정됩니다.
+ * 요청이 끝나면 {@link ReadRoutingInterceptor}가 초기화합니다.</p>
+ */
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    /**
+     * 현재 스레드의 읽기를 주 DB로 고정합니다.
+     */
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    /**
+     * 현재 스레드의 읽기가 주 DB로 고정되어 있는지 확인합니다.
+     *
+     * @return 고정되어 있으면 true, 아니면 false
+     */
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    /**
+     * 현재 스레드의 고정 상태를 초기화합니다.
+     */
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * 주어진 작업 동안만 읽기를 주 DB로 고정합니다.
+     * 작업 안에서 새 트랜잭션을 시작해야 적용됩니다.
+     *
+     * @param action 실행할 작업
+     * @param <T>    결과 타입
+     * @return 작업 결과
+     */
+    public static <T> T callOnPrimary(final Supplier<T> action) {
+        final boolean pinned = isPinnedToPrimary();
+        pinToPrimary();
+        try {
+            return action.get();
+        } finally {
+            if (!pinned) {
+                clear();
+            }
+        }
+    }
+}
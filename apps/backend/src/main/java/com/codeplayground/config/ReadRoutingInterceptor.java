@@ -0,0 +1,33 @@
+package com.codeplayground.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 읽기 라우팅 인터셉터.
+ * {@value #PRIMARY_HEADER} 헤더가 true인 요청의 읽기를 주 DB로 고정하고, 요청이 끝나면 고정 상태를 지웁니다.
+ * 방금 쓴 데이터를 다른 요청에서 바로 읽어야 하는 클라이언트가 사용합니다.
+ */
+public class ReadRoutingInterceptor implements HandlerInterceptor {
+
+    /**
+     * 읽기를 주 DB로 고정하는 요청 헤더.
+     */
+    public static final String PRIMARY_HEADER = "X-Read-From-Primary";
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) {
+        if (Boolean.parseBoolean(request.getHeader(PRIMARY_HEADER))) {
+            ReadRoutingContext.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+        ReadRoutingContext.clear();
+    }
+}
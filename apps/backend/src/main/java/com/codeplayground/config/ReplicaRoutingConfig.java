@@ -0,0 +1,107 @@
+package com.codeplayground.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 클래스.
+ * code-playground.datasource.replica-urls가 설정되면 기본 DataSource 대신
+ * 주 DB와 복제본 커넥션 풀을 묶은 {@link ReplicaRoutingDataSource}를 사용합니다.
+ *
+ * <p>{@code @Transactional(readOnly = true)} 서비스 메서드는 복제본에서, 쓰기와 트랜잭션 밖의 작업
+ * (Flyway 마이그레이션, 배치 저장 등)은 주 DB에서 실행됩니다.
+ * 복제본은 주 DB와 같은 계정과 풀 설정을 사용합니다.</p>
+ */
+@Configuration
+@ConditionalOnExpression("!'${code-playground.datasource.replica-urls:}'.isBlank()")
+@Slf4j
+public class ReplicaRoutingConfig implements WebMvcConfigurer {
+
+    /**
+     * 주 DB 커넥션 풀.
+     * spring.datasource.hikari 설정이 그대로 적용됩니다.
+     *
+     * @param properties DataSource 설정
+     * @return 주 DB 커넥션 풀
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    /**
+     * 주 DB와 복제본으로 연결을 나누는 라우팅 DataSource.
+     *
+     * @param primaryDataSource 주 DB 커넥션 풀
+     * @param meterRegistry     메트릭 레지스트리
+     * @param replicaUrls       복제본 JDBC URL 목록 (쉼표 구분)
+     * @param maxLagMillis      읽기를 허용하는 최대 복제 지연 (밀리초)
+     * @return 라우팅 DataSource
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            final HikariDataSource primaryDataSource,
+            final MeterRegistry meterRegistry,
+            @Value("${code-playground.datasource.replica-urls}") final String replicaUrls,
+            @Value("${code-playground.datasource.replica-max-lag-ms:1000}") final long maxLagMillis) {
+        final List<HikariDataSource> replicas = new ArrayList<>();
+        final List<String> urls = Arrays.stream(replicaUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        for (int i = 0; i < urls.size(); i++) {
+            final HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i));
+            config.setPoolName("replica-" + (i + 1));
+            config.setReadOnly(true);
+            config.setMetricRegistry(null);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+
+        log.info("Routing read-only transactions to {} read replica(s)", replicas.size());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagMillis, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource.
+     * 트랜잭션의 읽기 전용 여부가 정해진 뒤 연결을 얻도록 라우팅 DataSource를 지연 연결 프록시로 감쌉니다.
+     *
+     * @param replicaRoutingDataSource 라우팅 DataSource
+     * @return 지연 연결 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadRoutingInterceptor()).addPathPatterns("/api/**");
+    }
+}
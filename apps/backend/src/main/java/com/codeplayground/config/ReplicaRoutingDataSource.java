@@ -0,0 +1,200 @@
+package com.codeplayground.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 라우팅 DataSource.
+ * 읽기 전용 트랜잭션은 정상 상태의 복제본으로 번갈아 보내고, 그 밖의 모든 연결은 주 DB로 보냅니다.
+ *
+ * <ul>
+ *   <li>트랜잭션의 읽기 전용 여부는 연결을 실제로 얻는 시점에 판단하므로
+ *       {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용합니다.</li>
+ *   <li>주기적으로 복제본마다 복제 지연을 확인해 연결할 수 없거나 지연이 한도를 넘은 복제본은 제외합니다.
+ *       정상 복제본이 없으면 주 DB에서 읽습니다.</li>
+ *   <li>웹 요청에서 쓰기 트랜잭션이 실행되면 같은 요청의 이후 읽기는 주 DB로 보냅니다 (read-your-writes).
+ *       요청 헤더로 처음부터 주 DB를 지정할 수도 있습니다 ({@link ReadRoutingInterceptor}).</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * 주 DB 조회 키.
+     */
+    public static final String PRIMARY = "primary";
+
+    /**
+     * 복제 지연 (초). 받은 WAL을 모두 재생했으면 주 DB에 쓰기가 없어도 0입니다.
+     */
+    private static final String REPLICATION_LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+    private final Counter fallbackCounter;
+    private volatile List<Replica> healthyReplicas = List.of();
+
+    /**
+     * ReplicaRoutingDataSource 생성자.
+     *
+     * @param primary       주 DB 커넥션 풀
+     * @param replicas      복제본 커넥션 풀 목록
+     * @param maxLagMillis  읽기를 허용하는 최대 복제 지연 (밀리초)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public ReplicaRoutingDataSource(final DataSource primary, final List<HikariDataSource> replicas,
+                                    final long maxLagMillis, final MeterRegistry meterRegistry) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagMillis = maxLagMillis;
+
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routedCounters.put(PRIMARY, routedCounter(meterRegistry, PRIMARY));
+        for (final Replica replica : this.replicas) {
+            targets.put(replica.name(), replica.dataSource());
+            routedCounters.put(replica.name(), routedCounter(meterRegistry, replica.name()));
+            Gauge.builder("code_playground.datasource.replica.lag", replica, r -> r.lagMillis / 1000.0)
+                    .description("Replication lag of the read replica")
+                    .baseUnit("seconds")
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("code_playground.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("Whether the read replica currently receives reads")
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.fallbackCounter = Counter.builder("code_playground.datasource.replica.fallback")
+                .description("Read-only transactions sent to the primary because no replica was healthy")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final String target = selectTarget();
+        routedCounters.get(target).increment();
+        return target;
+    }
+
+    /**
+     * 복제본의 연결 상태와 복제 지연을 확인해 읽기 대상 목록을 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${code-playground.datasource.replica-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (final Replica replica : replicas) {
+            final boolean wasHealthy = replica.healthy;
+            try {
+                replica.lagMillis = (long) (queryLagSeconds(replica.dataSource()) * 1000);
+                replica.healthy = replica.lagMillis <= maxLagMillis;
+                if (!replica.healthy && wasHealthy) {
+                    log.warn("Read replica {} lags {}ms behind, routing reads elsewhere",
+                            replica.name(), replica.lagMillis);
+                }
+            } catch (final SQLException e) {
+                replica.healthy = false;
+                if (wasHealthy) {
+                    log.warn("Read replica {} is unreachable: {}", replica.name(), e.getMessage());
+                }
+            }
+            if (replica.healthy && !wasHealthy) {
+                log.info("Read replica {} is healthy (lag {}ms)", replica.name(), replica.lagMillis);
+            }
+        }
+        healthyReplicas = replicas.stream().filter(replica -> replica.healthy).toList();
+    }
+
+    private String selectTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && RequestContextHolder.getRequestAttributes() != null) {
+                // 같은 요청의 이후 읽기가 방금 쓴 데이터를 볼 수 있도록 주 DB로 고정합니다.
+                ReadRoutingContext.pinToPrimary();
+            }
+            return PRIMARY;
+        }
+        if (ReadRoutingContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        final List<Replica> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            if (!replicas.isEmpty()) {
+                fallbackCounter.increment();
+            }
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size())).name();
+    }
+
+    private static double queryLagSeconds(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(HEALTH_CHECK_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+                resultSet.next();
+                return resultSet.getDouble(1);
+            }
+        }
+    }
+
+    private static Counter routedCounter(final MeterRegistry meterRegistry, final String pool) {
+        return Counter.builder("code_playground.datasource.routed")
+                .description("Connections handed out per target pool")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 복제본 커넥션 풀과 최근 상태.
+     */
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+
+        Replica(final HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return dataSource.getPoolName();
+        }
+
+        HikariDataSource dataSource() {
+            return dataSource;
+        }
+    }
+}
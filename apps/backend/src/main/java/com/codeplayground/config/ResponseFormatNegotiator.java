@@ -0,0 +1,80 @@
+package com.codeplayground.config;
+
+import com.codeplayground.service.ETags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * API 응답 형식 협상기.
+ * 요청의 Accept 헤더로 JSON, CBOR, Smile 중 응답할 형식을 메시지 변환기와 같은 순서로 고르고,
+ * 형식마다 다른 강한 ETag를 만듭니다.
+ *
+ * <p>같은 URL의 JSON, CBOR, Smile 표현은 바이트가 다르므로 같은 강한 ETag를 가질 수 없습니다 (RFC 9110 8.8.3).
+ * 컨트롤러가 본문을 만들기 전에 If-None-Match를 확인하므로, 메시지 변환기가 형식을 고르기 전에 같은 결과를 계산합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseFormatNegotiator {
+
+    /**
+     * CBOR 미디어 타입.
+     */
+    public static final MediaType APPLICATION_CBOR = MediaType.parseMediaType("application/cbor");
+
+    /**
+     * Smile 미디어 타입.
+     */
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /**
+     * 메시지 변환기 순서와 같은 응답 형식 목록.
+     */
+    private static final List<MediaType> FORMATS =
+            List.of(MediaType.APPLICATION_JSON, APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    /**
+     * 요청에 응답할 형식을 고릅니다.
+     * Accept 헤더가 없거나, 모든 형식을 허용하거나, 해석할 수 없으면 JSON입니다.
+     *
+     * @param webRequest 요청
+     * @return JSON, CBOR, Smile 중 하나
+     */
+    public MediaType negotiate(final WebRequest webRequest) {
+        if (!(webRequest instanceof NativeWebRequest nativeRequest)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        try {
+            // 협상 관리자는 품질 값과 구체성 순으로 정렬된 목록을 반환합니다.
+            for (final MediaType acceptable : contentNegotiationManager.resolveMediaTypes(nativeRequest)) {
+                for (final MediaType format : FORMATS) {
+                    if (acceptable.isCompatibleWith(format)) {
+                        return format;
+                    }
+                }
+            }
+        } catch (final HttpMediaTypeNotAcceptableException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * 요청에 응답할 형식의 ETag를 만듭니다.
+     *
+     * @param etag       JSON 표현의 ETag ({@link ETags}로 만든 값)
+     * @param webRequest 요청
+     * @return 협상된 형식의 ETag
+     */
+    public String etag(final String etag, final WebRequest webRequest) {
+        return ETags.variant(etag, negotiate(webRequest));
+    }
+}
@@ -0,0 +1,13 @@
+package com.codeplayground.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스.
+ * 실행 기록 보존 정리, 통계 롤업 정리 등 주기 작업을 위해 {@code @Scheduled}를 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,17 +1,44 @@
 package com.codeplayground.controller;
 
+import com.codeplayground.config.QueryBudget;
+import com.codeplayground.config.RateLimited;
+import com.codeplayground.config.ResponseFormatNegotiator;
+import com.codeplayground.dto.BulkResponse;
 import com.codeplayground.dto.CodeSnippetRequest;
 import com.codeplayground.dto.CodeSnippetResponse;
+import com.codeplayground.dto.CodeSnippetSummaryResponse;
+import com.codeplayground.dto.PageCursor;
 import com.codeplayground.dto.PageResponse;
+import com.codeplayground.dto.SnippetImportResponse;
+import com.codeplayground.dto.SnippetVersionResponse;
+import com.codeplayground.dto.SparseFieldSet;
+import com.codeplayground.entity.enums.ExportFormat;
 import com.codeplayground.service.CodeSnippetService;
+import com.codeplayground.service.DataExportService;
+import com.codeplayground.service.ETags;
+import com.codeplayground.service.SnippetImportService;
+import com.codeplayground.service.SnippetVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 코드 스니펫 REST 컨트롤러.
@@ -24,7 +51,18 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(originPatterns = {"http://localhost:*", "http://127.0.0.1:*"})
 public class CodeSnippetController {
 
+    /**
+     * 스니펫 버전 응답의 캐시 정책.
+     * 버전의 코드는 바뀌지 않지만 스니펫이 삭제되면 조회할 수 없어야 하므로, 공유 캐시에는 저장하지 않고
+     * 브라우저도 짧은 기간만 보관한 뒤 ETag로 다시 확인하게 합니다.
+     */
+    private static final CacheControl VERSION_CACHE = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
     private final CodeSnippetService codeSnippetService;
+    private final SnippetImportService snippetImportService;
+    private final DataExportService dataExportService;
+    private final SnippetVersionService snippetVersionService;
+    private final ResponseFormatNegotiator responseFormatNegotiator;
 
     /**
      * 새로운 코드 스니펫을 생성합니다.
@@ -43,19 +81,121 @@ public class CodeSnippetController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * NDJSON 요청 본문에서 코드 스니펫을 일괄 가져옵니다.
+     * 한 줄에 스니펫 생성 요청 하나를 담으며, 실패한 줄은 건너뛰고 결과에 기록합니다.
+     *
+     * @param body NDJSON 요청 본문
+     * @return 가져오기 결과
+     * @throws IOException 요청 본문을 읽지 못한 경우
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<SnippetImportResponse> importCodeSnippets(final InputStream body) throws IOException {
+        log.info("POST /api/v1/snippets/import - Importing code snippets");
+
+        final SnippetImportResponse response = snippetImportService.importSnippets(body);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 활성 코드 스니펫을 NDJSON 또는 CSV로 내보냅니다.
+     * 전체 건수를 세지 않고 커서로 읽은 행을 바로 스트리밍합니다.
+     *
+     * @param format     내보내기 형식 (NDJSON, CSV)
+     * @param authorName 작성자 이름 (선택)
+     * @param language   프로그래밍 언어 (선택)
+     * @param from       생성 일시 시작 (선택, 포함)
+     * @param to         생성 일시 끝 (선택, 제외)
+     * @return 스트리밍 응답
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCodeSnippets(
+            @RequestParam(defaultValue = "NDJSON") final ExportFormat format,
+            @RequestParam(required = false) final String authorName,
+            @RequestParam(required = false) final String language,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime to) {
+
+        log.info("GET /api/v1/snippets/export - Exporting code snippets as {}", format);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("snippets." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(dataExportService.exportSnippets(authorName, language, from, to, format));
+    }
+
+    /**
+     * 여러 코드 스니펫을 ID로 한 번에 조회합니다.
+     * 결과는 요청한 ID 순서를 따르며, 없거나 삭제된 스니펫은 찾지 못한 항목으로 응답합니다.
+     *
+     * @param ids 코드 스니펫 ID 목록 (쉼표로 구분)
+     * @return 일괄 조회 결과
+     */
+    @GetMapping(params = "ids")
+    @QueryBudget(maxQueries = 3)
+    public ResponseEntity<BulkResponse<Long, CodeSnippetResponse>> getCodeSnippets(
+            @RequestParam final List<Long> ids) {
+        log.debug("GET /api/v1/snippets?ids - Retrieving {} code snippets", ids.size());
+
+        return ResponseEntity.ok(codeSnippetService.getCodeSnippets(ids));
+    }
+
     /**
      * 코드 스니펫을 ID로 조회합니다.
+     * If-None-Match가 있으면 검증 값만 조회해 ETag를 비교하고, 바뀌지 않았으면 본문 없이 304로 응답합니다.
      *
-     * @param id 코드 스니펫 ID
-     * @return 코드 스니펫 정보
+     * @param id         코드 스니펫 ID
+     * @param webRequest 조건부 요청 헤더를 확인할 요청
+     * @return 코드 스니펫 정보, 바뀌지 않았으면 null (304 응답)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CodeSnippetResponse> getCodeSnippet(@PathVariable final Long id) {
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<CodeSnippetResponse> getCodeSnippet(@PathVariable final Long id,
+                                                              final WebRequest webRequest) {
         log.debug("GET /api/v1/snippets/{} - Retrieving code snippet", id);
 
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(responseFormatNegotiator.etag(
+                        codeSnippetService.getCodeSnippetETag(id), webRequest))) {
+            return null;
+        }
+
         final CodeSnippetResponse response = codeSnippetService.getCodeSnippet(id);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(responseFormatNegotiator.etag(ETags.snippet(response), webRequest))
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+    /**
+     * 코드 스니펫의 특정 버전 코드를 조회합니다.
+     * 저장된 버전은 바뀌지 않으므로 오래 캐시할 수 있도록 응답합니다.
+     *
+     * @param id         코드 스니펫 ID
+     * @param version    버전 번호 (1부터 시작)
+     * @param webRequest 응답 형식을 협상할 요청
+     * @return 해당 버전의 코드
+     */
+    @GetMapping("/{id}/versions/{version}")
+    @QueryBudget(maxQueries = 2)
+    public ResponseEntity<SnippetVersionResponse> getCodeSnippetVersion(@PathVariable final Long id,
+                                                                        @PathVariable final int version,
+                                                                        final WebRequest webRequest) {
+        log.debug("GET /api/v1/snippets/{}/versions/{} - Retrieving code snippet version", id, version);
+
+        final SnippetVersionResponse response = snippetVersionService.getVersion(id, version);
+
+        return ResponseEntity.ok()
+                .eTag(responseFormatNegotiator.etag(ETags.snippetVersion(id, version), webRequest))
+                .cacheControl(VERSION_CACHE)
+                .body(response);
     }
 
     /**
@@ -95,17 +235,33 @@ public class CodeSnippetController {
     /**
      * 모든 활성 코드 스니펫을 페이징으로 조회합니다.
      *
-     * @param page 페이지 번호 (0부터 시작, 기본값: 0)
-     * @param size 페이지 크기 (기본값: 20)
+     * @param page   페이지 번호 (0부터 시작, 기본값: 0)
+     * @param size   페이지 크기 (기본값: 20)
+     * @param cursor 커서 토큰 (선택). 지정하면 page 대신 키셋 페이징으로 조회하며, 빈 값이면 첫 페이지
+     * @param fields 응답에 포함할 요약 필드 (선택, 쉼표 구분). 지정하면 코드 본문 없는 요약 목록을 반환합니다
      * @return 페이징된 코드 스니펫 목록
      */
     @GetMapping
-    public ResponseEntity<PageResponse<CodeSnippetResponse>> getAllCodeSnippets(
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<?> getAllCodeSnippets(
             @RequestParam(defaultValue = "0") final int page,
-            @RequestParam(defaultValue = "20") final int size) {
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final String fields) {
 
         log.debug("GET /api/v1/snippets - Retrieving all snippets (page: {}, size: {})", page, size);
 
+        if (fields != null) {
+            final SparseFieldSet fieldSet = SparseFieldSet.parse(fields, CodeSnippetSummaryResponse.FIELDS);
+            return ResponseEntity.ok(fieldSet.apply(cursor != null
+                    ? codeSnippetService.getAllCodeSnippetSummaries(PageCursor.decode(cursor), size, fieldSet)
+                    : codeSnippetService.getAllCodeSnippetSummaries(PageRequest.of(page, size), fieldSet)));
+        }
+
+        if (cursor != null) {
+            return ResponseEntity.ok(codeSnippetService.getAllCodeSnippets(PageCursor.decode(cursor), size));
+        }
+
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<CodeSnippetResponse> response = codeSnippetService.getAllCodeSnippets(pageable);
 
@@ -118,16 +274,35 @@ public class CodeSnippetController {
      * @param authorName 작성자 이름
      * @param page       페이지 번호
      * @param size       페이지 크기
+     * @param cursor     커서 토큰 (선택). 지정하면 page 대신 키셋 페이징으로 조회하며, 빈 값이면 첫 페이지
+     * @param fields     응답에 포함할 요약 필드 (선택, 쉼표 구분). 지정하면 코드 본문 없는 요약 목록을 반환합니다
      * @return 페이징된 코드 스니펫 목록
      */
     @GetMapping("/author/{authorName}")
-    public ResponseEntity<PageResponse<CodeSnippetResponse>> getCodeSnippetsByAuthor(
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<?> getCodeSnippetsByAuthor(
             @PathVariable final String authorName,
             @RequestParam(defaultValue = "0") final int page,
-            @RequestParam(defaultValue = "20") final int size) {
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final String fields) {
 
         log.debug("GET /api/v1/snippets/author/{} - Retrieving snippets by author", authorName);
 
+        if (fields != null) {
+            final SparseFieldSet fieldSet = SparseFieldSet.parse(fields, CodeSnippetSummaryResponse.FIELDS);
+            return ResponseEntity.ok(fieldSet.apply(cursor != null
+                    ? codeSnippetService.getCodeSnippetSummariesByAuthor(
+                            authorName, PageCursor.decode(cursor), size, fieldSet)
+                    : codeSnippetService.getCodeSnippetSummariesByAuthor(
+                            authorName, PageRequest.of(page, size), fieldSet)));
+        }
+
+        if (cursor != null) {
+            return ResponseEntity.ok(codeSnippetService
+                    .getCodeSnippetsByAuthor(authorName, PageCursor.decode(cursor), size));
+        }
+
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<CodeSnippetResponse> response = codeSnippetService
                 .getCodeSnippetsByAuthor(authorName, pageable);
@@ -141,16 +316,35 @@ public class CodeSnippetController {
      * @param language 프로그래밍 언어
      * @param page     페이지 번호
      * @param size     페이지 크기
+     * @param cursor   커서 토큰 (선택). 지정하면 page 대신 키셋 페이징으로 조회하며, 빈 값이면 첫 페이지
+     * @param fields   응답에 포함할 요약 필드 (선택, 쉼표 구분). 지정하면 코드 본문 없는 요약 목록을 반환합니다
      * @return 페이징된 코드 스니펫 목록
      */
     @GetMapping("/language/{language}")
-    public ResponseEntity<PageResponse<CodeSnippetResponse>> getCodeSnippetsByLanguage(
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<?> getCodeSnippetsByLanguage(
             @PathVariable final String language,
             @RequestParam(defaultValue = "0") final int page,
-            @RequestParam(defaultValue = "20") final int size) {
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final String fields) {
 
         log.debug("GET /api/v1/snippets/language/{} - Retrieving snippets by language", language);
 
+        if (fields != null) {
+            final SparseFieldSet fieldSet = SparseFieldSet.parse(fields, CodeSnippetSummaryResponse.FIELDS);
+            return ResponseEntity.ok(fieldSet.apply(cursor != null
+                    ? codeSnippetService.getCodeSnippetSummariesByLanguage(
+                            language, PageCursor.decode(cursor), size, fieldSet)
+                    : codeSnippetService.getCodeSnippetSummariesByLanguage(
+                            language, PageRequest.of(page, size), fieldSet)));
+        }
+
+        if (cursor != null) {
+            return ResponseEntity.ok(codeSnippetService
+                    .getCodeSnippetsByLanguage(language, PageCursor.decode(cursor), size));
+        }
+
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<CodeSnippetResponse> response = codeSnippetService
                 .getCodeSnippetsByLanguage(language, pageable);
@@ -161,14 +355,19 @@ public class CodeSnippetController {
     /**
      * 키워드로 코드 스니펫을 검색합니다.
      *
-     * @param keyword 검색 키워드
-     * @param page    페이지 번호
-     * @param size    페이지 크기
+     * @param keyword    검색 키워드
+     * @param language   프로그래밍 언어 필터 (선택)
+     * @param authorName 작성자 필터 (선택)
+     * @param page       페이지 번호
+     * @param size       페이지 크기
      * @return 페이징된 코드 스니펫 목록
      */
     @GetMapping("/search")
+    @RateLimited("search")
     public ResponseEntity<PageResponse<CodeSnippetResponse>> searchCodeSnippets(
             @RequestParam final String keyword,
+            @RequestParam(required = false) final String language,
+            @RequestParam(required = false) final String authorName,
             @RequestParam(defaultValue = "0") final int page,
             @RequestParam(defaultValue = "20") final int size) {
 
@@ -176,7 +375,7 @@ public class CodeSnippetController {
 
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<CodeSnippetResponse> response = codeSnippetService
-                .searchCodeSnippets(keyword, pageable);
+                .searchCodeSnippets(keyword, language, authorName, pageable);
 
         return ResponseEntity.ok(response);
     }
@@ -184,17 +383,26 @@ public class CodeSnippetController {
     /**
      * 인기 코드 스니펫을 조회합니다 (실행 횟수 기준).
      *
-     * @param page 페이지 번호
-     * @param size 페이지 크기
+     * @param page   페이지 번호
+     * @param size   페이지 크기
+     * @param fields 응답에 포함할 요약 필드 (선택, 쉼표 구분). 지정하면 코드 본문 없는 요약 목록을 반환합니다
      * @return 페이징된 인기 코드 스니펫 목록
      */
     @GetMapping("/popular")
-    public ResponseEntity<PageResponse<CodeSnippetResponse>> getPopularCodeSnippets(
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<?> getPopularCodeSnippets(
             @RequestParam(defaultValue = "0") final int page,
-            @RequestParam(defaultValue = "20") final int size) {
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String fields) {
 
         log.debug("GET /api/v1/snippets/popular - Retrieving popular snippets");
 
+        if (fields != null) {
+            final SparseFieldSet fieldSet = SparseFieldSet.parse(fields, CodeSnippetSummaryResponse.FIELDS);
+            return ResponseEntity.ok(fieldSet.apply(
+                    codeSnippetService.getPopularCodeSnippetSummaries(PageRequest.of(page, size), fieldSet)));
+        }
+
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<CodeSnippetResponse> response = codeSnippetService
                 .getPopularCodeSnippets(pageable);
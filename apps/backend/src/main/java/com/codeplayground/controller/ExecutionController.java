@@ -1,18 +1,41 @@
 package com.codeplayground.controller;
 
+import com.codeplayground.config.QueryBudget;
+import com.codeplayground.config.RateLimited;
+import com.codeplayground.config.ResponseFormatNegotiator;
+import com.codeplayground.dto.BulkResponse;
+import com.codeplayground.dto.ExecutionMetricsResponse;
 import com.codeplayground.dto.ExecutionRequest;
 import com.codeplayground.dto.ExecutionResponse;
+import com.codeplayground.dto.ExecutionSummaryResponse;
+import com.codeplayground.dto.PageCursor;
 import com.codeplayground.dto.PageResponse;
+import com.codeplayground.dto.SparseFieldSet;
 import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.entity.enums.ExportFormat;
+import com.codeplayground.service.DataExportService;
+import com.codeplayground.service.ETags;
+import com.codeplayground.service.ExecutionMetricsService;
+import com.codeplayground.service.ExecutionRetentionService;
 import com.codeplayground.service.ExecutionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 코드 실행 REST 컨트롤러.
@@ -25,15 +48,25 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(originPatterns = {"http://localhost:*", "http://127.0.0.1:*"})
 public class ExecutionController {
 
+    /**
+     * 바뀌지 않는 응답을 캐시할 최대 기간.
+     */
+    private static final Duration MAX_CACHE_AGE = Duration.ofDays(365);
+
     private final ExecutionService executionService;
+    private final ExecutionRetentionService executionRetentionService;
+    private final ExecutionMetricsService executionMetricsService;
+    private final DataExportService dataExportService;
+    private final ResponseFormatNegotiator responseFormatNegotiator;
 
     /**
      * 코드를 실행합니다.
      *
      * @param request 실행 요청
-     * @return 실행 결과
+     * @return 실행 결과 (201), 저장이 아직 확인되지 않았으면 ID 없는 실행 결과 (202)
      */
     @PostMapping("/execute")
+    @RateLimited("execute")
     public ResponseEntity<ExecutionResponse> executeCode(
             @Valid @RequestBody final ExecutionRequest request) {
 
@@ -42,22 +75,67 @@ public class ExecutionController {
 
         final ExecutionResponse response = executionService.executeCode(request);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(Boolean.TRUE.equals(response.getPending()) ? HttpStatus.ACCEPTED
+                : HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 여러 실행 기록을 ID로 한 번에 조회합니다.
+     * 결과는 요청한 ID 순서를 따르며, 출력과 에러 메시지 전체를 포함합니다.
+     *
+     * @param ids 실행 기록 ID 목록 (쉼표로 구분)
+     * @return 일괄 조회 결과
+     */
+    @GetMapping(params = "ids")
+    @QueryBudget(maxQueries = 3)
+    public ResponseEntity<BulkResponse<Long, ExecutionResponse>> getExecutions(
+            @RequestParam final List<Long> ids) {
+        log.debug("GET /api/v1/executions?ids - Retrieving {} executions", ids.size());
+
+        return ResponseEntity.ok(executionService.getExecutions(ids));
     }
 
     /**
      * 실행 기록을 ID로 조회합니다.
+     * 저장된 실행 기록은 바뀌지 않으므로 보존 기간 안에서 캐시할 수 있도록 응답하며,
+     * If-None-Match가 있으면 존재 여부만 확인해 304로 응답합니다.
      *
      * @param executionId 실행 기록 ID
-     * @return 실행 기록 정보
+     * @param webRequest  조건부 요청 헤더를 확인할 요청
+     * @return 실행 기록 정보, 바뀌지 않았으면 null (304 응답)
      */
     @GetMapping("/{executionId}")
-    public ResponseEntity<ExecutionResponse> getExecution(@PathVariable final Long executionId) {
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<ExecutionResponse> getExecution(@PathVariable final Long executionId,
+                                                          final WebRequest webRequest) {
         log.debug("GET /api/v1/executions/{} - Retrieving execution", executionId);
 
+        final String etag = responseFormatNegotiator.etag(ETags.execution(executionId), webRequest);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && executionService.existsExecution(executionId)
+                && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         final ExecutionResponse response = executionService.getExecution(executionId);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(executionCacheControl(response))
+                .body(response);
+    }
+
+    /**
+     * 저장된 실행 기록 응답의 캐시 정책.
+     * 실행 기록은 바뀌지 않지만 보존 기간이 지나면 삭제되므로 삭제될 때까지 남은 기간만 캐시하며,
+     * 사용자의 실행 결과이므로 공유 캐시에는 저장하지 않습니다.
+     *
+     * @param response 실행 기록 응답
+     * @return 캐시 정책
+     */
+    private CacheControl executionCacheControl(final ExecutionResponse response) {
+        final Duration maxAge = executionRetentionService.remainingRetention(response.getCreatedAt(), MAX_CACHE_AGE);
+        return CacheControl.maxAge(maxAge).cachePrivate().immutable();
     }
 
     /**
@@ -66,16 +144,33 @@ public class ExecutionController {
      * @param codeSnippetId 코드 스니펫 ID
      * @param page          페이지 번호
      * @param size          페이지 크기
+     * @param cursor        커서 토큰 (선택). 지정하면 page 대신 키셋 페이징으로 조회하며, 빈 값이면 첫 페이지
+     * @param fields        응답에 포함할 요약 필드 (선택, 쉼표 구분). 지정하면 출력 없는 요약 목록을 반환합니다
      * @return 페이징된 실행 기록 목록
      */
     @GetMapping("/snippet/{codeSnippetId}")
-    public ResponseEntity<PageResponse<ExecutionResponse>> getExecutionHistory(
+    @QueryBudget(maxQueries = 2)
+    public ResponseEntity<?> getExecutionHistory(
             @PathVariable final Long codeSnippetId,
             @RequestParam(defaultValue = "0") final int page,
-            @RequestParam(defaultValue = "20") final int size) {
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final String fields) {
 
         log.debug("GET /api/v1/executions/snippet/{} - Retrieving execution history", codeSnippetId);
 
+        if (fields != null) {
+            final SparseFieldSet fieldSet = SparseFieldSet.parse(fields, ExecutionSummaryResponse.FIELDS);
+            return ResponseEntity.ok(fieldSet.apply(cursor != null
+                    ? executionService.getExecutionHistorySummaries(codeSnippetId, PageCursor.decode(cursor), size)
+                    : executionService.getExecutionHistorySummaries(codeSnippetId, PageRequest.of(page, size))));
+        }
+
+        if (cursor != null) {
+            return ResponseEntity.ok(executionService
+                    .getExecutionHistory(codeSnippetId, PageCursor.decode(cursor), size));
+        }
+
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<ExecutionResponse> response = executionService
                 .getExecutionHistory(codeSnippetId, pageable);
@@ -83,6 +178,32 @@ public class ExecutionController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 코드 스니펫의 전체 실행 기록을 출력 본문과 함께 NDJSON 또는 CSV로 내보냅니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param format        내보내기 형식 (NDJSON, CSV)
+     * @return 스트리밍 응답
+     */
+    @GetMapping("/snippet/{codeSnippetId}/export")
+    public ResponseEntity<StreamingResponseBody> exportExecutionHistory(
+            @PathVariable final Long codeSnippetId,
+            @RequestParam(defaultValue = "NDJSON") final ExportFormat format) {
+
+        log.info("GET /api/v1/executions/snippet/{}/export - Exporting execution history as {}",
+                codeSnippetId, format);
+
+        final StreamingResponseBody body = dataExportService.exportExecutions(codeSnippetId, format);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("executions-" + codeSnippetId + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * 코드 스니펫의 가장 최근 실행 기록을 조회합니다.
      *
@@ -110,20 +231,66 @@ public class ExecutionController {
      * @param status 실행 상태
      * @param page   페이지 번호
      * @param size   페이지 크기
+     * @param cursor 커서 토큰 (선택). 지정하면 page 대신 키셋 페이징으로 조회하며, 빈 값이면 첫 페이지
      * @return 페이징된 실행 기록 목록
      */
     @GetMapping("/status/{status}")
     public ResponseEntity<PageResponse<ExecutionResponse>> getExecutionsByStatus(
             @PathVariable final ExecutionStatus status,
             @RequestParam(defaultValue = "0") final int page,
-            @RequestParam(defaultValue = "20") final int size) {
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String cursor) {
 
         log.debug("GET /api/v1/executions/status/{} - Retrieving executions by status", status);
 
+        if (cursor != null) {
+            return ResponseEntity.ok(executionService
+                    .getExecutionsByStatus(status, PageCursor.decode(cursor), size));
+        }
+
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<ExecutionResponse> response = executionService
                 .getExecutionsByStatus(status, pageable);
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 최근 실행 메트릭을 조회합니다.
+     * 프로세스 메모리의 1분 윈도우만 읽으며 데이터베이스를 조회하지 않습니다.
+     *
+     * @param language 프로그래밍 언어 (선택)
+     * @param status   실행 상태 (선택)
+     * @param minutes  합산할 최근 윈도우 수 (1~60, 기본값 60)
+     * @return 실행 수와 실행 시간, 저장 대기 시간, 메모리 사용량의 p50/p95/p99
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<ExecutionMetricsResponse> getExecutionMetrics(
+            @RequestParam(required = false) final String language,
+            @RequestParam(required = false) final ExecutionStatus status,
+            @RequestParam(defaultValue = "60") final int minutes) {
+
+        log.debug("GET /api/v1/executions/metrics - Retrieving real-time execution metrics");
+
+        return ResponseEntity.ok(executionMetricsService.getMetrics(language, status, minutes));
+    }
+
+    /**
+     * 보존 기간이 지난 실행 기록을 삭제합니다.
+     *
+     * @return 삭제된 실행 기록 개수
+     */
+    @PostMapping("/cleanup-expired")
+    public ResponseEntity<Map<String, Object>> purgeExpiredExecutions() {
+        log.info("POST /api/v1/executions/cleanup-expired - Purging expired executions");
+
+        final long purgedCount = executionRetentionService.purgeExpiredExecutions();
+
+        final Map<String, Object> response = Map.of(
+                "purgedCount", purgedCount,
+                "message", "보존 기간이 지난 실행 기록 " + purgedCount + "개를 삭제했습니다."
+        );
+
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
@@ -1,18 +1,29 @@
 package com.codeplayground.controller;
 
+import com.codeplayground.config.QueryBudget;
+import com.codeplayground.config.ResponseFormatNegotiator;
+import com.codeplayground.dto.BulkResponse;
+import com.codeplayground.dto.PageCursor;
 import com.codeplayground.dto.PageResponse;
 import com.codeplayground.dto.ShareRequest;
 import com.codeplayground.dto.ShareResponse;
+import com.codeplayground.dto.ShareStatisticsResponse;
+import com.codeplayground.dto.ShareSummaryResponse;
+import com.codeplayground.dto.SparseFieldSet;
+import com.codeplayground.service.ETags;
 import com.codeplayground.service.SharedCodeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,6 +38,7 @@ import java.util.Map;
 public class SharedCodeController {
 
     private final SharedCodeService sharedCodeService;
+    private final ResponseFormatNegotiator responseFormatNegotiator;
 
     /**
      * 코드 스니펫에 대한 공유 링크를 생성합니다.
@@ -43,19 +55,42 @@ public class SharedCodeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 여러 공유를 공유 ID로 한 번에 조회합니다.
+     * 결과는 요청한 ID 순서를 따르며, 없거나 만료된 공유는 찾지 못한 항목으로 응답합니다.
+     *
+     * @param ids 공유 ID 목록 (쉼표로 구분)
+     * @return 일괄 조회 결과
+     */
+    @GetMapping(params = "ids")
+    @QueryBudget(maxQueries = 3)
+    public ResponseEntity<BulkResponse<String, ShareResponse>> getSharedCodes(
+            @RequestParam final List<String> ids) {
+        log.debug("GET /api/v1/shares?ids - Retrieving {} shares", ids.size());
+
+        return ResponseEntity.ok(sharedCodeService.getSharedCodes(ids));
+    }
+
     /**
      * 공유 ID로 공유된 코드 스니펫을 조회합니다.
+     * 응답 캐시에서 꺼낸 응답으로 ETag를 계산하므로, If-None-Match가 일치하면 본문을 직렬화하지 않고 304로 응답합니다.
      *
-     * @param shareId 공유 ID
+     * @param shareId    공유 ID
+     * @param webRequest 응답 형식을 협상할 요청
      * @return 공유된 코드 정보
      */
     @GetMapping("/{shareId}")
-    public ResponseEntity<ShareResponse> getSharedCode(@PathVariable final String shareId) {
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<ShareResponse> getSharedCode(@PathVariable final String shareId,
+                                                       final WebRequest webRequest) {
         log.debug("GET /api/v1/shares/{} - Retrieving shared code", shareId);
 
         final ShareResponse response = sharedCodeService.getSharedCode(shareId);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(responseFormatNegotiator.etag(ETags.share(response), webRequest))
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     /**
@@ -79,16 +114,33 @@ public class SharedCodeController {
      * @param codeSnippetId 코드 스니펫 ID
      * @param page          페이지 번호
      * @param size          페이지 크기
+     * @param cursor        커서 토큰 (선택). 지정하면 page 대신 키셋 페이징으로 조회하며, 빈 값이면 첫 페이지
+     * @param fields        응답에 포함할 요약 필드 (선택, 쉼표 구분). 지정하면 코드 본문 없는 요약 목록을 반환합니다
      * @return 페이징된 공유 목록
      */
     @GetMapping("/snippet/{codeSnippetId}")
-    public ResponseEntity<PageResponse<ShareResponse>> getSharesByCodeSnippet(
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<?> getSharesByCodeSnippet(
             @PathVariable final Long codeSnippetId,
             @RequestParam(defaultValue = "0") final int page,
-            @RequestParam(defaultValue = "20") final int size) {
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final String fields) {
 
         log.debug("GET /api/v1/shares/snippet/{} - Retrieving shares for snippet", codeSnippetId);
 
+        if (fields != null) {
+            final SparseFieldSet fieldSet = SparseFieldSet.parse(fields, ShareSummaryResponse.FIELDS);
+            return ResponseEntity.ok(fieldSet.apply(cursor != null
+                    ? sharedCodeService.getShareSummariesByCodeSnippet(codeSnippetId, PageCursor.decode(cursor), size)
+                    : sharedCodeService.getShareSummariesByCodeSnippet(codeSnippetId, PageRequest.of(page, size))));
+        }
+
+        if (cursor != null) {
+            return ResponseEntity.ok(sharedCodeService
+                    .getSharesByCodeSnippet(codeSnippetId, PageCursor.decode(cursor), size));
+        }
+
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<ShareResponse> response = sharedCodeService
                 .getSharesByCodeSnippet(codeSnippetId, pageable);
@@ -99,17 +151,33 @@ public class SharedCodeController {
     /**
      * 최근 생성된 활성 공유들을 조회합니다.
      *
-     * @param page 페이지 번호
-     * @param size 페이지 크기
+     * @param page   페이지 번호
+     * @param size   페이지 크기
+     * @param cursor 커서 토큰 (선택). 지정하면 page 대신 키셋 페이징으로 조회하며, 빈 값이면 첫 페이지
+     * @param fields 응답에 포함할 요약 필드 (선택, 쉼표 구분). 지정하면 코드 본문 없는 요약 목록을 반환합니다
      * @return 페이징된 공유 목록
      */
     @GetMapping("/recent")
-    public ResponseEntity<PageResponse<ShareResponse>> getRecentShares(
+    @QueryBudget(maxQueries = 4)
+    public ResponseEntity<?> getRecentShares(
             @RequestParam(defaultValue = "0") final int page,
-            @RequestParam(defaultValue = "20") final int size) {
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final String fields) {
 
         log.debug("GET /api/v1/shares/recent - Retrieving recent shares");
 
+        if (fields != null) {
+            final SparseFieldSet fieldSet = SparseFieldSet.parse(fields, ShareSummaryResponse.FIELDS);
+            return ResponseEntity.ok(fieldSet.apply(cursor != null
+                    ? sharedCodeService.getRecentShareSummaries(PageCursor.decode(cursor), size)
+                    : sharedCodeService.getRecentShareSummaries(PageRequest.of(page, size))));
+        }
+
+        if (cursor != null) {
+            return ResponseEntity.ok(sharedCodeService.getRecentShares(PageCursor.decode(cursor), size));
+        }
+
         final Pageable pageable = PageRequest.of(page, size);
         final PageResponse<ShareResponse> response = sharedCodeService.getRecentShares(pageable);
 
@@ -124,6 +192,7 @@ public class SharedCodeController {
      * @return 페이징된 공유 목록
      */
     @GetMapping("/expiring-soon")
+    @QueryBudget(maxQueries = 4)
     public ResponseEntity<PageResponse<ShareResponse>> getSoonToExpireShares(
             @RequestParam(defaultValue = "0") final int page,
             @RequestParam(defaultValue = "20") final int size) {
@@ -161,16 +230,17 @@ public class SharedCodeController {
      * @return 공유 통계
      */
     @GetMapping("/statistics")
+    @QueryBudget(maxQueries = 2)
     public ResponseEntity<Map<String, Object>> getShareStatistics() {
         log.debug("GET /api/v1/shares/statistics - Retrieving share statistics");
 
-        final Object[] statistics = sharedCodeService.getShareStatistics();
+        final ShareStatisticsResponse statistics = sharedCodeService.getShareStatistics();
 
         final Map<String, Object> response = Map.of(
-                "totalShares", statistics[0],
-                "activeShares", statistics[1],
-                "expiredShares", statistics[2],
-                "permanentShares", statistics[3]
+                "totalShares", statistics.getTotalShares(),
+                "activeShares", statistics.getActiveShares(),
+                "expiredShares", statistics.getExpiredShares(),
+                "permanentShares", statistics.getPermanentShares()
         );
 
         return ResponseEntity.ok(response);
@@ -0,0 +1,114 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.dto.ExecutionStatisticsResponse;
+import com.codeplayground.dto.ShareStatisticsResponse;
+import com.codeplayground.entity.enums.RollupGranularity;
+import com.codeplayground.service.StatisticsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 통계 REST 컨트롤러.
+ * 통계 롤업 버킷에서 실행 및 공유 통계를 조회하는 API 엔드포인트를 제공합니다.
+ */
+@RestController
+@RequestMapping("/api/v1/statistics")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(originPatterns = {"http://localhost:*", "http://127.0.0.1:*"})
+public class StatisticsController {
+
+    /**
+     * 시계열 조회 기간을 지정하지 않았을 때 조회할 버킷 수.
+     */
+    private static final int DEFAULT_SERIES_BUCKETS = 60;
+
+    private final StatisticsRollupService statisticsRollupService;
+
+    /**
+     * 전체 실행 통계를 조회합니다.
+     *
+     * @param language 프로그래밍 언어 (선택)
+     * @return 실행 통계
+     */
+    @GetMapping("/executions")
+    public ResponseEntity<ExecutionStatisticsResponse> getExecutionStatistics(
+            @RequestParam(required = false) final String language) {
+
+        log.debug("GET /api/v1/statistics/executions - Retrieving execution statistics");
+
+        return ResponseEntity.ok(statisticsRollupService.getExecutionStatistics(language));
+    }
+
+    /**
+     * 기간 내 실행 통계를 버킷별로 조회합니다.
+     *
+     * @param granularity 집계 단위 (MINUTE, HOUR, DAY)
+     * @param from        시작 시각 (선택, 기본값은 종료 시각 기준 60개 버킷 전)
+     * @param to          종료 시각 (선택, 기본값은 현재 시각)
+     * @param language    프로그래밍 언어 (선택)
+     * @return 버킷별 실행 통계
+     */
+    @GetMapping("/executions/series")
+    public ResponseEntity<List<ExecutionStatisticsResponse>> getExecutionSeries(
+            @RequestParam(defaultValue = "HOUR") final RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime to,
+            @RequestParam(required = false) final String language) {
+
+        log.debug("GET /api/v1/statistics/executions/series - granularity: {}", granularity);
+
+        final LocalDateTime end = to != null ? to : LocalDateTime.now();
+        final LocalDateTime start = from != null ? from : defaultSeriesStart(granularity, end);
+
+        return ResponseEntity.ok(statisticsRollupService.getExecutionSeries(granularity, start, end, language));
+    }
+
+    /**
+     * 전체 공유 통계를 조회합니다.
+     *
+     * @return 공유 통계
+     */
+    @GetMapping("/shares")
+    public ResponseEntity<ShareStatisticsResponse> getShareStatistics() {
+        log.debug("GET /api/v1/statistics/shares - Retrieving share statistics");
+
+        return ResponseEntity.ok(statisticsRollupService.getShareStatistics());
+    }
+
+    /**
+     * 기간 내 공유 생성 수를 버킷별로 조회합니다.
+     *
+     * @param granularity 집계 단위 (MINUTE, HOUR, DAY)
+     * @param from        시작 시각 (선택, 기본값은 종료 시각 기준 60개 버킷 전)
+     * @param to          종료 시각 (선택, 기본값은 현재 시각)
+     * @return 버킷별 공유 생성 수
+     */
+    @GetMapping("/shares/series")
+    public ResponseEntity<List<ShareStatisticsResponse>> getShareSeries(
+            @RequestParam(defaultValue = "HOUR") final RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime to) {
+
+        log.debug("GET /api/v1/statistics/shares/series - granularity: {}", granularity);
+
+        final LocalDateTime end = to != null ? to : LocalDateTime.now();
+        final LocalDateTime start = from != null ? from : defaultSeriesStart(granularity, end);
+
+        return ResponseEntity.ok(statisticsRollupService.getShareSeries(granularity, start, end));
+    }
+
+    private static LocalDateTime defaultSeriesStart(final RollupGranularity granularity, final LocalDateTime end) {
+        return granularity.bucketOf(end).minus(DEFAULT_SERIES_BUCKETS - 1, granularity.getUnit());
+    }
+}
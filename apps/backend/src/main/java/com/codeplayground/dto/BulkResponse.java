@@ -0,0 +1,96 @@
+package com.codeplayground.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ID 목록 일괄 조회 응답 DTO.
+ * 항목은 요청한 ID 순서를 따르며, 찾지 못한 ID도 {@code found=false} 항목으로 포함됩니다.
+ *
+ * @param <K> ID 타입
+ * @param <T> 응답 데이터 타입
+ */
+@Data
+@Builder
+public class BulkResponse<K, T> {
+
+    /**
+     * 요청한 ID 순서의 조회 결과.
+     */
+    private List<Item<K, T>> items;
+
+    /**
+     * 요청한 ID 수 (중복 포함).
+     */
+    private int requestedCount;
+
+    /**
+     * 찾은 항목 수 (중복 포함).
+     */
+    private int foundCount;
+
+    /**
+     * 요청한 ID 순서대로 조회 결과를 담은 응답을 만듭니다.
+     *
+     * @param ids   요청한 ID 목록
+     * @param found ID별로 찾은 항목
+     * @param <K>   ID 타입
+     * @param <T>   응답 데이터 타입
+     * @return 일괄 조회 응답
+     */
+    public static <K, T> BulkResponse<K, T> of(final List<K> ids, final Map<K, T> found) {
+        final List<Item<K, T>> items = ids.stream()
+                .map(id -> new Item<>(id, found.containsKey(id), found.get(id)))
+                .toList();
+        return BulkResponse.<K, T>builder()
+                .items(items)
+                .requestedCount(items.size())
+                .foundCount((int) items.stream().filter(Item::isFound).count())
+                .build();
+    }
+
+    /**
+     * 한 번에 조회할 수 있는 ID 수를 확인합니다.
+     *
+     * @param ids    요청한 ID 목록
+     * @param maxIds 최대 ID 수
+     * @throws IllegalArgumentException ID 수가 최대값을 넘는 경우
+     */
+    public static void checkSize(final Collection<?> ids, final int maxIds) {
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException(
+                    "한 번에 조회할 수 있는 ID는 최대 " + maxIds + "개입니다: " + ids.size());
+        }
+    }
+
+    /**
+     * ID 하나의 조회 결과.
+     *
+     * @param <K> ID 타입
+     * @param <T> 응답 데이터 타입
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Item<K, T> {
+
+        /**
+         * 요청한 ID.
+         */
+        private K id;
+
+        /**
+         * 찾았는지 여부.
+         */
+        private boolean found;
+
+        /**
+         * 조회 결과 (찾지 못했으면 null).
+         */
+        private T data;
+    }
+}
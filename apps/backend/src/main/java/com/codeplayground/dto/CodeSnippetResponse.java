@@ -42,6 +42,11 @@ public class CodeSnippetResponse {
      */
     private Boolean isActive;
 
+    /**
+     * 현재 코드의 버전 번호.
+     */
+    private Integer version;
+
     /**
      * 생성 일시.
      */
@@ -0,0 +1,93 @@
+package com.codeplayground.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 코드 스니펫 요약 응답 DTO.
+ * 목록 조회에서 {@code fields=}를 지정하면 사용하며, 코드 본문을 조회하지 않는 JPQL 생성자 프로젝션으로 만들어집니다.
+ */
+@Data
+@NoArgsConstructor
+@JsonFilter(SparseFieldSet.FILTER_ID)
+public class CodeSnippetSummaryResponse {
+
+    /**
+     * {@code fields=}로 선택할 수 있는 필드.
+     */
+    public static final Set<String> FIELDS = Set.of(
+            "id", "title", "language", "authorName", "version", "createdAt", "updatedAt",
+            "executionCount", "shareCount");
+
+    /**
+     * 코드 스니펫 ID.
+     */
+    private Long id;
+
+    /**
+     * 코드 스니펫 제목.
+     */
+    private String title;
+
+    /**
+     * 프로그래밍 언어.
+     */
+    private String language;
+
+    /**
+     * 작성자 이름.
+     */
+    private String authorName;
+
+    /**
+     * 현재 코드 버전 번호.
+     */
+    private Integer version;
+
+    /**
+     * 생성 일시.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 수정 일시.
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 실행 횟수 (요청한 경우에만 집계).
+     */
+    private Integer executionCount;
+
+    /**
+     * 공유 횟수 (요청한 경우에만 집계).
+     */
+    private Integer shareCount;
+
+    /**
+     * JPQL 생성자 프로젝션용 생성자.
+     *
+     * @param id         코드 스니펫 ID
+     * @param title      제목
+     * @param language   프로그래밍 언어
+     * @param authorName 작성자 이름
+     * @param version    현재 코드 버전 번호
+     * @param createdAt  생성 일시
+     * @param updatedAt  수정 일시
+     */
+    public CodeSnippetSummaryResponse(final Long id, final String title, final String language,
+                                      final String authorName, final Integer version,
+                                      final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.language = language;
+        this.authorName = authorName;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,116 @@
+package com.codeplayground.dto;
+
+import com.codeplayground.entity.enums.ExecutionStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 실행 메트릭 응답 DTO.
+ * 프로세스 메모리의 1분 윈도우를 합산한 결과로, 데이터베이스를 조회하지 않습니다.
+ */
+@Data
+@Builder
+public class ExecutionMetricsResponse {
+
+    /**
+     * 집계 시작 시각 (가장 오래된 윈도우의 시작).
+     */
+    private LocalDateTime from;
+
+    /**
+     * 집계 종료 시각 (현재 시각).
+     */
+    private LocalDateTime to;
+
+    /**
+     * 프로그래밍 언어 (지정한 경우에만 포함).
+     */
+    private String language;
+
+    /**
+     * 실행 상태 (지정한 경우에만 포함).
+     */
+    private ExecutionStatus status;
+
+    /**
+     * 전체 실행 수.
+     */
+    private long totalExecutions;
+
+    /**
+     * 성공한 실행 수.
+     */
+    private long successCount;
+
+    /**
+     * 에러로 끝난 실행 수.
+     */
+    private long errorCount;
+
+    /**
+     * 시간 초과된 실행 수.
+     */
+    private long timeoutCount;
+
+    /**
+     * 분당 평균 실행 수.
+     */
+    private double executionsPerMinute;
+
+    /**
+     * 실행 시간 분포 (밀리초).
+     */
+    private Distribution executionTime;
+
+    /**
+     * 저장 대기 시간 분포 (밀리초).
+     */
+    private Distribution queueWait;
+
+    /**
+     * 메모리 사용량 분포 (바이트).
+     */
+    private Distribution memoryUsage;
+
+    /**
+     * 값 분포 요약.
+     * 백분위수는 이 프로세스가 시작된 뒤 기록된 표본만으로 계산되며,
+     * 시작 시 롤업에서 채운 구간은 평균에만 반영됩니다.
+     */
+    @Data
+    @Builder
+    public static class Distribution {
+
+        /**
+         * 백분위수 계산에 사용된 표본 수.
+         */
+        private long sampleCount;
+
+        /**
+         * 평균값. 표본이 없으면 null.
+         */
+        private Double mean;
+
+        /**
+         * 50 백분위수.
+         */
+        private Long p50;
+
+        /**
+         * 95 백분위수.
+         */
+        private Long p95;
+
+        /**
+         * 99 백분위수.
+         */
+        private Long p99;
+
+        /**
+         * 최댓값.
+         */
+        private Long max;
+    }
+}
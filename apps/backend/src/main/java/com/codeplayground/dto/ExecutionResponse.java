@@ -23,6 +23,12 @@ public class ExecutionResponse {
      */
     private Long codeSnippetId;
 
+    /**
+     * 실행한 코드 스니펫 버전 번호 (사용자 지정 코드를 실행한 경우 null).
+     * GET /api/v1/snippets/{id}/versions/{version}으로 실행한 코드를 조회할 수 있습니다.
+     */
+    private Integer codeVersion;
+
     /**
      * 실행 상태.
      */
@@ -30,14 +36,32 @@ public class ExecutionResponse {
 
     /**
      * 실행 출력 결과.
+     * 목록 응답에서는 앞부분 미리보기만 포함됩니다 ({@link #truncated} 참고).
      */
     private String output;
 
     /**
      * 에러 메시지 (실행 실패 시).
+     * 목록 응답에서는 앞부분 미리보기만 포함됩니다.
      */
     private String errorMessage;
 
+    /**
+     * 실행 출력 전체의 바이트 길이.
+     */
+    private Integer outputBytes;
+
+    /**
+     * 에러 메시지 전체의 바이트 길이.
+     */
+    private Integer errorMessageBytes;
+
+    /**
+     * 출력이나 에러 메시지가 미리보기로 잘렸는지 여부.
+     * true이면 상세 조회(GET /api/v1/executions/{id})로 전체를 가져올 수 있습니다.
+     */
+    private Boolean truncated;
+
     /**
      * 실행 시간 (밀리초).
      */
@@ -52,4 +76,10 @@ public class ExecutionResponse {
      * 실행 일시.
      */
     private LocalDateTime createdAt;
+
+    /**
+     * 저장이 아직 확인되지 않은 실행 결과인지 여부 (202 Accepted 응답에서만 true).
+     * 이때 ID와 실행 일시는 비어 있으며, 기록은 잠시 뒤 실행 기록 목록에 나타납니다.
+     */
+    private Boolean pending;
 }
\ No newline at end of file
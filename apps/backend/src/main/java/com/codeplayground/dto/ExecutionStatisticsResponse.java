@@ -0,0 +1,50 @@
+package com.codeplayground.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 통계 응답 DTO.
+ * 전체 통계와 시계열의 한 버킷을 함께 표현합니다.
+ */
+@Data
+@Builder
+public class ExecutionStatisticsResponse {
+
+    /**
+     * 버킷 시작 시각 (시계열 응답에만 포함).
+     */
+    private LocalDateTime bucketStart;
+
+    /**
+     * 프로그래밍 언어 (언어를 지정한 경우에만 포함).
+     */
+    private String language;
+
+    /**
+     * 전체 실행 수.
+     */
+    private long totalExecutions;
+
+    /**
+     * 성공한 실행 수.
+     */
+    private long successCount;
+
+    /**
+     * 에러로 끝난 실행 수.
+     */
+    private long errorCount;
+
+    /**
+     * 시간 초과된 실행 수.
+     */
+    private long timeoutCount;
+
+    /**
+     * 평균 실행 시간 (밀리초). 실행이 없으면 null.
+     */
+    private Double averageExecutionTime;
+}
@@ -0,0 +1,84 @@
+package com.codeplayground.dto;
+
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 실행 기록 요약 응답 DTO.
+ * 실행 기록 목록에서 {@code fields=}를 지정하면 사용하며, 출력과 에러 메시지(미리보기 포함)를 조회하지 않는
+ * JPQL 생성자 프로젝션으로 만들어집니다.
+ */
+@Data
+@NoArgsConstructor
+@JsonFilter(SparseFieldSet.FILTER_ID)
+public class ExecutionSummaryResponse {
+
+    /**
+     * {@code fields=}로 선택할 수 있는 필드.
+     */
+    public static final Set<String> FIELDS = Set.of(
+            "id", "codeSnippetId", "codeVersion", "status", "executionTime", "memoryUsage", "createdAt");
+
+    /**
+     * 실행 기록 ID.
+     */
+    private Long id;
+
+    /**
+     * 코드 스니펫 ID.
+     */
+    private Long codeSnippetId;
+
+    /**
+     * 실행한 코드 스니펫 버전 번호 (사용자 지정 코드를 실행한 경우 null).
+     */
+    private Integer codeVersion;
+
+    /**
+     * 실행 상태.
+     */
+    private ExecutionStatus status;
+
+    /**
+     * 실행 시간 (밀리초).
+     */
+    private Long executionTime;
+
+    /**
+     * 메모리 사용량 (바이트).
+     */
+    private Long memoryUsage;
+
+    /**
+     * 실행 일시.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * JPQL 생성자 프로젝션용 생성자.
+     *
+     * @param id            실행 기록 ID
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param codeVersion   실행한 코드 버전 번호
+     * @param status        실행 상태
+     * @param executionTime 실행 시간 (밀리초)
+     * @param memoryUsage   메모리 사용량 (바이트)
+     * @param createdAt     실행 일시
+     */
+    public ExecutionSummaryResponse(final Long id, final Long codeSnippetId, final Integer codeVersion,
+                                    final ExecutionStatus status, final Long executionTime,
+                                    final Long memoryUsage, final LocalDateTime createdAt) {
+        this.id = id;
+        this.codeSnippetId = codeSnippetId;
+        this.codeVersion = codeVersion;
+        this.status = status;
+        this.executionTime = executionTime;
+        this.memoryUsage = memoryUsage;
+        this.createdAt = createdAt;
+    }
+}
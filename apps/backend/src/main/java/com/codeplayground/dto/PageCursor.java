@@ -0,0 +1,95 @@
+package com.codeplayground.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징 위치.
+ * 마지막으로 반환한 항목의 (생성 일시, ID)를 불투명한 문자열 토큰으로 주고받습니다.
+ *
+ * <p>목록은 (created_at DESC, id DESC) 순서로 정렬되며, 다음 페이지는 이 위치보다
+ * 앞선 항목부터 조회합니다. OFFSET 없이 인덱스 범위 스캔으로 처리되므로
+ * 몇 번째 페이지든 비용이 같습니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PageCursor {
+
+    /**
+     * 첫 페이지 위치. 모든 항목이 이 위치보다 앞섭니다.
+     */
+    private static final PageCursor FIRST = new PageCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 마지막 항목의 생성 일시.
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 마지막 항목의 ID.
+     */
+    private final Long id;
+
+    /**
+     * 주어진 항목 바로 다음부터 조회하는 커서를 생성합니다.
+     *
+     * @param createdAt 마지막 항목의 생성 일시
+     * @param id        마지막 항목의 ID
+     * @return 페이지 커서
+     */
+    public static PageCursor after(final LocalDateTime createdAt, final Long id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 토큰을 해석합니다. 비어 있으면 첫 페이지 위치를 반환합니다.
+     *
+     * @param token 커서 토큰
+     * @return 페이지 커서
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+     */
+    public static PageCursor decode(final String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+            }
+            return new PageCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (final DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token, e);
+        }
+    }
+
+    /**
+     * 첫 페이지 위치인지 확인합니다.
+     *
+     * @return 첫 페이지 위치이면 true, 아니면 false
+     */
+    public boolean isFirst() {
+        return this == FIRST;
+    }
+
+    /**
+     * 커서를 URL에 안전한 토큰 문자열로 변환합니다.
+     *
+     * @return 커서 토큰
+     */
+    public String encode() {
+        final String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,11 +2,15 @@ package com.codeplayground.dto;
 
 import lombok.Builder;
 import lombok.Data;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 페이징된 응답 DTO.
+ * 커서 요청으로 조회한 경우 전체 개수를 세지 않으므로 page, totalElements, totalPages는 null입니다.
  *
  * @param <T> 응답 데이터 타입
  */
@@ -20,7 +24,7 @@ public class PageResponse<T> {
     private List<T> content;
 
     /**
-     * 현재 페이지 번호 (0부터 시작).
+     * 현재 페이지 번호 (0부터 시작, 커서 요청이면 null).
      */
     private Integer page;
 
@@ -30,12 +34,12 @@ public class PageResponse<T> {
     private Integer size;
 
     /**
-     * 전체 요소 개수.
+     * 전체 요소 개수 (커서 요청이면 null).
      */
     private Long totalElements;
 
     /**
-     * 전체 페이지 개수.
+     * 전체 페이지 개수 (커서 요청이면 null).
      */
     private Integer totalPages;
 
@@ -48,4 +52,52 @@ public class PageResponse<T> {
      * 마지막 페이지 여부.
      */
     private Boolean last;
-}
\ No newline at end of file
+
+    /**
+     * 다음 페이지를 조회할 커서 토큰.
+     * 마지막 페이지이거나 커서 페이징을 지원하지 않는 목록이면 null입니다.
+     */
+    private String nextCursor;
+
+    /**
+     * 페이지를 변환 없이 페이징 응답으로 만듭니다.
+     *
+     * @param page 조회한 페이지
+     * @param <T>  응답 데이터 타입
+     * @return 페이징된 응답 DTO
+     */
+    public static <T> PageResponse<T> of(final Page<T> page) {
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .build();
+    }
+
+    /**
+     * 슬라이스를 변환 없이 커서 페이징 응답으로 만듭니다.
+     *
+     * @param slice    조회한 슬라이스
+     * @param cursor   요청한 페이지 커서
+     * @param cursorOf 항목의 위치를 커서로 만드는 함수
+     * @param <T>      응답 데이터 타입
+     * @return 다음 커서를 포함한 응답 DTO
+     */
+    public static <T> PageResponse<T> of(final Slice<T> slice, final PageCursor cursor,
+                                         final Function<T, PageCursor> cursorOf) {
+        final List<T> content = slice.getContent();
+        return PageResponse.<T>builder()
+                .content(content)
+                .size(slice.getSize())
+                .first(cursor.isFirst())
+                .last(!slice.hasNext())
+                .nextCursor(slice.hasNext() && !content.isEmpty()
+                        ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                        : null)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.codeplayground.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유 통계 응답 DTO.
+ * 전체 통계에는 공유 수 항목이, 시계열 버킷에는 버킷 시작 시각과 생성 수만 포함됩니다.
+ */
+@Data
+@Builder
+public class ShareStatisticsResponse {
+
+    /**
+     * 버킷 시작 시각 (시계열 응답에만 포함).
+     */
+    private LocalDateTime bucketStart;
+
+    /**
+     * 생성된 공유 수 (시계열 응답에만 포함).
+     */
+    private Long createdShares;
+
+    /**
+     * 지금까지 생성된 전체 공유 수.
+     */
+    private Long totalShares;
+
+    /**
+     * 활성 공유 수.
+     */
+    private Long activeShares;
+
+    /**
+     * 활성 상태이지만 만료 시각이 지난 공유 수.
+     */
+    private Long expiredShares;
+
+    /**
+     * 무기한 활성 공유 수.
+     */
+    private Long permanentShares;
+}
@@ -0,0 +1,97 @@
+package com.codeplayground.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 공유 요약 응답 DTO.
+ * 공유 목록에서 {@code fields=}를 지정하면 사용하며, 스니펫 전체 대신 제목과 언어만 담고
+ * 코드 본문을 조회하지 않는 JPQL 생성자 프로젝션으로 만들어집니다.
+ */
+@Data
+@NoArgsConstructor
+@JsonFilter(SparseFieldSet.FILTER_ID)
+public class ShareSummaryResponse {
+
+    /**
+     * {@code fields=}로 선택할 수 있는 필드.
+     */
+    public static final Set<String> FIELDS = Set.of(
+            "id", "codeSnippetId", "shareId", "shareUrl", "title", "language", "expiresAt", "isActive",
+            "createdAt");
+
+    /**
+     * 공유 코드 ID.
+     */
+    private Long id;
+
+    /**
+     * 코드 스니펫 ID.
+     */
+    private Long codeSnippetId;
+
+    /**
+     * 공유 ID.
+     */
+    private String shareId;
+
+    /**
+     * 공유 URL.
+     */
+    private String shareUrl;
+
+    /**
+     * 코드 스니펫 제목.
+     */
+    private String title;
+
+    /**
+     * 프로그래밍 언어.
+     */
+    private String language;
+
+    /**
+     * 만료 일시 (null이면 무기한).
+     */
+    private LocalDateTime expiresAt;
+
+    /**
+     * 활성 상태.
+     */
+    private Boolean isActive;
+
+    /**
+     * 생성 일시.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * JPQL 생성자 프로젝션용 생성자.
+     * 공유 URL은 설정된 기본 URL로 서비스에서 채웁니다.
+     *
+     * @param id            공유 코드 ID
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param shareId       공유 ID
+     * @param title         코드 스니펫 제목
+     * @param language      프로그래밍 언어
+     * @param expiresAt     만료 일시
+     * @param isActive      활성 상태
+     * @param createdAt     생성 일시
+     */
+    public ShareSummaryResponse(final Long id, final Long codeSnippetId, final String shareId,
+                                final String title, final String language, final LocalDateTime expiresAt,
+                                final Boolean isActive, final LocalDateTime createdAt) {
+        this.id = id;
+        this.codeSnippetId = codeSnippetId;
+        this.shareId = shareId;
+        this.title = title;
+        this.language = language;
+        this.expiresAt = expiresAt;
+        this.isActive = isActive;
+        this.createdAt = createdAt;
+    }
+}
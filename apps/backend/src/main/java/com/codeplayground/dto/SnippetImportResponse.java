@@ -0,0 +1,64 @@
+package com.codeplayground.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 코드 스니펫 일괄 가져오기 결과 DTO.
+ * 실패한 줄은 앞에서부터 정해진 개수까지만 포함됩니다.
+ */
+@Data
+@Builder
+public class SnippetImportResponse {
+
+    /**
+     * 읽은 줄 수 (빈 줄 제외).
+     */
+    private long totalLines;
+
+    /**
+     * 저장된 스니펫 수.
+     */
+    private long importedCount;
+
+    /**
+     * 실패한 줄 수.
+     */
+    private long failedCount;
+
+    /**
+     * 실패한 줄과 사유.
+     */
+    private List<LineError> errors;
+
+    /**
+     * 실패한 줄이 많아 일부만 포함되었는지 여부.
+     */
+    private boolean errorsTruncated;
+
+    /**
+     * 처리 시간 (밀리초).
+     */
+    private long elapsedMillis;
+
+    /**
+     * 실패한 줄.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class LineError {
+
+        /**
+         * 줄 번호 (1부터 시작).
+         */
+        private long line;
+
+        /**
+         * 실패 사유.
+         */
+        private String message;
+    }
+}
@@ -0,0 +1,34 @@
+package com.codeplayground.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 코드 스니펫 버전 응답 DTO.
+ */
+@Data
+@Builder
+public class SnippetVersionResponse {
+
+    /**
+     * 코드 스니펫 ID.
+     */
+    private Long codeSnippetId;
+
+    /**
+     * 버전 번호.
+     */
+    private Integer version;
+
+    /**
+     * 해당 버전의 코드 전체.
+     */
+    private String code;
+
+    /**
+     * 버전 생성 일시.
+     */
+    private LocalDateTime createdAt;
+}
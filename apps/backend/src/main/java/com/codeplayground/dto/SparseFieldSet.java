@@ -0,0 +1,78 @@
+package com.codeplayground.dto;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 목록 응답에 포함할 필드 집합 ({@code fields=} 요청 파라미터).
+ * 요약 응답 DTO에만 적용되며, 요청한 필드만 직렬화하고 요청하지 않은 집계는 조회하지 않을 수 있게 합니다.
+ *
+ * <p>요약 응답 DTO는 {@code @JsonFilter(SparseFieldSet.FILTER_ID)}로 표시하며,
+ * 필터 없이 직렬화하면 모든 필드를 포함합니다.</p>
+ */
+public final class SparseFieldSet {
+
+    /**
+     * 요약 응답 DTO에 지정하는 Jackson 필터 ID.
+     */
+    public static final String FILTER_ID = "sparseFields";
+
+    private final Set<String> fields;
+
+    private SparseFieldSet(final Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * 쉼표로 구분한 필드 목록을 읽습니다.
+     * 빈 값이면 허용된 필드 전체를 포함합니다.
+     *
+     * @param fields  쉼표로 구분한 필드 목록
+     * @param allowed 요약 응답에서 허용하는 필드
+     * @return 필드 집합
+     * @throws IllegalArgumentException 허용되지 않은 필드가 포함된 경우
+     */
+    public static SparseFieldSet parse(final String fields, final Set<String> allowed) {
+        final Set<String> selected = new LinkedHashSet<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(field -> {
+                    if (!allowed.contains(field)) {
+                        throw new IllegalArgumentException("요약 목록에서 지원하지 않는 필드입니다: " + field
+                                + " (사용 가능: " + String.join(",", new TreeSet<>(allowed)) + ")");
+                    }
+                    selected.add(field);
+                });
+        return new SparseFieldSet(selected.isEmpty() ? Set.copyOf(allowed) : selected);
+    }
+
+    /**
+     * 필드가 포함되는지 확인합니다.
+     *
+     * @param field 필드 이름
+     * @return 포함되면 true
+     */
+    public boolean includes(final String field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * 응답 본문에 필드 필터를 적용합니다.
+     *
+     * @param body 응답 본문
+     * @return 필터가 지정된 응답 본문
+     */
+    public MappingJacksonValue apply(final Object body) {
+        final MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        return value;
+    }
+}
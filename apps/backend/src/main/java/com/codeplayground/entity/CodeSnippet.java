@@ -1,5 +1,6 @@
 package com.codeplayground.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -15,6 +16,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,9 +25,12 @@ import java.util.List;
 /**
  * 코드 스니펫 엔티티.
  * 사용자가 작성한 코드와 관련 정보를 저장합니다.
+ * Hibernate 2차 캐시(code-snippets 영역)에 저장되며, 캐시되는 쿼리의 결과는 {@link #QUERY_CACHE_REGION} 영역에 저장됩니다.
  */
 @Entity
 @Table(name = "code_snippets")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "code-snippets")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,6 +38,11 @@ import java.util.List;
 @Builder
 public class CodeSnippet extends BaseEntity {
 
+    /**
+     * 코드 스니펫 쿼리 캐시 영역.
+     */
+    public static final String QUERY_CACHE_REGION = "code-snippet-queries";
+
     /**
      * 코드 스니펫의 고유 식별자.
      */
@@ -80,6 +91,23 @@ public class CodeSnippet extends BaseEntity {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    /**
+     * 인기도 점수.
+     * 실행이 기록될 때마다 데이터베이스에서 원자적으로 증가하며,
+     * 인기 스니펫 목록의 정렬 기준으로 사용됩니다.
+     * 엔티티 수정 시 캐시된 이전 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외합니다.
+     */
+    @Column(name = "popularity_score", nullable = false, updatable = false)
+    private double popularityScore;
+
+    /**
+     * 현재 코드의 버전 번호.
+     * 1부터 시작하며 코드가 바뀔 때마다 1씩 증가합니다. 이전 버전은 {@link CodeSnippetVersion}에 저장됩니다.
+     */
+    @Column(name = "current_version", nullable = false)
+    @Builder.Default
+    private Integer currentVersion = 1;
+
     /**
      * 이 코드 스니펫의 실행 기록들.
      */
@@ -0,0 +1,95 @@
+package com.codeplayground.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 코드 스니펫 버전 엔티티.
+ * 코드가 바뀔 때마다 이전 버전과의 줄 단위 차이(편집 스크립트)를 저장하고,
+ * 일정 간격마다 코드 전체를 체크포인트로 저장합니다.
+ *
+ * <p>버전을 복원할 때는 그 이하의 가장 가까운 체크포인트부터 차이를 차례로 적용하므로,
+ * 읽는 행 수는 체크포인트 간격을 넘지 않습니다.</p>
+ */
+@Entity
+@Table(name = "code_snippet_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CodeSnippetVersion {
+
+    /**
+     * 버전 키 (코드 스니펫 ID, 버전 번호).
+     */
+    @EmbeddedId
+    private Key id;
+
+    /**
+     * 체크포인트 여부.
+     * true이면 {@link #content}가 코드 전체이고, false이면 직전 버전에 대한 편집 스크립트입니다.
+     */
+    @Column(name = "checkpoint", nullable = false)
+    private boolean checkpoint;
+
+    /**
+     * 코드 전체 또는 직전 버전에 대한 편집 스크립트.
+     */
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    /**
+     * 버전 생성 일시.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 편의 생성자.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param version       버전 번호
+     * @param checkpoint    체크포인트 여부
+     * @param content       코드 전체 또는 편집 스크립트
+     */
+    public CodeSnippetVersion(final Long codeSnippetId, final int version,
+                              final boolean checkpoint, final String content) {
+        this.id = new Key(codeSnippetId, version);
+        this.checkpoint = checkpoint;
+        this.content = content;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 코드 스니펫 버전 키.
+     */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        /**
+         * 코드 스니펫 ID.
+         */
+        @Column(name = "code_snippet_id", nullable = false)
+        private Long codeSnippetId;
+
+        /**
+         * 버전 번호 (1부터 시작).
+         */
+        @Column(name = "version", nullable = false)
+        private Integer version;
+    }
+}
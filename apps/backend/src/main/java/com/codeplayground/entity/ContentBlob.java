@@ -0,0 +1,57 @@
+package com.codeplayground.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반 본문 엔티티.
+ * 실행 결과 출력과 에러 메시지를 UTF-8 내용의 SHA-256 해시를 키로 한 번만 저장합니다.
+ * 같은 내용을 가리키는 참조 수를 함께 관리하며, 참조가 없어진 행은 보존 기간 정리에서 삭제됩니다.
+ *
+ * <p>쓰기와 삭제는 {@link com.codeplayground.service.ContentBlobStore}가 JDBC로 처리합니다.</p>
+ */
+@Entity
+@Table(name = "content_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentBlob {
+
+    /**
+     * 내용의 SHA-256 해시 (소문자 16진수 64자).
+     */
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    /**
+     * 본문 내용.
+     */
+    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    /**
+     * 내용의 UTF-8 바이트 수.
+     */
+    @Column(name = "byte_size", nullable = false)
+    private Integer byteSize;
+
+    /**
+     * 이 본문을 가리키는 참조 수.
+     */
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;
+
+    /**
+     * 처음 저장된 일시.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
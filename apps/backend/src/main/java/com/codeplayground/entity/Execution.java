@@ -11,7 +11,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -20,6 +23,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * 코드 실행 기록 엔티티.
  * 코드 스니펫의 실행 결과와 관련 정보를 저장합니다.
@@ -33,11 +38,19 @@ import lombok.Setter;
 @Builder
 public class Execution extends BaseEntity {
 
+    /**
+     * 목록 응답에 포함되는 미리보기 최대 길이 (문자 수).
+     */
+    public static final int PREVIEW_LENGTH = 200;
+
     /**
      * 실행 기록의 고유 식별자.
+     * 시퀀스 값을 50개 단위로 미리 할당(pooled)받으므로 INSERT마다 식별자를 조회하지 않으며,
+     * 여러 실행 기록을 JDBC 배치로 저장할 수 있습니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "execution_id_generator")
+    @SequenceGenerator(name = "execution_id_generator", sequenceName = "executions_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -49,19 +62,51 @@ public class Execution extends BaseEntity {
     private CodeSnippet codeSnippet;
 
     /**
-     * 실행 결과 출력.
-     * 성공한 경우에만 값이 있습니다.
+     * 실행한 코드 스니펫 버전 번호.
+     * 사용자 지정 코드를 실행한 경우에는 null입니다.
      */
-    @Column(name = "output", columnDefinition = "TEXT")
+    @Column(name = "code_version")
+    private Integer codeVersion;
+
+    /**
+     * 실행 결과 출력 전체.
+     * 성공한 경우에만 값이 있습니다. 본문은 {@link ExecutionOutput}에 따로 저장되므로
+     * 저장 직후의 엔티티에만 값이 있고, 조회한 엔티티에서는 null입니다.
+     */
+    @Transient
     private String output;
 
     /**
-     * 에러 메시지.
-     * 실행에 실패한 경우에만 값이 있습니다.
+     * 에러 메시지 전체.
+     * 실행에 실패한 경우에만 값이 있습니다. 저장 방식은 {@link #output}과 같습니다.
      */
-    @Column(name = "error_message", columnDefinition = "TEXT")
+    @Transient
     private String errorMessage;
 
+    /**
+     * 실행 결과 출력 미리보기 (앞부분 최대 {@value #PREVIEW_LENGTH}자).
+     */
+    @Column(name = "output_preview", length = PREVIEW_LENGTH)
+    private String outputPreview;
+
+    /**
+     * 실행 결과 출력 전체의 바이트 길이 (UTF-8).
+     */
+    @Column(name = "output_bytes")
+    private Integer outputBytes;
+
+    /**
+     * 에러 메시지 미리보기 (앞부분 최대 {@value #PREVIEW_LENGTH}자).
+     */
+    @Column(name = "error_preview", length = PREVIEW_LENGTH)
+    private String errorPreview;
+
+    /**
+     * 에러 메시지 전체의 바이트 길이 (UTF-8).
+     */
+    @Column(name = "error_bytes")
+    private Integer errorBytes;
+
     /**
      * 실행 시간 (밀리초).
      */
@@ -114,6 +159,35 @@ public class Execution extends BaseEntity {
         this.status = status;
     }
 
+    /**
+     * 저장 전에 출력과 에러 메시지의 미리보기와 바이트 길이를 계산합니다.
+     */
+    @PrePersist
+    void capturePreviews() {
+        outputPreview = preview(output);
+        outputBytes = byteLength(output);
+        errorPreview = preview(errorMessage);
+        errorBytes = byteLength(errorMessage);
+    }
+
+    /**
+     * 저장할 본문(출력 또는 에러 메시지)이 있는지 확인합니다.
+     *
+     * @return 본문이 있으면 true, 아니면 false
+     */
+    public boolean hasBody() {
+        return output != null || errorMessage != null;
+    }
+
+    /**
+     * 미리보기가 본문 전체보다 짧은지 확인합니다.
+     *
+     * @return 출력이나 에러 메시지가 잘렸으면 true, 아니면 false
+     */
+    public boolean isPreviewTruncated() {
+        return isTruncated(outputPreview, outputBytes) || isTruncated(errorPreview, errorBytes);
+    }
+
     /**
      * 실행이 성공했는지 확인합니다.
      *
@@ -140,4 +214,41 @@ public class Execution extends BaseEntity {
     public boolean isTimeout() {
         return ExecutionStatus.TIMEOUT.equals(status);
     }
+
+    /**
+     * 저장되기 전 상태의 사본을 만듭니다.
+     * 저장 스레드가 원본에 ID, 생성 일시, 미리보기를 채우는 동안에도 읽을 수 있으며, ID와 생성 일시는 항상 비어 있습니다.
+     *
+     * @return 미리보기와 바이트 길이가 계산된 저장 전 사본
+     */
+    public Execution unsavedCopy() {
+        final Execution copy = Execution.builder()
+                .codeSnippet(codeSnippet)
+                .codeVersion(codeVersion)
+                .output(output)
+                .errorMessage(errorMessage)
+                .executionTime(executionTime)
+                .memoryUsage(memoryUsage)
+                .status(status)
+                .build();
+        copy.capturePreviews();
+        return copy;
+    }
+
+    private static String preview(final String text) {
+        if (text == null || text.length() <= PREVIEW_LENGTH) {
+            return text;
+        }
+        // 서로게이트 쌍이 잘리지 않도록 경계를 조정합니다.
+        final int end = PREVIEW_LENGTH - (Character.isHighSurrogate(text.charAt(PREVIEW_LENGTH - 1)) ? 1 : 0);
+        return text.substring(0, end);
+    }
+
+    private static Integer byteLength(final String text) {
+        return text == null ? null : text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static boolean isTruncated(final String preview, final Integer bytes) {
+        return preview != null && bytes != null && preview.getBytes(StandardCharsets.UTF_8).length < bytes;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.codeplayground.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 결과 본문 참조 엔티티.
+ * 실행 기록의 출력과 에러 메시지 전체를 실행 기록 행과 분리해 저장합니다.
+ * 목록 조회는 {@link Execution}의 미리보기만 읽고, 본문은 상세 조회에서만 읽습니다.
+ * 본문 내용은 {@link ContentBlob}에 내용별로 한 번만 저장되고, 이 행은 해시만 가집니다.
+ *
+ * <p>executions는 월별 파티션 테이블이므로 외래 키 대신 같은 실행 ID를 기본 키로 사용하며,
+ * 보존 기간 정리는 생성 일시 기준으로 함께 처리됩니다.</p>
+ */
+@Entity
+@Table(name = "execution_outputs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ExecutionOutput {
+
+    /**
+     * 실행 기록 ID.
+     */
+    @Id
+    @Column(name = "execution_id")
+    private Long executionId;
+
+    /**
+     * 실행 결과 출력 전체의 {@link ContentBlob} 해시.
+     */
+    @Column(name = "output_hash", length = 64)
+    private String outputHash;
+
+    /**
+     * 에러 메시지 전체의 {@link ContentBlob} 해시.
+     */
+    @Column(name = "error_hash", length = 64)
+    private String errorHash;
+
+    /**
+     * 실행 기록 생성 일시.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
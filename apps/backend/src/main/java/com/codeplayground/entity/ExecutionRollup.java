@@ -0,0 +1,87 @@
+package com.codeplayground.entity;
+
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.entity.enums.RollupGranularity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 실행 통계 롤업 엔티티.
+ * 분/시간/일 버킷마다 언어와 실행 상태별 실행 수와 실행 시간 합계를 저장합니다.
+ * 실행 기록이 저장될 때 같은 트랜잭션에서 증분 갱신되며, 통계 조회는 원본 대신 이 버킷만 읽습니다.
+ */
+@Entity
+@Table(name = "execution_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ExecutionRollup {
+
+    /**
+     * 롤업 키 (집계 단위, 버킷 시작 시각, 언어, 상태).
+     */
+    @EmbeddedId
+    private Key id;
+
+    /**
+     * 버킷에 속한 실행 수.
+     */
+    @Column(name = "execution_count", nullable = false)
+    private Long executionCount = 0L;
+
+    /**
+     * 버킷에 속한 실행 시간 합계 (밀리초).
+     */
+    @Column(name = "total_execution_time", nullable = false)
+    private Long totalExecutionTime = 0L;
+
+    /**
+     * 실행 통계 롤업 키.
+     */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        /**
+         * 집계 단위.
+         */
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", length = 10, nullable = false)
+        private RollupGranularity granularity;
+
+        /**
+         * 버킷 시작 시각.
+         */
+        @Column(name = "bucket_start", nullable = false)
+        private LocalDateTime bucketStart;
+
+        /**
+         * 프로그래밍 언어.
+         */
+        @Column(name = "language", length = 50, nullable = false)
+        private String language;
+
+        /**
+         * 실행 상태.
+         */
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", length = 20, nullable = false)
+        private ExecutionStatus status;
+    }
+}
@@ -0,0 +1,44 @@
+package com.codeplayground.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기도 감쇠 기준 시점 엔티티.
+ * 저장된 인기도 점수가 어느 기준 시점의 가중치로 합산되었는지를 한 행으로 저장합니다.
+ * 모든 인스턴스가 같은 기준 시점으로 가중치를 계산하도록 데이터베이스에 둡니다.
+ *
+ * <p>읽기와 갱신은 {@link com.codeplayground.service.PopularityDecayService}가 JDBC로 처리합니다.</p>
+ */
+@Entity
+@Table(name = "popularity_decay")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PopularityDecay {
+
+    /**
+     * 유일한 행의 ID.
+     */
+    public static final short SINGLETON_ID = 1;
+
+    /**
+     * 행 ID. 항상 {@link #SINGLETON_ID}입니다.
+     */
+    @Id
+    @Column(name = "id")
+    private Short id;
+
+    /**
+     * 감쇠 가중치의 기준 시점.
+     */
+    @Column(name = "decay_epoch", nullable = false)
+    private LocalDateTime decayEpoch;
+}
@@ -0,0 +1,45 @@
+package com.codeplayground.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활성 공유 만료 버킷 엔티티.
+ * 활성 공유 수를 만료 시각의 분 단위 버킷별로 저장합니다.
+ * 무기한 공유는 {@link #PERMANENT} 버킷에 집계됩니다.
+ *
+ * <p>만료된 공유 수는 현재 분보다 앞선 버킷의 합계이므로, 현재 분에 만료되는 공유는
+ * 다음 분부터 만료로 집계됩니다.</p>
+ */
+@Entity
+@Table(name = "share_expiry_buckets")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ShareExpiryBucket {
+
+    /**
+     * 무기한 공유를 집계하는 버킷의 시작 시각.
+     */
+    public static final LocalDateTime PERMANENT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    /**
+     * 만료 시각의 분 단위 버킷 시작 시각.
+     */
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    /**
+     * 버킷에 속한 활성 공유 수.
+     */
+    @Column(name = "active_shares", nullable = false)
+    private Long activeShares = 0L;
+}
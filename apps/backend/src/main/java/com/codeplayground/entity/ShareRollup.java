@@ -0,0 +1,66 @@
+package com.codeplayground.entity;
+
+import com.codeplayground.entity.enums.RollupGranularity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 공유 생성 통계 롤업 엔티티.
+ * 분/시간/일 버킷마다 생성된 공유 수를 저장합니다.
+ */
+@Entity
+@Table(name = "share_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ShareRollup {
+
+    /**
+     * 롤업 키 (집계 단위, 버킷 시작 시각).
+     */
+    @EmbeddedId
+    private Key id;
+
+    /**
+     * 버킷에 생성된 공유 수.
+     */
+    @Column(name = "created_shares", nullable = false)
+    private Long createdShares = 0L;
+
+    /**
+     * 공유 생성 통계 롤업 키.
+     */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        /**
+         * 집계 단위.
+         */
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", length = 10, nullable = false)
+        private RollupGranularity granularity;
+
+        /**
+         * 버킷 시작 시각.
+         */
+        @Column(name = "bucket_start", nullable = false)
+        private LocalDateTime bucketStart;
+    }
+}
@@ -1,5 +1,6 @@
 package com.codeplayground.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -15,21 +16,30 @@ import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * 공유 코드 엔티티.
  * 코드 스니펫의 공유 정보를 저장합니다.
+ * Hibernate 2차 캐시(shared-codes 영역)에 저장되며, 캐시되는 쿼리의 결과는 {@link #QUERY_CACHE_REGION} 영역에 저장됩니다.
  */
 @Entity
 @Table(name = "shared_codes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "shared-codes")
 @Getter
 @Setter
 @NoArgsConstructor
 public class SharedCode extends BaseEntity {
 
+    /**
+     * 공유 코드 쿼리 캐시 영역.
+     */
+    public static final String QUERY_CACHE_REGION = "shared-code-queries";
+
     /**
      * 공유 코드의 고유 식별자.
      */
@@ -92,15 +102,6 @@ public class SharedCode extends BaseEntity {
         this(codeSnippet, shareId, null);
     }
 
-    /**
-     * 랜덤한 공유 ID를 생성합니다.
-     *
-     * @return 생성된 공유 ID
-     */
-    public static String generateShareId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
-    }
-
     /**
      * 공유가 만료되었는지 확인합니다.
      *
@@ -150,6 +151,17 @@ public class SharedCode extends BaseEntity {
      * @return 완전한 공유 URL
      */
     public String generateShareUrl(final String baseUrl) {
+        return generateShareUrl(baseUrl, shareId);
+    }
+
+    /**
+     * 엔티티 없이 공유 ID로 공유 URL을 생성합니다.
+     *
+     * @param baseUrl 기본 URL
+     * @param shareId 공유 ID
+     * @return 완전한 공유 URL
+     */
+    public static String generateShareUrl(final String baseUrl, final String shareId) {
         return baseUrl + "/share/" + shareId;
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.codeplayground.entity.enums;
+
+import lombok.Getter;
+
+/**
+ * 데이터 내보내기 형식 열거형.
+ */
+@Getter
+public enum ExportFormat {
+    /**
+     * 한 줄에 JSON 객체 하나 (Newline Delimited JSON).
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * 첫 줄이 헤더인 RFC 4180 CSV.
+     */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    /**
+     * 응답 Content-Type.
+     */
+    private final String contentType;
+
+    /**
+     * 파일 확장자.
+     */
+    private final String extension;
+
+    /**
+     * ExportFormat 생성자.
+     *
+     * @param contentType 응답 Content-Type
+     * @param extension   파일 확장자
+     */
+    ExportFormat(final String contentType, final String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,51 @@
+package com.codeplayground.entity.enums;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 통계 롤업 집계 단위 열거형.
+ */
+@Getter
+public enum RollupGranularity {
+    /**
+     * 분 단위 집계.
+     */
+    MINUTE(ChronoUnit.MINUTES),
+
+    /**
+     * 시간 단위 집계.
+     */
+    HOUR(ChronoUnit.HOURS),
+
+    /**
+     * 일 단위 집계.
+     */
+    DAY(ChronoUnit.DAYS);
+
+    /**
+     * 버킷 크기.
+     */
+    private final ChronoUnit unit;
+
+    /**
+     * RollupGranularity 생성자.
+     *
+     * @param unit 버킷 크기
+     */
+    RollupGranularity(final ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 주어진 시각이 속한 버킷의 시작 시각을 반환합니다.
+     *
+     * @param dateTime 시각
+     * @return 버킷 시작 시각
+     */
+    public LocalDateTime bucketOf(final LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+}
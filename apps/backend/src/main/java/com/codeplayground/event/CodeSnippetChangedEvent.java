@@ -0,0 +1,68 @@
+package com.codeplayground.event;
+
+import com.codeplayground.entity.CodeSnippet;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 코드 스니펫 변경 이벤트.
+ * 스니펫이 생성, 수정, 삭제될 때 발행되며 검색 색인 등 파생 데이터를 갱신하는 데 사용됩니다.
+ * 트랜잭션 커밋 이후에도 안전하게 읽을 수 있도록 변경 시점의 값을 복사해 담습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CodeSnippetChangedEvent {
+
+    /**
+     * 변경 유형.
+     */
+    public enum ChangeType {
+        /**
+         * 생성되었거나 수정됨.
+         */
+        SAVED,
+
+        /**
+         * 삭제(비활성화)됨.
+         */
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long codeSnippetId;
+    private final String title;
+    private final String code;
+    private final String language;
+    private final String authorName;
+
+    /**
+     * 생성 또는 수정 이벤트를 만듭니다.
+     *
+     * @param codeSnippet 저장된 코드 스니펫
+     * @return 변경 이벤트
+     */
+    public static CodeSnippetChangedEvent saved(final CodeSnippet codeSnippet) {
+        return new CodeSnippetChangedEvent(ChangeType.SAVED, codeSnippet.getId(), codeSnippet.getTitle(),
+                codeSnippet.getCode(), codeSnippet.getLanguage(), codeSnippet.getAuthorName());
+    }
+
+    /**
+     * 삭제 이벤트를 만듭니다.
+     *
+     * @param codeSnippetId 삭제된 코드 스니펫 ID
+     * @return 변경 이벤트
+     */
+    public static CodeSnippetChangedEvent deleted(final Long codeSnippetId) {
+        return new CodeSnippetChangedEvent(ChangeType.DELETED, codeSnippetId, null, null, null, null);
+    }
+
+    /**
+     * 삭제 이벤트인지 확인합니다.
+     *
+     * @return 삭제 이벤트면 true
+     */
+    public boolean isDeleted() {
+        return changeType == ChangeType.DELETED;
+    }
+}
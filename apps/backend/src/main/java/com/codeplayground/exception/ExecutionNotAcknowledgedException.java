@@ -0,0 +1,31 @@
+package com.codeplayground.exception;
+
+import com.codeplayground.entity.Execution;
+import lombok.Getter;
+
+/**
+ * 실행은 끝났지만 실행 기록 저장이 제한 시간 안에 확인되지 않았을 때 발생하는 예외.
+ * 기록은 저장 큐에 남아 있어 이후 저장될 수 있으므로 실패로 처리하지 않습니다.
+ */
+@Getter
+public class ExecutionNotAcknowledgedException extends RuntimeException {
+
+    /**
+     * 저장 대기 중인 실행 기록의 저장 전 사본. ID와 생성 일시는 비어 있습니다.
+     * 저장 스레드가 바꾸는 원본이 아니므로 응답을 만드는 동안 값이 바뀌지 않습니다.
+     */
+    private final transient Execution execution;
+
+    /**
+     * 메시지와 저장 대기 중인 실행 기록과 함께 예외를 생성합니다.
+     *
+     * @param message   오류 메시지
+     * @param execution 저장 대기 중인 실행 기록의 저장 전 사본
+     * @param cause     원인 예외
+     */
+    public ExecutionNotAcknowledgedException(final String message, final Execution execution,
+                                             final Throwable cause) {
+        super(message, cause);
+        this.execution = execution;
+    }
+}
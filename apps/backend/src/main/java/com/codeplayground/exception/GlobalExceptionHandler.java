@@ -1,6 +1,7 @@
 package com.codeplayground.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -97,6 +98,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * 요청 속도 제한 초과를 처리합니다.
+     *
+     * @param ex 속도 제한 초과 예외
+     * @return Retry-After 헤더가 포함된 429 Too Many Requests 응답
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceededException(
+            final RateLimitExceededException ex) {
+
+        log.debug("Rate limit exceeded: {}", ex.getMessage());
+
+        final Map<String, Object> errorResponse = Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", HttpStatus.TOO_MANY_REQUESTS.value(),
+                "error", "Too Many Requests",
+                "message", ex.getMessage(),
+                "path", getCurrentPath()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * 예상하지 못한 모든 예외를 처리합니다.
      *
@@ -0,0 +1,26 @@
+package com.codeplayground.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 속도 제한을 넘었을 때 발생하는 예외.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    /**
+     * 다시 요청할 수 있을 때까지 남은 시간 (초).
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * 메시지와 재시도 대기 시간과 함께 예외를 생성합니다.
+     *
+     * @param message           오류 메시지
+     * @param retryAfterSeconds 다시 요청할 수 있을 때까지 남은 시간 (초)
+     */
+    public RateLimitExceededException(final String message, final long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
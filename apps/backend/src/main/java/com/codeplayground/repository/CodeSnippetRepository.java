@@ -1,20 +1,34 @@
 package com.codeplayground.repository;
 
+import com.codeplayground.dto.CodeSnippetSummaryResponse;
 import com.codeplayground.entity.CodeSnippet;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 코드 스니펫 리포지토리.
  * 코드 스니펫과 관련된 데이터베이스 작업을 처리합니다.
+ *
+ * <p>{@code ...Before} 메서드는 키셋 페이징용으로, (createdAt, id)가 주어진 위치보다
+ * 앞선 스니펫을 최신순으로 조회합니다. {@code createdAt <= :createdAt} 조건이 인덱스 범위를
+ * 정하므로 OFFSET과 COUNT 없이 페이지 위치와 관계없이 같은 비용으로 처리됩니다.</p>
  */
 @Repository
 public interface CodeSnippetRepository extends JpaRepository<CodeSnippet, Long> {
@@ -25,8 +39,44 @@ public interface CodeSnippetRepository extends JpaRepository<CodeSnippet, Long>
      * @param id 코드 스니펫 ID
      * @return 활성 상태인 코드 스니펫
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CodeSnippet.QUERY_CACHE_REGION)
+    })
     Optional<CodeSnippet> findByIdAndIsActiveTrue(Long id);
 
+    /**
+     * 활성 상태인 코드 스니펫을 ID 목록으로 조회합니다.
+     *
+     * @param ids 코드 스니펫 ID 목록
+     * @return 활성 상태인 코드 스니펫 목록 (순서 보장 없음)
+     */
+    List<CodeSnippet> findByIdInAndIsActiveTrue(Collection<Long> ids);
+
+    /**
+     * 활성 상태인 코드 스니펫을 ID로 조회하면서 행을 잠급니다.
+     * 2차 캐시를 거치지 않고 데이터베이스에서 최신 상태를 읽습니다.
+     *
+     * @param id 코드 스니펫 ID
+     * @return 활성 상태인 코드 스니펫
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cs FROM CodeSnippet cs WHERE cs.id = :id AND cs.isActive = true")
+    Optional<CodeSnippet> findActiveByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 활성 상태인 코드 스니펫의 ETag 계산에 필요한 값만 조회합니다.
+     * 코드 본문과 엔티티를 읽지 않고 한 번의 쿼리로 수정 일시, 버전, 실행 횟수, 활성 공유 횟수를 가져옵니다.
+     *
+     * @param id 코드 스니펫 ID
+     * @return [수정 일시, 버전, 실행 횟수, 활성 공유 횟수], 스니펫이 없으면 빈 목록
+     */
+    @Query("SELECT cs.updatedAt, cs.currentVersion, " +
+            "(SELECT COUNT(e) FROM Execution e WHERE e.codeSnippet.id = cs.id), " +
+            "(SELECT COUNT(sc) FROM SharedCode sc WHERE sc.codeSnippet.id = cs.id AND sc.isActive = true) " +
+            "FROM CodeSnippet cs WHERE cs.id = :id AND cs.isActive = true")
+    List<Object[]> findValidatorById(@Param("id") Long id);
+
     /**
      * 작성자별로 활성 상태인 코드 스니펫을 조회합니다.
      *
@@ -46,6 +96,58 @@ public interface CodeSnippetRepository extends JpaRepository<CodeSnippet, Long>
     Page<CodeSnippet> findByLanguageAndIsActiveTrueOrderByCreatedAtDesc(String language,
                                                                         Pageable pageable);
 
+    /**
+     * 주어진 위치 이전의 활성 상태인 코드 스니펫을 최신순으로 조회합니다.
+     * idx_code_snippets_active_created 인덱스 범위 스캔으로 처리됩니다.
+     *
+     * @param createdAt 기준 생성 일시
+     * @param id        기준 ID
+     * @param pageable  페이지 크기 정보
+     * @return 코드 스니펫 슬라이스
+     */
+    @Query("SELECT cs FROM CodeSnippet cs WHERE cs.isActive = true AND " +
+            "cs.createdAt <= :createdAt AND (cs.createdAt < :createdAt OR cs.id < :id) " +
+            "ORDER BY cs.createdAt DESC, cs.id DESC")
+    Slice<CodeSnippet> findActiveBefore(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 작성자별 활성 상태인 코드 스니펫을 최신순으로 조회합니다.
+     * idx_code_snippets_active_author 인덱스 범위 스캔으로 처리됩니다.
+     *
+     * @param authorName 작성자 이름
+     * @param createdAt  기준 생성 일시
+     * @param id         기준 ID
+     * @param pageable   페이지 크기 정보
+     * @return 코드 스니펫 슬라이스
+     */
+    @Query("SELECT cs FROM CodeSnippet cs WHERE cs.isActive = true AND cs.authorName = :authorName AND " +
+            "cs.createdAt <= :createdAt AND (cs.createdAt < :createdAt OR cs.id < :id) " +
+            "ORDER BY cs.createdAt DESC, cs.id DESC")
+    Slice<CodeSnippet> findActiveByAuthorBefore(@Param("authorName") String authorName,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 프로그래밍 언어별 활성 상태인 코드 스니펫을 최신순으로 조회합니다.
+     * idx_code_snippets_active_language 인덱스 범위 스캔으로 처리됩니다.
+     *
+     * @param language  프로그래밍 언어
+     * @param createdAt 기준 생성 일시
+     * @param id        기준 ID
+     * @param pageable  페이지 크기 정보
+     * @return 코드 스니펫 슬라이스
+     */
+    @Query("SELECT cs FROM CodeSnippet cs WHERE cs.isActive = true AND cs.language = :language AND " +
+            "cs.createdAt <= :createdAt AND (cs.createdAt < :createdAt OR cs.id < :id) " +
+            "ORDER BY cs.createdAt DESC, cs.id DESC")
+    Slice<CodeSnippet> findActiveByLanguageBefore(@Param("language") String language,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
     /**
      * 작성자와 프로그래밍 언어로 활성 상태인 코드 스니펫을 조회합니다.
      *
@@ -87,6 +189,71 @@ public interface CodeSnippetRepository extends JpaRepository<CodeSnippet, Long>
                                                @Param("keyword") String keyword,
                                                Pageable pageable);
 
+    /**
+     * 키워드가 포함된 활성 상태인 코드 스니펫을 언어/작성자 조건과 함께 검색합니다.
+     * 조건 값이 null이면 해당 조건은 적용되지 않습니다.
+     *
+     * @param keyword    검색 키워드
+     * @param language   프로그래밍 언어 (nullable)
+     * @param authorName 작성자 이름 (nullable)
+     * @param pageable   페이징 정보
+     * @return 코드 스니펫 페이지
+     */
+    @Query("SELECT cs FROM CodeSnippet cs WHERE cs.isActive = true AND " +
+            "(:language IS NULL OR cs.language = :language) AND " +
+            "(:authorName IS NULL OR cs.authorName = :authorName) AND " +
+            "(LOWER(cs.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(cs.code) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY cs.createdAt DESC")
+    Page<CodeSnippet> searchByKeywordAndFilters(@Param("keyword") String keyword,
+                                                @Param("language") String language,
+                                                @Param("authorName") String authorName,
+                                                Pageable pageable);
+
+    /**
+     * 전문 검색과 부분 문자열 검색으로 활성 상태인 코드 스니펫을 관련도 순으로 검색합니다.
+     * PostgreSQL 전용 쿼리로, search_vector 컬럼과 pg_trgm 인덱스가 필요합니다.
+     *
+     * @param keyword    검색 키워드
+     * @param language   프로그래밍 언어 (nullable)
+     * @param authorName 작성자 이름 (nullable)
+     * @param pageable   페이징 정보
+     * @return 관련도 순으로 정렬된 코드 스니펫 페이지
+     */
+    @Query(value = "SELECT cs.* FROM code_snippets cs " +
+            "WHERE cs.is_active = TRUE " +
+            "AND (CAST(:language AS VARCHAR) IS NULL OR cs.language = :language) " +
+            "AND (CAST(:authorName AS VARCHAR) IS NULL OR cs.author_name = :authorName) " +
+            "AND (cs.search_vector @@ websearch_to_tsquery('simple', :keyword) OR " +
+            "cs.title ILIKE CONCAT('%', :keyword, '%') OR " +
+            "cs.code ILIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY ts_rank(cs.search_vector, websearch_to_tsquery('simple', :keyword)) " +
+            "+ similarity(cs.title, :keyword) DESC, cs.created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM code_snippets cs " +
+                    "WHERE cs.is_active = TRUE " +
+                    "AND (CAST(:language AS VARCHAR) IS NULL OR cs.language = :language) " +
+                    "AND (CAST(:authorName AS VARCHAR) IS NULL OR cs.author_name = :authorName) " +
+                    "AND (cs.search_vector @@ websearch_to_tsquery('simple', :keyword) OR " +
+                    "cs.title ILIKE CONCAT('%', :keyword, '%') OR " +
+                    "cs.code ILIKE CONCAT('%', :keyword, '%'))",
+            nativeQuery = true)
+    Page<CodeSnippet> fullTextSearch(@Param("keyword") String keyword,
+                                     @Param("language") String language,
+                                     @Param("authorName") String authorName,
+                                     Pageable pageable);
+
+    /**
+     * 활성 상태인 모든 코드 스니펫의 검색 대상 필드를 스트리밍으로 조회합니다.
+     * 엔티티가 아닌 값 배열을 반환하므로 영속성 컨텍스트에 쌓이지 않습니다.
+     * 반드시 트랜잭션 안에서 사용하고 사용 후 스트림을 닫아야 합니다.
+     *
+     * @return [ID, 제목, 코드, 언어, 작성자] 배열 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT cs.id, cs.title, cs.code, cs.language, cs.authorName FROM CodeSnippet cs " +
+            "WHERE cs.isActive = true ORDER BY cs.id")
+    Stream<Object[]> streamActiveSearchFields();
+
     /**
      * 특정 기간 내에 생성된 활성 상태인 코드 스니펫을 조회합니다.
      *
@@ -125,15 +292,28 @@ public interface CodeSnippetRepository extends JpaRepository<CodeSnippet, Long>
     List<CodeSnippet> findRecentCodeSnippets(Pageable pageable);
 
     /**
-     * 인기있는 코드 스니펫을 조회합니다 (실행 횟수 기준).
+     * 인기있는 코드 스니펫을 조회합니다 (인기도 점수 기준).
+     * idx_code_snippets_active_popularity 인덱스 범위 스캔으로 처리됩니다.
      *
      * @param pageable 페이징 정보
      * @return 코드 스니펫 페이지
      */
     @Query("SELECT cs FROM CodeSnippet cs WHERE cs.isActive = true " +
-            "ORDER BY SIZE(cs.executions) DESC, cs.createdAt DESC")
+            "ORDER BY cs.popularityScore DESC, cs.createdAt DESC")
     Page<CodeSnippet> findPopularCodeSnippets(Pageable pageable);
 
+    /**
+     * 코드 스니펫의 인기도 점수를 증가시킵니다.
+     * 엔티티를 로딩하지 않고 단일 UPDATE로 처리하므로 동시 실행 시에도 누락되지 않습니다.
+     *
+     * @param id     코드 스니펫 ID
+     * @param weight 더할 점수
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE CodeSnippet cs SET cs.popularityScore = cs.popularityScore + :weight WHERE cs.id = :id")
+    int incrementPopularityScore(@Param("id") Long id, @Param("weight") double weight);
+
     /**
      * 전체 활성 상태인 코드 스니펫 개수를 조회합니다.
      *
@@ -156,4 +336,108 @@ public interface CodeSnippetRepository extends JpaRepository<CodeSnippet, Long>
      * @return 코드 스니펫 페이지
      */
     Page<CodeSnippet> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 코드 스니펫 요약 프로젝션의 SELECT 절. 코드 본문(code)은 읽지 않습니다.
+     */
+    String SUMMARY_SELECT = "SELECT new com.codeplayground.dto.CodeSnippetSummaryResponse(" +
+            "cs.id, cs.title, cs.language, cs.authorName, cs.currentVersion, cs.createdAt, cs.updatedAt) " +
+            "FROM CodeSnippet cs ";
+
+    /**
+     * 활성 상태인 코드 스니펫 요약을 최신순으로 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @return 코드 스니펫 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE cs.isActive = true ORDER BY cs.createdAt DESC",
+            countQuery = "SELECT COUNT(cs) FROM CodeSnippet cs WHERE cs.isActive = true")
+    Page<CodeSnippetSummaryResponse> findActiveSummaries(Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 활성 상태인 코드 스니펫 요약을 최신순으로 조회합니다 (키셋 페이징).
+     *
+     * @param createdAt 기준 생성 일시
+     * @param id        기준 ID
+     * @param pageable  페이지 크기 정보
+     * @return 코드 스니펫 요약 슬라이스
+     */
+    @Query(SUMMARY_SELECT + "WHERE cs.isActive = true AND " +
+            "cs.createdAt <= :createdAt AND (cs.createdAt < :createdAt OR cs.id < :id) " +
+            "ORDER BY cs.createdAt DESC, cs.id DESC")
+    Slice<CodeSnippetSummaryResponse> findActiveSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                                @Param("id") Long id,
+                                                                Pageable pageable);
+
+    /**
+     * 작성자별 활성 상태인 코드 스니펫 요약을 최신순으로 조회합니다.
+     *
+     * @param authorName 작성자 이름
+     * @param pageable   페이징 정보
+     * @return 코드 스니펫 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE cs.isActive = true AND cs.authorName = :authorName " +
+            "ORDER BY cs.createdAt DESC",
+            countQuery = "SELECT COUNT(cs) FROM CodeSnippet cs " +
+                    "WHERE cs.isActive = true AND cs.authorName = :authorName")
+    Page<CodeSnippetSummaryResponse> findActiveSummariesByAuthor(@Param("authorName") String authorName,
+                                                                 Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 작성자별 활성 상태인 코드 스니펫 요약을 최신순으로 조회합니다 (키셋 페이징).
+     *
+     * @param authorName 작성자 이름
+     * @param createdAt  기준 생성 일시
+     * @param id         기준 ID
+     * @param pageable   페이지 크기 정보
+     * @return 코드 스니펫 요약 슬라이스
+     */
+    @Query(SUMMARY_SELECT + "WHERE cs.isActive = true AND cs.authorName = :authorName AND " +
+            "cs.createdAt <= :createdAt AND (cs.createdAt < :createdAt OR cs.id < :id) " +
+            "ORDER BY cs.createdAt DESC, cs.id DESC")
+    Slice<CodeSnippetSummaryResponse> findActiveSummariesByAuthorBefore(@Param("authorName") String authorName,
+                                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                                        @Param("id") Long id,
+                                                                        Pageable pageable);
+
+    /**
+     * 프로그래밍 언어별 활성 상태인 코드 스니펫 요약을 최신순으로 조회합니다.
+     *
+     * @param language 프로그래밍 언어
+     * @param pageable 페이징 정보
+     * @return 코드 스니펫 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE cs.isActive = true AND cs.language = :language " +
+            "ORDER BY cs.createdAt DESC",
+            countQuery = "SELECT COUNT(cs) FROM CodeSnippet cs " +
+                    "WHERE cs.isActive = true AND cs.language = :language")
+    Page<CodeSnippetSummaryResponse> findActiveSummariesByLanguage(@Param("language") String language,
+                                                                   Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 프로그래밍 언어별 활성 상태인 코드 스니펫 요약을 최신순으로 조회합니다 (키셋 페이징).
+     *
+     * @param language  프로그래밍 언어
+     * @param createdAt 기준 생성 일시
+     * @param id        기준 ID
+     * @param pageable  페이지 크기 정보
+     * @return 코드 스니펫 요약 슬라이스
+     */
+    @Query(SUMMARY_SELECT + "WHERE cs.isActive = true AND cs.language = :language AND " +
+            "cs.createdAt <= :createdAt AND (cs.createdAt < :createdAt OR cs.id < :id) " +
+            "ORDER BY cs.createdAt DESC, cs.id DESC")
+    Slice<CodeSnippetSummaryResponse> findActiveSummariesByLanguageBefore(@Param("language") String language,
+                                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                                          @Param("id") Long id,
+                                                                          Pageable pageable);
+
+    /**
+     * 인기 코드 스니펫 요약을 인기도 점수순으로 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @return 코드 스니펫 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE cs.isActive = true ORDER BY cs.popularityScore DESC, cs.createdAt DESC",
+            countQuery = "SELECT COUNT(cs) FROM CodeSnippet cs WHERE cs.isActive = true")
+    Page<CodeSnippetSummaryResponse> findPopularSummaries(Pageable pageable);
+}
@@ -0,0 +1,43 @@
+package com.codeplayground.repository;
+
+import com.codeplayground.entity.CodeSnippetVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 코드 스니펫 버전 리포지토리.
+ * 모든 조회는 기본 키 (code_snippet_id, version) 범위 스캔으로 처리됩니다.
+ */
+@Repository
+public interface CodeSnippetVersionRepository extends JpaRepository<CodeSnippetVersion, CodeSnippetVersion.Key> {
+
+    /**
+     * 버전을 복원하는 데 필요한 행을 조회합니다.
+     * 주어진 버전 이하의 가장 가까운 체크포인트부터 주어진 버전까지를 버전 순으로 반환합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param version       복원할 버전 번호
+     * @return 체크포인트로 시작하는 버전 목록
+     */
+    @Query("SELECT v FROM CodeSnippetVersion v WHERE v.id.codeSnippetId = :codeSnippetId " +
+            "AND v.id.version <= :version AND v.id.version >= " +
+            "(SELECT MAX(c.id.version) FROM CodeSnippetVersion c WHERE c.id.codeSnippetId = :codeSnippetId " +
+            "AND c.checkpoint = true AND c.id.version <= :version) " +
+            "ORDER BY v.id.version")
+    List<CodeSnippetVersion> findReconstructionChain(@Param("codeSnippetId") Long codeSnippetId,
+                                                     @Param("version") int version);
+
+    /**
+     * 가장 최근 체크포인트의 버전 번호를 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @return 체크포인트 버전 번호, 없으면 null
+     */
+    @Query("SELECT MAX(v.id.version) FROM CodeSnippetVersion v " +
+            "WHERE v.id.codeSnippetId = :codeSnippetId AND v.checkpoint = true")
+    Integer findLatestCheckpointVersion(@Param("codeSnippetId") Long codeSnippetId);
+}
@@ -0,0 +1,13 @@
+package com.codeplayground.repository;
+
+import com.codeplayground.entity.ExecutionOutput;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 실행 결과 본문 리포지토리.
+ * 실행 기록 상세 조회 시 출력과 에러 메시지 전체를 조회합니다.
+ */
+@Repository
+public interface ExecutionOutputRepository extends JpaRepository<ExecutionOutput, Long> {
+}
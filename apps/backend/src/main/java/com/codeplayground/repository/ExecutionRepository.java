@@ -1,15 +1,19 @@
 package com.codeplayground.repository;
 
+import com.codeplayground.dto.ExecutionSummaryResponse;
 import com.codeplayground.entity.Execution;
 import com.codeplayground.entity.enums.ExecutionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +33,24 @@ public interface ExecutionRepository extends JpaRepository<Execution, Long> {
      */
     Page<Execution> findByCodeSnippetIdOrderByCreatedAtDesc(Long codeSnippetId, Pageable pageable);
 
+    /**
+     * 주어진 위치 이전의 코드 스니펫별 실행 기록을 최신순으로 조회합니다 (키셋 페이징).
+     * idx_executions_snippet_created 인덱스 범위 스캔으로 처리됩니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param createdAt     기준 생성 일시
+     * @param id            기준 ID
+     * @param pageable      페이지 크기 정보
+     * @return 실행 기록 슬라이스
+     */
+    @Query("SELECT e FROM Execution e WHERE e.codeSnippet.id = :codeSnippetId AND " +
+            "e.createdAt <= :createdAt AND (e.createdAt < :createdAt OR e.id < :id) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<Execution> findByCodeSnippetIdBefore(@Param("codeSnippetId") Long codeSnippetId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
     /**
      * 코드 스니펫의 가장 최근 실행 기록을 조회합니다.
      *
@@ -55,6 +77,24 @@ public interface ExecutionRepository extends JpaRepository<Execution, Long> {
      */
     Page<Execution> findByStatusOrderByCreatedAtDesc(ExecutionStatus status, Pageable pageable);
 
+    /**
+     * 주어진 위치 이전의 특정 상태 실행 기록을 최신순으로 조회합니다 (키셋 페이징).
+     * idx_executions_status_created 인덱스 범위 스캔으로 처리됩니다.
+     *
+     * @param status    실행 상태
+     * @param createdAt 기준 생성 일시
+     * @param id        기준 ID
+     * @param pageable  페이지 크기 정보
+     * @return 실행 기록 슬라이스
+     */
+    @Query("SELECT e FROM Execution e WHERE e.status = :status AND " +
+            "e.createdAt <= :createdAt AND (e.createdAt < :createdAt OR e.id < :id) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<Execution> findByStatusBefore(@Param("status") ExecutionStatus status,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
     /**
      * 특정 기간 내의 실행 기록을 조회합니다.
      *
@@ -75,6 +115,17 @@ public interface ExecutionRepository extends JpaRepository<Execution, Long> {
      */
     long countByCodeSnippetId(Long codeSnippetId);
 
+    /**
+     * 여러 코드 스니펫의 실행 횟수를 한 번에 조회합니다.
+     * 목록 응답 변환 시 스니펫마다 개수 쿼리를 실행하지 않도록 사용합니다.
+     *
+     * @param codeSnippetIds 코드 스니펫 ID 목록
+     * @return [코드 스니펫 ID, 실행 횟수] 배열 목록 (실행 기록이 없는 스니펫은 포함되지 않음)
+     */
+    @Query("SELECT e.codeSnippet.id, COUNT(e) FROM Execution e " +
+            "WHERE e.codeSnippet.id IN :codeSnippetIds GROUP BY e.codeSnippet.id")
+    List<Object[]> countByCodeSnippetIds(@Param("codeSnippetIds") Collection<Long> codeSnippetIds);
+
     /**
      * 특정 상태의 실행 횟수를 조회합니다.
      *
@@ -158,9 +209,49 @@ public interface ExecutionRepository extends JpaRepository<Execution, Long> {
 
     /**
      * 실행 기록을 일괄 삭제합니다 (특정 기간 이전).
+     * 엔티티를 로딩하지 않고 단일 DELETE로 처리합니다. 대량 삭제는 묶음 단위로 커밋하는
+     * {@link com.codeplayground.service.ExecutionRetentionService}를 사용합니다.
      *
      * @param beforeDate 이 날짜 이전의 기록들을 삭제
      * @return 삭제된 개수
      */
-    long deleteByCreatedAtBefore(LocalDateTime beforeDate);
-}
\ No newline at end of file
+    @Modifying
+    @Query("DELETE FROM Execution e WHERE e.createdAt < :beforeDate")
+    int deleteByCreatedAtBefore(@Param("beforeDate") LocalDateTime beforeDate);
+
+    /**
+     * 실행 기록 요약 프로젝션의 SELECT 절. 출력, 에러 메시지와 미리보기는 읽지 않습니다.
+     */
+    String SUMMARY_SELECT = "SELECT new com.codeplayground.dto.ExecutionSummaryResponse(" +
+            "e.id, e.codeSnippet.id, e.codeVersion, e.status, e.executionTime, e.memoryUsage, e.createdAt) " +
+            "FROM Execution e ";
+
+    /**
+     * 코드 스니펫별 실행 기록 요약을 최신순으로 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param pageable      페이징 정보
+     * @return 실행 기록 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE e.codeSnippet.id = :codeSnippetId ORDER BY e.createdAt DESC",
+            countQuery = "SELECT COUNT(e) FROM Execution e WHERE e.codeSnippet.id = :codeSnippetId")
+    Page<ExecutionSummaryResponse> findSummariesByCodeSnippetId(@Param("codeSnippetId") Long codeSnippetId,
+                                                                Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 코드 스니펫별 실행 기록 요약을 최신순으로 조회합니다 (키셋 페이징).
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param createdAt     기준 생성 일시
+     * @param id            기준 ID
+     * @param pageable      페이지 크기 정보
+     * @return 실행 기록 요약 슬라이스
+     */
+    @Query(SUMMARY_SELECT + "WHERE e.codeSnippet.id = :codeSnippetId AND " +
+            "e.createdAt <= :createdAt AND (e.createdAt < :createdAt OR e.id < :id) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<ExecutionSummaryResponse> findSummariesByCodeSnippetIdBefore(@Param("codeSnippetId") Long codeSnippetId,
+                                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                                       @Param("id") Long id,
+                                                                       Pageable pageable);
+}
@@ -0,0 +1,81 @@
+package com.codeplayground.repository;
+
+import com.codeplayground.entity.ExecutionRollup;
+import com.codeplayground.entity.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 실행 통계 롤업 리포지토리.
+ * 롤업 버킷만 읽으므로 조회 비용은 실행 기록 수가 아니라 버킷 수에 비례합니다.
+ * 롤업 갱신은 {@link com.codeplayground.service.StatisticsRollupService}가 JDBC로 처리합니다.
+ */
+@Repository
+public interface ExecutionRollupRepository extends JpaRepository<ExecutionRollup, ExecutionRollup.Key> {
+
+    /**
+     * 실행 상태별 실행 수와 실행 시간 합계를 조회합니다.
+     *
+     * @param granularity 합산할 집계 단위
+     * @param language    프로그래밍 언어 (null이면 전체)
+     * @return [상태, 실행 수, 실행 시간 합계] 목록
+     */
+    @Query("SELECT r.id.status, SUM(r.executionCount), SUM(r.totalExecutionTime) " +
+            "FROM ExecutionRollup r " +
+            "WHERE r.id.granularity = :granularity " +
+            "AND (:language IS NULL OR r.id.language = :language) " +
+            "GROUP BY r.id.status")
+    List<Object[]> sumByStatus(@Param("granularity") RollupGranularity granularity,
+                               @Param("language") String language);
+
+    /**
+     * 기간 내 버킷별, 실행 상태별 실행 수와 실행 시간 합계를 조회합니다.
+     *
+     * @param granularity 집계 단위
+     * @param from        시작 시각 (포함)
+     * @param to          종료 시각 (제외)
+     * @param language    프로그래밍 언어 (null이면 전체)
+     * @return [버킷 시작 시각, 상태, 실행 수, 실행 시간 합계] 목록 (버킷 순)
+     */
+    @Query("SELECT r.id.bucketStart, r.id.status, SUM(r.executionCount), SUM(r.totalExecutionTime) " +
+            "FROM ExecutionRollup r " +
+            "WHERE r.id.granularity = :granularity " +
+            "AND r.id.bucketStart >= :from AND r.id.bucketStart < :to " +
+            "AND (:language IS NULL OR r.id.language = :language) " +
+            "GROUP BY r.id.bucketStart, r.id.status " +
+            "ORDER BY r.id.bucketStart")
+    List<Object[]> sumByBucketAndStatus(@Param("granularity") RollupGranularity granularity,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("language") String language);
+
+    /**
+     * 주어진 시각 이후에 시작한 버킷을 조회합니다.
+     *
+     * @param granularity 집계 단위
+     * @param from        시작 시각 (포함)
+     * @return 실행 통계 롤업 목록
+     */
+    @Query("SELECT r FROM ExecutionRollup r " +
+            "WHERE r.id.granularity = :granularity AND r.id.bucketStart >= :from")
+    List<ExecutionRollup> findBucketsSince(@Param("granularity") RollupGranularity granularity,
+                                           @Param("from") LocalDateTime from);
+
+    /**
+     * 기준 시각 이전의 버킷을 삭제합니다.
+     *
+     * @param granularity 집계 단위
+     * @param before      이 시각 이전에 시작한 버킷을 삭제
+     * @return 삭제된 버킷 수
+     */
+    @Modifying
+    @Query("DELETE FROM ExecutionRollup r WHERE r.id.granularity = :granularity AND r.id.bucketStart < :before")
+    int deleteByGranularityBefore(@Param("granularity") RollupGranularity granularity,
+                                  @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,76 @@
+package com.codeplayground.repository;
+
+import com.codeplayground.entity.ShareExpiryBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활성 공유 만료 버킷 리포지토리.
+ */
+@Repository
+public interface ShareExpiryBucketRepository extends JpaRepository<ShareExpiryBucket, LocalDateTime> {
+
+    /**
+     * 활성, 만료, 무기한 공유 수를 버킷 합계로 조회합니다.
+     *
+     * @param currentBucket 현재 분 버킷의 시작 시각. 이보다 앞선 버킷은 만료로 집계
+     * @param permanent     무기한 공유 버킷의 시작 시각
+     * @return 활성 공유 요약
+     */
+    @Query("SELECT COALESCE(SUM(b.activeShares), 0L) AS activeShares, " +
+            "COALESCE(SUM(CASE WHEN b.bucketStart < :currentBucket THEN b.activeShares ELSE 0L END), 0L) " +
+            "AS expiredShares, " +
+            "COALESCE(SUM(CASE WHEN b.bucketStart = :permanent THEN b.activeShares ELSE 0L END), 0L) " +
+            "AS permanentShares " +
+            "FROM ShareExpiryBucket b")
+    ActiveShareSummary summarize(@Param("currentBucket") LocalDateTime currentBucket,
+                                 @Param("permanent") LocalDateTime permanent);
+
+    /**
+     * 기준 시각 이전의 만료 버킷을 삭제합니다.
+     * 해당 버킷의 공유가 모두 비활성화된 뒤에 호출합니다.
+     *
+     * @param cutoff 이 시각 이전에 시작한 버킷을 삭제
+     * @return 삭제된 버킷 수
+     */
+    @Modifying
+    @Query("DELETE FROM ShareExpiryBucket b WHERE b.bucketStart < :cutoff")
+    int deleteByBucketStartBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 기준 시각 이전의 빈 만료 버킷을 삭제합니다.
+     * 공유를 하나씩 비활성화해 활성 공유 수가 0이 된 지난 버킷을 정리하는 데 사용합니다.
+     *
+     * @param cutoff 이 시각 이전에 시작한 버킷을 삭제
+     * @return 삭제된 버킷 수
+     */
+    @Modifying
+    @Query("DELETE FROM ShareExpiryBucket b WHERE b.bucketStart < :cutoff AND b.activeShares = 0")
+    int deleteEmptyBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 활성 공유 요약 프로젝션.
+     */
+    interface ActiveShareSummary {
+
+        /**
+         * @return 활성 공유 수
+         */
+        Long getActiveShares();
+
+        /**
+         * @return 활성 상태이지만 만료된 공유 수
+         */
+        Long getExpiredShares();
+
+        /**
+         * @return 무기한 공유 수
+         */
+        Long getPermanentShares();
+    }
+}
@@ -0,0 +1,56 @@
+package com.codeplayground.repository;
+
+import com.codeplayground.entity.ShareRollup;
+import com.codeplayground.entity.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공유 생성 통계 롤업 리포지토리.
+ */
+@Repository
+public interface ShareRollupRepository extends JpaRepository<ShareRollup, ShareRollup.Key> {
+
+    /**
+     * 생성된 공유 수의 합계를 조회합니다.
+     *
+     * @param granularity 합산할 집계 단위
+     * @return 생성된 공유 수
+     */
+    @Query("SELECT COALESCE(SUM(r.createdShares), 0L) FROM ShareRollup r WHERE r.id.granularity = :granularity")
+    long sumCreatedShares(@Param("granularity") RollupGranularity granularity);
+
+    /**
+     * 기간 내 버킷을 시간 순으로 조회합니다.
+     *
+     * @param granularity 집계 단위
+     * @param from        시작 시각 (포함)
+     * @param to          종료 시각 (제외)
+     * @return 공유 생성 롤업 목록
+     */
+    @Query("SELECT r FROM ShareRollup r " +
+            "WHERE r.id.granularity = :granularity " +
+            "AND r.id.bucketStart >= :from AND r.id.bucketStart < :to " +
+            "ORDER BY r.id.bucketStart")
+    List<ShareRollup> findBuckets(@Param("granularity") RollupGranularity granularity,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+    /**
+     * 기준 시각 이전의 버킷을 삭제합니다.
+     *
+     * @param granularity 집계 단위
+     * @param before      이 시각 이전에 시작한 버킷을 삭제
+     * @return 삭제된 버킷 수
+     */
+    @Modifying
+    @Query("DELETE FROM ShareRollup r WHERE r.id.granularity = :granularity AND r.id.bucketStart < :before")
+    int deleteByGranularityBefore(@Param("granularity") RollupGranularity granularity,
+                                  @Param("before") LocalDateTime before);
+}
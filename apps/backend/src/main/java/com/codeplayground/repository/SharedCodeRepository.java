@@ -1,21 +1,36 @@
 package com.codeplayground.repository;
 
+import com.codeplayground.dto.ShareSummaryResponse;
 import com.codeplayground.entity.SharedCode;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 공유 코드 리포지토리.
  * 코드 공유와 관련된 데이터베이스 작업을 처리합니다.
+ *
+ * <p>응답 변환에 코드 스니펫이 필요한 조회 메서드는 {@link EntityGraph}로
+ * 코드 스니펫을 함께 가져와 행마다 추가 쿼리가 발생하지 않도록 합니다.</p>
+ *
+ * <p>공유 목록 조회는 삭제(비활성화)된 코드 스니펫의 공유를 쿼리에서 제외합니다.
+ * 단건 조회가 이런 공유를 404로 처리하는 것과 같은 기준입니다.</p>
  */
 @Repository
 public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
@@ -26,35 +41,84 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
      * @param shareId 공유 ID
      * @return 공유 코드
      */
+    @EntityGraph(attributePaths = "codeSnippet")
     @Query("SELECT sc FROM SharedCode sc WHERE sc.shareId = :shareId AND sc.isActive = true AND " +
             "(sc.expiresAt IS NULL OR sc.expiresAt > CURRENT_TIMESTAMP)")
     Optional<SharedCode> findValidByShareId(@Param("shareId") String shareId);
 
     /**
      * 공유 ID로 공유 코드를 조회합니다 (만료 여부와 관계없이).
+     * 조회 조건에 현재 시각이 없으므로 쿼리 캐시에 저장되며, 유효성은 호출자가 확인합니다.
      *
      * @param shareId 공유 ID
      * @return 공유 코드
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SharedCode.QUERY_CACHE_REGION)
+    })
     Optional<SharedCode> findByShareId(String shareId);
 
     /**
-     * 공유 ID가 이미 존재하는지 확인합니다.
+     * 공유 ID 목록으로 공유 코드를 코드 스니펫과 함께 조회합니다 (만료 여부와 관계없이).
+     * 유효성은 호출자가 확인합니다.
      *
-     * @param shareId 공유 ID
-     * @return 존재하면 true, 아니면 false
+     * @param shareIds 공유 ID 목록
+     * @return 공유 코드 목록 (순서 보장 없음)
      */
-    boolean existsByShareId(String shareId);
+    @EntityGraph(attributePaths = "codeSnippet")
+    List<SharedCode> findByShareIdIn(Collection<String> shareIds);
 
     /**
-     * 코드 스니펫별 활성 상태인 공유 코드를 조회합니다.
+     * 코드 스니펫별 활성 상태인 공유 코드를 최신순으로 조회합니다.
      *
      * @param codeSnippetId 코드 스니펫 ID
      * @param pageable      페이징 정보
      * @return 공유 코드 페이지
      */
-    Page<SharedCode> findByCodeSnippetIdAndIsActiveTrueOrderByCreatedAtDesc(Long codeSnippetId,
-                                                                            Pageable pageable);
+    @EntityGraph(attributePaths = "codeSnippet")
+    @Query(value = "SELECT sc FROM SharedCode sc WHERE sc.codeSnippet.id = :codeSnippetId AND sc.isActive = true " +
+            "AND sc.codeSnippet.isActive = true ORDER BY sc.createdAt DESC",
+            countQuery = "SELECT COUNT(sc) FROM SharedCode sc WHERE sc.codeSnippet.id = :codeSnippetId " +
+                    "AND sc.isActive = true AND sc.codeSnippet.isActive = true")
+    Page<SharedCode> findActiveByCodeSnippetId(@Param("codeSnippetId") Long codeSnippetId, Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 코드 스니펫별 활성 공유 코드를 최신순으로 조회합니다 (키셋 페이징).
+     * idx_shared_codes_snippet_active_created 인덱스 범위 스캔으로 처리됩니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param createdAt     기준 생성 일시
+     * @param id            기준 ID
+     * @param pageable      페이지 크기 정보
+     * @return 공유 코드 슬라이스
+     */
+    @EntityGraph(attributePaths = "codeSnippet")
+    @Query("SELECT sc FROM SharedCode sc WHERE sc.codeSnippet.id = :codeSnippetId AND sc.isActive = true AND " +
+            "sc.codeSnippet.isActive = true AND " +
+            "sc.createdAt <= :createdAt AND (sc.createdAt < :createdAt OR sc.id < :id) " +
+            "ORDER BY sc.createdAt DESC, sc.id DESC")
+    Slice<SharedCode> findActiveByCodeSnippetIdBefore(@Param("codeSnippetId") Long codeSnippetId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 활성 공유 코드를 최신순으로 조회합니다 (키셋 페이징).
+     * idx_shared_codes_active_created 인덱스 범위 스캔으로 처리됩니다.
+     *
+     * @param createdAt 기준 생성 일시
+     * @param id        기준 ID
+     * @param pageable  페이지 크기 정보
+     * @return 공유 코드 슬라이스
+     */
+    @EntityGraph(attributePaths = "codeSnippet")
+    @Query("SELECT sc FROM SharedCode sc WHERE sc.isActive = true AND sc.codeSnippet.isActive = true AND " +
+            "sc.createdAt <= :createdAt AND (sc.createdAt < :createdAt OR sc.id < :id) " +
+            "ORDER BY sc.createdAt DESC, sc.id DESC")
+    Slice<SharedCode> findActiveBefore(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
 
     /**
      * 특정 기간 내에 생성된 활성 상태인 공유 코드를 조회합니다.
@@ -64,6 +128,7 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
      * @param pageable  페이징 정보
      * @return 공유 코드 페이지
      */
+    @EntityGraph(attributePaths = "codeSnippet")
     Page<SharedCode> findByIsActiveTrueAndCreatedAtBetweenOrderByCreatedAtDesc(LocalDateTime startDate,
                                                                                LocalDateTime endDate,
                                                                                Pageable pageable);
@@ -75,6 +140,7 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
      * @param pageable    페이징 정보
      * @return 만료된 공유 코드 페이지
      */
+    @EntityGraph(attributePaths = "codeSnippet")
     @Query("SELECT sc FROM SharedCode sc WHERE sc.isActive = true AND " +
             "sc.expiresAt IS NOT NULL AND sc.expiresAt < :currentTime " +
             "ORDER BY sc.expiresAt DESC")
@@ -88,9 +154,13 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
      * @param pageable    페이징 정보
      * @return 곧 만료될 공유 코드 페이지
      */
-    @Query("SELECT sc FROM SharedCode sc WHERE sc.isActive = true AND " +
+    @EntityGraph(attributePaths = "codeSnippet")
+    @Query(value = "SELECT sc FROM SharedCode sc WHERE sc.isActive = true AND sc.codeSnippet.isActive = true AND " +
             "sc.expiresAt IS NOT NULL AND sc.expiresAt BETWEEN CURRENT_TIMESTAMP AND :warningTime " +
-            "ORDER BY sc.expiresAt ASC")
+            "ORDER BY sc.expiresAt ASC",
+            countQuery = "SELECT COUNT(sc) FROM SharedCode sc WHERE sc.isActive = true " +
+                    "AND sc.codeSnippet.isActive = true AND sc.expiresAt IS NOT NULL " +
+                    "AND sc.expiresAt BETWEEN CURRENT_TIMESTAMP AND :warningTime")
     Page<SharedCode> findSoonToExpireSharedCodes(@Param("warningTime") LocalDateTime warningTime,
                                                  Pageable pageable);
 
@@ -102,6 +172,16 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
      */
     long countByCodeSnippetIdAndIsActiveTrue(Long codeSnippetId);
 
+    /**
+     * 여러 코드 스니펫의 활성 공유 개수를 한 번에 조회합니다.
+     *
+     * @param codeSnippetIds 코드 스니펫 ID 목록
+     * @return [코드 스니펫 ID, 공유 개수] 배열 목록 (활성 공유가 없는 스니펫은 포함되지 않음)
+     */
+    @Query("SELECT sc.codeSnippet.id, COUNT(sc) FROM SharedCode sc " +
+            "WHERE sc.isActive = true AND sc.codeSnippet.id IN :codeSnippetIds GROUP BY sc.codeSnippet.id")
+    List<Object[]> countActiveByCodeSnippetIds(@Param("codeSnippetIds") Collection<Long> codeSnippetIds);
+
     /**
      * 전체 활성 상태인 공유 코드 개수를 조회합니다.
      *
@@ -129,12 +209,32 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
     int deactivateExpiredSharedCodes(@Param("currentTime") LocalDateTime currentTime);
 
     /**
-     * 특정 기간 이전에 생성된 비활성 공유 코드들을 삭제합니다.
+     * 기간 내에 만료되는 활성 공유의 ID와 만료 일시를 만료 순으로 조회합니다.
+     * expires_at 인덱스의 범위 조회로 처리됩니다.
      *
-     * @param beforeDate 이 날짜 이전의 비활성 공유 코드들을 삭제
-     * @return 삭제된 개수
+     * @param from     시작 시각 (포함)
+     * @param until    종료 시각 (제외)
+     * @param pageable 최대 조회 수
+     * @return [ID, 만료 일시] 목록
      */
-    long deleteByIsActiveFalseAndCreatedAtBefore(LocalDateTime beforeDate);
+    @Query("SELECT sc.id, sc.expiresAt FROM SharedCode sc WHERE sc.isActive = true AND " +
+            "sc.expiresAt >= :from AND sc.expiresAt < :until ORDER BY sc.expiresAt")
+    List<Object[]> findUpcomingExpirations(@Param("from") LocalDateTime from,
+                                           @Param("until") LocalDateTime until,
+                                           Pageable pageable);
+
+    /**
+     * 주어진 ID 중 아직 활성 상태이면서 만료된 공유를 쓰기 잠금과 함께 조회합니다.
+     *
+     * @param ids         공유 코드 ID 목록
+     * @param currentTime 현재 시간
+     * @return 만료된 활성 공유 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sc FROM SharedCode sc WHERE sc.id IN :ids AND sc.isActive = true AND " +
+            "sc.expiresAt IS NOT NULL AND sc.expiresAt <= :currentTime")
+    List<SharedCode> findExpiredByIdInForUpdate(@Param("ids") Collection<Long> ids,
+                                                @Param("currentTime") LocalDateTime currentTime);
 
     /**
      * 최근에 생성된 활성 상태인 공유 코드들을 조회합니다.
@@ -142,7 +242,12 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
      * @param pageable 페이징 정보
      * @return 최근 공유 코드 목록
      */
-    Page<SharedCode> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
+    @EntityGraph(attributePaths = "codeSnippet")
+    @Query(value = "SELECT sc FROM SharedCode sc WHERE sc.isActive = true AND sc.codeSnippet.isActive = true " +
+            "ORDER BY sc.createdAt DESC",
+            countQuery = "SELECT COUNT(sc) FROM SharedCode sc WHERE sc.isActive = true " +
+                    "AND sc.codeSnippet.isActive = true")
+    Page<SharedCode> findRecentActive(Pageable pageable);
 
     /**
      * 무기한 공유 코드들을 조회합니다.
@@ -150,6 +255,7 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
      * @param pageable 페이징 정보
      * @return 무기한 공유 코드 페이지
      */
+    @EntityGraph(attributePaths = "codeSnippet")
     Page<SharedCode> findByIsActiveTrueAndExpiresAtIsNullOrderByCreatedAtDesc(Pageable pageable);
 
     /**
@@ -158,6 +264,7 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
      * @param pageable 페이징 정보
      * @return 기간 제한 공유 코드 페이지
      */
+    @EntityGraph(attributePaths = "codeSnippet")
     Page<SharedCode> findByIsActiveTrueAndExpiresAtIsNotNullOrderByExpiresAtAsc(Pageable pageable);
 
     /**
@@ -172,4 +279,68 @@ public interface SharedCodeRepository extends JpaRepository<SharedCode, Long> {
             "SUM(CASE WHEN sc.isActive = true AND sc.expiresAt IS NULL THEN 1 ELSE 0 END) as permanentShares " +
             "FROM SharedCode sc")
     Object[] findSharingStatistics();
-}
\ No newline at end of file
+
+    /**
+     * 공유 요약 프로젝션의 SELECT 절. 코드 스니펫은 제목과 언어만 읽고 코드 본문은 읽지 않습니다.
+     */
+    String SUMMARY_SELECT = "SELECT new com.codeplayground.dto.ShareSummaryResponse(" +
+            "sc.id, cs.id, sc.shareId, cs.title, cs.language, sc.expiresAt, sc.isActive, sc.createdAt) " +
+            "FROM SharedCode sc JOIN sc.codeSnippet cs ";
+
+    /**
+     * 코드 스니펫별 활성 공유 요약을 최신순으로 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param pageable      페이징 정보
+     * @return 공유 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE cs.id = :codeSnippetId AND sc.isActive = true AND cs.isActive = true " +
+            "ORDER BY sc.createdAt DESC",
+            countQuery = "SELECT COUNT(sc) FROM SharedCode sc WHERE sc.codeSnippet.id = :codeSnippetId " +
+                    "AND sc.isActive = true AND sc.codeSnippet.isActive = true")
+    Page<ShareSummaryResponse> findActiveSummariesByCodeSnippetId(@Param("codeSnippetId") Long codeSnippetId,
+                                                                  Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 코드 스니펫별 활성 공유 요약을 최신순으로 조회합니다 (키셋 페이징).
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param createdAt     기준 생성 일시
+     * @param id            기준 ID
+     * @param pageable      페이지 크기 정보
+     * @return 공유 요약 슬라이스
+     */
+    @Query(SUMMARY_SELECT + "WHERE cs.id = :codeSnippetId AND sc.isActive = true AND cs.isActive = true AND " +
+            "sc.createdAt <= :createdAt AND (sc.createdAt < :createdAt OR sc.id < :id) " +
+            "ORDER BY sc.createdAt DESC, sc.id DESC")
+    Slice<ShareSummaryResponse> findActiveSummariesByCodeSnippetIdBefore(@Param("codeSnippetId") Long codeSnippetId,
+                                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                                         @Param("id") Long id,
+                                                                         Pageable pageable);
+
+    /**
+     * 활성 공유 요약을 최신순으로 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @return 공유 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE sc.isActive = true AND cs.isActive = true ORDER BY sc.createdAt DESC",
+            countQuery = "SELECT COUNT(sc) FROM SharedCode sc WHERE sc.isActive = true " +
+                    "AND sc.codeSnippet.isActive = true")
+    Page<ShareSummaryResponse> findActiveSummaries(Pageable pageable);
+
+    /**
+     * 주어진 위치 이전의 활성 공유 요약을 최신순으로 조회합니다 (키셋 페이징).
+     *
+     * @param createdAt 기준 생성 일시
+     * @param id        기준 ID
+     * @param pageable  페이지 크기 정보
+     * @return 공유 요약 슬라이스
+     */
+    @Query(SUMMARY_SELECT + "WHERE sc.isActive = true AND cs.isActive = true AND " +
+            "sc.createdAt <= :createdAt AND (sc.createdAt < :createdAt OR sc.id < :id) " +
+            "ORDER BY sc.createdAt DESC, sc.id DESC")
+    Slice<ShareSummaryResponse> findActiveSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+}
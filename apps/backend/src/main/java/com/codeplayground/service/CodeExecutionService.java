@@ -3,11 +3,10 @@ package com.codeplayground.service;
 import com.codeplayground.entity.CodeSnippet;
 import com.codeplayground.entity.Execution;
 import com.codeplayground.entity.enums.ExecutionStatus;
-import com.codeplayground.repository.ExecutionRepository;
+import com.codeplayground.exception.ExecutionNotAcknowledgedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Random;
 import java.util.regex.Matcher;
@@ -16,14 +15,14 @@ import java.util.regex.Pattern;
 /**
  * 코드 실행 서비스 (교육용 모킹 구현)
  * 실제 프로덕션 환경에서는 Docker 컨테이너나 샌드박스 환경에서 코드를 실행해야 합니다.
+ * 실행 중에는 데이터베이스 커넥션을 잡지 않으며, 결과는 {@link ExecutionBatchWriter}로 저장합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class CodeExecutionService {
 
-    private final ExecutionRepository executionRepository;
+    private final ExecutionBatchWriter executionBatchWriter;
     private final Random random = new Random();
 
     /**
@@ -42,9 +41,10 @@ public class CodeExecutionService {
             // 실행 결과 생성
             ExecutionResult result = generateMockExecutionResult(codeSnippet.getLanguage(), codeToExecute, input, executionTime);
 
-            // Execution 엔티티 생성
+            // Execution 엔티티 생성 (사용자 지정 코드가 아니면 실행한 스니펫 버전 기록)
             Execution execution = Execution.builder()
                     .codeSnippet(codeSnippet)
+                    .codeVersion(customCode != null ? null : codeSnippet.getCurrentVersion())
                     .status(result.status)
                     .output(result.output)
                     .errorMessage(result.errorMessage)
@@ -52,12 +52,15 @@ public class CodeExecutionService {
                     .memoryUsage(result.memoryUsage)
                     .build();
 
-            // 저장
-            execution = executionRepository.save(execution);
+            // 저장 (배치 저장기가 인기도 점수 증분도 함께 반영하며, 커밋 후 반환)
+            execution = executionBatchWriter.write(execution);
 
             log.info("Code execution completed with status: {}", result.status);
             return execution;
 
+        } catch (ExecutionNotAcknowledgedException e) {
+            // 실행 결과는 유효하며 기록은 아직 저장 큐에 있으므로 ERROR 결과로 바꾸지 않습니다.
+            throw e;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("Code execution interrupted", e);
@@ -1,20 +1,37 @@
 package com.codeplayground.service;
 
+import com.codeplayground.dto.BulkResponse;
 import com.codeplayground.dto.CodeSnippetRequest;
 import com.codeplayground.dto.CodeSnippetResponse;
+import com.codeplayground.dto.CodeSnippetSummaryResponse;
+import com.codeplayground.dto.PageCursor;
 import com.codeplayground.dto.PageResponse;
+import com.codeplayground.dto.SparseFieldSet;
 import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.event.CodeSnippetChangedEvent;
 import com.codeplayground.exception.ResourceNotFoundException;
 import com.codeplayground.repository.CodeSnippetRepository;
 import com.codeplayground.repository.ExecutionRepository;
 import com.codeplayground.repository.SharedCodeRepository;
+import com.codeplayground.service.search.SnippetSearchEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 코드 스니펫 서비스.
  * 코드 스니펫의 생성, 조회, 수정, 삭제 및 비즈니스 로직을 처리합니다.
@@ -25,9 +42,21 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CodeSnippetService {
 
+    /**
+     * 요약 항목의 위치를 다음 페이지 커서로 만드는 함수.
+     */
+    private static final Function<CodeSnippetSummaryResponse, PageCursor> SUMMARY_CURSOR =
+            summary -> PageCursor.after(summary.getCreatedAt(), summary.getId());
+
     private final CodeSnippetRepository codeSnippetRepository;
     private final ExecutionRepository executionRepository;
     private final SharedCodeRepository sharedCodeRepository;
+    private final SnippetVersionService snippetVersionService;
+    private final SnippetSearchEngine snippetSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${code-playground.api.bulk.max-ids:100}")
+    private int bulkMaxIds;
 
     /**
      * 새로운 코드 스니펫을 생성합니다.
@@ -48,6 +77,8 @@ public class CodeSnippetService {
                 .build();
 
         final CodeSnippet savedCodeSnippet = codeSnippetRepository.save(codeSnippet);
+        snippetVersionService.recordInitialVersion(savedCodeSnippet);
+        eventPublisher.publishEvent(CodeSnippetChangedEvent.saved(savedCodeSnippet));
 
         log.info("Code snippet created with ID: {}", savedCodeSnippet.getId());
         return convertToResponse(savedCodeSnippet);
@@ -68,8 +99,46 @@ public class CodeSnippetService {
         return convertToResponse(codeSnippet);
     }
 
+    /**
+     * 코드 스니펫 조회 응답의 ETag를 계산합니다.
+     * 엔티티와 코드 본문을 읽지 않고 검증 값만 조회하므로 조건부 요청 판단에 사용합니다.
+     *
+     * @param id 코드 스니펫 ID
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public String getCodeSnippetETag(final Long id) {
+        final Object[] validator = codeSnippetRepository.findValidatorById(id).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("코드 스니펫을 찾을 수 없습니다: " + id));
+
+        return ETags.snippet(id, (LocalDateTime) validator[0], (Integer) validator[1],
+                (Number) validator[2], (Number) validator[3]);
+    }
+
+    /**
+     * 여러 코드 스니펫을 ID로 한 번에 조회합니다.
+     * 스니펫은 IN 쿼리 한 번으로, 실행 횟수와 공유 횟수는 각각 한 번의 집계 쿼리로 조회합니다.
+     *
+     * @param ids 코드 스니펫 ID 목록 (요청 순서, 중복 허용)
+     * @return 요청 순서의 일괄 조회 응답, 없거나 비활성인 스니펫은 찾지 못한 항목
+     * @throws IllegalArgumentException ID 수가 최대값을 넘는 경우
+     */
+    public BulkResponse<Long, CodeSnippetResponse> getCodeSnippets(final List<Long> ids) {
+        BulkResponse.checkSize(ids, bulkMaxIds);
+        final List<Long> distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return BulkResponse.of(ids, Map.of());
+        }
+
+        final Map<Long, CodeSnippetResponse> found = convertToResponses(
+                codeSnippetRepository.findByIdInAndIsActiveTrue(distinctIds)).stream()
+                .collect(Collectors.toMap(CodeSnippetResponse::getId, Function.identity()));
+        return BulkResponse.of(ids, found);
+    }
+
     /**
      * 코드 스니펫을 수정합니다.
+     * 코드가 바뀌면 새 버전을 저장하며, 같은 스니펫의 동시 수정은 스니펫 행 잠금으로 순서대로 처리됩니다.
      *
      * @param id      코드 스니펫 ID
      * @param request 수정 요청
@@ -79,14 +148,15 @@ public class CodeSnippetService {
     public CodeSnippetResponse updateCodeSnippet(final Long id, final CodeSnippetRequest request) {
         log.info("Updating code snippet with ID: {}", id);
 
-        final CodeSnippet codeSnippet = codeSnippetRepository.findByIdAndIsActiveTrue(id)
+        final CodeSnippet codeSnippet = codeSnippetRepository.findActiveByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("코드 스니펫을 찾을 수 없습니다: " + id));
 
         codeSnippet.setTitle(request.getTitle());
-        codeSnippet.setCode(request.getCode());
+        snippetVersionService.updateCode(codeSnippet, request.getCode());
         codeSnippet.setLanguage(request.getLanguage());
 
         final CodeSnippet updatedCodeSnippet = codeSnippetRepository.save(codeSnippet);
+        eventPublisher.publishEvent(CodeSnippetChangedEvent.saved(updatedCodeSnippet));
 
         log.info("Code snippet updated with ID: {}", updatedCodeSnippet.getId());
         return convertToResponse(updatedCodeSnippet);
@@ -106,6 +176,7 @@ public class CodeSnippetService {
 
         codeSnippet.setIsActive(false);
         codeSnippetRepository.save(codeSnippet);
+        eventPublisher.publishEvent(CodeSnippetChangedEvent.deleted(id));
 
         log.info("Code snippet deleted with ID: {}", id);
     }
@@ -126,6 +197,23 @@ public class CodeSnippetService {
         return convertToPageResponse(codeSnippetsPage);
     }
 
+    /**
+     * 모든 활성 코드 스니펫을 커서 위치부터 조회합니다.
+     *
+     * @param cursor 페이지 커서
+     * @param size   페이지 크기
+     * @return 다음 커서를 포함한 코드 스니펫 목록
+     */
+    public PageResponse<CodeSnippetResponse> getAllCodeSnippets(final PageCursor cursor, final int size) {
+        log.debug("Retrieving all active code snippets after cursor: {}/{}, size: {}",
+                cursor.getCreatedAt(), cursor.getId(), size);
+
+        final Slice<CodeSnippet> codeSnippetsSlice = codeSnippetRepository
+                .findActiveBefore(cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size));
+
+        return convertToCursorResponse(codeSnippetsSlice, cursor);
+    }
+
     /**
      * 작성자별로 코드 스니펫을 조회합니다.
      *
@@ -144,6 +232,26 @@ public class CodeSnippetService {
         return convertToPageResponse(codeSnippetsPage);
     }
 
+    /**
+     * 작성자별로 코드 스니펫을 커서 위치부터 조회합니다.
+     *
+     * @param authorName 작성자 이름
+     * @param cursor     페이지 커서
+     * @param size       페이지 크기
+     * @return 다음 커서를 포함한 코드 스니펫 목록
+     */
+    public PageResponse<CodeSnippetResponse> getCodeSnippetsByAuthor(final String authorName,
+                                                                     final PageCursor cursor,
+                                                                     final int size) {
+        log.debug("Retrieving code snippets by author: {} after cursor: {}/{}, size: {}",
+                authorName, cursor.getCreatedAt(), cursor.getId(), size);
+
+        final Slice<CodeSnippet> codeSnippetsSlice = codeSnippetRepository
+                .findActiveByAuthorBefore(authorName, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size));
+
+        return convertToCursorResponse(codeSnippetsSlice, cursor);
+    }
+
     /**
      * 프로그래밍 언어별로 코드 스니펫을 조회합니다.
      *
@@ -162,20 +270,43 @@ public class CodeSnippetService {
         return convertToPageResponse(codeSnippetsPage);
     }
 
+    /**
+     * 프로그래밍 언어별로 코드 스니펫을 커서 위치부터 조회합니다.
+     *
+     * @param language 프로그래밍 언어
+     * @param cursor   페이지 커서
+     * @param size     페이지 크기
+     * @return 다음 커서를 포함한 코드 스니펫 목록
+     */
+    public PageResponse<CodeSnippetResponse> getCodeSnippetsByLanguage(final String language,
+                                                                       final PageCursor cursor,
+                                                                       final int size) {
+        log.debug("Retrieving code snippets by language: {} after cursor: {}/{}, size: {}",
+                language, cursor.getCreatedAt(), cursor.getId(), size);
+
+        final Slice<CodeSnippet> codeSnippetsSlice = codeSnippetRepository
+                .findActiveByLanguageBefore(language, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size));
+
+        return convertToCursorResponse(codeSnippetsSlice, cursor);
+    }
+
     /**
      * 키워드로 코드 스니펫을 검색합니다.
      *
-     * @param keyword  검색 키워드
-     * @param pageable 페이징 정보
+     * @param keyword    검색 키워드
+     * @param language   프로그래밍 언어 필터 (nullable)
+     * @param authorName 작성자 필터 (nullable)
+     * @param pageable   페이징 정보
      * @return 페이징된 코드 스니펫 목록
      */
     public PageResponse<CodeSnippetResponse> searchCodeSnippets(final String keyword,
+                                                                final String language,
+                                                                final String authorName,
                                                                 final Pageable pageable) {
-        log.debug("Searching code snippets with keyword: {} with page: {}, size: {}",
-                keyword, pageable.getPageNumber(), pageable.getPageSize());
+        log.debug("Searching code snippets with keyword: {} (language: {}, author: {}) with page: {}, size: {}",
+                keyword, language, authorName, pageable.getPageNumber(), pageable.getPageSize());
 
-        final Page<CodeSnippet> codeSnippetsPage = codeSnippetRepository
-                .searchByKeyword(keyword, pageable);
+        final Page<CodeSnippet> codeSnippetsPage = snippetSearchEngine.search(keyword, language, authorName, pageable);
 
         return convertToPageResponse(codeSnippetsPage);
     }
@@ -196,6 +327,172 @@ public class CodeSnippetService {
         return convertToPageResponse(codeSnippetsPage);
     }
 
+    /**
+     * 모든 활성 코드 스니펫 요약을 페이징으로 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @param fields   응답에 포함할 필드
+     * @return 페이징된 코드 스니펫 요약 목록
+     */
+    public PageResponse<CodeSnippetSummaryResponse> getAllCodeSnippetSummaries(final Pageable pageable,
+                                                                               final SparseFieldSet fields) {
+        return withCounts(PageResponse.of(codeSnippetRepository.findActiveSummaries(pageable)), fields);
+    }
+
+    /**
+     * 모든 활성 코드 스니펫 요약을 커서 위치부터 조회합니다.
+     *
+     * @param cursor 페이지 커서
+     * @param size   페이지 크기
+     * @param fields 응답에 포함할 필드
+     * @return 다음 커서를 포함한 코드 스니펫 요약 목록
+     */
+    public PageResponse<CodeSnippetSummaryResponse> getAllCodeSnippetSummaries(final PageCursor cursor,
+                                                                               final int size,
+                                                                               final SparseFieldSet fields) {
+        return withCounts(PageResponse.of(codeSnippetRepository.findActiveSummariesBefore(
+                cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size)), cursor, SUMMARY_CURSOR), fields);
+    }
+
+    /**
+     * 작성자별 코드 스니펫 요약을 페이징으로 조회합니다.
+     *
+     * @param authorName 작성자 이름
+     * @param pageable   페이징 정보
+     * @param fields     응답에 포함할 필드
+     * @return 페이징된 코드 스니펫 요약 목록
+     */
+    public PageResponse<CodeSnippetSummaryResponse> getCodeSnippetSummariesByAuthor(final String authorName,
+                                                                                    final Pageable pageable,
+                                                                                    final SparseFieldSet fields) {
+        return withCounts(PageResponse.of(codeSnippetRepository.findActiveSummariesByAuthor(authorName, pageable)),
+                fields);
+    }
+
+    /**
+     * 작성자별 코드 스니펫 요약을 커서 위치부터 조회합니다.
+     *
+     * @param authorName 작성자 이름
+     * @param cursor     페이지 커서
+     * @param size       페이지 크기
+     * @param fields     응답에 포함할 필드
+     * @return 다음 커서를 포함한 코드 스니펫 요약 목록
+     */
+    public PageResponse<CodeSnippetSummaryResponse> getCodeSnippetSummariesByAuthor(final String authorName,
+                                                                                    final PageCursor cursor,
+                                                                                    final int size,
+                                                                                    final SparseFieldSet fields) {
+        return withCounts(PageResponse.of(codeSnippetRepository.findActiveSummariesByAuthorBefore(
+                authorName, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size)),
+                cursor, SUMMARY_CURSOR), fields);
+    }
+
+    /**
+     * 프로그래밍 언어별 코드 스니펫 요약을 페이징으로 조회합니다.
+     *
+     * @param language 프로그래밍 언어
+     * @param pageable 페이징 정보
+     * @param fields   응답에 포함할 필드
+     * @return 페이징된 코드 스니펫 요약 목록
+     */
+    public PageResponse<CodeSnippetSummaryResponse> getCodeSnippetSummariesByLanguage(final String language,
+                                                                                      final Pageable pageable,
+                                                                                      final SparseFieldSet fields) {
+        return withCounts(PageResponse.of(codeSnippetRepository.findActiveSummariesByLanguage(language, pageable)),
+                fields);
+    }
+
+    /**
+     * 프로그래밍 언어별 코드 스니펫 요약을 커서 위치부터 조회합니다.
+     *
+     * @param language 프로그래밍 언어
+     * @param cursor   페이지 커서
+     * @param size     페이지 크기
+     * @param fields   응답에 포함할 필드
+     * @return 다음 커서를 포함한 코드 스니펫 요약 목록
+     */
+    public PageResponse<CodeSnippetSummaryResponse> getCodeSnippetSummariesByLanguage(final String language,
+                                                                                      final PageCursor cursor,
+                                                                                      final int size,
+                                                                                      final SparseFieldSet fields) {
+        return withCounts(PageResponse.of(codeSnippetRepository.findActiveSummariesByLanguageBefore(
+                language, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size)),
+                cursor, SUMMARY_CURSOR), fields);
+    }
+
+    /**
+     * 인기 코드 스니펫 요약을 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @param fields   응답에 포함할 필드
+     * @return 페이징된 인기 코드 스니펫 요약 목록
+     */
+    public PageResponse<CodeSnippetSummaryResponse> getPopularCodeSnippetSummaries(final Pageable pageable,
+                                                                                   final SparseFieldSet fields) {
+        return withCounts(PageResponse.of(codeSnippetRepository.findPopularSummaries(pageable)), fields);
+    }
+
+    /**
+     * 요청한 경우에만 요약 목록의 실행 횟수와 공유 횟수를 각각 한 번의 집계 쿼리로 채웁니다.
+     *
+     * @param response 코드 스니펫 요약 목록
+     * @param fields   응답에 포함할 필드
+     * @return 같은 응답
+     */
+    private PageResponse<CodeSnippetSummaryResponse> withCounts(final PageResponse<CodeSnippetSummaryResponse> response,
+                                                                final SparseFieldSet fields) {
+        final boolean executionCount = fields.includes("executionCount");
+        final boolean shareCount = fields.includes("shareCount");
+        if (response.getContent().isEmpty() || (!executionCount && !shareCount)) {
+            return response;
+        }
+
+        final List<Long> ids = response.getContent().stream()
+                .map(CodeSnippetSummaryResponse::getId)
+                .toList();
+        final Map<Long, Long> executionCounts = executionCount
+                ? toCountMap(executionRepository.countByCodeSnippetIds(ids))
+                : Map.of();
+        final Map<Long, Long> shareCounts = shareCount
+                ? toCountMap(sharedCodeRepository.countActiveByCodeSnippetIds(ids))
+                : Map.of();
+        for (final CodeSnippetSummaryResponse summary : response.getContent()) {
+            if (executionCount) {
+                summary.setExecutionCount(executionCounts.getOrDefault(summary.getId(), 0L).intValue());
+            }
+            if (shareCount) {
+                summary.setShareCount(shareCounts.getOrDefault(summary.getId(), 0L).intValue());
+            }
+        }
+        return response;
+    }
+
+    /**
+     * 여러 CodeSnippet 엔티티를 CodeSnippetResponse 목록으로 변환합니다.
+     * 실행 횟수와 공유 횟수는 스니펫 수와 관계없이 각각 한 번의 집계 쿼리로 조회합니다.
+     *
+     * @param codeSnippets 코드 스니펫 엔티티 목록
+     * @return 입력 순서를 유지한 코드 스니펫 응답 DTO 목록
+     */
+    public List<CodeSnippetResponse> convertToResponses(final List<CodeSnippet> codeSnippets) {
+        if (codeSnippets.isEmpty()) {
+            return List.of();
+        }
+
+        final List<Long> ids = codeSnippets.stream()
+                .map(CodeSnippet::getId)
+                .distinct()
+                .toList();
+        final Map<Long, Long> executionCounts = toCountMap(executionRepository.countByCodeSnippetIds(ids));
+        final Map<Long, Long> shareCounts = toCountMap(sharedCodeRepository.countActiveByCodeSnippetIds(ids));
+
+        return codeSnippets.stream()
+                .map(codeSnippet -> convertToResponse(codeSnippet,
+                        executionCounts.getOrDefault(codeSnippet.getId(), 0L),
+                        shareCounts.getOrDefault(codeSnippet.getId(), 0L)))
+                .toList();
+    }
+
     /**
      * CodeSnippet 엔티티를 CodeSnippetResponse로 변환합니다.
      *
@@ -204,9 +501,23 @@ public class CodeSnippetService {
      */
     private CodeSnippetResponse convertToResponse(final CodeSnippet codeSnippet) {
         // 실행 횟수와 공유 횟수 계산
-        final int executionCount = (int) executionRepository.countByCodeSnippetId(codeSnippet.getId());
-        final int shareCount = (int) sharedCodeRepository.countByCodeSnippetIdAndIsActiveTrue(codeSnippet.getId());
+        final long executionCount = executionRepository.countByCodeSnippetId(codeSnippet.getId());
+        final long shareCount = sharedCodeRepository.countByCodeSnippetIdAndIsActiveTrue(codeSnippet.getId());
+
+        return convertToResponse(codeSnippet, executionCount, shareCount);
+    }
 
+    /**
+     * 미리 계산된 실행 횟수와 공유 횟수로 CodeSnippetResponse를 생성합니다.
+     *
+     * @param codeSnippet    코드 스니펫 엔티티
+     * @param executionCount 실행 횟수
+     * @param shareCount     활성 공유 횟수
+     * @return 코드 스니펫 응답 DTO
+     */
+    private CodeSnippetResponse convertToResponse(final CodeSnippet codeSnippet,
+                                                  final long executionCount,
+                                                  final long shareCount) {
         return CodeSnippetResponse.builder()
                 .id(codeSnippet.getId())
                 .title(codeSnippet.getTitle())
@@ -214,13 +525,28 @@ public class CodeSnippetService {
                 .language(codeSnippet.getLanguage())
                 .authorName(codeSnippet.getAuthorName())
                 .isActive(codeSnippet.getIsActive())
+                .version(codeSnippet.getCurrentVersion())
                 .createdAt(codeSnippet.getCreatedAt())
                 .updatedAt(codeSnippet.getUpdatedAt())
-                .executionCount(executionCount)
-                .shareCount(shareCount)
+                .executionCount((int) executionCount)
+                .shareCount((int) shareCount)
                 .build();
     }
 
+    /**
+     * [ID, 개수] 형태의 집계 결과를 Map으로 변환합니다.
+     *
+     * @param rows 집계 쿼리 결과
+     * @return ID별 개수
+     */
+    private Map<Long, Long> toCountMap(final List<Object[]> rows) {
+        final Map<Long, Long> counts = new HashMap<>();
+        for (final Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
     /**
      * Page<CodeSnippet>을 PageResponse<CodeSnippetResponse>로 변환합니다.
      *
@@ -229,9 +555,7 @@ public class CodeSnippetService {
      */
     private PageResponse<CodeSnippetResponse> convertToPageResponse(final Page<CodeSnippet> codeSnippetsPage) {
         return PageResponse.<CodeSnippetResponse>builder()
-                .content(codeSnippetsPage.getContent().stream()
-                        .map(this::convertToResponse)
-                        .toList())
+                .content(convertToResponses(codeSnippetsPage.getContent()))
                 .page(codeSnippetsPage.getNumber())
                 .size(codeSnippetsPage.getSize())
                 .totalElements(codeSnippetsPage.getTotalElements())
@@ -240,4 +564,28 @@ public class CodeSnippetService {
                 .last(codeSnippetsPage.isLast())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Slice<CodeSnippet>을 커서 페이징 응답으로 변환합니다.
+     * 전체 개수는 조회하지 않으며, 다음 페이지가 있으면 마지막 항목 위치를 다음 커서로 반환합니다.
+     *
+     * @param codeSnippetsSlice 코드 스니펫 슬라이스
+     * @param cursor            요청한 페이지 커서
+     * @return 커서 페이징 응답 DTO
+     */
+    private PageResponse<CodeSnippetResponse> convertToCursorResponse(final Slice<CodeSnippet> codeSnippetsSlice,
+                                                                      final PageCursor cursor) {
+        final List<CodeSnippet> content = codeSnippetsSlice.getContent();
+        final CodeSnippet lastItem = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return PageResponse.<CodeSnippetResponse>builder()
+                .content(convertToResponses(content))
+                .size(codeSnippetsSlice.getSize())
+                .first(cursor.isFirst())
+                .last(!codeSnippetsSlice.hasNext())
+                .nextCursor(codeSnippetsSlice.hasNext() && lastItem != null
+                        ? PageCursor.after(lastItem.getCreatedAt(), lastItem.getId()).encode()
+                        : null)
+                .build();
+    }
+}
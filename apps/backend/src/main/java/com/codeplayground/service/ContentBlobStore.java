@@ -0,0 +1,286 @@
+package com.codeplayground.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 내용 주소 기반 본문 저장소.
+ * 실행 결과 출력과 에러 메시지를 UTF-8 내용의 SHA-256 해시를 키로 content_blobs에 한 번만 저장합니다.
+ *
+ * <ul>
+ *   <li>같은 내용은 참조 수만 늘립니다. 참조 수를 먼저 UPDATE하고 없는 해시만 INSERT하므로
+ *       이미 있는 본문은 다시 전송하지 않습니다.</li>
+ *   <li>참조를 해제하면 참조 수를 줄이고, 0이 된 본문을 같은 트랜잭션에서 삭제합니다.</li>
+ *   <li>행 잠금 순서를 일정하게 유지하기 위해 해시 순으로 갱신합니다.
+ *       PostgreSQL에서는 다른 인스턴스와 동시에 같은 본문을 INSERT해도 충돌 없이 참조 수를 합칩니다.</li>
+ *   <li>본문은 해시가 같으면 내용도 같아 바뀌지 않으므로, 자주 읽는 본문을 메모리 크기 기준의 캐시에 보관합니다.</li>
+ * </ul>
+ *
+ * <p>호출하는 쪽의 트랜잭션에 참여하므로 참조 행과 같은 트랜잭션에서 호출해야 합니다.</p>
+ */
+@Component
+@Slf4j
+public class ContentBlobStore {
+
+    /**
+     * 캐시 항목마다 내용 외에 더하는 대략적인 크기 (바이트).
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private static final String INCREMENT_SQL =
+            "UPDATE content_blobs SET ref_count = ref_count + ? WHERE hash = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO content_blobs (hash, content, byte_size, ref_count, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_SQL = INSERT_SQL +
+            " ON CONFLICT (hash) DO UPDATE SET ref_count = content_blobs.ref_count + EXCLUDED.ref_count";
+
+    private static final String DECREMENT_SQL =
+            "UPDATE content_blobs SET ref_count = ref_count - ? WHERE hash = ?";
+
+    private static final String DELETE_UNREFERENCED_SQL =
+            "DELETE FROM content_blobs WHERE hash = ? AND ref_count <= 0";
+
+    private static final String SELECT_CONTENT_SQL =
+            "SELECT content FROM content_blobs WHERE hash = ?";
+
+    private static final String SELECT_CONTENTS_SQL =
+            "SELECT hash, content FROM content_blobs WHERE hash IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, String> contents;
+    private final Counter storedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter deduplicatedBytesCounter;
+    private final Counter deletedCounter;
+    private volatile Boolean postgres;
+
+    /**
+     * ContentBlobStore 생성자.
+     *
+     * @param jdbcTemplate  JDBC 템플릿
+     * @param meterRegistry 메트릭 레지스트리
+     * @param cacheSizeMb   본문 캐시 최대 크기 (MB)
+     */
+    public ContentBlobStore(final JdbcTemplate jdbcTemplate,
+                            final MeterRegistry meterRegistry,
+                            @Value("${code-playground.execution.blob-cache.max-size-mb:32}") final long cacheSizeMb) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contents = Caffeine.newBuilder()
+                .maximumWeight(cacheSizeMb * 1024 * 1024)
+                .weigher((String hash, String content) -> ENTRY_OVERHEAD_BYTES + content.length() * 2)
+                .recordStats()
+                .build();
+        this.storedCounter = Counter.builder("code_playground.content_blobs.stored")
+                .description("New content blobs written")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("code_playground.content_blobs.deduplicated")
+                .description("Body references that reused an existing or same-batch content blob")
+                .register(meterRegistry);
+        this.deduplicatedBytesCounter = Counter.builder("code_playground.content_blobs.deduplicated.bytes")
+                .description("UTF-8 bytes not stored again thanks to deduplication")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("code_playground.content_blobs.deleted")
+                .description("Content blobs deleted after their last reference was released")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, contents, "content-blobs");
+    }
+
+    /**
+     * 본문 목록을 저장하고 각 본문의 해시를 반환합니다.
+     * 같은 내용은 한 번만 저장하고 참조 수만 늘립니다.
+     *
+     * @param bodies 저장할 본문 목록 (null 허용)
+     * @return 본문과 같은 순서의 해시 목록, null 본문은 null
+     */
+    public List<String> retainAll(final List<String> bodies) {
+        final List<String> hashes = new ArrayList<>(bodies.size());
+        final Map<String, PendingBlob> pending = new TreeMap<>();
+        for (final String body : bodies) {
+            if (body == null) {
+                hashes.add(null);
+                continue;
+            }
+            final String hash = hash(body);
+            hashes.add(hash);
+            pending.computeIfAbsent(hash, key -> new PendingBlob(body)).references++;
+        }
+        if (pending.isEmpty()) {
+            return hashes;
+        }
+
+        final List<Map.Entry<String, PendingBlob>> entries = new ArrayList<>(pending.entrySet());
+        final int[] updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, entries.stream()
+                .map(entry -> new Object[]{entry.getValue().references, entry.getKey()})
+                .toList());
+
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final List<Object[]> inserts = new ArrayList<>();
+        long deduplicated = 0;
+        long deduplicatedBytes = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            final String hash = entries.get(i).getKey();
+            final PendingBlob blob = entries.get(i).getValue();
+            final long reused = updated[i] == 0 ? blob.references - 1 : blob.references;
+            if (updated[i] == 0) {
+                inserts.add(new Object[]{hash, blob.content, blob.byteSize, blob.references, now});
+            }
+            deduplicated += reused;
+            deduplicatedBytes += reused * blob.byteSize;
+            contents.put(hash, blob.content);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(isPostgres() ? UPSERT_SQL : INSERT_SQL, inserts);
+        }
+
+        storedCounter.increment(inserts.size());
+        deduplicatedCounter.increment(deduplicated);
+        deduplicatedBytesCounter.increment(deduplicatedBytes);
+        return hashes;
+    }
+
+    /**
+     * 해시 목록의 참조를 해제하고, 더 이상 참조되지 않는 본문을 삭제합니다.
+     *
+     * @param hashes 해제할 해시 목록 (null 허용, 중복 시 중복 수만큼 해제)
+     * @return 삭제된 본문 수
+     */
+    public int releaseAll(final Collection<String> hashes) {
+        final Map<String, Long> references = new TreeMap<>();
+        for (final String hash : hashes) {
+            if (hash != null) {
+                references.merge(hash, 1L, Long::sum);
+            }
+        }
+        if (references.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(DECREMENT_SQL, references.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList());
+
+        final List<String> released = new ArrayList<>(references.keySet());
+        final int[] deleted = jdbcTemplate.batchUpdate(DELETE_UNREFERENCED_SQL, released.stream()
+                .map(hash -> new Object[]{hash})
+                .toList());
+
+        int deletedCount = 0;
+        for (int i = 0; i < released.size(); i++) {
+            if (deleted[i] > 0) {
+                contents.invalidate(released.get(i));
+                deletedCount++;
+            }
+        }
+        deletedCounter.increment(deletedCount);
+        return deletedCount;
+    }
+
+    /**
+     * 해시에 해당하는 본문을 조회합니다.
+     *
+     * @param hash 본문 해시 (null 허용)
+     * @return 본문 내용, 해시가 null이거나 본문이 없으면 null
+     */
+    public String get(final String hash) {
+        if (hash == null) {
+            return null;
+        }
+        return contents.get(hash, key -> jdbcTemplate.queryForList(SELECT_CONTENT_SQL, String.class, key)
+                .stream()
+                .findFirst()
+                .orElse(null));
+    }
+
+    /**
+     * 해시 목록에 해당하는 본문을 한 번에 조회합니다.
+     * 캐시에 없는 본문만 IN 쿼리 한 번으로 읽어 캐시에 넣습니다.
+     *
+     * @param hashes 본문 해시 목록 (null 허용)
+     * @return 해시별 본문 내용, 없는 본문은 포함하지 않음
+     */
+    public Map<String, String> getAll(final Collection<String> hashes) {
+        final Set<String> keys = new HashSet<>(hashes);
+        keys.remove(null);
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return contents.getAll(keys, missing -> {
+            final Map<String, String> loaded = new HashMap<>();
+            final String placeholders = String.join(", ", Collections.nCopies(missing.size(), "?"));
+            jdbcTemplate.query(SELECT_CONTENTS_SQL.formatted(placeholders),
+                    (RowCallbackHandler) rs -> loaded.put(rs.getString(1), rs.getString(2)),
+                    missing.toArray());
+            return loaded;
+        });
+    }
+
+    /**
+     * 본문의 UTF-8 내용에 대한 SHA-256 해시를 계산합니다.
+     *
+     * @param content 본문 내용
+     * @return 소문자 16진수 64자 해시
+     */
+    public static String hash(final String content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equals(product);
+            postgres = result;
+        }
+        return result;
+    }
+
+    /**
+     * 한 번의 저장 요청에 포함된 같은 내용의 본문.
+     */
+    private static final class PendingBlob {
+
+        private final String content;
+        private final int byteSize;
+        private long references;
+
+        PendingBlob(final String content) {
+            this.content = content;
+            this.byteSize = content.getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.codeplayground.service;
+
+import com.codeplayground.entity.enums.ExportFormat;
+import com.codeplayground.exception.ResourceNotFoundException;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 데이터 내보내기 서비스.
+ * 코드 스니펫과 스니펫별 실행 기록을 NDJSON 또는 CSV로 스트리밍합니다.
+ *
+ * <ul>
+ *   <li>JDBC 커서로 fetch size만큼씩 읽어 바로 응답에 씁니다. 엔티티나 영속성 컨텍스트를 거치지 않으므로
+ *       행 수와 관계없이 메모리 사용량이 일정합니다.</li>
+ *   <li>PostgreSQL은 트랜잭션 안에서만 커서로 읽으므로 읽기 전용 트랜잭션에서 실행하며,
+ *       읽기 복제본이 설정되어 있으면 복제본에서 읽습니다.</li>
+ *   <li>필터와 정렬은 (is_active, author_name|language, created_at DESC) 인덱스와
+ *       executions의 code_snippet_id 인덱스를 그대로 사용합니다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class DataExportService {
+
+    private static final List<String> SNIPPET_COLUMNS = List.of(
+            "id", "title", "code", "language", "authorName", "popularityScore", "createdAt", "updatedAt");
+
+    private static final String SNIPPET_SELECT_SQL =
+            "SELECT id, title, code, language, author_name, popularity_score, created_at, updated_at " +
+            "FROM code_snippets WHERE is_active = true";
+
+    private static final List<String> EXECUTION_COLUMNS = List.of(
+            "id", "codeSnippetId", "codeVersion", "status", "executionTime", "memoryUsage", "createdAt",
+            "output", "errorMessage");
+
+    private static final String EXECUTION_SELECT_SQL =
+            "SELECT e.id, e.code_snippet_id, e.code_version, e.status, e.execution_time, e.memory_usage, " +
+            "e.created_at, ob.content, eb.content FROM executions e " +
+            "LEFT JOIN execution_outputs o ON o.execution_id = e.id " +
+            "LEFT JOIN content_blobs ob ON ob.hash = o.output_hash " +
+            "LEFT JOIN content_blobs eb ON eb.hash = o.error_hash " +
+            "WHERE e.code_snippet_id = ? ORDER BY e.created_at DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final CodeSnippetRepository codeSnippetRepository;
+
+    /**
+     * DataExportService 생성자.
+     *
+     * @param dataSource            데이터 소스
+     * @param transactionManager    트랜잭션 관리자
+     * @param objectMapper          JSON 매퍼
+     * @param codeSnippetRepository 코드 스니펫 리포지토리
+     * @param fetchSize             커서에서 한 번에 가져올 행 수
+     */
+    public DataExportService(final DataSource dataSource,
+                             final PlatformTransactionManager transactionManager,
+                             final ObjectMapper objectMapper,
+                             final CodeSnippetRepository codeSnippetRepository,
+                             @Value("${code-playground.export.fetch-size:1000}") final int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.codeSnippetRepository = codeSnippetRepository;
+    }
+
+    /**
+     * 활성 코드 스니펫을 생성 일시 역순으로 내보내는 응답 본문을 만듭니다.
+     *
+     * @param authorName 작성자 이름 (선택)
+     * @param language   프로그래밍 언어 (선택)
+     * @param from       생성 일시 시작 (선택, 포함)
+     * @param to         생성 일시 끝 (선택, 제외)
+     * @param format     내보내기 형식
+     * @return 스트리밍 응답 본문
+     */
+    public StreamingResponseBody exportSnippets(final String authorName, final String language,
+                                                final LocalDateTime from, final LocalDateTime to,
+                                                final ExportFormat format) {
+        final StringBuilder sql = new StringBuilder(SNIPPET_SELECT_SQL);
+        final List<Object> arguments = new ArrayList<>();
+        if (authorName != null) {
+            sql.append(" AND author_name = ?");
+            arguments.add(authorName);
+        }
+        if (language != null) {
+            sql.append(" AND language = ?");
+            arguments.add(language);
+        }
+        if (from != null) {
+            sql.append(" AND created_at >= ?");
+            arguments.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND created_at < ?");
+            arguments.add(Timestamp.valueOf(to));
+        }
+        sql.append(" ORDER BY created_at DESC");
+
+        return out -> export("snippets", sql.toString(), arguments.toArray(), SNIPPET_COLUMNS, format, out);
+    }
+
+    /**
+     * 코드 스니펫의 전체 실행 기록을 최신순으로 내보내는 응답 본문을 만듭니다.
+     * 스니펫 존재 여부는 응답을 시작하기 전에 확인합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param format        내보내기 형식
+     * @return 스트리밍 응답 본문
+     */
+    public StreamingResponseBody exportExecutions(final Long codeSnippetId, final ExportFormat format) {
+        if (codeSnippetRepository.findByIdAndIsActiveTrue(codeSnippetId).isEmpty()) {
+            throw new ResourceNotFoundException("코드 스니펫을 찾을 수 없습니다: " + codeSnippetId);
+        }
+
+        return out -> export("executions", EXECUTION_SELECT_SQL, new Object[]{codeSnippetId},
+                EXECUTION_COLUMNS, format, out);
+    }
+
+    private void export(final String name, final String sql, final Object[] arguments, final List<String> columns,
+                        final ExportFormat format, final OutputStream out) throws IOException {
+        final long startedAt = System.currentTimeMillis();
+        final RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        final long[] rows = {0};
+
+        try {
+            writer.start(columns);
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                try {
+                    writer.write(columns, readRow(rs, columns.size()));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            }, arguments));
+            writer.finish();
+        } catch (final UncheckedIOException e) {
+            log.info("Export of {} aborted after {} rows: {}", name, rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        log.info("Exported {} {} rows as {} in {}ms", rows[0], name, format, System.currentTimeMillis() - startedAt);
+    }
+
+    private static Object[] readRow(final ResultSet rs, final int columnCount) throws SQLException {
+        final Object[] values = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            final Object value = rs.getObject(i + 1);
+            values[i] = value instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toString() : value;
+        }
+        return values;
+    }
+
+    /**
+     * 행 출력기.
+     */
+    private interface RowWriter {
+
+        void start(List<String> columns) throws IOException;
+
+        void write(List<String> columns, Object[] values) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * 한 줄에 행 하나를 JSON 객체로 씁니다.
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(final OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void start(final List<String> columns) {
+        }
+
+        @Override
+        public void write(final List<String> columns, final Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeObjectField(columns.get(i), values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * 첫 줄에 열 이름을 쓰고, 행마다 RFC 4180 형식으로 씁니다.
+     * 스프레드시트가 수식으로 해석하는 문자로 시작하는 값은 앞에 작은따옴표를 붙이고 따옴표로 감쌉니다.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+        private final Writer writer;
+
+        CsvRowWriter(final OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void start(final List<String> columns) throws IOException {
+            write(columns, columns.toArray());
+        }
+
+        @Override
+        public void write(final List<String> columns, final Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(final String value) {
+            if (isFormula(value)) {
+                return "\"'" + value.replace("\"", "\"\"") + '"';
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        private static boolean isFormula(final String value) {
+            return !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.CodeSnippetResponse;
+import com.codeplayground.dto.ShareResponse;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+
+/**
+ * 조회 응답의 강한 ETag 생성기.
+ * 응답 본문이 아니라 응답을 결정하는 값(수정 일시, 버전, 집계 수)으로 ETag를 만들어,
+ * 본문을 만들지 않고도 조건부 요청을 판단할 수 있게 합니다.
+ *
+ * <p>수정 일시는 밀리초 단위로 자릅니다. 캐시된 엔티티와 데이터베이스에서 읽은 값의 정밀도가 달라도
+ * 같은 ETag가 나오도록 하기 위함입니다.</p>
+ *
+ * <p>만드는 값은 JSON 표현의 ETag이며, CBOR/Smile 표현에는 {@link #variant}로 형식 접미사를 붙입니다.</p>
+ */
+public final class ETags {
+
+    /**
+     * ETag에 사용하는 해시 길이 (16진수 문자 수).
+     */
+    private static final int HASH_LENGTH = 32;
+
+    private ETags() {
+    }
+
+    /**
+     * 코드 스니펫 응답의 ETag를 만듭니다.
+     *
+     * @param response 코드 스니펫 응답
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public static String snippet(final CodeSnippetResponse response) {
+        return snippet(response.getId(), response.getUpdatedAt(), response.getVersion(),
+                response.getExecutionCount(), response.getShareCount());
+    }
+
+    /**
+     * 코드 스니펫의 수정 일시, 버전, 실행 횟수, 공유 횟수로 ETag를 만듭니다.
+     *
+     * @param id             코드 스니펫 ID
+     * @param updatedAt      수정 일시
+     * @param version        현재 버전
+     * @param executionCount 실행 횟수
+     * @param shareCount     활성 공유 횟수
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public static String snippet(final Long id, final LocalDateTime updatedAt, final Integer version,
+                                 final Number executionCount, final Number shareCount) {
+        return of("snippet", id, truncate(updatedAt), version, executionCount.longValue(), shareCount.longValue());
+    }
+
+    /**
+     * 공유 응답의 ETag를 만듭니다.
+     * 공유 정보와 함께 포함된 코드 스니펫의 ETag 값을 반영합니다.
+     *
+     * @param response 공유 응답
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public static String share(final ShareResponse response) {
+        return of("share", response.getShareId(), truncate(response.getExpiresAt()), response.getIsActive(),
+                snippet(response.getCodeSnippet()));
+    }
+
+    /**
+     * 실행 기록의 ETag를 만듭니다.
+     * 저장된 실행 기록은 바뀌지 않으므로 ID만으로 만듭니다.
+     *
+     * @param executionId 실행 기록 ID
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public static String execution(final Long executionId) {
+        return of("execution", executionId);
+    }
+
+    /**
+     * 코드 스니펫 버전의 ETag를 만듭니다.
+     * 저장된 버전은 바뀌지 않으므로 스니펫 ID와 버전 번호만으로 만듭니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param version       버전 번호
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public static String snippetVersion(final Long codeSnippetId, final int version) {
+        return of("snippet-version", codeSnippetId, version);
+    }
+
+    /**
+     * 응답 형식별 ETag를 만듭니다.
+     * 형식마다 본문 바이트가 다르므로 강한 ETag도 달라야 합니다. 기존 클라이언트 캐시가 유지되도록 JSON은 그대로 둡니다.
+     *
+     * @param etag      JSON 표현의 ETag
+     * @param mediaType 응답 형식
+     * @return 따옴표로 감싼 형식별 강한 ETag
+     */
+    public static String variant(final String etag, final MediaType mediaType) {
+        if (mediaType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + '-' + mediaType.getSubtype().replace("x-jackson-", "") + '"';
+    }
+
+    private static String of(final Object... parts) {
+        final StringBuilder key = new StringBuilder();
+        for (final Object part : parts) {
+            key.append(part).append('\u0000');
+        }
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return '"' + HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH) + '"';
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static LocalDateTime truncate(final LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.truncatedTo(ChronoUnit.MILLIS);
+    }
+}
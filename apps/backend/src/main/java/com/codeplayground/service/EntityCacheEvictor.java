@@ -0,0 +1,80 @@
+package com.codeplayground.service;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.SharedCode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 무효화 도우미.
+ * JDBC로 직접 쓴 행은 Hibernate가 알지 못하므로, 쓰기 후에 해당 엔티티 항목과 엔티티의 쿼리 캐시 영역을 비웁니다.
+ *
+ * <p>트랜잭션 안에서 호출하면 즉시 비우고 트랜잭션이 끝난 뒤 한 번 더 비웁니다.
+ * 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시하더라도 커밋 후에는 남지 않습니다.</p>
+ */
+@Component
+public class EntityCacheEvictor {
+
+    private final Cache cache;
+
+    /**
+     * EntityCacheEvictor 생성자.
+     *
+     * @param entityManagerFactory 엔티티 매니저 팩토리
+     */
+    public EntityCacheEvictor(final EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * 코드 스니펫 항목과 코드 스니펫 쿼리 캐시를 비웁니다.
+     *
+     * @param ids 변경된 코드 스니펫 ID 목록
+     */
+    public void evictCodeSnippets(final Collection<Long> ids) {
+        final List<Long> evicted = List.copyOf(ids);
+        evictNowAndAfterCompletion(() -> {
+            evicted.forEach(id -> cache.evictEntityData(CodeSnippet.class, id));
+            cache.evictQueryRegion(CodeSnippet.QUERY_CACHE_REGION);
+        });
+    }
+
+    /**
+     * 모든 코드 스니펫 항목과 코드 스니펫 쿼리 캐시를 비웁니다.
+     */
+    public void evictAllCodeSnippets() {
+        evictNowAndAfterCompletion(() -> {
+            cache.evictEntityData(CodeSnippet.class);
+            cache.evictQueryRegion(CodeSnippet.QUERY_CACHE_REGION);
+        });
+    }
+
+    /**
+     * 모든 공유 코드 항목과 공유 코드 쿼리 캐시를 비웁니다.
+     */
+    public void evictAllSharedCodes() {
+        evictNowAndAfterCompletion(() -> {
+            cache.evictEntityData(SharedCode.class);
+            cache.evictQueryRegion(SharedCode.QUERY_CACHE_REGION);
+        });
+    }
+
+    private static void evictNowAndAfterCompletion(final Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
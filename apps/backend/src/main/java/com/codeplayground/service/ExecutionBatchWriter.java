@@ -0,0 +1,360 @@
+package com.codeplayground.service;
+
+import com.codeplayground.entity.Execution;
+import com.codeplayground.exception.ExecutionNotAcknowledgedException;
+import com.codeplayground.repository.ExecutionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 실행 기록 배치 저장기 (write-behind).
+ * 완료된 실행 기록을 제한된 크기의 큐에 모았다가 JDBC 배치 INSERT로 한 번에 저장합니다.
+ *
+ * <ul>
+ *   <li>묶음 기준: 큐에서 첫 기록을 꺼낸 뒤 최대 {@code max-delay-ms} 동안 기다리며
+ *       {@code batch-size}개가 모이면 즉시 저장합니다.</li>
+ *   <li>출력 본문({@code execution_outputs}, {@link ContentBlobStore}), 인기도 점수 증분, 실행 통계 롤업도
+ *       같은 트랜잭션에서 배치 INSERT/UPDATE로 반영합니다.</li>
+ *   <li>내구성: {@link #write(Execution)}는 기록이 커밋될 때까지 반환하지 않습니다(flush-before-acknowledge).
+ *       따라서 API가 응답한 실행 기록은 항상 저장되어 있으며, 프로세스가 중단되어 유실될 수 있는 기록은
+ *       아직 응답하지 않은 요청의 기록뿐입니다.</li>
+ *   <li>저장 확인이 {@code acknowledge-timeout-ms} 안에 오지 않으면 {@link ExecutionNotAcknowledgedException}을
+ *       던집니다. 기록은 큐에 남아 계속 저장되므로 호출자는 실패가 아닌 "접수됨"으로 응답합니다.</li>
+ *   <li>큐가 가득 차거나 종료 중이면 호출 스레드에서 바로 저장합니다.
+ *       종료 시에는 새 기록이 큐에 들어오지 못하게 막은 뒤 남은 기록을 모두 저장합니다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ExecutionBatchWriter {
+
+    /**
+     * 큐가 비어 있을 때 종료 여부를 다시 확인하는 주기 (밀리초).
+     */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private static final String INSERT_OUTPUT_SQL =
+            "INSERT INTO execution_outputs (execution_id, output_hash, error_hash, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String INCREMENT_POPULARITY_SQL =
+            "UPDATE code_snippets SET popularity_score = popularity_score + ? WHERE id = ?";
+
+    private final ExecutionRepository executionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PopularityScoreCalculator popularityScoreCalculator;
+    private final PopularityDecayService popularityDecayService;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final StatisticsRollupService statisticsRollupService;
+    private final ExecutionMetricsService executionMetricsService;
+    private final ContentBlobStore contentBlobStore;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingExecution> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long acknowledgeTimeoutMillis;
+    private final Thread flusher;
+
+    /**
+     * 큐 투입(읽기 잠금)과 종료 전환(쓰기 잠금)을 구분합니다.
+     * 종료가 시작된 뒤에는 큐에 기록이 들어가지 않으므로 마지막 비우기에서 빠지는 기록이 없습니다.
+     */
+    private final ReadWriteLock enqueueLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    /**
+     * ExecutionBatchWriter 생성자.
+     *
+     * @param executionRepository       실행 기록 리포지토리
+     * @param jdbcTemplate              JDBC 템플릿
+     * @param popularityScoreCalculator 인기도 점수 계산기
+     * @param popularityDecayService    인기도 감쇠 기준 시점 서비스
+     * @param entityCacheEvictor        2차 캐시 무효화 도우미
+     * @param statisticsRollupService   통계 롤업 서비스
+     * @param executionMetricsService   실시간 실행 메트릭 저장소
+     * @param contentBlobStore          내용 주소 기반 본문 저장소
+     * @param transactionManager        트랜잭션 관리자
+     * @param meterRegistry             메트릭 레지스트리
+     * @param queueCapacity             대기 큐 크기
+     * @param batchSize                 한 번에 저장할 최대 기록 수
+     * @param maxDelayMillis            묶음을 모으기 위해 기다리는 최대 시간 (밀리초)
+     * @param acknowledgeTimeoutMillis  저장 완료를 기다리는 최대 시간 (밀리초)
+     */
+    public ExecutionBatchWriter(
+            final ExecutionRepository executionRepository,
+            final JdbcTemplate jdbcTemplate,
+            final PopularityScoreCalculator popularityScoreCalculator,
+            final PopularityDecayService popularityDecayService,
+            final EntityCacheEvictor entityCacheEvictor,
+            final StatisticsRollupService statisticsRollupService,
+            final ExecutionMetricsService executionMetricsService,
+            final ContentBlobStore contentBlobStore,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            @Value("${code-playground.execution.write-behind.queue-capacity:10000}") final int queueCapacity,
+            @Value("${code-playground.execution.write-behind.batch-size:50}") final int batchSize,
+            @Value("${code-playground.execution.write-behind.max-delay-ms:20}") final long maxDelayMillis,
+            @Value("${code-playground.execution.write-behind.acknowledge-timeout-ms:10000}")
+            final long acknowledgeTimeoutMillis) {
+        this.executionRepository = executionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.popularityScoreCalculator = popularityScoreCalculator;
+        this.popularityDecayService = popularityDecayService;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.statisticsRollupService = statisticsRollupService;
+        this.executionMetricsService = executionMetricsService;
+        this.contentBlobStore = contentBlobStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.acknowledgeTimeoutMillis = acknowledgeTimeoutMillis;
+        this.flusher = new Thread(this::runFlushLoop, "execution-batch-writer");
+        this.flusher.setDaemon(true);
+
+        Gauge.builder("code_playground.executions.write_queue.size", queue, BlockingQueue::size)
+                .description("Execution records waiting to be persisted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    /**
+     * 실행 기록을 저장 큐에 넣고 커밋될 때까지 기다립니다.
+     * 호출자는 트랜잭션 밖에서 호출해야 합니다. 트랜잭션 안에서 기다리면
+     * 저장 스레드와 커넥션을 두고 경쟁하게 됩니다.
+     *
+     * @param execution 저장할 실행 기록
+     * @return ID와 생성 일시가 채워진 실행 기록
+     * @throws IllegalStateException              저장에 실패했거나 대기 중 중단된 경우
+     * @throws ExecutionNotAcknowledgedException 대기 시간 안에 저장이 확인되지 않은 경우.
+     *                                           예외에는 큐에 넣기 전에 만든 저장 전 사본이 담깁니다.
+     */
+    public Execution write(final Execution execution) {
+        // 확인 대기가 끝난 뒤에도 저장 스레드가 원본을 바꾸므로, 응답용 사본을 큐에 넣기 전에 만듭니다.
+        final Execution unsaved = execution.unsavedCopy();
+        final PendingExecution pending = new PendingExecution(execution, new CompletableFuture<>(), System.nanoTime());
+        if (!enqueue(pending)) {
+            // 큐가 가득 찼거나 종료 중이면 호출 스레드에서 바로 저장합니다.
+            flush(List.of(pending));
+        }
+
+        try {
+            return pending.result().get(acknowledgeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("실행 기록 저장 대기 중 중단되었습니다", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("실행 기록 저장에 실패했습니다", e.getCause());
+        } catch (final TimeoutException e) {
+            log.warn("Execution record for snippet ID: {} not acknowledged within {}ms, still queued",
+                    execution.getCodeSnippet().getId(), acknowledgeTimeoutMillis);
+            throw new ExecutionNotAcknowledgedException("실행 기록 저장 확인 대기 시간이 초과되었습니다", unsaved, e);
+        }
+    }
+
+    /**
+     * 종료 중이 아니면 기록을 큐에 넣습니다.
+     *
+     * @param pending 저장 대기 기록
+     * @return 큐에 넣었으면 true, 큐가 가득 찼거나 종료 중이면 false
+     */
+    private boolean enqueue(final PendingExecution pending) {
+        enqueueLock.readLock().lock();
+        try {
+            return running && queue.offer(pending);
+        } finally {
+            enqueueLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장 스레드를 멈추고 큐에 남은 기록을 모두 저장합니다.
+     *
+     * @throws InterruptedException 저장 스레드 종료를 기다리는 중 중단된 경우
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 진행 중인 큐 투입이 끝나기를 기다린 뒤 종료로 전환합니다.
+        enqueueLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            enqueueLock.writeLock().unlock();
+        }
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+
+        final List<PendingExecution> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Flushing {} queued executions on shutdown", remaining.size());
+            for (int from = 0; from < remaining.size(); from += batchSize) {
+                flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            }
+        }
+    }
+
+    /**
+     * 큐에서 기록을 묶음으로 꺼내 저장합니다.
+     */
+    private void runFlushLoop() {
+        final List<PendingExecution> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final PendingExecution first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                final long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    final long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    final PendingExecution next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (final InterruptedException e) {
+                log.warn("Execution batch writer interrupted, flushing {} collected executions", batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 기록 묶음을 한 트랜잭션으로 저장합니다.
+     * 묶음 저장이 실패하면 한 건의 오류가 나머지를 실패시키지 않도록 한 건씩 다시 저장합니다.
+     *
+     * @param batch 저장할 기록 묶음
+     */
+    private void flush(final List<PendingExecution> batch) {
+        final List<Execution> executions = batch.stream()
+                .map(PendingExecution::execution)
+                .toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                executionRepository.saveAll(executions);
+                executionRepository.flush();
+                insertOutputs(executions);
+                incrementPopularityScores(executions);
+                statisticsRollupService.recordExecutions(executions);
+            });
+            final long committedAt = System.nanoTime();
+            batch.forEach(pending -> {
+                executionMetricsService.record(pending.execution(), committedAt - pending.enqueuedAt());
+                pending.result().complete(pending.execution());
+            });
+            log.debug("Persisted {} executions in one batch", batch.size());
+        } catch (final RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("Failed to persist execution for snippet ID: {}",
+                        batch.get(0).execution().getCodeSnippet().getId(), e);
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+
+            log.warn("Batch persist of {} executions failed, retrying individually", batch.size(), e);
+            for (final PendingExecution pending : batch) {
+                pending.execution().setId(null);
+                flush(List.of(pending));
+            }
+        }
+    }
+
+    /**
+     * 저장된 기록의 출력 본문을 본문 저장소에 저장하고, 해시 참조를 배치 INSERT로 저장합니다.
+     *
+     * @param executions 저장된 실행 기록 목록
+     */
+    private void insertOutputs(final List<Execution> executions) {
+        final List<Execution> withBody = executions.stream()
+                .filter(Execution::hasBody)
+                .toList();
+        if (withBody.isEmpty()) {
+            return;
+        }
+
+        final List<String> bodies = new ArrayList<>(withBody.size() * 2);
+        for (final Execution execution : withBody) {
+            bodies.add(execution.getOutput());
+            bodies.add(execution.getErrorMessage());
+        }
+        final List<String> hashes = contentBlobStore.retainAll(bodies);
+
+        final List<Object[]> arguments = new ArrayList<>(withBody.size());
+        for (int i = 0; i < withBody.size(); i++) {
+            final Execution execution = withBody.get(i);
+            arguments.add(new Object[]{execution.getId(), hashes.get(i * 2), hashes.get(i * 2 + 1),
+                    execution.getCreatedAt()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTPUT_SQL, arguments);
+    }
+
+    /**
+     * 저장된 기록의 인기도 점수 증분을 스니펫별로 합산해 배치 UPDATE로 반영합니다.
+     * 행 잠금 순서를 일정하게 유지하기 위해 스니펫 ID 순으로 갱신합니다.
+     * 가중치는 트랜잭션이 끝날 때까지 재정규화되지 않도록 잠근 기준 시점으로 계산합니다.
+     *
+     * @param executions 저장된 실행 기록 목록
+     */
+    private void incrementPopularityScores(final List<Execution> executions) {
+        final LocalDateTime epoch = popularityDecayService.lockEpoch();
+        final Map<Long, Double> weights = new TreeMap<>();
+        for (final Execution execution : executions) {
+            weights.merge(execution.getCodeSnippet().getId(),
+                    popularityScoreCalculator.weightAt(execution.getCreatedAt(), epoch), Double::sum);
+        }
+
+        final List<Object[]> arguments = weights.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(INCREMENT_POPULARITY_SQL, arguments);
+        entityCacheEvictor.evictCodeSnippets(weights.keySet());
+    }
+
+    /**
+     * 저장 대기 중인 실행 기록과 완료 신호.
+     *
+     * @param enqueuedAt 저장을 요청한 시각 ({@link System#nanoTime()})
+     */
+    private record PendingExecution(Execution execution, CompletableFuture<Execution> result, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,376 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.ExecutionMetricsResponse;
+import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.ExecutionRollup;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.entity.enums.RollupGranularity;
+import com.codeplayground.repository.ExecutionRollupRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 실행 메트릭 저장소.
+ * 최근 1시간의 실행 수와 실행 시간, 저장 대기 시간, 메모리 사용량 분포를 프로세스 메모리에 보관합니다.
+ * 운영 화면의 실시간 조회는 데이터베이스를 전혀 조회하지 않습니다.
+ *
+ * <ul>
+ *   <li>1분 단위 윈도우를 링 버퍼에 두고 분이 바뀌면 가장 오래된 윈도우를 새 윈도우로 교체합니다.
+ *       별도의 교체 스레드 없이 기록 시점에 CAS로 교체합니다.</li>
+ *   <li>윈도우마다 언어와 실행 상태별로 {@link LongAdder} 카운터와 HdrHistogram {@link Recorder}를 둡니다.
+ *       기록 경로는 잠금이 없으며, 조회 시에만 Recorder의 구간 히스토그램을 누적합니다.</li>
+ *   <li>시작 시 분 단위 실행 통계 롤업으로 최근 1시간의 실행 수와 실행 시간 합계를 채웁니다.
+ *       롤업에는 분포가 없으므로 백분위수는 시작 후 기록된 표본으로만 계산됩니다.</li>
+ *   <li>같은 값을 Micrometer Timer/DistributionSummary에도 기록해 Prometheus로 노출합니다.</li>
+ *   <li>언어는 사용자가 입력한 값이므로 소문자로 맞추고, 지원 언어가 아니면 {@value #OTHER_LANGUAGE}로 묶습니다.
+ *       따라서 윈도우의 셀과 Micrometer 시계열 수는 (지원 언어 수 + 1) x 실행 상태 수를 넘지 않습니다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class ExecutionMetricsService {
+
+    /**
+     * 보관하는 1분 윈도우 수.
+     */
+    public static final int RETAINED_MINUTES = 60;
+
+    /**
+     * 지원 언어가 아닌 실행을 묶는 언어 값.
+     */
+    public static final String OTHER_LANGUAGE = "other";
+
+    /**
+     * 링 버퍼 크기. 진행 중인 윈도우를 포함합니다.
+     */
+    private static final int SLOTS = RETAINED_MINUTES + 1;
+
+    private static final long MILLIS_PER_MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private static final int TIME_SIGNIFICANT_DIGITS = 3;
+
+    private static final int MEMORY_SIGNIFICANT_DIGITS = 2;
+
+    private final MeterRegistry meterRegistry;
+    private final ExecutionRollupRepository executionRollupRepository;
+    private final Set<String> supportedLanguages;
+    private final AtomicReferenceArray<MinuteWindow> windows = new AtomicReferenceArray<>(SLOTS);
+    private final ConcurrentMap<MetricKey, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * ExecutionMetricsService 생성자.
+     *
+     * @param meterRegistry             메트릭 레지스트리
+     * @param executionRollupRepository 실행 통계 롤업 리포지토리
+     * @param supportedLanguages        지원 언어 목록
+     */
+    public ExecutionMetricsService(final MeterRegistry meterRegistry,
+                                   final ExecutionRollupRepository executionRollupRepository,
+                                   @Value("${code-playground.execution.supported-languages:javascript,python,java}")
+                                   final List<String> supportedLanguages) {
+        this.meterRegistry = meterRegistry;
+        this.executionRollupRepository = executionRollupRepository;
+        this.supportedLanguages = supportedLanguages.stream()
+                .map(language -> language.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 최근 1시간의 분 단위 실행 통계 롤업으로 윈도우를 채웁니다.
+     * 요청을 받기 전에 채우므로 시작 후 기록되는 실행과 중복되지 않습니다.
+     */
+    @PostConstruct
+    public void seedFromRollups() {
+        final long currentMinute = currentMinute();
+        final long oldestMinute = currentMinute - RETAINED_MINUTES + 1;
+        try {
+            long seeded = 0;
+            for (final ExecutionRollup rollup : executionRollupRepository.findBucketsSince(
+                    RollupGranularity.MINUTE, toDateTime(oldestMinute))) {
+                final long minute = toMinute(rollup.getId().getBucketStart());
+                if (minute < oldestMinute || minute > currentMinute) {
+                    continue;
+                }
+                final MetricKey key = new MetricKey(metricLanguage(rollup.getId().getLanguage()),
+                        rollup.getId().getStatus());
+                final Cell cell = windowAt(minute).cell(key);
+                cell.count.add(rollup.getExecutionCount());
+                cell.totalExecutionTime.add(rollup.getTotalExecutionTime());
+                seeded += rollup.getExecutionCount();
+            }
+            log.info("Seeded real-time execution metrics with {} executions from rollups", seeded);
+        } catch (final DataAccessException e) {
+            log.warn("Failed to seed real-time execution metrics from rollups: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 실행 기록 한 건을 기록합니다.
+     *
+     * @param execution      저장된 실행 기록
+     * @param queueWaitNanos 저장 큐에서 대기한 시간 (나노초)
+     */
+    public void record(final Execution execution, final long queueWaitNanos) {
+        final MetricKey key = new MetricKey(metricLanguage(execution.getCodeSnippet().getLanguage()),
+                execution.getStatus());
+        final long executionTime = execution.getExecutionTime() == null ? 0 : execution.getExecutionTime();
+        final long memoryUsage = execution.getMemoryUsage() == null ? 0 : execution.getMemoryUsage();
+        final long queueWaitMillis = TimeUnit.NANOSECONDS.toMillis(queueWaitNanos);
+
+        final Cell cell = windowAt(currentMinute()).cell(key);
+        cell.count.increment();
+        cell.totalExecutionTime.add(executionTime);
+        cell.executionTime.record(executionTime);
+        cell.queueWait.record(queueWaitMillis);
+        cell.memoryUsage.record(memoryUsage);
+
+        Meters registered = meters.get(key);
+        if (registered == null) {
+            registered = meters.computeIfAbsent(key, this::registerMeters);
+        }
+        registered.executionTime().record(executionTime, TimeUnit.MILLISECONDS);
+        registered.queueWait().record(queueWaitNanos, TimeUnit.NANOSECONDS);
+        registered.memoryUsage().record(memoryUsage);
+    }
+
+    /**
+     * 최근 실행 메트릭을 조회합니다.
+     *
+     * @param language 프로그래밍 언어 (null이면 전체, 지원 언어가 아니면 {@value #OTHER_LANGUAGE}로 조회)
+     * @param status   실행 상태 (null이면 전체)
+     * @param minutes  합산할 최근 윈도우 수 (진행 중인 분 포함, 1~60)
+     * @return 실행 메트릭
+     */
+    public ExecutionMetricsResponse getMetrics(final String language, final ExecutionStatus status,
+                                               final int minutes) {
+        if (minutes < 1 || minutes > RETAINED_MINUTES) {
+            throw new IllegalArgumentException("조회 구간은 1분에서 " + RETAINED_MINUTES + "분 사이여야 합니다");
+        }
+
+        final String metricLanguage = language == null ? null : metricLanguage(language);
+        final long currentMinute = currentMinute();
+        final long oldestMinute = currentMinute - minutes + 1;
+        final Map<ExecutionStatus, Long> counts = new EnumMap<>(ExecutionStatus.class);
+        final Histogram executionTime = new Histogram(TIME_SIGNIFICANT_DIGITS);
+        final Histogram queueWait = new Histogram(TIME_SIGNIFICANT_DIGITS);
+        final Histogram memoryUsage = new Histogram(MEMORY_SIGNIFICANT_DIGITS);
+        long total = 0;
+        long totalExecutionTime = 0;
+
+        for (long minute = oldestMinute; minute <= currentMinute; minute++) {
+            final MinuteWindow window = windows.get(slotOf(minute));
+            if (window == null || window.minute != minute) {
+                continue;
+            }
+            for (final Map.Entry<MetricKey, Cell> entry : window.cells.entrySet()) {
+                final MetricKey key = entry.getKey();
+                if ((metricLanguage != null && !metricLanguage.equals(key.language()))
+                        || (status != null && status != key.status())) {
+                    continue;
+                }
+                final Cell cell = entry.getValue();
+                final long count = cell.count.sum();
+                counts.merge(key.status(), count, Long::sum);
+                total += count;
+                totalExecutionTime += cell.totalExecutionTime.sum();
+                cell.executionTime.addTo(executionTime);
+                cell.queueWait.addTo(queueWait);
+                cell.memoryUsage.addTo(memoryUsage);
+            }
+        }
+
+        final ExecutionMetricsResponse.Distribution executionTimeDistribution = toDistribution(executionTime);
+        executionTimeDistribution.setMean(total == 0 ? null : (double) totalExecutionTime / total);
+
+        return ExecutionMetricsResponse.builder()
+                .from(toDateTime(oldestMinute))
+                .to(LocalDateTime.now())
+                .language(language)
+                .status(status)
+                .totalExecutions(total)
+                .successCount(counts.getOrDefault(ExecutionStatus.SUCCESS, 0L))
+                .errorCount(counts.getOrDefault(ExecutionStatus.ERROR, 0L))
+                .timeoutCount(counts.getOrDefault(ExecutionStatus.TIMEOUT, 0L))
+                .executionsPerMinute((double) total / minutes)
+                .executionTime(executionTimeDistribution)
+                .queueWait(toDistribution(queueWait))
+                .memoryUsage(toDistribution(memoryUsage))
+                .build();
+    }
+
+    /**
+     * 주어진 분의 윈도우를 반환합니다. 슬롯에 더 오래된 윈도우가 있으면 새 윈도우로 교체합니다.
+     */
+    private MinuteWindow windowAt(final long minute) {
+        final int slot = slotOf(minute);
+        MinuteWindow window = windows.get(slot);
+        while (window == null || window.minute < minute) {
+            final MinuteWindow fresh = new MinuteWindow(minute);
+            if (windows.compareAndSet(slot, window, fresh)) {
+                return fresh;
+            }
+            window = windows.get(slot);
+        }
+        return window;
+    }
+
+    /**
+     * 메트릭 차원에 쓸 언어 값을 구합니다.
+     *
+     * @param language 스니펫의 언어
+     * @return 소문자 지원 언어, 지원 언어가 아니면 {@value #OTHER_LANGUAGE}
+     */
+    private String metricLanguage(final String language) {
+        if (language == null) {
+            return OTHER_LANGUAGE;
+        }
+        final String normalized = language.trim().toLowerCase(Locale.ROOT);
+        return supportedLanguages.contains(normalized) ? normalized : OTHER_LANGUAGE;
+    }
+
+    private Meters registerMeters(final MetricKey key) {
+        final Tags tags = Tags.of("language", key.language(), "status", key.status().name());
+        return new Meters(
+                Timer.builder("code_playground.executions.time")
+                        .description("Execution time reported by the code executor")
+                        .tags(tags)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                Timer.builder("code_playground.executions.queue_wait")
+                        .description("Time an execution waited in the write-behind queue until commit")
+                        .tags(tags)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                DistributionSummary.builder("code_playground.executions.memory")
+                        .description("Memory usage reported by the code executor")
+                        .baseUnit("bytes")
+                        .tags(tags)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry));
+    }
+
+    private static ExecutionMetricsResponse.Distribution toDistribution(final Histogram histogram) {
+        final long samples = histogram.getTotalCount();
+        if (samples == 0) {
+            return ExecutionMetricsResponse.Distribution.builder().sampleCount(0).build();
+        }
+        return ExecutionMetricsResponse.Distribution.builder()
+                .sampleCount(samples)
+                .mean(histogram.getMean())
+                .p50(histogram.getValueAtPercentile(50))
+                .p95(histogram.getValueAtPercentile(95))
+                .p99(histogram.getValueAtPercentile(99))
+                .max(histogram.getMaxValue())
+                .build();
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / MILLIS_PER_MINUTE;
+    }
+
+    private static int slotOf(final long minute) {
+        return (int) (minute % SLOTS);
+    }
+
+    private static long toMinute(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / MILLIS_PER_MINUTE;
+    }
+
+    private static LocalDateTime toDateTime(final long minute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(minute * MILLIS_PER_MINUTE), ZoneId.systemDefault());
+    }
+
+    /**
+     * 메트릭 차원 (언어, 실행 상태).
+     */
+    private record MetricKey(String language, ExecutionStatus status) {
+    }
+
+    /**
+     * Micrometer에 등록된 차원별 미터.
+     */
+    private record Meters(Timer executionTime, Timer queueWait, DistributionSummary memoryUsage) {
+    }
+
+    /**
+     * 1분 윈도우.
+     */
+    private static final class MinuteWindow {
+
+        private final long minute;
+        private final ConcurrentMap<MetricKey, Cell> cells = new ConcurrentHashMap<>();
+
+        MinuteWindow(final long minute) {
+            this.minute = minute;
+        }
+
+        Cell cell(final MetricKey key) {
+            final Cell cell = cells.get(key);
+            return cell != null ? cell : cells.computeIfAbsent(key, k -> new Cell());
+        }
+    }
+
+    /**
+     * 한 윈도우 안의 차원별 카운터와 분포.
+     */
+    private static final class Cell {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalExecutionTime = new LongAdder();
+        private final SampledValue executionTime = new SampledValue(TIME_SIGNIFICANT_DIGITS);
+        private final SampledValue queueWait = new SampledValue(TIME_SIGNIFICANT_DIGITS);
+        private final SampledValue memoryUsage = new SampledValue(MEMORY_SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * 잠금 없이 기록하고 조회 시 누적하는 값 분포.
+     */
+    private static final class SampledValue {
+
+        private final Recorder recorder;
+        private final Histogram accumulated;
+        private Histogram recycled;
+
+        SampledValue(final int significantDigits) {
+            this.recorder = new Recorder(significantDigits);
+            this.accumulated = new Histogram(significantDigits);
+        }
+
+        void record(final long value) {
+            recorder.recordValue(Math.max(0, value));
+        }
+
+        /**
+         * 기록 이후 쌓인 구간 히스토그램을 누적한 뒤 대상 히스토그램에 더합니다.
+         */
+        synchronized void addTo(final Histogram target) {
+            recycled = recorder.getIntervalHistogram(recycled);
+            accumulated.add(recycled);
+            target.add(accumulated);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.codeplayground.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 기록 보존 서비스.
+ * 보존 기간이 지난 실행 기록을 주기적으로 삭제합니다.
+ *
+ * <ul>
+ *   <li>PostgreSQL에서 executions가 월별 파티션 테이블이면 보존 기간이 완전히 지난 파티션을
+ *       통째로 삭제합니다. 행 단위 삭제가 없으므로 WAL과 잠금 부담이 거의 없습니다.</li>
+ *   <li>남은 만료 행(기준 시점이 걸친 파티션, 기본 파티션, 파티션되지 않은 DB)은
+ *       정해진 크기의 DELETE를 반복해 삭제합니다. 묶음마다 커밋되므로 긴 잠금이나
+ *       영속성 컨텍스트 적재 없이 처리됩니다.</li>
+ *   <li>분리 저장된 출력 본문 참조(execution_outputs)도 같은 기준 시점으로 묶음 삭제하고,
+ *       같은 트랜잭션에서 {@link ContentBlobStore}의 참조를 해제해 더 이상 쓰이지 않는 본문을 삭제합니다.</li>
+ *   <li>다가올 달의 파티션은 시작 시와 정리 작업마다 미리 생성합니다. 이미 기본 파티션에 들어간
+ *       그 달의 행은 create_executions_partition(V11)이 새 파티션으로 옮깁니다.
+ *       파티션을 만들지 못하면 메트릭을 올리고 작업을 실패로 끝냅니다.</li>
+ *   <li>created_at은 UTC로 저장되므로 파티션 월과 삭제 기준 시점도 UTC로 계산합니다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class ExecutionRetentionService {
+
+    /**
+     * 월별 파티션 이름 형식 (executions_y2024m01).
+     */
+    private static final Pattern PARTITION_NAME = Pattern.compile("executions_y(\\d{4})m(\\d{2})");
+
+    /**
+     * 미리 생성할 다가올 달의 수.
+     */
+    private static final int PARTITION_PRECREATE_MONTHS = 2;
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = to_regclass('executions')";
+
+    private static final String DELETE_CHUNK_SQL =
+            "DELETE FROM executions WHERE created_at < ? AND id IN " +
+            "(SELECT id FROM executions WHERE created_at < ? LIMIT ?)";
+
+    private static final String SELECT_OUTPUT_CHUNK_SQL =
+            "SELECT execution_id, output_hash, error_hash FROM execution_outputs WHERE created_at < ? LIMIT ?";
+
+    private static final String DELETE_OUTPUT_SQL =
+            "DELETE FROM execution_outputs WHERE execution_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContentBlobStore contentBlobStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purgedCounter;
+    private final Counter partitionFailureCounter;
+    private final int retentionDays;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * ExecutionRetentionService 생성자.
+     *
+     * @param jdbcTemplate       JDBC 템플릿
+     * @param contentBlobStore   내용 주소 기반 본문 저장소
+     * @param transactionManager 트랜잭션 관리자
+     * @param meterRegistry      메트릭 레지스트리
+     * @param retentionDays      보존 기간 (일), 0 이하이면 삭제하지 않음
+     * @param batchSize          한 번에 삭제할 최대 행 수
+     */
+    public ExecutionRetentionService(
+            final JdbcTemplate jdbcTemplate,
+            final ContentBlobStore contentBlobStore,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            @Value("${code-playground.execution.retention.days:90}") final int retentionDays,
+            @Value("${code-playground.execution.retention.batch-size:5000}") final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contentBlobStore = contentBlobStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgedCounter = Counter.builder("code_playground.executions.purged")
+                .description("Execution rows removed by the retention job")
+                .register(meterRegistry);
+        this.partitionFailureCounter = Counter.builder("code_playground.executions.partition.failures")
+                .description("Monthly execution partitions that could not be created")
+                .register(meterRegistry);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 애플리케이션 시작 시 다가올 달의 파티션을 생성합니다.
+     *
+     * @throws IllegalStateException 파티션을 만들지 못한 경우
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareUpcomingPartitions() {
+        if (isPartitioned()) {
+            checkPartitions(createUpcomingPartitions());
+        }
+    }
+
+    /**
+     * 실행 기록이 보존 작업으로 삭제되기 전까지 남은 기간을 계산합니다.
+     * 삭제 기준 시점은 보존 기간 전 날짜의 시작이므로, 생성 시점에서 보존 기간이 지나기 전에는 삭제되지 않습니다.
+     *
+     * @param createdAt 실행 기록 생성 시점 (UTC)
+     * @param maxAge    반환할 최대 기간
+     * @return 0 이상 maxAge 이하의 남은 기간, 보존 기간이 꺼져 있으면 maxAge
+     */
+    public Duration remainingRetention(final LocalDateTime createdAt, final Duration maxAge) {
+        if (retentionDays <= 0) {
+            return maxAge;
+        }
+        final Duration retention = Duration.ofDays(retentionDays);
+        if (createdAt == null) {
+            return retention.compareTo(maxAge) < 0 ? retention : maxAge;
+        }
+        final Duration remaining = Duration.between(LocalDateTime.now(ZoneOffset.UTC), createdAt.plus(retention));
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxAge) < 0 ? remaining : maxAge;
+    }
+
+    /**
+     * 설정된 주기로 보존 기간이 지난 실행 기록을 삭제합니다.
+     */
+    @Scheduled(cron = "${code-playground.execution.retention.cron:0 30 3 * * *}")
+    public void scheduledPurge() {
+        purgeExpiredExecutions();
+    }
+
+    /**
+     * 보존 기간이 지난 실행 기록을 삭제합니다.
+     * 이미 정리 작업이 진행 중이면 아무것도 하지 않습니다.
+     *
+     * @return 삭제된 실행 기록 수
+     * @throws IllegalStateException 다가올 달의 파티션을 만들지 못한 경우 (만료 행 삭제는 마친 뒤)
+     */
+    public long purgeExpiredExecutions() {
+        if (retentionDays <= 0) {
+            log.debug("Execution retention disabled");
+            return 0;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("Execution retention purge already running, skipping");
+            return 0;
+        }
+
+        try {
+            final long startedAt = System.currentTimeMillis();
+            final LocalDateTime cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(retentionDays).atStartOfDay();
+            log.info("Purging executions created before {} UTC", cutoff);
+
+            long purged = 0;
+            List<LocalDate> failedPartitions = List.of();
+            if (isPartitioned()) {
+                failedPartitions = createUpcomingPartitions();
+                purged += dropExpiredPartitions(cutoff);
+            }
+            purged += deleteInChunks(DELETE_CHUNK_SQL, cutoff, cutoff);
+            purgeOutputs(cutoff);
+
+            purgedCounter.increment(purged);
+            log.info("Purged {} executions created before {} UTC in {}ms",
+                    purged, cutoff, System.currentTimeMillis() - startedAt);
+            checkPartitions(failedPartitions);
+            return purged;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 상한이 기준 시점 이전인 월별 파티션을 삭제합니다.
+     *
+     * @param cutoff 삭제 기준 시점
+     * @return 삭제된 파티션의 행 수
+     */
+    private long dropExpiredPartitions(final LocalDateTime cutoff) {
+        long purged = 0;
+        for (final String partition : jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class)) {
+            final Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            final YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)));
+            if (month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+
+            final Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partition, Long.class);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Dropped execution partition {} ({} rows)", partition, rows);
+            purged += rows == null ? 0 : rows;
+        }
+        return purged;
+    }
+
+    /**
+     * 기준 시점 이전의 행을 묶음 단위로 삭제합니다.
+     * 각 DELETE는 별도 트랜잭션으로 커밋됩니다.
+     *
+     * @param sql     마지막 인자로 묶음 크기를 받는 DELETE 문
+     * @param cutoffs 묶음 크기 앞에 전달할 기준 시점 인자
+     * @return 삭제된 행 수
+     */
+    private long deleteInChunks(final String sql, final LocalDateTime... cutoffs) {
+        final Object[] arguments = Arrays.copyOf(cutoffs, cutoffs.length + 1, Object[].class);
+        arguments[cutoffs.length] = batchSize;
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, arguments);
+            purged += deleted;
+        } while (deleted >= batchSize);
+        return purged;
+    }
+
+    /**
+     * 기준 시점 이전의 출력 본문 참조를 묶음 단위로 삭제하고 본문 참조를 해제합니다.
+     * 묶음마다 참조 삭제와 해제를 한 트랜잭션으로 커밋하며,
+     * 다른 인스턴스가 먼저 삭제한 참조는 해제하지 않습니다.
+     *
+     * @param cutoff 삭제 기준 시점
+     */
+    private void purgeOutputs(final LocalDateTime cutoff) {
+        long purged = 0;
+        long deletedBlobs = 0;
+        int selected;
+        do {
+            final OutputChunk chunk = transactionTemplate.execute(status -> {
+                final List<Object[]> rows = jdbcTemplate.query(SELECT_OUTPUT_CHUNK_SQL,
+                        (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)},
+                        cutoff, batchSize);
+                if (rows.isEmpty()) {
+                    return new OutputChunk(0, 0, 0);
+                }
+
+                final int[] deleted = jdbcTemplate.batchUpdate(DELETE_OUTPUT_SQL, rows.stream()
+                        .map(row -> new Object[]{row[0]})
+                        .toList());
+                final List<String> released = new ArrayList<>();
+                int deletedRows = 0;
+                for (int i = 0; i < rows.size(); i++) {
+                    if (deleted[i] > 0) {
+                        released.add((String) rows.get(i)[1]);
+                        released.add((String) rows.get(i)[2]);
+                        deletedRows++;
+                    }
+                }
+                return new OutputChunk(rows.size(), deletedRows, contentBlobStore.releaseAll(released));
+            });
+            selected = chunk.selected();
+            purged += chunk.deleted();
+            deletedBlobs += chunk.deletedBlobs();
+        } while (selected >= batchSize);
+
+        log.debug("Purged {} execution outputs created before {} and {} unreferenced blobs",
+                purged, cutoff, deletedBlobs);
+    }
+
+    /**
+     * 이번 달(UTC)부터 다가올 달까지의 파티션을 생성합니다.
+     * 기본 파티션에 이미 그 달의 행이 있으면 함수가 새 파티션으로 옮긴 뒤 연결합니다.
+     *
+     * @return 생성하지 못한 파티션의 월 시작일 목록
+     */
+    private List<LocalDate> createUpcomingPartitions() {
+        final YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        final List<LocalDate> failed = new ArrayList<>();
+        for (int i = 0; i <= PARTITION_PRECREATE_MONTHS; i++) {
+            final LocalDate monthStart = current.plusMonths(i).atDay(1);
+            try {
+                jdbcTemplate.queryForList("SELECT create_executions_partition(?)", Date.valueOf(monthStart));
+            } catch (final DataAccessException e) {
+                partitionFailureCounter.increment();
+                log.error("Failed to create execution partition for {}", monthStart, e);
+                failed.add(monthStart);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 파티션 생성 실패가 있으면 예외를 던집니다.
+     * 파티션이 없는 달의 행은 기본 파티션에 쌓이고 파티션 단위로 삭제되지 않으므로 조용히 넘기지 않습니다.
+     *
+     * @param failedPartitions 생성하지 못한 파티션의 월 시작일 목록
+     * @throws IllegalStateException 실패한 파티션이 있는 경우
+     */
+    private void checkPartitions(final List<LocalDate> failedPartitions) {
+        if (!failedPartitions.isEmpty()) {
+            throw new IllegalStateException("실행 기록 파티션을 생성하지 못했습니다: " + failedPartitions);
+        }
+    }
+
+    /**
+     * executions 테이블이 PostgreSQL 파티션 테이블인지 확인합니다.
+     *
+     * @return 파티션 테이블이면 true, 아니면 false
+     */
+    private boolean isPartitioned() {
+        final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            return false;
+        }
+
+        final List<Integer> partitioned = jdbcTemplate.queryForList(
+                "SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('executions')", Integer.class);
+        return !partitioned.isEmpty();
+    }
+
+    /**
+     * 출력 본문 참조 묶음 삭제 결과.
+     *
+     * @param selected     조회한 참조 수
+     * @param deleted      삭제한 참조 수
+     * @param deletedBlobs 삭제한 본문 수
+     */
+    private record OutputChunk(int selected, int deleted, int deletedBlobs) {
+    }
+}
@@ -1,21 +1,38 @@
 package com.codeplayground.service;
 
+import com.codeplayground.dto.BulkResponse;
 import com.codeplayground.dto.ExecutionRequest;
 import com.codeplayground.dto.ExecutionResponse;
+import com.codeplayground.dto.ExecutionSummaryResponse;
+import com.codeplayground.dto.PageCursor;
 import com.codeplayground.dto.PageResponse;
 import com.codeplayground.entity.CodeSnippet;
 import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.ExecutionOutput;
 import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.exception.ExecutionNotAcknowledgedException;
 import com.codeplayground.exception.ResourceNotFoundException;
 import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.repository.ExecutionOutputRepository;
 import com.codeplayground.repository.ExecutionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
  * 코드 실행 서비스.
  * 코드 실행 요청 처리 및 실행 기록 관리를 담당합니다.
@@ -27,16 +44,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class ExecutionService {
 
     private final ExecutionRepository executionRepository;
+    private final ExecutionOutputRepository executionOutputRepository;
+    private final ContentBlobStore contentBlobStore;
     private final CodeSnippetRepository codeSnippetRepository;
     private final CodeExecutionService codeExecutionService;
 
+    @Value("${code-playground.api.bulk.max-ids:100}")
+    private int bulkMaxIds;
+
     /**
      * 코드를 실행합니다.
+     * 실행과 저장 대기 동안 커넥션을 점유하지 않도록 트랜잭션 밖에서 처리합니다.
      *
      * @param request 실행 요청
-     * @return 실행 결과
+     * @return 실행 결과. 저장이 제한 시간 안에 확인되지 않았으면 {@code pending}이 true인 결과
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ExecutionResponse executeCode(final ExecutionRequest request) {
         log.info("Executing code for snippet ID: {}", request.getCodeSnippetId());
 
@@ -45,14 +68,25 @@ public class ExecutionService {
                 .orElseThrow(() -> new ResourceNotFoundException("코드 스니펫을 찾을 수 없습니다: " + request.getCodeSnippetId()));
 
         // 코드 실행 (우리의 새로운 CodeExecutionService 사용)
-        final Execution execution = codeExecutionService.executeCode(
-                codeSnippet,
-                request.getCustomCode(),
-                request.getInput(),
-                request.getTimeoutSeconds()
-        );
+        final Execution execution;
+        try {
+            execution = codeExecutionService.executeCode(
+                    codeSnippet,
+                    request.getCustomCode(),
+                    request.getInput(),
+                    request.getTimeoutSeconds()
+            );
+        } catch (final ExecutionNotAcknowledgedException e) {
+            // 실행 결과는 돌려주고, 저장은 큐에서 계속 진행됩니다.
+            // 예외의 실행 기록은 저장 전 사본이므로 응답에 ID와 생성 일시가 없습니다.
+            log.warn("Execution for snippet ID: {} returned before its record was acknowledged",
+                    request.getCodeSnippetId());
+            final ExecutionResponse response = convertToDetailResponse(e.getExecution());
+            response.setPending(true);
+            return response;
+        }
 
-        return convertToResponse(execution);
+        return convertToDetailResponse(execution);
     }
 
     /**
@@ -73,6 +107,56 @@ public class ExecutionService {
         return convertToPageResponse(executionsPage);
     }
 
+    /**
+     * 코드 스니펫의 실행 기록을 커서 위치부터 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param cursor        페이지 커서
+     * @param size          페이지 크기
+     * @return 다음 커서를 포함한 실행 기록 목록
+     */
+    public PageResponse<ExecutionResponse> getExecutionHistory(final Long codeSnippetId,
+                                                               final PageCursor cursor,
+                                                               final int size) {
+        log.debug("Retrieving execution history for snippet ID: {} after cursor: {}/{}, size: {}",
+                codeSnippetId, cursor.getCreatedAt(), cursor.getId(), size);
+
+        final Slice<Execution> executionsSlice = executionRepository
+                .findByCodeSnippetIdBefore(codeSnippetId, cursor.getCreatedAt(), cursor.getId(),
+                        PageRequest.of(0, size));
+
+        return convertToCursorResponse(executionsSlice, cursor);
+    }
+
+    /**
+     * 코드 스니펫의 실행 기록 요약을 조회합니다.
+     * 출력과 에러 메시지를 읽지 않는 프로젝션으로 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param pageable      페이징 정보
+     * @return 페이징된 실행 기록 요약 목록
+     */
+    public PageResponse<ExecutionSummaryResponse> getExecutionHistorySummaries(final Long codeSnippetId,
+                                                                               final Pageable pageable) {
+        return PageResponse.of(executionRepository.findSummariesByCodeSnippetId(codeSnippetId, pageable));
+    }
+
+    /**
+     * 코드 스니펫의 실행 기록 요약을 커서 위치부터 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param cursor        페이지 커서
+     * @param size          페이지 크기
+     * @return 다음 커서를 포함한 실행 기록 요약 목록
+     */
+    public PageResponse<ExecutionSummaryResponse> getExecutionHistorySummaries(final Long codeSnippetId,
+                                                                               final PageCursor cursor,
+                                                                               final int size) {
+        return PageResponse.of(executionRepository.findSummariesByCodeSnippetIdBefore(
+                        codeSnippetId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size)),
+                cursor, summary -> PageCursor.after(summary.getCreatedAt(), summary.getId()));
+    }
+
     /**
      * 특정 상태의 실행 기록을 조회합니다.
      *
@@ -91,6 +175,26 @@ public class ExecutionService {
         return convertToPageResponse(executionsPage);
     }
 
+    /**
+     * 특정 상태의 실행 기록을 커서 위치부터 조회합니다.
+     *
+     * @param status 실행 상태
+     * @param cursor 페이지 커서
+     * @param size   페이지 크기
+     * @return 다음 커서를 포함한 실행 기록 목록
+     */
+    public PageResponse<ExecutionResponse> getExecutionsByStatus(final ExecutionStatus status,
+                                                                 final PageCursor cursor,
+                                                                 final int size) {
+        log.debug("Retrieving executions by status: {} after cursor: {}/{}, size: {}",
+                status, cursor.getCreatedAt(), cursor.getId(), size);
+
+        final Slice<Execution> executionsSlice = executionRepository
+                .findByStatusBefore(status, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size));
+
+        return convertToCursorResponse(executionsSlice, cursor);
+    }
+
     /**
      * 실행 기록을 ID로 조회합니다.
      *
@@ -103,7 +207,60 @@ public class ExecutionService {
         final Execution execution = executionRepository.findById(executionId)
                 .orElseThrow(() -> new ResourceNotFoundException("실행 기록을 찾을 수 없습니다: " + executionId));
 
-        return convertToResponse(execution);
+        return convertToDetailResponse(execution);
+    }
+
+    /**
+     * 여러 실행 기록을 ID로 한 번에 조회합니다.
+     * 실행 기록, 본문 참조, 캐시에 없는 본문을 각각 IN 쿼리 한 번으로 읽습니다.
+     *
+     * @param ids 실행 기록 ID 목록 (요청 순서, 중복 허용)
+     * @return 요청 순서의 일괄 조회 응답 (전체 본문 포함)
+     * @throws IllegalArgumentException ID 수가 최대값을 넘는 경우
+     */
+    public BulkResponse<Long, ExecutionResponse> getExecutions(final List<Long> ids) {
+        BulkResponse.checkSize(ids, bulkMaxIds);
+        final List<Long> distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return BulkResponse.of(ids, Map.of());
+        }
+
+        final List<Execution> executions = executionRepository.findAllById(distinctIds);
+        final List<Long> withBody = executions.stream()
+                .filter(execution -> execution.getOutputBytes() != null || execution.getErrorBytes() != null)
+                .map(Execution::getId)
+                .toList();
+        final Map<Long, ExecutionOutput> bodies = withBody.isEmpty()
+                ? Map.of()
+                : executionOutputRepository.findAllById(withBody).stream()
+                        .collect(Collectors.toMap(ExecutionOutput::getExecutionId, Function.identity()));
+        final Map<String, String> contents = contentBlobStore.getAll(bodies.values().stream()
+                .flatMap(body -> Stream.of(body.getOutputHash(), body.getErrorHash()))
+                .toList());
+
+        final Map<Long, ExecutionResponse> found = new HashMap<>();
+        for (final Execution execution : executions) {
+            final ExecutionResponse response = convertToResponse(execution);
+            final ExecutionOutput body = bodies.get(execution.getId());
+            if (body != null) {
+                response.setOutput(body.getOutputHash() == null ? null : contents.get(body.getOutputHash()));
+                response.setErrorMessage(body.getErrorHash() == null ? null : contents.get(body.getErrorHash()));
+            }
+            response.setTruncated(false);
+            found.put(execution.getId(), response);
+        }
+        return BulkResponse.of(ids, found);
+    }
+
+    /**
+     * 실행 기록이 존재하는지 확인합니다.
+     * 실행 기록은 저장된 뒤 바뀌지 않으므로 조건부 요청은 존재 여부만으로 판단합니다.
+     *
+     * @param executionId 실행 기록 ID
+     * @return 존재하면 true
+     */
+    public boolean existsExecution(final Long executionId) {
+        return executionRepository.existsById(executionId);
     }
 
     /**
@@ -116,7 +273,7 @@ public class ExecutionService {
         log.debug("Retrieving latest execution for snippet ID: {}", codeSnippetId);
 
         return executionRepository.findFirstByCodeSnippetIdOrderByCreatedAtDesc(codeSnippetId)
-                .map(this::convertToResponse)
+                .map(this::convertToDetailResponse)
                 .orElse(null);
     }
 
@@ -137,24 +294,51 @@ public class ExecutionService {
     }
 
     /**
-     * Execution 엔티티를 ExecutionResponse로 변환합니다.
+     * Execution 엔티티를 목록용 ExecutionResponse로 변환합니다.
+     * 출력과 에러 메시지는 실행 기록 행에 저장된 미리보기를 사용하므로 본문을 조회하지 않습니다.
      *
      * @param execution 실행 기록 엔티티
-     * @return 실행 응답 DTO
+     * @return 실행 응답 DTO (미리보기)
      */
     private ExecutionResponse convertToResponse(final Execution execution) {
         return ExecutionResponse.builder()
                 .id(execution.getId())
                 .codeSnippetId(execution.getCodeSnippet().getId())
+                .codeVersion(execution.getCodeVersion())
                 .status(execution.getStatus())
-                .output(execution.getOutput())
-                .errorMessage(execution.getErrorMessage())
+                .output(execution.getOutputPreview())
+                .errorMessage(execution.getErrorPreview())
+                .outputBytes(execution.getOutputBytes())
+                .errorMessageBytes(execution.getErrorBytes())
+                .truncated(execution.isPreviewTruncated())
                 .executionTime(execution.getExecutionTime())
                 .memoryUsage(execution.getMemoryUsage())
                 .createdAt(execution.getCreatedAt())
                 .build();
     }
 
+    /**
+     * Execution 엔티티를 출력 전체가 포함된 상세 ExecutionResponse로 변환합니다.
+     * 방금 실행한 기록은 메모리의 본문을 그대로 사용하고, 조회한 기록은 본문 테이블에서 읽습니다.
+     *
+     * @param execution 실행 기록 엔티티
+     * @return 실행 응답 DTO (전체 본문)
+     */
+    private ExecutionResponse convertToDetailResponse(final Execution execution) {
+        final ExecutionResponse response = convertToResponse(execution);
+        if (execution.hasBody()) {
+            response.setOutput(execution.getOutput());
+            response.setErrorMessage(execution.getErrorMessage());
+        } else if (execution.getOutputBytes() != null || execution.getErrorBytes() != null) {
+            executionOutputRepository.findById(execution.getId()).ifPresent(body -> {
+                response.setOutput(contentBlobStore.get(body.getOutputHash()));
+                response.setErrorMessage(contentBlobStore.get(body.getErrorHash()));
+            });
+        }
+        response.setTruncated(false);
+        return response;
+    }
+
     /**
      * Page<Execution>을 PageResponse<ExecutionResponse>로 변환합니다.
      *
@@ -174,4 +358,29 @@ public class ExecutionService {
                 .last(executionsPage.isLast())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Slice<Execution>을 커서 페이징 응답으로 변환합니다.
+     *
+     * @param executionsSlice 실행 기록 슬라이스
+     * @param cursor          요청한 페이지 커서
+     * @return 커서 페이징 응답 DTO
+     */
+    private PageResponse<ExecutionResponse> convertToCursorResponse(final Slice<Execution> executionsSlice,
+                                                                    final PageCursor cursor) {
+        final List<Execution> content = executionsSlice.getContent();
+        final Execution lastItem = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return PageResponse.<ExecutionResponse>builder()
+                .content(content.stream()
+                        .map(this::convertToResponse)
+                        .toList())
+                .size(executionsSlice.getSize())
+                .first(cursor.isFirst())
+                .last(!executionsSlice.hasNext())
+                .nextCursor(executionsSlice.hasNext() && lastItem != null
+                        ? PageCursor.after(lastItem.getCreatedAt(), lastItem.getId()).encode()
+                        : null)
+                .build();
+    }
+}
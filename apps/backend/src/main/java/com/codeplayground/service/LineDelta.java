@@ -0,0 +1,189 @@
+package com.codeplayground.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 줄 단위 차이 인코더.
+ * 이전 코드에서 새 코드를 만드는 편집 스크립트를 텍스트로 만들고 적용합니다.
+ *
+ * <p>스크립트는 줄마다 하나의 연산이며, {@code =N}은 이전 코드의 N줄 유지, {@code -N}은 N줄 삭제,
+ * {@code +N}은 뒤따르는 N줄 삽입입니다. 공통 앞부분과 뒷부분을 먼저 건너뛰고, 남은 구간은 LCS로 비교합니다.
+ * 남은 구간이 너무 크면 통째로 교체하는 스크립트를 만듭니다.</p>
+ */
+final class LineDelta {
+
+    /**
+     * LCS 비교를 허용하는 최대 표 크기 (이전 줄 수 × 새 줄 수).
+     */
+    private static final long MAX_LCS_CELLS = 1_000_000L;
+
+    private LineDelta() {
+    }
+
+    /**
+     * 이전 코드에서 새 코드를 만드는 편집 스크립트를 만듭니다.
+     *
+     * @param from 이전 코드
+     * @param to   새 코드
+     * @return 편집 스크립트
+     */
+    static String diff(final String from, final String to) {
+        final String[] source = split(from);
+        final String[] target = split(to);
+
+        int prefix = 0;
+        while (prefix < source.length && prefix < target.length && source[prefix].equals(target[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < source.length - prefix && suffix < target.length - prefix
+                && source[source.length - 1 - suffix].equals(target[target.length - 1 - suffix])) {
+            suffix++;
+        }
+
+        final Script script = new Script();
+        script.copy(prefix);
+        diffMiddle(source, prefix, source.length - suffix, target, prefix, target.length - suffix, script);
+        script.copy(suffix);
+        return script.build();
+    }
+
+    /**
+     * 이전 코드에 편집 스크립트를 적용합니다.
+     *
+     * @param base  이전 코드
+     * @param delta {@link #diff(String, String)}로 만든 편집 스크립트
+     * @return 새 코드
+     */
+    static String apply(final String base, final String delta) {
+        final String[] source = split(base);
+        final String[] operations = split(delta);
+        final List<String> result = new ArrayList<>(source.length);
+
+        int position = 0;
+        int i = 0;
+        while (i < operations.length) {
+            final String operation = operations[i++];
+            final int count = Integer.parseInt(operation.substring(1));
+            switch (operation.charAt(0)) {
+                case '=' -> {
+                    for (int k = 0; k < count; k++) {
+                        result.add(source[position++]);
+                    }
+                }
+                case '-' -> position += count;
+                case '+' -> {
+                    for (int k = 0; k < count; k++) {
+                        result.add(operations[i++]);
+                    }
+                }
+                default -> throw new IllegalStateException("잘못된 편집 스크립트입니다: " + operation);
+            }
+        }
+        return String.join("\n", result);
+    }
+
+    private static void diffMiddle(final String[] source, final int sourceStart, final int sourceEnd,
+                                   final String[] target, final int targetStart, final int targetEnd,
+                                   final Script script) {
+        final int rows = sourceEnd - sourceStart;
+        final int columns = targetEnd - targetStart;
+        if (rows == 0 || columns == 0 || (long) rows * columns > MAX_LCS_CELLS) {
+            script.delete(rows);
+            for (int j = targetStart; j < targetEnd; j++) {
+                script.insert(target[j]);
+            }
+            return;
+        }
+
+        // lcs[i][j]: source[sourceStart + i..]와 target[targetStart + j..]의 LCS 길이
+        final int[][] lcs = new int[rows + 1][columns + 1];
+        for (int i = rows - 1; i >= 0; i--) {
+            for (int j = columns - 1; j >= 0; j--) {
+                lcs[i][j] = source[sourceStart + i].equals(target[targetStart + j])
+                        ? lcs[i + 1][j + 1] + 1
+                        : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < rows && j < columns) {
+            if (source[sourceStart + i].equals(target[targetStart + j])) {
+                script.copy(1);
+                i++;
+                j++;
+            } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+                script.delete(1);
+                i++;
+            } else {
+                script.insert(target[targetStart + j]);
+                j++;
+            }
+        }
+        script.delete(rows - i);
+        while (j < columns) {
+            script.insert(target[targetStart + j++]);
+        }
+    }
+
+    private static String[] split(final String text) {
+        return text.split("\n", -1);
+    }
+
+    /**
+     * 같은 종류의 연속된 연산을 하나로 합쳐 편집 스크립트를 만듭니다.
+     */
+    private static final class Script {
+
+        private final StringBuilder out = new StringBuilder();
+        private final List<String> inserted = new ArrayList<>();
+        private char pending;
+        private int count;
+
+        void copy(final int lines) {
+            append('=', lines);
+        }
+
+        void delete(final int lines) {
+            append('-', lines);
+        }
+
+        void insert(final String line) {
+            append('+', 1);
+            inserted.add(line);
+        }
+
+        String build() {
+            flush();
+            return out.toString();
+        }
+
+        private void append(final char operation, final int lines) {
+            if (lines == 0) {
+                return;
+            }
+            if (operation != pending) {
+                flush();
+                pending = operation;
+            }
+            count += lines;
+        }
+
+        private void flush() {
+            if (count == 0) {
+                return;
+            }
+            if (!out.isEmpty()) {
+                out.append('\n');
+            }
+            out.append(pending).append(count);
+            for (final String line : inserted) {
+                out.append('\n').append(line);
+            }
+            inserted.clear();
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.codeplayground.service;
+
+import com.codeplayground.entity.PopularityDecay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 인기도 감쇠 기준 시점 서비스.
+ * 저장된 인기도 점수의 기준 시점을 관리하고, 가중치가 너무 커지기 전에 기준 시점을 옮겨 점수를 재정규화합니다.
+ *
+ * <ul>
+ *   <li>점수를 더하는 트랜잭션은 {@link #lockEpoch()}로 기준 시점 행에 공유 잠금을 잡고 그 기준 시점으로
+ *       가중치를 계산합니다.</li>
+ *   <li>재정규화는 같은 행에 배타 잠금을 잡은 뒤 모든 점수에 같은 비율을 곱하고 기준 시점을 옮깁니다.
+ *       따라서 재정규화 전의 기준 시점으로 계산한 증분이 재정규화 후의 점수에 더해지지 않습니다.
+ *       점수는 JDBC로 바뀌므로 코드 스니펫 2차 캐시를 모두 비웁니다.</li>
+ *   <li>반감기가 없으면 가중치가 항상 1이므로 잠금도 재정규화도 하지 않습니다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class PopularityDecayService {
+
+    private static final String SELECT_EPOCH_SQL =
+            "SELECT decay_epoch FROM popularity_decay WHERE id = " + PopularityDecay.SINGLETON_ID;
+
+    private static final String INSERT_EPOCH_SQL =
+            "INSERT INTO popularity_decay (id, decay_epoch) VALUES (" + PopularityDecay.SINGLETON_ID + ", ?)";
+
+    private static final String UPDATE_EPOCH_SQL =
+            "UPDATE popularity_decay SET decay_epoch = ? WHERE id = " + PopularityDecay.SINGLETON_ID;
+
+    private static final String RESCALE_SCORES_SQL =
+            "UPDATE code_snippets SET popularity_score = popularity_score * ? WHERE popularity_score <> 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PopularityScoreCalculator popularityScoreCalculator;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Boolean postgres;
+
+    /**
+     * PopularityDecayService 생성자.
+     *
+     * @param jdbcTemplate              JDBC 템플릿
+     * @param popularityScoreCalculator 인기도 점수 계산기
+     * @param entityCacheEvictor        2차 캐시 무효화 도우미
+     * @param transactionManager        트랜잭션 관리자
+     */
+    public PopularityDecayService(final JdbcTemplate jdbcTemplate,
+                                  final PopularityScoreCalculator popularityScoreCalculator,
+                                  final EntityCacheEvictor entityCacheEvictor,
+                                  final PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.popularityScoreCalculator = popularityScoreCalculator;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 기준 시점 행이 없으면 기본 기준 시점으로 만듭니다.
+     * 마이그레이션이 행을 만들지 않는 환경(스키마 자동 생성)을 위한 것입니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeEpoch() {
+        if (!jdbcTemplate.queryForList(SELECT_EPOCH_SQL, LocalDateTime.class).isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_EPOCH_SQL, PopularityScoreCalculator.DEFAULT_EPOCH);
+        } catch (final DuplicateKeyException e) {
+            log.debug("Popularity decay epoch was initialized by another instance");
+        }
+    }
+
+    /**
+     * 현재 기준 시점을 읽고 트랜잭션이 끝날 때까지 재정규화를 막습니다.
+     * 점수를 더하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @return 가중치 계산에 쓸 기준 시점
+     */
+    public LocalDateTime lockEpoch() {
+        if (!popularityScoreCalculator.isDecaying()) {
+            return PopularityScoreCalculator.DEFAULT_EPOCH;
+        }
+        // H2는 FOR SHARE를 지원하지 않으므로 배타 잠금을 씁니다.
+        final List<LocalDateTime> epochs = jdbcTemplate.queryForList(
+                SELECT_EPOCH_SQL + (isPostgres() ? " FOR SHARE" : " FOR UPDATE"), LocalDateTime.class);
+        return epochs.isEmpty() ? PopularityScoreCalculator.DEFAULT_EPOCH : epochs.get(0);
+    }
+
+    /**
+     * 설정된 주기로 기준 시점을 옮길 때가 되었는지 확인합니다.
+     */
+    @Scheduled(cron = "${code-playground.popularity.rebase-cron:0 20 * * * *}")
+    public void scheduledRebase() {
+        rebaseIfDue(LocalDateTime.now());
+    }
+
+    /**
+     * 기준 시점을 옮길 때가 되었으면 모든 점수를 재정규화하고 기준 시점을 옮깁니다.
+     * 점수 갱신과 기준 시점 이동은 한 트랜잭션으로 처리됩니다.
+     *
+     * @param now 현재 시각
+     * @return 기준 시점을 옮겼으면 새 기준 시점, 아니면 empty
+     */
+    public Optional<LocalDateTime> rebaseIfDue(final LocalDateTime now) {
+        if (!popularityScoreCalculator.isDecaying()) {
+            return Optional.empty();
+        }
+
+        return transactionTemplate.execute(status -> {
+            final List<LocalDateTime> epochs = jdbcTemplate.queryForList(SELECT_EPOCH_SQL + " FOR UPDATE",
+                    LocalDateTime.class);
+            if (epochs.isEmpty()) {
+                log.warn("Popularity decay epoch row is missing; skipping rebase");
+                return Optional.<LocalDateTime>empty();
+            }
+
+            final LocalDateTime epoch = epochs.get(0);
+            final Optional<LocalDateTime> rebased = popularityScoreCalculator.rebasedEpoch(epoch, now);
+            rebased.ifPresent(newEpoch -> {
+                final double factor = popularityScoreCalculator.rescaleFactor(epoch, newEpoch);
+                final int rescaled = jdbcTemplate.update(RESCALE_SCORES_SQL, factor);
+                jdbcTemplate.update(UPDATE_EPOCH_SQL, newEpoch);
+                entityCacheEvictor.evictAllCodeSnippets();
+                log.info("Rebased popularity decay epoch from {} to {}, rescaled {} scores by {}",
+                        epoch, newEpoch, rescaled, factor);
+            });
+            return rebased;
+        });
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equals(product);
+            postgres = result;
+        }
+        return result;
+    }
+}
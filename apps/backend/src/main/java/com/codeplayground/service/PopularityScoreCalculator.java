@@ -0,0 +1,116 @@
+package com.codeplayground.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * 인기도 점수 계산기.
+ * 실행 한 번이 인기도 점수에 더하는 가중치를 계산합니다.
+ *
+ * <p>반감기가 설정되지 않으면 모든 실행의 가중치는 1이며 점수는 실행 횟수와 같습니다.
+ * 반감기가 설정되면 forward decay 방식으로 기준 시점 이후 경과 시간에 따라
+ * 가중치가 2^(경과 시간 / 반감기)로 커집니다. 모든 점수에 같은 비율이 곱해지는
+ * 효과이므로 기존 점수를 다시 계산하지 않고도 최근 실행이 더 높은 순위를 갖습니다.</p>
+ *
+ * <p>가중치는 기준 시점으로부터 멀어질수록 커지므로, 경과 시간이 반감기의 64배를 넘으면
+ * {@link PopularityDecayService}가 기준 시점을 옮기고 저장된 점수에 2^(-이동 시간 / 반감기)를 곱해
+ * 재정규화합니다. 모든 점수에 같은 비율을 곱하므로 순위는 바뀌지 않습니다.</p>
+ */
+@Component
+@Slf4j
+public class PopularityScoreCalculator {
+
+    /**
+     * 기준 시점이 저장되지 않았을 때 쓰는 감쇠 가중치의 기준 시점.
+     */
+    public static final LocalDateTime DEFAULT_EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    /**
+     * 기준 시점을 옮기는 지수. 이때 가중치는 2^64 정도로, 점수가 double 범위에 한참 못 미칩니다.
+     */
+    public static final double REBASE_EXPONENT = 64.0;
+
+    /**
+     * double 범위를 넘지 않도록 제한하는 최대 지수.
+     * 기준 시점을 제때 옮기면 도달하지 않습니다.
+     */
+    private static final double MAX_EXPONENT = 1000.0;
+
+    private final double halfLifeHours;
+
+    /**
+     * PopularityScoreCalculator 생성자.
+     *
+     * @param halfLifeHours 점수 반감기 (시간), 0 이하이면 감쇠 없음
+     */
+    public PopularityScoreCalculator(
+            @Value("${code-playground.popularity.half-life-hours:0}") final double halfLifeHours) {
+        this.halfLifeHours = halfLifeHours;
+    }
+
+    /**
+     * 점수가 시간에 따라 감쇠하는지 확인합니다.
+     *
+     * @return 반감기가 설정되었으면 true, 아니면 false
+     */
+    public boolean isDecaying() {
+        return halfLifeHours > 0;
+    }
+
+    /**
+     * 주어진 시점에 기록된 실행의 가중치를 계산합니다.
+     *
+     * @param executedAt 실행 시점
+     * @param epoch      저장된 점수의 기준 시점
+     * @return 인기도 점수에 더할 가중치
+     */
+    public double weightAt(final LocalDateTime executedAt, final LocalDateTime epoch) {
+        if (!isDecaying()) {
+            return 1.0;
+        }
+
+        final double exponent = halfLives(epoch, executedAt);
+        if (exponent > MAX_EXPONENT) {
+            log.warn("Popularity decay exponent {} exceeds limit; the decay epoch {} was not rebased",
+                    exponent, epoch);
+            return Math.pow(2, MAX_EXPONENT);
+        }
+        return Math.pow(2, exponent);
+    }
+
+    /**
+     * 기준 시점을 옮길 때가 되었으면 새 기준 시점을 계산합니다.
+     *
+     * @param epoch 현재 기준 시점
+     * @param now   현재 시각
+     * @return 현재 시각을 시간 단위로 절삭한 새 기준 시점, 옮길 필요가 없으면 empty
+     */
+    public Optional<LocalDateTime> rebasedEpoch(final LocalDateTime epoch, final LocalDateTime now) {
+        if (!isDecaying() || halfLives(epoch, now) < REBASE_EXPONENT) {
+            return Optional.empty();
+        }
+        return Optional.of(now.truncatedTo(ChronoUnit.HOURS));
+    }
+
+    /**
+     * 기준 시점을 옮길 때 저장된 점수에 곱할 비율을 계산합니다.
+     * 오래전에 쌓인 점수는 0으로 내려갈 수 있으며, 이는 그동안 감쇠된 결과와 같습니다.
+     *
+     * @param from 현재 기준 시점
+     * @param to   새 기준 시점
+     * @return 2^(-(to - from) / 반감기)
+     */
+    public double rescaleFactor(final LocalDateTime from, final LocalDateTime to) {
+        return isDecaying() ? Math.pow(2, -halfLives(from, to)) : 1.0;
+    }
+
+    private double halfLives(final LocalDateTime from, final LocalDateTime to) {
+        return Duration.between(from, to).toMillis() / 3_600_000d / halfLifeHours;
+    }
+}
@@ -0,0 +1,452 @@
+package com.codeplayground.service;
+
+import com.codeplayground.entity.SharedCode;
+import com.codeplayground.entity.enums.RollupGranularity;
+import com.codeplayground.repository.SharedCodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 공유 만료 서비스.
+ * 만료 일시가 된 공유를 백그라운드에서 바로 비활성화하고, 오래된 비활성 공유를 삭제합니다.
+ *
+ * <ul>
+ *   <li>가까운 시간(horizon) 안에 만료되는 활성 공유를 expires_at 인덱스 범위 조회로 읽어
+ *       계층형 타이밍 휠에 넣습니다. 휠은 틱마다 만료된 공유 ID를 꺼내므로 조회 비용이
+ *       전체 공유 수가 아니라 만료되는 공유 수에 비례합니다.</li>
+ *   <li>만료된 공유는 작은 묶음 단위로 잠금 조회 후 엔티티로 비활성화합니다. 만료 버킷 통계를 줄이고
+ *       공유 응답 캐시를 제거하며, 2차 캐시는 영역 전체가 아니라 해당 항목만 갱신됩니다.
+ *       여러 인스턴스가 같은 공유를 처리해도 잠금 후 활성 여부를 다시 확인하므로 한 번만 반영됩니다.</li>
+ *   <li>시작 시에는 이미 만료된 공유까지 함께 읽어 중단된 동안 밀린 만료를 처리합니다.</li>
+ *   <li>비활성 상태로 보존 기간이 지난 공유는 엔티티를 읽지 않고 정해진 크기의 DELETE를 반복해 삭제합니다.</li>
+ * </ul>
+ *
+ * <p>만료 일시는 DB와 같이 UTC 기준으로 해석합니다.</p>
+ */
+@Service
+@Slf4j
+public class ShareExpiryService {
+
+    /**
+     * 시작 시 밀린 만료까지 읽기 위한 조회 하한.
+     */
+    private static final LocalDateTime INITIAL_LOAD_FROM = LocalDate.of(1970, 1, 1).atStartOfDay();
+
+    /**
+     * 타이밍 휠 한 단계의 슬롯 수.
+     */
+    private static final int WHEEL_SIZE = 64;
+
+    /**
+     * 비활성화 시점을 따로 기록하지 않으므로 수정 일시와 만료 일시가 모두 기준 시점 이전인 행만 삭제합니다.
+     */
+    private static final String DELETE_INACTIVE_CHUNK_SQL =
+            "DELETE FROM shared_codes WHERE id IN " +
+            "(SELECT id FROM shared_codes WHERE is_active = false AND updated_at < ? " +
+            "AND (expires_at IS NULL OR expires_at < ?) LIMIT ?)";
+
+    private final SharedCodeRepository sharedCodeRepository;
+    private final StatisticsRollupService statisticsRollupService;
+    private final ShareResponseCache shareResponseCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter expiredCounter;
+    private final Counter purgedCounter;
+    private final long tickMillis;
+    private final Duration horizon;
+    private final int maxLoaded;
+    private final int batchSize;
+    private final int purgeInactiveDays;
+    private final int purgeBatchSize;
+
+    private final TimingWheel wheel;
+    private final Deque<Long> dueIds = new ArrayDeque<>();
+    private final AtomicBoolean purging = new AtomicBoolean();
+    private volatile LocalDateTime loadedUntil;
+
+    /**
+     * ShareExpiryService 생성자.
+     *
+     * @param sharedCodeRepository    공유 코드 리포지토리
+     * @param statisticsRollupService 통계 롤업 서비스
+     * @param shareResponseCache      공유 응답 캐시
+     * @param entityCacheEvictor      2차 캐시 무효화 도우미
+     * @param jdbcTemplate            JDBC 템플릿
+     * @param transactionManager      트랜잭션 관리자
+     * @param meterRegistry           메트릭 레지스트리
+     * @param tickMillis              타이밍 휠 틱 간격 (밀리초)
+     * @param horizonMinutes          미리 읽어 둘 만료 구간 (분)
+     * @param maxLoaded               한 번에 읽어 둘 최대 공유 수
+     * @param batchSize               한 트랜잭션에서 비활성화할 최대 공유 수
+     * @param purgeInactiveDays       비활성 공유 보존 기간 (일), 0 이하이면 삭제하지 않음
+     * @param purgeBatchSize          한 번에 삭제할 최대 행 수
+     */
+    public ShareExpiryService(
+            final SharedCodeRepository sharedCodeRepository,
+            final StatisticsRollupService statisticsRollupService,
+            final ShareResponseCache shareResponseCache,
+            final EntityCacheEvictor entityCacheEvictor,
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            @Value("${code-playground.sharing.expiry.tick-ms:1000}") final long tickMillis,
+            @Value("${code-playground.sharing.expiry.horizon-minutes:60}") final long horizonMinutes,
+            @Value("${code-playground.sharing.expiry.max-loaded:50000}") final int maxLoaded,
+            @Value("${code-playground.sharing.expiry.batch-size:100}") final int batchSize,
+            @Value("${code-playground.sharing.expiry.purge-inactive-days:90}") final int purgeInactiveDays,
+            @Value("${code-playground.sharing.expiry.purge-batch-size:1000}") final int purgeBatchSize) {
+        this.sharedCodeRepository = sharedCodeRepository;
+        this.statisticsRollupService = statisticsRollupService;
+        this.shareResponseCache = shareResponseCache;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.tickMillis = tickMillis;
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+        this.maxLoaded = maxLoaded;
+        this.batchSize = batchSize;
+        this.purgeInactiveDays = purgeInactiveDays;
+        this.purgeBatchSize = purgeBatchSize;
+        this.wheel = new TimingWheel(WHEEL_SIZE, Math.floorDiv(System.currentTimeMillis(), tickMillis));
+
+        this.expiredCounter = Counter.builder("code_playground.shares.expired")
+                .description("Shares deactivated by the background expirer")
+                .register(meterRegistry);
+        this.purgedCounter = Counter.builder("code_playground.shares.purged")
+                .description("Inactive share rows removed by the retention job")
+                .register(meterRegistry);
+        Gauge.builder("code_playground.shares.expiry.scheduled", wheel, TimingWheel::size)
+                .description("Shares waiting in the expiry timing wheel")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 밀린 만료와 가까운 만료를 읽어 둡니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        final LocalDateTime until = LocalDateTime.now(ZoneOffset.UTC).plus(horizon);
+        final int loaded = loadExpirations(INITIAL_LOAD_FROM, until);
+        log.info("Share expirer loaded {} expirations until {}", loaded, loadedUntil);
+    }
+
+    /**
+     * 새로 만든 공유가 읽어 둔 구간 안에 만료되면 타이밍 휠에 넣습니다.
+     * 구간 밖이면 이후 구간을 읽을 때 포함됩니다.
+     *
+     * @param sharedCode 저장된 공유 코드
+     */
+    public void schedule(final SharedCode sharedCode) {
+        final LocalDateTime expiresAt = sharedCode.getExpiresAt();
+        final LocalDateTime until = loadedUntil;
+        if (expiresAt == null || until == null || !expiresAt.isBefore(until)) {
+            return;
+        }
+        synchronized (wheel) {
+            enqueue(sharedCode.getId(), expiresAt);
+        }
+    }
+
+    /**
+     * 틱마다 만료된 공유를 비활성화하고, 읽어 둔 구간이 절반 이하로 남으면 다음 구간을 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${code-playground.sharing.expiry.tick-ms:1000}")
+    public void tick() {
+        final LocalDateTime until = loadedUntil;
+        if (until == null) {
+            return;
+        }
+
+        synchronized (wheel) {
+            dueIds.addAll(wheel.advanceTo(Math.floorDiv(System.currentTimeMillis(), tickMillis)));
+        }
+        deactivateDue();
+
+        final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        if (now.plus(horizon.dividedBy(2)).isAfter(until)) {
+            loadExpirations(until, now.plus(horizon));
+        }
+    }
+
+    /**
+     * 설정된 주기로 보존 기간이 지난 비활성 공유를 삭제합니다.
+     */
+    @Scheduled(cron = "${code-playground.sharing.expiry.purge-cron:0 45 3 * * *}")
+    public void scheduledPurge() {
+        purgeInactiveShares();
+    }
+
+    /**
+     * 보존 기간이 지난 비활성 공유를 묶음 단위로 삭제합니다.
+     * 각 DELETE는 별도 트랜잭션으로 커밋되며, 삭제가 끝나면 공유 코드 2차 캐시를 비웁니다.
+     * 이미 정리 작업이 진행 중이면 아무것도 하지 않습니다.
+     *
+     * @return 삭제된 공유 수
+     */
+    public long purgeInactiveShares() {
+        if (purgeInactiveDays <= 0) {
+            log.debug("Inactive share purge disabled");
+            return 0;
+        }
+        if (!purging.compareAndSet(false, true)) {
+            log.info("Inactive share purge already running, skipping");
+            return 0;
+        }
+
+        try {
+            final LocalDateTime cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(purgeInactiveDays).atStartOfDay();
+            long purged = 0;
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(DELETE_INACTIVE_CHUNK_SQL, cutoff, cutoff, purgeBatchSize);
+                purged += deleted;
+            } while (deleted >= purgeBatchSize);
+            if (purged > 0) {
+                entityCacheEvictor.evictAllSharedCodes();
+            }
+
+            purgedCounter.increment(purged);
+            log.info("Purged {} shares inactive since before {}", purged, cutoff);
+            return purged;
+        } finally {
+            purging.set(false);
+        }
+    }
+
+    /**
+     * 구간 내 만료를 읽어 타이밍 휠에 넣습니다.
+     * 최대 조회 수에 닿으면 마지막으로 읽은 만료 일시까지만 읽은 것으로 보고 나머지는 다음 틱에 읽습니다.
+     *
+     * @param from  시작 시각 (포함)
+     * @param until 종료 시각 (제외)
+     * @return 읽은 공유 수
+     */
+    private int loadExpirations(final LocalDateTime from, final LocalDateTime until) {
+        final List<Object[]> rows = readOnlyTransaction.execute(status ->
+                sharedCodeRepository.findUpcomingExpirations(from, until, PageRequest.of(0, maxLoaded)));
+        if (rows == null) {
+            return 0;
+        }
+
+        LocalDateTime loadedTo = until;
+        if (rows.size() >= maxLoaded) {
+            // 같은 만료 일시의 행이 잘렸을 수 있으므로 다음 조회에서 마지막 만료 일시부터 다시 읽습니다.
+            // 중복으로 들어간 공유는 비활성화할 때 활성 여부를 다시 확인하므로 한 번만 처리됩니다.
+            final LocalDateTime last = (LocalDateTime) rows.get(rows.size() - 1)[1];
+            loadedTo = last.isAfter(from) ? last : from.plusNanos(1_000);
+        }
+
+        synchronized (wheel) {
+            for (final Object[] row : rows) {
+                enqueue((Long) row[0], (LocalDateTime) row[1]);
+            }
+            loadedUntil = loadedTo;
+        }
+        log.debug("Loaded {} share expirations between {} and {}", rows.size(), from, loadedTo);
+        return rows.size();
+    }
+
+    private void enqueue(final Long sharedCodeId, final LocalDateTime expiresAt) {
+        final long expiresAtMillis = expiresAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        // 만료 일시 이후의 첫 틱에 꺼내도록 올림합니다.
+        final long dueTick = Math.floorDiv(expiresAtMillis + tickMillis - 1, tickMillis);
+        if (!wheel.add(sharedCodeId, dueTick)) {
+            dueIds.add(sharedCodeId);
+        }
+    }
+
+    /**
+     * 꺼낸 공유를 묶음 단위로 비활성화합니다. 묶음마다 별도 트랜잭션으로 커밋됩니다.
+     * 실패한 묶음은 대기열 앞으로 되돌려 다음 틱에 다시 처리합니다.
+     */
+    private void deactivateDue() {
+        while (true) {
+            final List<Long> batch = new ArrayList<>(batchSize);
+            synchronized (wheel) {
+                while (batch.size() < batchSize && !dueIds.isEmpty()) {
+                    batch.add(dueIds.poll());
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            final Integer deactivated;
+            try {
+                deactivated = transactionTemplate.execute(status -> deactivateBatch(batch));
+            } catch (final RuntimeException e) {
+                // DB 오류뿐 아니라 트랜잭션/엔티티 처리 오류에도 꺼낸 묶음을 되돌려 두고 다음 틱에 다시 시도합니다.
+                log.warn("Failed to deactivate {} expired shares, retrying on next tick: {}",
+                        batch.size(), e.getMessage());
+                synchronized (wheel) {
+                    batch.forEach(dueIds::addFirst);
+                }
+                return;
+            }
+            if (deactivated != null && deactivated > 0) {
+                expiredCounter.increment(deactivated);
+                log.debug("Deactivated {} expired shares", deactivated);
+            }
+        }
+    }
+
+    private int deactivateBatch(final List<Long> sharedCodeIds) {
+        final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        final List<SharedCode> expired = sharedCodeRepository.findExpiredByIdInForUpdate(sharedCodeIds, now);
+        for (final SharedCode sharedCode : expired) {
+            statisticsRollupService.recordShareDeactivated(sharedCode);
+            sharedCode.deactivate();
+            shareResponseCache.evict(sharedCode.getShareId());
+        }
+        if (!expired.isEmpty()) {
+            statisticsRollupService.clearEmptyShareBuckets(RollupGranularity.MINUTE.bucketOf(now));
+        }
+        return expired.size();
+    }
+
+    /**
+     * 계층형 타이밍 휠.
+     * 모든 시각은 가장 아래 단계의 틱 단위로 다룹니다. 단계 k의 슬롯은 WHEEL_SIZE^k 틱을 덮으며,
+     * 위 단계의 슬롯 시작 시각이 되면 그 슬롯의 항목을 아래 단계로 다시 배치합니다.
+     * 필요한 단계는 항목을 넣을 때 만들어집니다. 동기화는 호출자가 담당합니다.
+     */
+    private static final class TimingWheel {
+
+        private final int wheelSize;
+        private final List<Level> levels = new ArrayList<>();
+        private long currentTick;
+        private int size;
+
+        TimingWheel(final int wheelSize, final long currentTick) {
+            this.wheelSize = wheelSize;
+            this.currentTick = currentTick;
+            this.levels.add(new Level(1, wheelSize));
+        }
+
+        /**
+         * 항목을 넣습니다.
+         *
+         * @return 이미 만료 틱이 지났으면 false
+         */
+        boolean add(final long sharedCodeId, final long dueTick) {
+            if (dueTick <= currentTick) {
+                return false;
+            }
+            place(new Expiration(sharedCodeId, dueTick));
+            size++;
+            return true;
+        }
+
+        /**
+         * 주어진 틱까지 진행하며 만료된 항목의 ID를 꺼냅니다.
+         */
+        List<Long> advanceTo(final long targetTick) {
+            final List<Long> due = new ArrayList<>();
+            while (currentTick < targetTick) {
+                currentTick++;
+                for (int i = levels.size() - 1; i >= 1; i--) {
+                    final Level level = levels.get(i);
+                    if (currentTick % level.span != 0) {
+                        continue;
+                    }
+                    for (final Expiration expiration : level.drain(currentTick / level.span)) {
+                        if (expiration.dueTick() <= currentTick) {
+                            due.add(expiration.sharedCodeId());
+                            size--;
+                        } else {
+                            place(expiration);
+                        }
+                    }
+                }
+                for (final Expiration expiration : levels.get(0).drain(currentTick)) {
+                    due.add(expiration.sharedCodeId());
+                    size--;
+                }
+            }
+            return due;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void place(final Expiration expiration) {
+            long span = 1;
+            for (int i = 0; ; i++) {
+                if (i == levels.size()) {
+                    levels.add(new Level(span, wheelSize));
+                }
+                if (Math.floorDiv(expiration.dueTick(), span) - Math.floorDiv(currentTick, span) < wheelSize) {
+                    levels.get(i).add(Math.floorDiv(expiration.dueTick(), span), expiration);
+                    return;
+                }
+                span *= wheelSize;
+            }
+        }
+    }
+
+    /**
+     * 타이밍 휠의 한 단계.
+     */
+    private static final class Level {
+
+        private final long span;
+        private final List<List<Expiration>> slots;
+
+        Level(final long span, final int wheelSize) {
+            this.span = span;
+            this.slots = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+
+        void add(final long slotNumber, final Expiration expiration) {
+            slots.get((int) Math.floorMod(slotNumber, (long) slots.size())).add(expiration);
+        }
+
+        List<Expiration> drain(final long slotNumber) {
+            final int index = (int) Math.floorMod(slotNumber, (long) slots.size());
+            final List<Expiration> drained = slots.get(index);
+            if (drained.isEmpty()) {
+                return List.of();
+            }
+            slots.set(index, new ArrayList<>());
+            return drained;
+        }
+    }
+
+    /**
+     * 타이밍 휠 항목.
+     *
+     * @param sharedCodeId 공유 코드 ID
+     * @param dueTick      만료 틱
+     */
+    private record Expiration(long sharedCodeId, long dueTick) {
+    }
+}
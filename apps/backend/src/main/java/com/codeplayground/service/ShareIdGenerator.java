@@ -0,0 +1,152 @@
+package com.codeplayground.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 공유 ID 생성기.
+ * 중복 확인 조회 없이 고유한 공유 ID를 만듭니다.
+ *
+ * <ul>
+ *   <li>시각(41비트, 밀리초), 노드 ID(10비트), 순번(12비트)으로 노드 안에서 겹치지 않는 63비트 값을 만듭니다.
+ *       같은 밀리초에 순번이 소진되면 다음 밀리초 값을 앞당겨 쓰고, 시계가 뒤로 가면 마지막 시각을 계속 사용합니다.</li>
+ *   <li>이 값을 비밀 키로 만든 64비트 Feistel 순열로 암호화합니다. 순열은 일대일이므로 고유성이 유지되고,
+ *       생성 순서와 시각, 노드를 ID에서 추측할 수 없습니다.</li>
+ *   <li>결과를 11자리 base62로 인코딩해 기존 공유 ID 형식({@code ^[a-zA-Z0-9]{8,50}$})을 만족합니다.
+ *       기존 12자리 ID와는 길이가 달라 겹치지 않습니다.</li>
+ * </ul>
+ *
+ * <p>인스턴스마다 다른 노드 ID를 설정해야 인스턴스 간에도 고유합니다.
+ * 설정하지 않으면 시작할 때 임의로 고르며, 노드 ID가 겹친 인스턴스끼리 같은 ID를 만들면
+ * {@link SharedCodeService#createShare}가 고유 제약 위반을 보고 새 ID로 다시 시도합니다.
+ * 암호화 키에는 기본값이 없어 설정하지 않으면 시작하지 않습니다.</p>
+ */
+@Component
+@Slf4j
+public class ShareIdGenerator {
+
+    /**
+     * 생성되는 공유 ID 길이. 62^11 > 2^64.
+     */
+    public static final int SHARE_ID_LENGTH = 11;
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private static final int NODE_BITS = 10;
+
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /**
+     * 시각 기준점 (2024-01-01T00:00:00Z). 41비트로 약 69년을 표현합니다.
+     */
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int FEISTEL_ROUNDS = 4;
+
+    private final long nodeId;
+    private final int[] roundKeys;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    /**
+     * ShareIdGenerator 생성자.
+     *
+     * @param nodeId 노드 ID (0-1023). 음수면 임의로 고릅니다.
+     * @param secret ID 암호화 키
+     */
+    public ShareIdGenerator(@Value("${code-playground.sharing.share-id.node-id:-1}") final long nodeId,
+                            @Value("${code-playground.sharing.share-id.secret}") final String secret) {
+        if (nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("공유 ID 노드 ID는 0-" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId >= 0 ? nodeId : ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1);
+        this.roundKeys = deriveRoundKeys(secret);
+        log.info("Share ID generator initialized with node ID {}", this.nodeId);
+    }
+
+    /**
+     * 새 공유 ID를 생성합니다.
+     *
+     * @return 11자리 영숫자 공유 ID
+     */
+    public String nextShareId() {
+        return encodeBase62(encrypt(nextRawId()));
+    }
+
+    private synchronized long nextRawId() {
+        long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long encrypt(final long value) {
+        int left = (int) (value >>> 32);
+        int right = (int) value;
+        for (final int roundKey : roundKeys) {
+            final int next = left ^ round(right, roundKey);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 32) | (right & 0xFFFFFFFFL);
+    }
+
+    private static int round(final int half, final int roundKey) {
+        int x = half ^ roundKey;
+        x ^= x >>> 16;
+        x *= 0x7FEB352D;
+        x ^= x >>> 15;
+        x *= 0x846CA68B;
+        x ^= x >>> 16;
+        return x;
+    }
+
+    private static String encodeBase62(final long value) {
+        final char[] chars = new char[SHARE_ID_LENGTH];
+        long remaining = value;
+        for (int i = SHARE_ID_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) Long.remainderUnsigned(remaining, ALPHABET.length()));
+            remaining = Long.divideUnsigned(remaining, ALPHABET.length());
+        }
+        return new String(chars);
+    }
+
+    private static int[] deriveRoundKeys(final String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("공유 ID 암호화 키(SHARE_ID_SECRET)가 설정되지 않았습니다");
+        }
+        try {
+            final ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(secret.getBytes(StandardCharsets.UTF_8)));
+            final int[] keys = new int[FEISTEL_ROUNDS];
+            for (int i = 0; i < FEISTEL_ROUNDS; i++) {
+                keys[i] = digest.getInt();
+            }
+            return keys;
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
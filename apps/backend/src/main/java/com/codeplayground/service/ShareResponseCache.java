@@ -0,0 +1,302 @@
+package com.codeplayground.service;
+
+import com.codeplayground.config.ReadRoutingContext;
+import com.codeplayground.dto.ShareResponse;
+import com.codeplayground.event.CodeSnippetChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 공유 조회 응답 캐시.
+ * 공유 ID별로 조립이 끝난 {@link ShareResponse}를 보관해, 캐시에 있는 공유는 데이터베이스를 조회하지 않고 응답합니다.
+ *
+ * <ul>
+ *   <li>항목의 수명은 설정한 TTL과 공유 만료 일시 중 이른 쪽으로 정해지므로 만료된 공유는 응답하지 않습니다.</li>
+ *   <li>공유 비활성화는 바로, 그리고 트랜잭션 커밋 뒤에 한 번 더 항목을 제거합니다.
+ *       코드 스니펫 수정/삭제는 커밋 뒤 스니펫별 색인으로 그 스니펫의 공유 항목만 찾아 제거합니다.</li>
+ *   <li>제거할 때마다 무효화 시각(단조 증가 번호)을 남기고, 그보다 먼저 시작한 로딩의 결과는 캐시에 넣지 않습니다.
+ *       커밋 전 상태를 읽은 로더가 제거 뒤에 끝나 오래된 응답을 다시 넣는 경쟁을 막습니다.</li>
+ *   <li>존재하지 않거나 유효하지 않은 공유 ID는 짧은 TTL의 부정 캐시에 보관해 반복 조회를 막습니다.</li>
+ *   <li>캐시에 없으면 주 DB에서 읽습니다. 복제 지연으로 비활성화 직전의 상태가 다시 캐시되는 것을 막기 위함입니다.</li>
+ * </ul>
+ *
+ * <p>응답에 포함된 스니펫의 실행 수와 공유 수는 최대 TTL만큼 늦게 반영될 수 있습니다.</p>
+ */
+@Component
+@Slf4j
+public class ShareResponseCache {
+
+    private final Cache<String, ShareResponse> responses;
+    private final Cache<String, Boolean> misses;
+    private final ConcurrentMap<Long, Set<String>> shareIdsBySnippet = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationClock = new AtomicLong();
+    private final Cache<String, Long> shareInvalidations;
+    private final Cache<Long, Long> snippetInvalidations;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * ShareResponseCache 생성자.
+     *
+     * @param transactionManager 트랜잭션 관리자
+     * @param meterRegistry      메트릭 레지스트리
+     * @param maxSize            캐시할 최대 공유 수
+     * @param ttlSeconds         공유 응답을 보관하는 최대 시간 (초)
+     * @param negativeTtlSeconds 찾지 못한 공유 ID를 보관하는 시간 (초)
+     */
+    public ShareResponseCache(final PlatformTransactionManager transactionManager,
+                              final MeterRegistry meterRegistry,
+                              @Value("${code-playground.sharing.cache.max-size:10000}") final long maxSize,
+                              @Value("${code-playground.sharing.cache.ttl-seconds:300}") final long ttlSeconds,
+                              @Value("${code-playground.sharing.cache.negative-ttl-seconds:30}")
+                              final long negativeTtlSeconds) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ShareExpiry(Duration.ofSeconds(ttlSeconds)))
+                .evictionListener(this::onEvicted)
+                .recordStats()
+                .build();
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .recordStats()
+                .build();
+        // 로딩은 TTL보다 짧으므로 무효화 시각은 TTL 동안만 보관하면 충분합니다.
+        this.shareInvalidations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.snippetInvalidations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "share-responses");
+        CaffeineCacheMetrics.monitor(meterRegistry, misses, "share-responses-negative");
+    }
+
+    /**
+     * 공유 응답을 조회합니다.
+     * 캐시에 없으면 읽기 전용 트랜잭션에서 로더를 실행하고, 같은 공유 ID의 동시 조회는 한 번만 로딩합니다.
+     *
+     * @param shareId 공유 ID
+     * @param loader  유효한 공유의 응답을 만드는 함수. 없거나 유효하지 않으면 빈 값
+     * @return 공유 응답. 없거나 유효하지 않으면 빈 값
+     */
+    public Optional<ShareResponse> get(final String shareId,
+                                       final Function<String, Optional<ShareResponse>> loader) {
+        final ShareResponse cached = responses.getIfPresent(shareId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (misses.getIfPresent(shareId) != null) {
+            return Optional.empty();
+        }
+
+        final long startedAt = invalidationClock.get();
+        final AtomicReference<ShareResponse> loaded = new AtomicReference<>();
+        final ShareResponse cachedOrLoaded = responses.get(shareId, key -> {
+            loaded.set(ReadRoutingContext.callOnPrimary(
+                    () -> readOnlyTransaction.execute(status -> loader.apply(key).orElse(null))));
+            if (loaded.get() == null || isStale(key, loaded.get(), startedAt)) {
+                return null;
+            }
+            index(key, loaded.get());
+            return loaded.get();
+        });
+        final ShareResponse response = cachedOrLoaded != null ? cachedOrLoaded : loaded.get();
+        if (response == null && !isStale(shareId, null, startedAt)) {
+            misses.put(shareId, Boolean.TRUE);
+        }
+        return Optional.ofNullable(response);
+    }
+
+    /**
+     * 여러 공유 응답을 한 번에 조회합니다.
+     * 캐시에 있는 응답과 부정 캐시에 있는 ID는 그대로 처리하고, 나머지만 한 번의 읽기 전용 트랜잭션에서
+     * 로더로 읽어 캐시에 넣습니다. 단건 조회와 달리 같은 ID의 동시 로딩을 합치지 않습니다.
+     *
+     * @param shareIds 공유 ID 목록
+     * @param loader   공유 ID 집합 중 유효한 공유의 응답을 만드는 함수
+     * @return 공유 ID별 응답, 없거나 유효하지 않은 공유는 포함하지 않음
+     */
+    public Map<String, ShareResponse> getAll(final Collection<String> shareIds,
+                                             final Function<Set<String>, Map<String, ShareResponse>> loader) {
+        final Map<String, ShareResponse> found = new HashMap<>(responses.getAllPresent(shareIds));
+        final Set<String> missing = new HashSet<>(shareIds);
+        missing.removeAll(found.keySet());
+        missing.removeAll(misses.getAllPresent(missing).keySet());
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        final long startedAt = invalidationClock.get();
+        final Map<String, ShareResponse> loaded = ReadRoutingContext.callOnPrimary(
+                () -> readOnlyTransaction.execute(status -> loader.apply(missing)));
+        for (final String shareId : missing) {
+            final ShareResponse response = loaded.get(shareId);
+            if (isStale(shareId, response, startedAt)) {
+                continue;
+            }
+            if (response == null) {
+                misses.put(shareId, Boolean.TRUE);
+            } else {
+                responses.asMap().compute(shareId, (key, previous) -> {
+                    unindex(key, previous);
+                    index(key, response);
+                    return response;
+                });
+            }
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    /**
+     * 공유 항목을 제거합니다.
+     * 바로 제거하고, 트랜잭션 안에서 호출하면 커밋된 뒤 한 번 더 제거합니다.
+     * 커밋 전에 시작된 로딩의 결과는 두 번째 제거 이후 캐시에 들어가지 않습니다.
+     *
+     * @param shareId 공유 ID
+     */
+    public void evict(final String shareId) {
+        invalidateShare(shareId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateShare(shareId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 코드 스니펫이 수정되거나 삭제되면 그 스니펫의 공유 항목을 제거합니다.
+     *
+     * @param event 코드 스니펫 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCodeSnippetChanged(final CodeSnippetChangedEvent event) {
+        final Long codeSnippetId = event.getCodeSnippetId();
+        snippetInvalidations.put(codeSnippetId, invalidationClock.incrementAndGet());
+        final Set<String> shareIds = shareIdsBySnippet.get(codeSnippetId);
+        if (shareIds != null) {
+            for (final String shareId : Set.copyOf(shareIds)) {
+                remove(shareId);
+            }
+        }
+    }
+
+    private void invalidateShare(final String shareId) {
+        shareInvalidations.put(shareId, invalidationClock.incrementAndGet());
+        remove(shareId);
+        misses.invalidate(shareId);
+    }
+
+    private void remove(final String shareId) {
+        responses.asMap().computeIfPresent(shareId, (key, previous) -> {
+            unindex(key, previous);
+            return null;
+        });
+    }
+
+    /**
+     * 로딩을 시작한 뒤 공유나 그 스니펫이 무효화되었는지 확인합니다.
+     */
+    private boolean isStale(final String shareId, final ShareResponse response, final long startedAt) {
+        final Long shareInvalidatedAt = shareInvalidations.getIfPresent(shareId);
+        if (shareInvalidatedAt != null && shareInvalidatedAt > startedAt) {
+            return true;
+        }
+        if (response == null) {
+            return false;
+        }
+        final Long snippetInvalidatedAt = snippetInvalidations.getIfPresent(response.getCodeSnippetId());
+        return snippetInvalidatedAt != null && snippetInvalidatedAt > startedAt;
+    }
+
+    /**
+     * 스니펫별 색인은 항목을 넣고 빼는 캐시 연산(키별로 원자적) 안에서만 갱신하므로 항목과 어긋나지 않습니다.
+     */
+    private void index(final String shareId, final ShareResponse response) {
+        shareIdsBySnippet.compute(response.getCodeSnippetId(), (snippetId, shareIds) -> {
+            final Set<String> updated = shareIds != null ? shareIds : ConcurrentHashMap.newKeySet();
+            updated.add(shareId);
+            return updated;
+        });
+    }
+
+    private void unindex(final String shareId, final ShareResponse response) {
+        if (response == null) {
+            return;
+        }
+        shareIdsBySnippet.computeIfPresent(response.getCodeSnippetId(), (snippetId, shareIds) -> {
+            shareIds.remove(shareId);
+            return shareIds.isEmpty() ? null : shareIds;
+        });
+    }
+
+    private void onEvicted(final String shareId, final ShareResponse response, final RemovalCause cause) {
+        unindex(shareId, response);
+    }
+
+    /**
+     * 공유 만료 일시를 넘기지 않도록 항목별 수명을 정하는 정책.
+     */
+    private static final class ShareExpiry implements Expiry<String, ShareResponse> {
+
+        private final long ttlNanos;
+
+        ShareExpiry(final Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final String key, final ShareResponse value, final long currentTime) {
+            final LocalDateTime expiresAt = value.getExpiresAt();
+            if (expiresAt == null) {
+                return ttlNanos;
+            }
+            final long untilExpiry = Duration.between(LocalDateTime.now(), expiresAt).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final ShareResponse value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final ShareResponse value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
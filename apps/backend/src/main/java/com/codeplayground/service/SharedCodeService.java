@@ -1,22 +1,40 @@
 package com.codeplayground.service;
 
+import com.codeplayground.dto.BulkResponse;
+import com.codeplayground.dto.CodeSnippetResponse;
+import com.codeplayground.dto.PageCursor;
 import com.codeplayground.dto.PageResponse;
 import com.codeplayground.dto.ShareRequest;
 import com.codeplayground.dto.ShareResponse;
+import com.codeplayground.dto.ShareStatisticsResponse;
+import com.codeplayground.dto.ShareSummaryResponse;
 import com.codeplayground.entity.CodeSnippet;
 import com.codeplayground.entity.SharedCode;
+import com.codeplayground.entity.enums.RollupGranularity;
 import com.codeplayground.exception.ResourceNotFoundException;
 import com.codeplayground.repository.CodeSnippetRepository;
 import com.codeplayground.repository.SharedCodeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 코드 공유 서비스.
@@ -28,33 +46,65 @@ import java.time.LocalDateTime;
 @Transactional(readOnly = true)
 public class SharedCodeService {
 
+    /**
+     * 요약 항목의 위치를 다음 페이지 커서로 만드는 함수.
+     */
+    private static final Function<ShareSummaryResponse, PageCursor> SUMMARY_CURSOR =
+            summary -> PageCursor.after(summary.getCreatedAt(), summary.getId());
+
+    /**
+     * 공유 ID가 겹쳤을 때 공유 생성을 시도하는 최대 횟수.
+     */
+    private static final int MAX_SHARE_ID_ATTEMPTS = 3;
+
     private final SharedCodeRepository sharedCodeRepository;
     private final CodeSnippetRepository codeSnippetRepository;
     private final CodeSnippetService codeSnippetService;
+    private final StatisticsRollupService statisticsRollupService;
+    private final ShareResponseCache shareResponseCache;
+    private final ShareIdGenerator shareIdGenerator;
+    private final ShareExpiryService shareExpiryService;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${app.base-url:http://localhost:3000}")
     private String baseUrl;
 
+    @Value("${code-playground.api.bulk.max-ids:100}")
+    private int bulkMaxIds;
+
     /**
      * 코드 스니펫에 대한 공유 링크를 생성합니다.
+     * 공유 ID는 구성상 고유하지만, 노드 ID가 겹치는 인스턴스가 같은 ID를 만들면 INSERT가 고유 제약에 걸립니다.
+     * 이때는 트랜잭션을 새로 시작해 다른 ID로 최대 {@value #MAX_SHARE_ID_ATTEMPTS}번까지 다시 시도합니다.
      *
      * @param request 공유 요청
      * @return 공유 응답
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ShareResponse createShare(final ShareRequest request) {
         log.info("Creating share for code snippet ID: {}", request.getCodeSnippetId());
 
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            // 구성상 고유한 공유 ID 생성 (중복 확인 조회 없음)
+            final String shareId = shareIdGenerator.nextShareId();
+            try {
+                return transactionTemplate.execute(status -> insertShare(request, shareId));
+            } catch (final DataIntegrityViolationException e) {
+                // 실패한 경우에만 원인이 공유 ID 충돌인지 확인합니다.
+                if (attempt >= MAX_SHARE_ID_ATTEMPTS || sharedCodeRepository.findByShareId(shareId).isEmpty()) {
+                    throw e;
+                }
+                log.warn("Share ID {} already exists, retrying with a new ID (attempt {})", shareId, attempt);
+            }
+        }
+    }
+
+    private ShareResponse insertShare(final ShareRequest request, final String shareId) {
         // 코드 스니펫 존재 확인
         final CodeSnippet codeSnippet = codeSnippetRepository.findByIdAndIsActiveTrue(request.getCodeSnippetId())
                 .orElseThrow(() -> new ResourceNotFoundException("코드 스니펫을 찾을 수 없습니다: " + request.getCodeSnippetId()));
 
-        // 고유한 공유 ID 생성
-        String shareId;
-        do {
-            shareId = SharedCode.generateShareId();
-        } while (sharedCodeRepository.existsByShareId(shareId));
-
         // 만료 일시 설정
         LocalDateTime expiresAt = null;
         if (request.getExpirationDays() != null && request.getExpirationDays() > 0) {
@@ -64,6 +114,9 @@ public class SharedCodeService {
         // 공유 코드 생성
         final SharedCode sharedCode = new SharedCode(codeSnippet, shareId, expiresAt);
         final SharedCode savedSharedCode = sharedCodeRepository.save(sharedCode);
+        statisticsRollupService.recordShareCreated(savedSharedCode);
+        shareResponseCache.evict(shareId);
+        shareExpiryService.schedule(savedSharedCode);
 
         log.info("Share created with ID: {} for code snippet: {}", shareId, request.getCodeSnippetId());
 
@@ -72,17 +125,36 @@ public class SharedCodeService {
 
     /**
      * 공유 ID로 공유된 코드 스니펫을 조회합니다.
+     * 공유 응답 캐시에 있으면 트랜잭션을 시작하지 않고 바로 응답합니다.
      *
      * @param shareId 공유 ID
      * @return 공유 응답
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ShareResponse getSharedCode(final String shareId) {
         log.debug("Retrieving shared code with share ID: {}", shareId);
 
-        final SharedCode sharedCode = sharedCodeRepository.findValidByShareId(shareId)
+        return shareResponseCache.get(shareId, this::loadValidShare)
                 .orElseThrow(() -> new ResourceNotFoundException("공유된 코드를 찾을 수 없거나 만료되었습니다: " + shareId));
+    }
+
+    /**
+     * 여러 공유 코드를 공유 ID로 한 번에 조회합니다.
+     * 캐시에 없는 공유만 코드 스니펫과 함께 IN 쿼리 한 번으로 읽고, 스니펫 통계는 한 번에 집계합니다.
+     * 모두 캐시에 있으면 트랜잭션을 시작하지 않고 바로 응답합니다.
+     *
+     * @param shareIds 공유 ID 목록 (요청 순서, 중복 허용)
+     * @return 요청 순서의 일괄 조회 응답, 없거나 만료된 공유는 찾지 못한 항목
+     * @throws IllegalArgumentException ID 수가 최대값을 넘는 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkResponse<String, ShareResponse> getSharedCodes(final List<String> shareIds) {
+        BulkResponse.checkSize(shareIds, bulkMaxIds);
+        if (shareIds.isEmpty()) {
+            return BulkResponse.of(shareIds, Map.of());
+        }
 
-        return convertToResponse(sharedCode);
+        return BulkResponse.of(shareIds, shareResponseCache.getAll(shareIds, this::loadValidShares));
     }
 
     /**
@@ -97,8 +169,12 @@ public class SharedCodeService {
         final SharedCode sharedCode = sharedCodeRepository.findByShareId(shareId)
                 .orElseThrow(() -> new ResourceNotFoundException("공유를 찾을 수 없습니다: " + shareId));
 
+        if (Boolean.TRUE.equals(sharedCode.getIsActive())) {
+            statisticsRollupService.recordShareDeactivated(sharedCode);
+        }
         sharedCode.deactivate();
         sharedCodeRepository.save(sharedCode);
+        shareResponseCache.evict(shareId);
 
         log.info("Share deactivated with ID: {}", shareId);
     }
@@ -116,11 +192,32 @@ public class SharedCodeService {
                 codeSnippetId, pageable.getPageNumber(), pageable.getPageSize());
 
         final Page<SharedCode> sharesPage = sharedCodeRepository
-                .findByCodeSnippetIdAndIsActiveTrueOrderByCreatedAtDesc(codeSnippetId, pageable);
+                .findActiveByCodeSnippetId(codeSnippetId, pageable);
 
         return convertToPageResponse(sharesPage);
     }
 
+    /**
+     * 코드 스니펫의 활성 공유를 커서 위치부터 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param cursor        페이지 커서
+     * @param size          페이지 크기
+     * @return 다음 커서를 포함한 공유 목록
+     */
+    public PageResponse<ShareResponse> getSharesByCodeSnippet(final Long codeSnippetId,
+                                                              final PageCursor cursor,
+                                                              final int size) {
+        log.debug("Retrieving shares for code snippet ID: {} after cursor: {}/{}, size: {}",
+                codeSnippetId, cursor.getCreatedAt(), cursor.getId(), size);
+
+        final Slice<SharedCode> sharesSlice = sharedCodeRepository
+                .findActiveByCodeSnippetIdBefore(codeSnippetId, cursor.getCreatedAt(), cursor.getId(),
+                        PageRequest.of(0, size));
+
+        return convertToCursorResponse(sharesSlice, cursor);
+    }
+
     /**
      * 최근 생성된 활성 공유들을 조회합니다.
      *
@@ -131,12 +228,80 @@ public class SharedCodeService {
         log.debug("Retrieving recent shares with page: {}, size: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        final Page<SharedCode> sharesPage = sharedCodeRepository
-                .findByIsActiveTrueOrderByCreatedAtDesc(pageable);
+        final Page<SharedCode> sharesPage = sharedCodeRepository.findRecentActive(pageable);
 
         return convertToPageResponse(sharesPage);
     }
 
+    /**
+     * 최근 생성된 활성 공유들을 커서 위치부터 조회합니다.
+     *
+     * @param cursor 페이지 커서
+     * @param size   페이지 크기
+     * @return 다음 커서를 포함한 공유 목록
+     */
+    public PageResponse<ShareResponse> getRecentShares(final PageCursor cursor, final int size) {
+        log.debug("Retrieving recent shares after cursor: {}/{}, size: {}",
+                cursor.getCreatedAt(), cursor.getId(), size);
+
+        final Slice<SharedCode> sharesSlice = sharedCodeRepository
+                .findActiveBefore(cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size));
+
+        return convertToCursorResponse(sharesSlice, cursor);
+    }
+
+    /**
+     * 코드 스니펫의 활성 공유 요약을 조회합니다.
+     * 코드 스니펫은 제목과 언어만 읽는 프로젝션으로 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param pageable      페이징 정보
+     * @return 페이징된 공유 요약 목록
+     */
+    public PageResponse<ShareSummaryResponse> getShareSummariesByCodeSnippet(final Long codeSnippetId,
+                                                                             final Pageable pageable) {
+        return withShareUrls(PageResponse.of(
+                sharedCodeRepository.findActiveSummariesByCodeSnippetId(codeSnippetId, pageable)));
+    }
+
+    /**
+     * 코드 스니펫의 활성 공유 요약을 커서 위치부터 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param cursor        페이지 커서
+     * @param size          페이지 크기
+     * @return 다음 커서를 포함한 공유 요약 목록
+     */
+    public PageResponse<ShareSummaryResponse> getShareSummariesByCodeSnippet(final Long codeSnippetId,
+                                                                             final PageCursor cursor,
+                                                                             final int size) {
+        return withShareUrls(PageResponse.of(sharedCodeRepository.findActiveSummariesByCodeSnippetIdBefore(
+                codeSnippetId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size)),
+                cursor, SUMMARY_CURSOR));
+    }
+
+    /**
+     * 최근 생성된 활성 공유 요약을 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @return 페이징된 공유 요약 목록
+     */
+    public PageResponse<ShareSummaryResponse> getRecentShareSummaries(final Pageable pageable) {
+        return withShareUrls(PageResponse.of(sharedCodeRepository.findActiveSummaries(pageable)));
+    }
+
+    /**
+     * 최근 생성된 활성 공유 요약을 커서 위치부터 조회합니다.
+     *
+     * @param cursor 페이지 커서
+     * @param size   페이지 크기
+     * @return 다음 커서를 포함한 공유 요약 목록
+     */
+    public PageResponse<ShareSummaryResponse> getRecentShareSummaries(final PageCursor cursor, final int size) {
+        return withShareUrls(PageResponse.of(sharedCodeRepository.findActiveSummariesBefore(
+                cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size)), cursor, SUMMARY_CURSOR));
+    }
+
     /**
      * 곧 만료될 공유들을 조회합니다.
      *
@@ -156,6 +321,7 @@ public class SharedCodeService {
 
     /**
      * 만료된 공유들을 비활성화합니다.
+     * 평소에는 {@link ShareExpiryService}가 만료 시점에 처리하며, 이 메서드는 수동 일괄 정리용입니다.
      *
      * @return 비활성화된 공유 개수
      */
@@ -163,7 +329,11 @@ public class SharedCodeService {
     public int deactivateExpiredShares() {
         log.info("Deactivating expired shares");
 
-        final int deactivatedCount = sharedCodeRepository.deactivateExpiredSharedCodes(LocalDateTime.now());
+        // 분 경계까지만 비활성화해 해당 만료 버킷을 통째로 비울 수 있게 합니다.
+        // 유효성은 조회 시 만료 일시로 다시 확인하므로 남은 1분 미만의 공유도 접근할 수 없습니다.
+        final LocalDateTime cutoff = RollupGranularity.MINUTE.bucketOf(LocalDateTime.now());
+        final int deactivatedCount = sharedCodeRepository.deactivateExpiredSharedCodes(cutoff);
+        statisticsRollupService.clearExpiredShareBuckets(cutoff);
 
         log.info("Deactivated {} expired shares", deactivatedCount);
         return deactivatedCount;
@@ -171,13 +341,55 @@ public class SharedCodeService {
 
     /**
      * 공유 통계를 조회합니다.
+     * 전체 테이블 집계 대신 통계 롤업 버킷을 읽습니다.
      *
-     * @return 공유 통계 배열 [전체, 활성, 만료, 무기한]
+     * @return 공유 통계 (전체, 활성, 만료, 무기한)
      */
-    public Object[] getShareStatistics() {
+    public ShareStatisticsResponse getShareStatistics() {
         log.debug("Retrieving share statistics");
 
-        return sharedCodeRepository.findSharingStatistics();
+        return statisticsRollupService.getShareStatistics();
+    }
+
+    /**
+     * 유효한 공유를 조회해 응답으로 변환합니다. 공유 응답 캐시의 로더로 사용됩니다.
+     *
+     * @param shareId 공유 ID
+     * @return 공유 응답. 없거나 비활성/만료되었거나 스니펫이 삭제되었으면 빈 값
+     */
+    private Optional<ShareResponse> loadValidShare(final String shareId) {
+        // 캐시 가능한 공유 ID 조회 후 활성/만료 여부는 메모리에서 확인합니다.
+        return sharedCodeRepository.findByShareId(shareId)
+                .filter(SharedCode::isValid)
+                .filter(share -> Boolean.TRUE.equals(share.getCodeSnippet().getIsActive()))
+                .map(this::convertToResponse);
+    }
+
+    /**
+     * 공유 ID 집합 중 유효한 공유의 응답을 만듭니다.
+     *
+     * @param shareIds 공유 ID 집합
+     * @return 공유 ID별 응답
+     */
+    private Map<String, ShareResponse> loadValidShares(final Set<String> shareIds) {
+        final List<SharedCode> sharedCodes = sharedCodeRepository.findByShareIdIn(shareIds).stream()
+                .filter(SharedCode::isValid)
+                .filter(share -> Boolean.TRUE.equals(share.getCodeSnippet().getIsActive()))
+                .toList();
+        return convertToResponses(sharedCodes).stream()
+                .collect(Collectors.toMap(ShareResponse::getShareId, Function.identity()));
+    }
+
+    /**
+     * 공유 요약 목록에 공유 URL을 채웁니다.
+     *
+     * @param response 공유 요약 목록
+     * @return 같은 응답
+     */
+    private PageResponse<ShareSummaryResponse> withShareUrls(final PageResponse<ShareSummaryResponse> response) {
+        response.getContent().forEach(summary -> summary.setShareUrl(
+                SharedCode.generateShareUrl(baseUrl, summary.getShareId())));
+        return response;
     }
 
     /**
@@ -187,16 +399,38 @@ public class SharedCodeService {
      * @return 공유 응답 DTO
      */
     private ShareResponse convertToResponse(final SharedCode sharedCode) {
-        return ShareResponse.builder()
-                .id(sharedCode.getId())
-                .codeSnippetId(sharedCode.getCodeSnippet().getId())
-                .shareId(sharedCode.getShareId())
-                .shareUrl(sharedCode.generateShareUrl(baseUrl))
-                .expiresAt(sharedCode.getExpiresAt())
-                .isActive(sharedCode.getIsActive())
-                .createdAt(sharedCode.getCreatedAt())
-                .codeSnippet(codeSnippetService.getCodeSnippet(sharedCode.getCodeSnippet().getId()))
-                .build();
+        return convertToResponses(List.of(sharedCode)).get(0);
+    }
+
+    /**
+     * 여러 SharedCode 엔티티를 ShareResponse 목록으로 변환합니다.
+     * 코드 스니펫은 조회 시 함께 로딩된 연관 엔티티를 사용하고,
+     * 스니펫 통계는 페이지 전체에 대해 한 번에 집계합니다.
+     *
+     * @param sharedCodes 공유 코드 엔티티 목록
+     * @return 입력 순서를 유지한 공유 응답 DTO 목록
+     */
+    private List<ShareResponse> convertToResponses(final List<SharedCode> sharedCodes) {
+        final List<CodeSnippet> codeSnippets = sharedCodes.stream()
+                .map(SharedCode::getCodeSnippet)
+                .distinct()
+                .toList();
+        final Map<Long, CodeSnippetResponse> snippetResponses = codeSnippetService.convertToResponses(codeSnippets)
+                .stream()
+                .collect(Collectors.toMap(CodeSnippetResponse::getId, Function.identity()));
+
+        return sharedCodes.stream()
+                .map(sharedCode -> ShareResponse.builder()
+                        .id(sharedCode.getId())
+                        .codeSnippetId(sharedCode.getCodeSnippet().getId())
+                        .shareId(sharedCode.getShareId())
+                        .shareUrl(sharedCode.generateShareUrl(baseUrl))
+                        .expiresAt(sharedCode.getExpiresAt())
+                        .isActive(sharedCode.getIsActive())
+                        .createdAt(sharedCode.getCreatedAt())
+                        .codeSnippet(snippetResponses.get(sharedCode.getCodeSnippet().getId()))
+                        .build())
+                .toList();
     }
 
     /**
@@ -207,9 +441,7 @@ public class SharedCodeService {
      */
     private PageResponse<ShareResponse> convertToPageResponse(final Page<SharedCode> sharesPage) {
         return PageResponse.<ShareResponse>builder()
-                .content(sharesPage.getContent().stream()
-                        .map(this::convertToResponse)
-                        .toList())
+                .content(convertToResponses(sharesPage.getContent()))
                 .page(sharesPage.getNumber())
                 .size(sharesPage.getSize())
                 .totalElements(sharesPage.getTotalElements())
@@ -218,4 +450,27 @@ public class SharedCodeService {
                 .last(sharesPage.isLast())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Slice<SharedCode>를 커서 페이징 응답으로 변환합니다.
+     *
+     * @param sharesSlice 공유 슬라이스
+     * @param cursor      요청한 페이지 커서
+     * @return 커서 페이징 응답 DTO
+     */
+    private PageResponse<ShareResponse> convertToCursorResponse(final Slice<SharedCode> sharesSlice,
+                                                                final PageCursor cursor) {
+        final List<SharedCode> content = sharesSlice.getContent();
+        final SharedCode lastItem = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return PageResponse.<ShareResponse>builder()
+                .content(convertToResponses(content))
+                .size(sharesSlice.getSize())
+                .first(cursor.isFirst())
+                .last(!sharesSlice.hasNext())
+                .nextCursor(sharesSlice.hasNext() && lastItem != null
+                        ? PageCursor.after(lastItem.getCreatedAt(), lastItem.getId()).encode()
+                        : null)
+                .build();
+    }
+}
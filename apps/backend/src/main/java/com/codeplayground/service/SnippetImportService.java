@@ -0,0 +1,287 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.CodeSnippetRequest;
+import com.codeplayground.dto.SnippetImportResponse;
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.event.CodeSnippetChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 코드 스니펫 일괄 가져오기 서비스.
+ * NDJSON(한 줄에 {@link CodeSnippetRequest} 하나) 스트림을 읽어 JDBC 배치 INSERT로 저장합니다.
+ *
+ * <ul>
+ *   <li>요청 본문을 줄 단위로 읽고 묶음 크기만큼만 메모리에 보관하므로 입력 크기와 관계없이 메모리 사용량이 일정합니다.</li>
+ *   <li>각 줄은 단건 생성 API와 같은 Bean Validation 규칙으로 검증하며, JSON 오류나 검증 실패는
+ *       해당 줄만 실패로 기록하고 계속 진행합니다.</li>
+ *   <li>묶음마다 별도 트랜잭션으로 커밋합니다. 묶음 INSERT가 실패하면 그 묶음을 한 줄씩 다시 저장해
+ *       실패한 줄만 기록합니다.</li>
+ *   <li>저장된 스니펫마다 {@link CodeSnippetChangedEvent}를 발행해 검색 색인에 반영합니다.
+ *       응답 변환과 통계 조회는 하지 않습니다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class SnippetImportService {
+
+    /**
+     * 응답에 포함할 최대 실패 줄 수.
+     */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO code_snippets (title, code, language, author_name, is_active, popularity_score, " +
+            "current_version, created_at, updated_at) VALUES (?, ?, ?, ?, true, 0, 1, ?, ?)";
+
+    private static final String INSERT_VERSION_SQL =
+            "INSERT INTO code_snippet_versions (code_snippet_id, version, checkpoint, content, created_at) " +
+            "VALUES (?, 1, true, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ObjectReader requestReader;
+    private final Validator validator;
+    private final int batchSize;
+
+    /**
+     * SnippetImportService 생성자.
+     *
+     * @param jdbcTemplate       JDBC 템플릿
+     * @param transactionManager 트랜잭션 관리자
+     * @param eventPublisher     이벤트 발행기
+     * @param entityCacheEvictor 2차 캐시 무효화 도우미
+     * @param objectMapper       JSON 매퍼
+     * @param validator          Bean Validation 검증기
+     * @param batchSize          한 번에 저장할 최대 스니펫 수
+     */
+    public SnippetImportService(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final ApplicationEventPublisher eventPublisher,
+            final EntityCacheEvictor entityCacheEvictor,
+            final ObjectMapper objectMapper,
+            final Validator validator,
+            @Value("${code-playground.snippet.import.batch-size:500}") final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.requestReader = objectMapper.readerFor(CodeSnippetRequest.class);
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * NDJSON 스트림에서 코드 스니펫을 가져옵니다.
+     * 빈 줄은 건너뜁니다.
+     *
+     * @param inputStream UTF-8 NDJSON 입력 스트림
+     * @return 가져오기 결과
+     * @throws IOException 입력 스트림을 읽지 못한 경우
+     */
+    public SnippetImportResponse importSnippets(final InputStream inputStream) throws IOException {
+        final long startedAt = System.currentTimeMillis();
+        final ImportResult result = new ImportResult();
+        final List<PendingSnippet> pending = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.totalLines++;
+
+                final CodeSnippetRequest request = parse(line, lineNumber, result);
+                if (request == null) {
+                    continue;
+                }
+                pending.add(new PendingSnippet(lineNumber, request));
+                if (pending.size() >= batchSize) {
+                    flush(pending, result);
+                }
+            }
+        }
+        flush(pending, result);
+
+        final long elapsedMillis = System.currentTimeMillis() - startedAt;
+        log.info("Imported {} of {} snippets ({} failed) in {}ms",
+                result.importedCount, result.totalLines, result.failedCount, elapsedMillis);
+
+        return SnippetImportResponse.builder()
+                .totalLines(result.totalLines)
+                .importedCount(result.importedCount)
+                .failedCount(result.failedCount)
+                .errors(result.errors)
+                .errorsTruncated(result.failedCount > result.errors.size())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 한 줄을 요청 DTO로 읽고 검증합니다.
+     *
+     * @return 유효한 요청, 실패하면 null
+     */
+    private CodeSnippetRequest parse(final String line, final long lineNumber, final ImportResult result) {
+        final CodeSnippetRequest request;
+        try {
+            request = requestReader.readValue(line);
+        } catch (final JsonProcessingException e) {
+            result.fail(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            return null;
+        }
+        if (request == null) {
+            result.fail(lineNumber, "스니펫 객체가 아닙니다");
+            return null;
+        }
+
+        final String violations = validator.validate(request).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+        if (!violations.isEmpty()) {
+            result.fail(lineNumber, violations);
+            return null;
+        }
+        return request;
+    }
+
+    /**
+     * 모인 스니펫을 한 트랜잭션으로 저장하고 목록을 비웁니다.
+     * 묶음 저장이 실패하면 한 건씩 다시 저장합니다.
+     */
+    private void flush(final List<PendingSnippet> pending, final ImportResult result) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(pending));
+            result.importedCount += pending.size();
+        } catch (final DataAccessException batchFailure) {
+            log.debug("Snippet import batch failed, retrying row by row: {}", batchFailure.getMessage());
+            for (final PendingSnippet snippet : pending) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(snippet)));
+                    result.importedCount++;
+                } catch (final DataAccessException e) {
+                    result.fail(snippet.lineNumber(), "저장하지 못했습니다: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * 스니펫과 첫 버전 체크포인트를 JDBC 배치 INSERT로 저장하고 검색 색인 갱신 이벤트를 발행합니다.
+     * 이벤트는 트랜잭션이 커밋된 뒤 처리됩니다. 새 ID로 캐시되어 있던 빈 조회 결과가 남지 않도록 쿼리 캐시를 비웁니다.
+     */
+    private void insert(final List<PendingSnippet> snippets) {
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                        final CodeSnippetRequest request = snippets.get(i).request();
+                        ps.setString(1, request.getTitle());
+                        ps.setString(2, request.getCode());
+                        ps.setString(3, request.getLanguage());
+                        ps.setString(4, request.getAuthorName());
+                        ps.setTimestamp(5, now);
+                        ps.setTimestamp(6, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return snippets.size();
+                    }
+                },
+                keyHolder);
+
+        final List<Map<String, Object>> keys = keyHolder.getKeyList();
+        final List<Long> ids = keys.stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+        final List<Object[]> versions = new ArrayList<>(snippets.size());
+        for (int i = 0; i < snippets.size(); i++) {
+            versions.add(new Object[]{ids.get(i), snippets.get(i).request().getCode(), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_VERSION_SQL, versions);
+        entityCacheEvictor.evictCodeSnippets(ids);
+
+        for (int i = 0; i < snippets.size(); i++) {
+            final CodeSnippetRequest request = snippets.get(i).request();
+            final CodeSnippet saved = CodeSnippet.builder()
+                    .id(ids.get(i))
+                    .title(request.getTitle())
+                    .code(request.getCode())
+                    .language(request.getLanguage())
+                    .authorName(request.getAuthorName())
+                    .build();
+            eventPublisher.publishEvent(CodeSnippetChangedEvent.saved(saved));
+        }
+    }
+
+    /**
+     * 저장을 기다리는 스니펫.
+     *
+     * @param lineNumber 줄 번호
+     * @param request    요청 DTO
+     */
+    private record PendingSnippet(long lineNumber, CodeSnippetRequest request) {
+    }
+
+    /**
+     * 가져오기 진행 상황.
+     */
+    private static final class ImportResult {
+
+        private final List<SnippetImportResponse.LineError> errors = new ArrayList<>();
+        private long totalLines;
+        private long importedCount;
+        private long failedCount;
+
+        void fail(final long lineNumber, final String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new SnippetImportResponse.LineError(lineNumber, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.SnippetVersionResponse;
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.CodeSnippetVersion;
+import com.codeplayground.exception.ResourceNotFoundException;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.repository.CodeSnippetVersionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 코드 스니펫 버전 서비스.
+ * 코드가 바뀔 때마다 이전 코드와의 줄 단위 차이를 새 버전으로 저장하고, 요청한 버전의 코드를 복원합니다.
+ *
+ * <ul>
+ *   <li>버전 1과 {@code checkpoint-interval}마다의 버전은 코드 전체를 체크포인트로 저장합니다.
+ *       차이가 코드 전체보다 크거나 같으면 그 버전도 체크포인트로 저장합니다.</li>
+ *   <li>복원은 가장 가까운 체크포인트부터 차이를 적용하므로 읽는 행 수가 체크포인트 간격을 넘지 않습니다.</li>
+ *   <li>저장된 버전은 바뀌지 않으므로 복원한 결과를 캐시합니다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class SnippetVersionService {
+
+    private final CodeSnippetVersionRepository codeSnippetVersionRepository;
+    private final CodeSnippetRepository codeSnippetRepository;
+    private final Cache<VersionKey, SnippetVersionResponse> versions;
+    private final int checkpointInterval;
+
+    /**
+     * SnippetVersionService 생성자.
+     *
+     * @param codeSnippetVersionRepository 코드 스니펫 버전 리포지토리
+     * @param codeSnippetRepository        코드 스니펫 리포지토리
+     * @param meterRegistry                메트릭 레지스트리
+     * @param cacheSize                    캐시할 최대 버전 수
+     * @param checkpointInterval           체크포인트 간격 (버전 수)
+     */
+    public SnippetVersionService(
+            final CodeSnippetVersionRepository codeSnippetVersionRepository,
+            final CodeSnippetRepository codeSnippetRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${code-playground.snippet.versions.cache-size:1000}") final long cacheSize,
+            @Value("${code-playground.snippet.versions.checkpoint-interval:20}") final int checkpointInterval) {
+        this.codeSnippetVersionRepository = codeSnippetVersionRepository;
+        this.codeSnippetRepository = codeSnippetRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "snippet-versions");
+    }
+
+    /**
+     * 새 코드 스니펫의 코드를 버전 1 체크포인트로 저장합니다.
+     * 저장된 코드 스니펫 ID가 필요하므로 스니펫을 저장한 뒤 같은 트랜잭션에서 호출해야 합니다.
+     *
+     * @param codeSnippet 저장된 코드 스니펫
+     */
+    @Transactional
+    public void recordInitialVersion(final CodeSnippet codeSnippet) {
+        codeSnippetVersionRepository.save(new CodeSnippetVersion(codeSnippet.getId(), 1, true, codeSnippet.getCode()));
+    }
+
+    /**
+     * 코드 스니펫의 코드를 바꾸고 새 버전을 저장합니다.
+     * 코드가 같으면 버전을 만들지 않습니다. 같은 스니펫의 동시 수정이 같은 버전 번호를 쓰지 않도록
+     * 스니펫 행을 잠근 트랜잭션에서 호출해야 합니다.
+     *
+     * @param codeSnippet 수정할 코드 스니펫
+     * @param code        새 코드
+     */
+    @Transactional
+    public void updateCode(final CodeSnippet codeSnippet, final String code) {
+        final String previousCode = codeSnippet.getCode();
+        if (code.equals(previousCode)) {
+            return;
+        }
+
+        final int version = codeSnippet.getCurrentVersion() + 1;
+        final Integer lastCheckpoint = codeSnippetVersionRepository.findLatestCheckpointVersion(codeSnippet.getId());
+        final String delta = LineDelta.diff(previousCode, code);
+        final boolean checkpoint = lastCheckpoint == null
+                || version - lastCheckpoint >= checkpointInterval
+                || delta.length() >= code.length();
+
+        codeSnippetVersionRepository.save(new CodeSnippetVersion(
+                codeSnippet.getId(), version, checkpoint, checkpoint ? code : delta));
+        codeSnippet.setCode(code);
+        codeSnippet.setCurrentVersion(version);
+
+        log.debug("Recorded version {} of code snippet {} as {}",
+                version, codeSnippet.getId(), checkpoint ? "checkpoint" : "delta");
+    }
+
+    /**
+     * 코드 스니펫의 특정 버전을 조회합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param version       버전 번호
+     * @return 해당 버전의 코드
+     */
+    public SnippetVersionResponse getVersion(final Long codeSnippetId, final int version) {
+        final CodeSnippet codeSnippet = codeSnippetRepository.findByIdAndIsActiveTrue(codeSnippetId)
+                .orElseThrow(() -> new ResourceNotFoundException("코드 스니펫을 찾을 수 없습니다: " + codeSnippetId));
+        if (version < 1 || version > codeSnippet.getCurrentVersion()) {
+            throw new ResourceNotFoundException("코드 스니펫 버전을 찾을 수 없습니다: " + codeSnippetId + "/" + version);
+        }
+
+        return versions.get(new VersionKey(codeSnippetId, version), this::reconstruct);
+    }
+
+    /**
+     * 가장 가까운 체크포인트부터 차이를 적용해 버전을 복원합니다.
+     */
+    private SnippetVersionResponse reconstruct(final VersionKey key) {
+        final List<CodeSnippetVersion> chain =
+                codeSnippetVersionRepository.findReconstructionChain(key.codeSnippetId(), key.version());
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getId().getVersion() != key.version()) {
+            throw new ResourceNotFoundException(
+                    "코드 스니펫 버전을 찾을 수 없습니다: " + key.codeSnippetId() + "/" + key.version());
+        }
+
+        String code = chain.get(0).getContent();
+        for (int i = 1; i < chain.size(); i++) {
+            code = LineDelta.apply(code, chain.get(i).getContent());
+        }
+
+        final CodeSnippetVersion target = chain.get(chain.size() - 1);
+        log.debug("Reconstructed version {} of code snippet {} from {} rows",
+                key.version(), key.codeSnippetId(), chain.size());
+        return SnippetVersionResponse.builder()
+                .codeSnippetId(key.codeSnippetId())
+                .version(key.version())
+                .code(code)
+                .createdAt(target.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 버전 캐시 키.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @param version       버전 번호
+     */
+    private record VersionKey(Long codeSnippetId, int version) {
+    }
+}
@@ -0,0 +1,637 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.ExecutionStatisticsResponse;
+import com.codeplayground.dto.ShareStatisticsResponse;
+import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.ShareExpiryBucket;
+import com.codeplayground.entity.SharedCode;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.entity.enums.RollupGranularity;
+import com.codeplayground.repository.ExecutionRollupRepository;
+import com.codeplayground.repository.ShareExpiryBucketRepository;
+import com.codeplayground.repository.ShareRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 통계 롤업 서비스.
+ * 실행 기록과 공유 통계를 분/시간/일 버킷 테이블에 증분 집계하고, 통계 조회는 이 버킷만 읽습니다.
+ * 대시보드 조회 비용은 원본 행 수와 무관하게 버킷 수에만 비례합니다.
+ *
+ * <ul>
+ *   <li>실행 기록: 배치 저장기가 실행 기록을 저장하는 트랜잭션 안에서 언어, 상태별로 합산해 반영합니다.</li>
+ *   <li>공유: 생성 시 생성 수와 만료 버킷의 활성 수를 늘리고, 비활성화 시 활성 수를 줄입니다.
+ *       만료 공유 일괄 비활성화는 분 단위 경계까지 처리한 뒤 해당 버킷을 통째로 삭제합니다.</li>
+ *   <li>갱신은 PostgreSQL에서는 {@code INSERT ... ON CONFLICT}로, 그 외 DB에서는 UPDATE 후 INSERT로 처리하며,
+ *       잠금 순서를 일정하게 유지하기 위해 키 순으로 반영합니다. UPDATE 후 INSERT 사이에 다른 트랜잭션이
+ *       같은 행을 먼저 만들면 INSERT 문만 실패하므로 UPDATE를 다시 실행합니다.</li>
+ *   <li>분 버킷과 시간 버킷은 보존 기간이 지나면 삭제하고, 일 버킷은 계속 보관합니다.
+ *       따라서 실행 기록 보존 정리 후에도 전체 통계는 유지됩니다.</li>
+ *   <li>롤업이 비어 있으면 시작 시 원본 테이블에서 한 번 채웁니다. 이미 채워진 롤업을 다시 만들 때는
+ *       원본이 모두 남아 있는 보존 기간 안의 버킷만 지우고 다시 집계하므로, 보존 정리로 원본이 삭제된
+ *       일 버킷은 그대로 남습니다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class StatisticsRollupService {
+
+    /**
+     * 시계열 조회 한 번에 반환할 수 있는 최대 버킷 수.
+     */
+    public static final int MAX_SERIES_BUCKETS = 1440;
+
+    private static final RollupTable EXECUTION_ROLLUPS = new RollupTable("execution_rollups",
+            List.of("granularity", "bucket_start", "language", "status"),
+            List.of("execution_count", "total_execution_time"));
+
+    private static final RollupTable SHARE_ROLLUPS = new RollupTable("share_rollups",
+            List.of("granularity", "bucket_start"),
+            List.of("created_shares"));
+
+    private static final RollupTable SHARE_EXPIRY_BUCKETS = new RollupTable("share_expiry_buckets",
+            List.of("bucket_start"),
+            List.of("active_shares"));
+
+    private static final String SELECT_EXECUTIONS_SQL =
+            "SELECT e.created_at, e.status, e.execution_time, cs.language " +
+            "FROM executions e JOIN code_snippets cs ON cs.id = e.code_snippet_id";
+
+    private static final String SELECT_EXECUTIONS_FROM_SQL = SELECT_EXECUTIONS_SQL + " WHERE e.created_at >= ?";
+
+    private static final String SELECT_SHARES_SQL =
+            "SELECT created_at, expires_at, is_active FROM shared_codes";
+
+    private static final String LOCK_ROLLUPS_SQL =
+            "LOCK TABLE execution_rollups, share_rollups, share_expiry_buckets IN SHARE ROW EXCLUSIVE MODE";
+
+    private static final int REBUILD_FETCH_SIZE = 1000;
+
+    private static final Comparator<ExecutionBucket> EXECUTION_BUCKET_ORDER =
+            Comparator.comparing(ExecutionBucket::granularity)
+                    .thenComparing(ExecutionBucket::bucketStart)
+                    .thenComparing(ExecutionBucket::language)
+                    .thenComparing(ExecutionBucket::status);
+
+    private static final Comparator<ShareBucket> SHARE_BUCKET_ORDER =
+            Comparator.comparing(ShareBucket::granularity)
+                    .thenComparing(ShareBucket::bucketStart);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutionRollupRepository executionRollupRepository;
+    private final ShareRollupRepository shareRollupRepository;
+    private final ShareExpiryBucketRepository shareExpiryBucketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int minuteRetentionHours;
+    private final int hourRetentionDays;
+    private final int executionRetentionDays;
+    private final int sharePurgeInactiveDays;
+    private volatile Boolean postgres;
+
+    /**
+     * StatisticsRollupService 생성자.
+     *
+     * @param jdbcTemplate                JDBC 템플릿
+     * @param executionRollupRepository   실행 통계 롤업 리포지토리
+     * @param shareRollupRepository       공유 생성 통계 롤업 리포지토리
+     * @param shareExpiryBucketRepository 활성 공유 만료 버킷 리포지토리
+     * @param transactionManager          트랜잭션 관리자
+     * @param minuteRetentionHours        분 버킷 보존 기간 (시간)
+     * @param hourRetentionDays           시간 버킷 보존 기간 (일)
+     * @param executionRetentionDays      실행 기록 보존 기간 (일), 0 이하이면 삭제하지 않음
+     * @param sharePurgeInactiveDays      비활성 공유 보존 기간 (일), 0 이하이면 삭제하지 않음
+     */
+    public StatisticsRollupService(
+            final JdbcTemplate jdbcTemplate,
+            final ExecutionRollupRepository executionRollupRepository,
+            final ShareRollupRepository shareRollupRepository,
+            final ShareExpiryBucketRepository shareExpiryBucketRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${code-playground.statistics.rollup.minute-retention-hours:48}") final int minuteRetentionHours,
+            @Value("${code-playground.statistics.rollup.hour-retention-days:90}") final int hourRetentionDays,
+            @Value("${code-playground.execution.retention.days:90}") final int executionRetentionDays,
+            @Value("${code-playground.sharing.expiry.purge-inactive-days:90}") final int sharePurgeInactiveDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executionRollupRepository = executionRollupRepository;
+        this.shareRollupRepository = shareRollupRepository;
+        this.shareExpiryBucketRepository = shareExpiryBucketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minuteRetentionHours = minuteRetentionHours;
+        this.hourRetentionDays = hourRetentionDays;
+        this.executionRetentionDays = executionRetentionDays;
+        this.sharePurgeInactiveDays = sharePurgeInactiveDays;
+    }
+
+    /**
+     * 저장된 실행 기록을 실행 통계 롤업에 반영합니다.
+     * 실행 기록을 저장하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param executions 저장된 실행 기록 목록
+     */
+    public void recordExecutions(final List<Execution> executions) {
+        final LocalDateTime now = LocalDateTime.now();
+        final Map<ExecutionBucket, long[]> buckets = new TreeMap<>(EXECUTION_BUCKET_ORDER);
+        for (final Execution execution : executions) {
+            addExecution(buckets, now, execution.getCreatedAt(), execution.getCodeSnippet().getLanguage(),
+                    execution.getStatus(), execution.getExecutionTime());
+        }
+        upsertExecutionBuckets(buckets);
+    }
+
+    /**
+     * 생성된 공유를 공유 통계 롤업에 반영합니다.
+     * 공유를 저장하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param sharedCode 저장된 공유 코드
+     */
+    public void recordShareCreated(final SharedCode sharedCode) {
+        final Map<ShareBucket, Long> buckets = new TreeMap<>(SHARE_BUCKET_ORDER);
+        addShareCreated(buckets, LocalDateTime.now(), sharedCode.getCreatedAt());
+        upsertShareBuckets(buckets);
+        addActiveShares(expiryBucketOf(sharedCode.getExpiresAt()), 1L);
+    }
+
+    /**
+     * 비활성화된 공유를 활성 공유 만료 버킷에서 뺍니다.
+     * 활성 상태였던 공유를 비활성화하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param sharedCode 비활성화된 공유 코드
+     */
+    public void recordShareDeactivated(final SharedCode sharedCode) {
+        addActiveShares(expiryBucketOf(sharedCode.getExpiresAt()), -1L);
+    }
+
+    /**
+     * 기준 시각 이전의 만료 버킷을 삭제합니다.
+     * 만료 시각이 기준 시각 이전인 활성 공유를 모두 비활성화한 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param cutoff 분 단위로 절삭된 기준 시각
+     * @return 삭제된 버킷 수
+     */
+    public int clearExpiredShareBuckets(final LocalDateTime cutoff) {
+        return shareExpiryBucketRepository.deleteByBucketStartBefore(cutoff);
+    }
+
+    /**
+     * 기준 시각 이전의 만료 버킷 중 활성 공유가 남지 않은 버킷을 삭제합니다.
+     *
+     * @param cutoff 분 단위로 절삭된 기준 시각
+     * @return 삭제된 버킷 수
+     */
+    public int clearEmptyShareBuckets(final LocalDateTime cutoff) {
+        return shareExpiryBucketRepository.deleteEmptyBefore(cutoff);
+    }
+
+    /**
+     * 전체 실행 통계를 조회합니다.
+     *
+     * @param language 프로그래밍 언어 (null이면 전체)
+     * @return 실행 통계
+     */
+    public ExecutionStatisticsResponse getExecutionStatistics(final String language) {
+        return toExecutionStatistics(null, language,
+                executionRollupRepository.sumByStatus(RollupGranularity.DAY, language));
+    }
+
+    /**
+     * 기간 내 실행 통계를 버킷별로 조회합니다. 실행이 없는 버킷은 포함되지 않습니다.
+     *
+     * @param granularity 집계 단위
+     * @param from        시작 시각 (포함)
+     * @param to          종료 시각 (제외)
+     * @param language    프로그래밍 언어 (null이면 전체)
+     * @return 버킷별 실행 통계 (시간 순)
+     */
+    public List<ExecutionStatisticsResponse> getExecutionSeries(final RollupGranularity granularity,
+                                                                final LocalDateTime from,
+                                                                final LocalDateTime to,
+                                                                final String language) {
+        validateSeriesRange(granularity, from, to);
+
+        final Map<LocalDateTime, List<Object[]>> rowsByBucket = new LinkedHashMap<>();
+        for (final Object[] row : executionRollupRepository.sumByBucketAndStatus(
+                granularity, granularity.bucketOf(from), to, language)) {
+            rowsByBucket.computeIfAbsent((LocalDateTime) row[0], bucket -> new ArrayList<>())
+                    .add(new Object[]{row[1], row[2], row[3]});
+        }
+
+        return rowsByBucket.entrySet().stream()
+                .map(entry -> toExecutionStatistics(entry.getKey(), language, entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 전체 공유 통계를 조회합니다.
+     *
+     * @return 공유 통계 (전체, 활성, 만료, 무기한)
+     */
+    public ShareStatisticsResponse getShareStatistics() {
+        final ShareExpiryBucketRepository.ActiveShareSummary summary = shareExpiryBucketRepository.summarize(
+                RollupGranularity.MINUTE.bucketOf(LocalDateTime.now()), ShareExpiryBucket.PERMANENT);
+
+        return ShareStatisticsResponse.builder()
+                .totalShares(shareRollupRepository.sumCreatedShares(RollupGranularity.DAY))
+                .activeShares(summary.getActiveShares())
+                .expiredShares(summary.getExpiredShares())
+                .permanentShares(summary.getPermanentShares())
+                .build();
+    }
+
+    /**
+     * 기간 내 공유 생성 수를 버킷별로 조회합니다. 생성이 없는 버킷은 포함되지 않습니다.
+     *
+     * @param granularity 집계 단위
+     * @param from        시작 시각 (포함)
+     * @param to          종료 시각 (제외)
+     * @return 버킷별 공유 생성 수 (시간 순)
+     */
+    public List<ShareStatisticsResponse> getShareSeries(final RollupGranularity granularity,
+                                                        final LocalDateTime from,
+                                                        final LocalDateTime to) {
+        validateSeriesRange(granularity, from, to);
+
+        return shareRollupRepository.findBuckets(granularity, granularity.bucketOf(from), to).stream()
+                .map(rollup -> ShareStatisticsResponse.builder()
+                        .bucketStart(rollup.getId().getBucketStart())
+                        .createdShares(rollup.getCreatedShares())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 보존 기간이 지난 분 버킷과 시간 버킷을 삭제합니다.
+     */
+    @Scheduled(cron = "${code-playground.statistics.rollup.prune-cron:0 5 * * * *}")
+    public void pruneExpiredBuckets() {
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime minuteCutoff = retentionCutoff(RollupGranularity.MINUTE, now);
+        final LocalDateTime hourCutoff = retentionCutoff(RollupGranularity.HOUR, now);
+
+        final Integer pruned = transactionTemplate.execute(status ->
+                executionRollupRepository.deleteByGranularityBefore(RollupGranularity.MINUTE, minuteCutoff)
+                        + executionRollupRepository.deleteByGranularityBefore(RollupGranularity.HOUR, hourCutoff)
+                        + shareRollupRepository.deleteByGranularityBefore(RollupGranularity.MINUTE, minuteCutoff)
+                        + shareRollupRepository.deleteByGranularityBefore(RollupGranularity.HOUR, hourCutoff));
+        log.debug("Pruned {} expired statistics rollup buckets", pruned);
+    }
+
+    /**
+     * 롤업이 비어 있고 원본 데이터가 있으면 시작 시 롤업을 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (executionRollupRepository.count() > 0 || shareRollupRepository.count() > 0) {
+            return;
+        }
+
+        final Long sourceRows = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM executions) + (SELECT COUNT(*) FROM shared_codes)", Long.class);
+        if (sourceRows != null && sourceRows > 0) {
+            log.info("Statistics rollups are empty, backfilling from {} source rows", sourceRows);
+            // 지킬 버킷이 없으므로 남아 있는 원본을 모두 집계합니다.
+            rebuild(null, null);
+        }
+    }
+
+    /**
+     * 원본 테이블에서 보존 기간 안의 롤업을 다시 만듭니다.
+     * 실행 통계는 실행 기록 보존 기준 시점 이후, 공유 생성 통계는 비활성 공유 보존 기준 시점 이후의 버킷만
+     * 지우고 다시 집계합니다. 기준 시점은 보존 정리와 같이 UTC 자정이므로 일 버킷 경계와 맞습니다.
+     * 기준 시점 이전의 일 버킷은 원본이 이미 삭제되었을 수 있으므로 건드리지 않습니다.
+     * 활성 공유 만료 버킷은 삭제되지 않는 활성 공유에서 모두 다시 만듭니다.
+     *
+     * <p>PostgreSQL에서는 롤업 테이블을 잠근 뒤 원본을 읽으므로, 재구성 중 커밋되는 실행 기록과 공유는
+     * 재구성이 끝난 뒤 롤업에 반영되어 누락이나 중복 없이 집계됩니다.</p>
+     *
+     * @return 집계한 원본 행 수
+     */
+    public long rebuild() {
+        return rebuild(purgeCutoff(executionRetentionDays), purgeCutoff(sharePurgeInactiveDays));
+    }
+
+    /**
+     * 기준 시점 이후의 롤업을 원본 테이블에서 다시 만듭니다.
+     *
+     * @param executionsFrom 실행 통계를 다시 만들 시작 시점 (null이면 전체)
+     * @param sharesFrom     공유 생성 통계를 다시 만들 시작 시점 (null이면 전체)
+     * @return 집계한 원본 행 수
+     */
+    private long rebuild(final LocalDateTime executionsFrom, final LocalDateTime sharesFrom) {
+        final long startedAt = System.currentTimeMillis();
+        final Long processed = transactionTemplate.execute(status -> {
+            if (isPostgres()) {
+                jdbcTemplate.execute(LOCK_ROLLUPS_SQL);
+            }
+            deleteBucketsFrom(EXECUTION_ROLLUPS, executionsFrom);
+            deleteBucketsFrom(SHARE_ROLLUPS, sharesFrom);
+            jdbcTemplate.update("DELETE FROM share_expiry_buckets");
+
+            final LocalDateTime now = LocalDateTime.now();
+            final long[] rows = new long[1];
+
+            final Map<ExecutionBucket, long[]> executionBuckets = new TreeMap<>(EXECUTION_BUCKET_ORDER);
+            jdbcTemplate.query(connection -> {
+                        if (executionsFrom == null) {
+                            return prepareStreaming(connection.prepareStatement(SELECT_EXECUTIONS_SQL));
+                        }
+                        final PreparedStatement statement = connection.prepareStatement(SELECT_EXECUTIONS_FROM_SQL);
+                        statement.setTimestamp(1, Timestamp.valueOf(executionsFrom));
+                        return prepareStreaming(statement);
+                    },
+                    (RowCallbackHandler) resultSet -> {
+                        rows[0]++;
+                        addExecution(executionBuckets, now,
+                                resultSet.getTimestamp("created_at").toLocalDateTime(),
+                                resultSet.getString("language"),
+                                ExecutionStatus.valueOf(resultSet.getString("status")),
+                                resultSet.getLong("execution_time"));
+                    });
+            upsertExecutionBuckets(executionBuckets);
+
+            final Map<ShareBucket, Long> shareBuckets = new TreeMap<>(SHARE_BUCKET_ORDER);
+            final Map<LocalDateTime, Long> expiryBuckets = new TreeMap<>();
+            jdbcTemplate.query(connection -> prepareStreaming(connection.prepareStatement(SELECT_SHARES_SQL)),
+                    (RowCallbackHandler) resultSet -> {
+                        rows[0]++;
+                        final LocalDateTime createdAt = resultSet.getTimestamp("created_at").toLocalDateTime();
+                        if (sharesFrom == null || !createdAt.isBefore(sharesFrom)) {
+                            addShareCreated(shareBuckets, now, createdAt);
+                        }
+                        if (resultSet.getBoolean("is_active")) {
+                            final Timestamp expiresAt = resultSet.getTimestamp("expires_at");
+                            expiryBuckets.merge(expiryBucketOf(expiresAt == null ? null : expiresAt.toLocalDateTime()),
+                                    1L, Long::sum);
+                        }
+                    });
+            upsertShareBuckets(shareBuckets);
+            upsert(SHARE_EXPIRY_BUCKETS, expiryBuckets.entrySet().stream()
+                    .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
+                    .toList());
+
+            return rows[0];
+        });
+
+        log.info("Rebuilt statistics rollups from {} source rows (executions from {}, shares from {}) in {}ms",
+                processed, executionsFrom, sharesFrom, System.currentTimeMillis() - startedAt);
+        return processed == null ? 0 : processed;
+    }
+
+    /**
+     * 기준 시점 이후의 롤업 버킷을 삭제합니다.
+     *
+     * @param table 롤업 테이블
+     * @param from  삭제 시작 시점 (null이면 전체)
+     */
+    private void deleteBucketsFrom(final RollupTable table, final LocalDateTime from) {
+        if (from == null) {
+            jdbcTemplate.update("DELETE FROM " + table.name());
+        } else {
+            jdbcTemplate.update("DELETE FROM " + table.name() + " WHERE bucket_start >= ?", from);
+        }
+    }
+
+    /**
+     * 보존 정리가 원본을 삭제하는 기준 시점을 계산합니다.
+     *
+     * @param days 보존 기간 (일)
+     * @return 기준 시점 (UTC 자정), 보존 기간이 0 이하이면 null
+     */
+    private static LocalDateTime purgeCutoff(final int days) {
+        return days <= 0 ? null : LocalDate.now(ZoneOffset.UTC).minusDays(days).atStartOfDay();
+    }
+
+    /**
+     * 실행 한 건을 보존 기간 안의 모든 집계 단위 버킷에 더합니다.
+     */
+    private void addExecution(final Map<ExecutionBucket, long[]> buckets, final LocalDateTime now,
+                              final LocalDateTime createdAt, final String language,
+                              final ExecutionStatus status, final Long executionTime) {
+        for (final RollupGranularity granularity : RollupGranularity.values()) {
+            final LocalDateTime bucketStart = granularity.bucketOf(createdAt);
+            if (!isRetained(granularity, bucketStart, now)) {
+                continue;
+            }
+            final long[] totals = buckets.computeIfAbsent(
+                    new ExecutionBucket(granularity, bucketStart, language, status), bucket -> new long[2]);
+            totals[0]++;
+            totals[1] += executionTime == null ? 0 : executionTime;
+        }
+    }
+
+    /**
+     * 공유 생성 한 건을 보존 기간 안의 모든 집계 단위 버킷에 더합니다.
+     */
+    private void addShareCreated(final Map<ShareBucket, Long> buckets, final LocalDateTime now,
+                                 final LocalDateTime createdAt) {
+        for (final RollupGranularity granularity : RollupGranularity.values()) {
+            final LocalDateTime bucketStart = granularity.bucketOf(createdAt);
+            if (isRetained(granularity, bucketStart, now)) {
+                buckets.merge(new ShareBucket(granularity, bucketStart), 1L, Long::sum);
+            }
+        }
+    }
+
+    private void addActiveShares(final LocalDateTime expiryBucket, final long delta) {
+        upsert(SHARE_EXPIRY_BUCKETS, List.<Object[]>of(new Object[]{expiryBucket, delta}));
+    }
+
+    private void upsertExecutionBuckets(final Map<ExecutionBucket, long[]> buckets) {
+        upsert(EXECUTION_ROLLUPS, buckets.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey().granularity().name(), entry.getKey().bucketStart(),
+                        entry.getKey().language(), entry.getKey().status().name(),
+                        entry.getValue()[0], entry.getValue()[1]})
+                .toList());
+    }
+
+    private void upsertShareBuckets(final Map<ShareBucket, Long> buckets) {
+        upsert(SHARE_ROLLUPS, buckets.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey().granularity().name(), entry.getKey().bucketStart(),
+                        entry.getValue()})
+                .toList());
+    }
+
+    /**
+     * 롤업 행에 증분을 더합니다. 행이 없으면 새로 만듭니다.
+     *
+     * @param table 롤업 테이블
+     * @param rows  [키 값..., 증분...] 목록 (키 순으로 정렬)
+     */
+    private void upsert(final RollupTable table, final List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (isPostgres()) {
+            jdbcTemplate.batchUpdate(table.upsertSql(), rows);
+            return;
+        }
+
+        final int keyCount = table.keyColumns().size();
+        for (final Object[] row : rows) {
+            final Object[] updateArguments = new Object[row.length];
+            System.arraycopy(row, keyCount, updateArguments, 0, row.length - keyCount);
+            System.arraycopy(row, 0, updateArguments, row.length - keyCount, keyCount);
+            if (jdbcTemplate.update(table.updateSql(), updateArguments) == 0) {
+                insertOrUpdate(table, row, updateArguments);
+            }
+        }
+    }
+
+    /**
+     * 롤업 행을 만듭니다. 그 사이 다른 트랜잭션이 같은 키의 행을 만들었으면 그 행에 증분을 더합니다.
+     * PostgreSQL 외의 DB는 실패한 문만 되돌리므로 트랜잭션을 이어서 사용할 수 있습니다.
+     *
+     * @param table           롤업 테이블
+     * @param row             INSERT 인자
+     * @param updateArguments UPDATE 인자
+     */
+    private void insertOrUpdate(final RollupTable table, final Object[] row, final Object[] updateArguments) {
+        try {
+            jdbcTemplate.update(table.insertSql(), row);
+        } catch (final DuplicateKeyException e) {
+            log.debug("Rollup row in {} created concurrently, updating instead", table.name());
+            jdbcTemplate.update(table.updateSql(), updateArguments);
+        }
+    }
+
+    private boolean isRetained(final RollupGranularity granularity, final LocalDateTime bucketStart,
+                               final LocalDateTime now) {
+        return granularity == RollupGranularity.DAY || !bucketStart.isBefore(retentionCutoff(granularity, now));
+    }
+
+    private LocalDateTime retentionCutoff(final RollupGranularity granularity, final LocalDateTime now) {
+        return switch (granularity) {
+            case MINUTE -> granularity.bucketOf(now.minusHours(minuteRetentionHours));
+            case HOUR -> granularity.bucketOf(now.minusDays(hourRetentionDays));
+            case DAY -> LocalDateTime.MIN;
+        };
+    }
+
+    private static LocalDateTime expiryBucketOf(final LocalDateTime expiresAt) {
+        return expiresAt == null ? ShareExpiryBucket.PERMANENT : RollupGranularity.MINUTE.bucketOf(expiresAt);
+    }
+
+    private static void validateSeriesRange(final RollupGranularity granularity, final LocalDateTime from,
+                                            final LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 앞서야 합니다");
+        }
+        if (granularity.getUnit().between(granularity.bucketOf(from), to) > MAX_SERIES_BUCKETS) {
+            throw new IllegalArgumentException(
+                    "한 번에 조회할 수 있는 버킷은 최대 " + MAX_SERIES_BUCKETS + "개입니다");
+        }
+    }
+
+    private static PreparedStatement prepareStreaming(final PreparedStatement statement) throws SQLException {
+        statement.setFetchSize(REBUILD_FETCH_SIZE);
+        return statement;
+    }
+
+    /**
+     * [상태, 실행 수, 실행 시간 합계] 행들을 실행 통계로 합칩니다.
+     */
+    private static ExecutionStatisticsResponse toExecutionStatistics(final LocalDateTime bucketStart,
+                                                                     final String language,
+                                                                     final List<Object[]> rows) {
+        final Map<ExecutionStatus, Long> counts = new LinkedHashMap<>();
+        long total = 0;
+        long totalExecutionTime = 0;
+        for (final Object[] row : rows) {
+            final long count = ((Number) row[1]).longValue();
+            counts.put((ExecutionStatus) row[0], count);
+            total += count;
+            totalExecutionTime += ((Number) row[2]).longValue();
+        }
+
+        return ExecutionStatisticsResponse.builder()
+                .bucketStart(bucketStart)
+                .language(language)
+                .totalExecutions(total)
+                .successCount(counts.getOrDefault(ExecutionStatus.SUCCESS, 0L))
+                .errorCount(counts.getOrDefault(ExecutionStatus.ERROR, 0L))
+                .timeoutCount(counts.getOrDefault(ExecutionStatus.TIMEOUT, 0L))
+                .averageExecutionTime(total == 0 ? null : (double) totalExecutionTime / total)
+                .build();
+    }
+
+    /**
+     * 연결된 DB가 PostgreSQL인지 확인합니다. 결과는 처음 확인한 뒤 재사용합니다.
+     *
+     * @return PostgreSQL이면 true, 아니면 false
+     */
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equals(product);
+            postgres = result;
+        }
+        return result;
+    }
+
+    /**
+     * 실행 통계 롤업 키.
+     */
+    private record ExecutionBucket(RollupGranularity granularity, LocalDateTime bucketStart,
+                                   String language, ExecutionStatus status) {
+    }
+
+    /**
+     * 공유 생성 통계 롤업 키.
+     */
+    private record ShareBucket(RollupGranularity granularity, LocalDateTime bucketStart) {
+    }
+
+    /**
+     * 롤업 테이블과 증분 갱신 SQL.
+     *
+     * @param name         테이블 이름
+     * @param keyColumns   키 컬럼
+     * @param valueColumns 증분을 더할 컬럼
+     */
+    private record RollupTable(String name, List<String> keyColumns, List<String> valueColumns) {
+
+        String upsertSql() {
+            return insertSql() + " ON CONFLICT (" + String.join(", ", keyColumns) + ") DO UPDATE SET " +
+                    String.join(", ", valueColumns.stream()
+                            .map(column -> column + " = " + name + "." + column + " + EXCLUDED." + column)
+                            .toList());
+        }
+
+        String updateSql() {
+            return "UPDATE " + name + " SET " +
+                    String.join(", ", valueColumns.stream().map(column -> column + " = " + column + " + ?").toList()) +
+                    " WHERE " + String.join(" AND ", keyColumns.stream().map(column -> column + " = ?").toList());
+        }
+
+        String insertSql() {
+            final List<String> columns = new ArrayList<>(keyColumns);
+            columns.addAll(valueColumns);
+            return "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES (" +
+                    String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        }
+    }
+}
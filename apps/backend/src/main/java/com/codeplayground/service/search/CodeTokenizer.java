@@ -0,0 +1,123 @@
+package com.codeplayground.service.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 코드 인식 토크나이저.
+ * 식별자 단위로 텍스트를 나누고, 각 식별자를 camelCase와 snake_case 경계에서 다시 분리합니다.
+ *
+ * <p>예: {@code parseHTTPResponse_v2} → parsehttpresponse_v2, parse, http, response, v2</p>
+ */
+public final class CodeTokenizer {
+
+    /**
+     * 색인 대상 토큰의 최소 길이.
+     */
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    /**
+     * 색인 대상 토큰의 최대 길이.
+     */
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private CodeTokenizer() {
+    }
+
+    /**
+     * 텍스트를 중복 없는 소문자 토큰 집합으로 나눕니다.
+     *
+     * @param text 토큰화할 텍스트 (nullable)
+     * @return 등장 순서를 유지한 토큰 집합
+     */
+    public static Set<String> tokenize(final String text) {
+        final Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            final boolean identifierChar = i < text.length() && isIdentifierChar(text.charAt(i));
+            if (identifierChar && start < 0) {
+                start = i;
+            } else if (!identifierChar && start >= 0) {
+                addIdentifier(text.substring(start, i), tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 식별자 전체와 그 구성 단어들을 토큰으로 추가합니다.
+     *
+     * @param identifier 식별자
+     * @param tokens     토큰 집합
+     */
+    private static void addIdentifier(final String identifier, final Set<String> tokens) {
+        addToken(identifier, tokens);
+
+        for (final String segment : identifier.split("_")) {
+            addToken(segment, tokens);
+
+            int partStart = 0;
+            for (int i = 1; i < segment.length(); i++) {
+                if (isWordBoundary(segment, i)) {
+                    addToken(segment.substring(partStart, i), tokens);
+                    partStart = i;
+                }
+            }
+            if (partStart > 0) {
+                addToken(segment.substring(partStart), tokens);
+            }
+        }
+    }
+
+    /**
+     * 밑줄 없는 식별자 조각 내부의 단어 경계인지 확인합니다.
+     * 소문자→대문자 (fooBar), 연속 대문자 뒤 소문자 (HTTPServer의 P|S),
+     * 문자↔숫자 전환을 경계로 봅니다.
+     *
+     * @param segment 식별자 조각
+     * @param index   경계 후보 위치 (해당 문자 앞)
+     * @return 경계이면 true
+     */
+    private static boolean isWordBoundary(final String segment, final int index) {
+        final char previous = segment.charAt(index - 1);
+        final char current = segment.charAt(index);
+
+        if (Character.isLowerCase(previous) && Character.isUpperCase(current)) {
+            return true;
+        }
+        if (Character.isUpperCase(previous) && Character.isUpperCase(current)
+                && index + 1 < segment.length() && Character.isLowerCase(segment.charAt(index + 1))) {
+            return true;
+        }
+        return Character.isDigit(previous) != Character.isDigit(current);
+    }
+
+    private static void addToken(final String token, final Set<String> tokens) {
+        final String trimmed = stripUnderscores(token);
+        if (trimmed.length() >= MIN_TOKEN_LENGTH && trimmed.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(trimmed.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static String stripUnderscores(final String token) {
+        int begin = 0;
+        int end = token.length();
+        while (begin < end && token.charAt(begin) == '_') {
+            begin++;
+        }
+        while (end > begin && token.charAt(end - 1) == '_') {
+            end--;
+        }
+        return token.substring(begin, end);
+    }
+
+    private static boolean isIdentifierChar(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,362 @@
+package com.codeplayground.service.search;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.event.CodeSnippetChangedEvent;
+import com.codeplayground.repository.CodeSnippetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 프로세스 내 역색인 검색 엔진.
+ * PostgreSQL 확장을 사용할 수 없는 환경에서 데이터베이스 스캔 없이 검색합니다.
+ *
+ * <ul>
+ *   <li>색인: 제목과 코드를 {@link CodeTokenizer}로 토큰화하고 토큰별 {@link PostingList}에 문서 번호를 추가합니다.</li>
+ *   <li>문서 번호: 스니펫이 색인될 때마다 새 번호를 부여하므로 포스팅 리스트는 항상 뒤에만 추가됩니다.
+ *       수정/삭제된 스니펫의 이전 번호는 무효 처리되고, 무효 번호가 많아지면 유효 문서에 번호를 다시 매겨
+ *       문서 목록과 포스팅 리스트를 압축합니다. 따라서 문서 번호는 유효 문서 수의 약 두 배를 넘지 않습니다.</li>
+ *   <li>적재: 애플리케이션 시작 후 활성 스니펫을 스트리밍으로 읽어 색인합니다.
+ *       적재 중에는 LIKE 쿼리로 대신 검색하고, 적재 중 들어온 변경은 적재 완료 후 반영합니다.</li>
+ *   <li>갱신: {@link CodeSnippetChangedEvent}를 트랜잭션 커밋 후에 반영합니다.</li>
+ *   <li>검색: 검색어 토큰마다 일치(3자 이상이면 접두사 일치)하는 문서를 구해 교집합을 반환하며,
+ *       결과는 최신 스니펫 순으로 정렬됩니다. 접두사와 일치하는 토큰이 많으면 정렬 병합 대신 비트 집합으로
+ *       합쳐, 일치하는 토큰을 빠뜨리지 않습니다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "code-playground.search.engine", havingValue = "memory")
+public class InMemorySnippetSearchEngine implements SnippetSearchEngine {
+
+    /**
+     * 접두사 검색을 적용할 최소 검색어 토큰 길이.
+     */
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    /**
+     * 접두사 일치 결과를 비트 집합으로 합치기 시작하는 토큰 수.
+     */
+    private static final int BITMAP_UNION_MIN_TOKENS = 512;
+
+    /**
+     * 압축을 시작하는 최소 무효 문서 수.
+     */
+    private static final int COMPACTION_MIN_DEAD = 10_000;
+
+    private final CodeSnippetRepository codeSnippetRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private List<IndexedDocument> documents = new ArrayList<>();
+    private final Map<Long, Integer> liveOrdinals = new HashMap<>();
+    private final List<CodeSnippetChangedEvent> pendingEvents = new ArrayList<>();
+    private int deadCount;
+    private volatile boolean ready;
+
+    /**
+     * InMemorySnippetSearchEngine 생성자.
+     *
+     * @param codeSnippetRepository 코드 스니펫 리포지토리
+     * @param transactionManager    트랜잭션 관리자
+     */
+    public InMemorySnippetSearchEngine(final CodeSnippetRepository codeSnippetRepository,
+                                       final PlatformTransactionManager transactionManager) {
+        this.codeSnippetRepository = codeSnippetRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 활성 스니펫 전체를 스트리밍으로 읽어 색인을 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        final long startedAt = System.currentTimeMillis();
+        log.info("Loading in-memory snippet search index");
+
+        final Integer loaded = readOnlyTransaction.execute(status -> {
+            int count = 0;
+            try (Stream<Object[]> rows = codeSnippetRepository.streamActiveSearchFields()) {
+                final Iterator<Object[]> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    final Object[] row = iterator.next();
+                    index((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+                    count++;
+                }
+            }
+            return count;
+        });
+
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(this::applyLocked);
+            pendingEvents.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("In-memory snippet search index loaded: {} snippets, {} tokens in {}ms",
+                loaded, postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 코드 스니펫 변경을 색인에 반영합니다.
+     *
+     * @param event 코드 스니펫 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCodeSnippetChanged(final CodeSnippetChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pendingEvents.add(event);
+                return;
+            }
+            applyLocked(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<CodeSnippet> search(final String keyword, final String language,
+                                    final String authorName, final Pageable pageable) {
+        if (!ready) {
+            return codeSnippetRepository.searchByKeywordAndFilters(keyword, language, authorName, pageable);
+        }
+
+        final Set<String> queryTokens = CodeTokenizer.tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        final long[] matchedIds;
+        lock.readLock().lock();
+        try {
+            int[] candidates = null;
+            for (final String token : queryTokens) {
+                final int[] matches = lookup(token);
+                candidates = candidates == null ? matches : intersect(candidates, matches);
+                if (candidates.length == 0) {
+                    break;
+                }
+            }
+            matchedIds = Arrays.stream(candidates)
+                    .mapToObj(documents::get)
+                    .filter(document -> document != null && document.matches(language, authorName))
+                    .mapToLong(IndexedDocument::codeSnippetId)
+                    .sorted()
+                    .toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 최신(큰 ID) 순으로 요청 페이지의 ID만 골라 엔티티를 조회합니다.
+        final List<Long> pageIds = new ArrayList<>(pageable.getPageSize());
+        final long offset = pageable.getOffset();
+        for (long i = offset; i < matchedIds.length && pageIds.size() < pageable.getPageSize(); i++) {
+            pageIds.add(matchedIds[matchedIds.length - 1 - (int) i]);
+        }
+
+        final Map<Long, CodeSnippet> snippets = codeSnippetRepository.findAllById(pageIds).stream()
+                .filter(snippet -> Boolean.TRUE.equals(snippet.getIsActive()))
+                .collect(Collectors.toMap(CodeSnippet::getId, Function.identity()));
+        final List<CodeSnippet> content = pageIds.stream()
+                .map(snippets::get)
+                .filter(snippet -> snippet != null)
+                .toList();
+
+        return new PageImpl<>(content, pageable, matchedIds.length);
+    }
+
+    /**
+     * 스니펫 하나를 색인합니다. 이미 색인된 스니펫이면 이전 문서를 무효 처리합니다.
+     */
+    private void index(final Long codeSnippetId, final String title, final String code,
+                       final String language, final String authorName) {
+        final Set<String> tokens = CodeTokenizer.tokenize(title);
+        tokens.addAll(CodeTokenizer.tokenize(code));
+
+        lock.writeLock().lock();
+        try {
+            indexLocked(codeSnippetId, tokens, language, authorName);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(final CodeSnippetChangedEvent event) {
+        if (event.isDeleted()) {
+            removeLocked(event.getCodeSnippetId());
+        } else {
+            final Set<String> tokens = CodeTokenizer.tokenize(event.getTitle());
+            tokens.addAll(CodeTokenizer.tokenize(event.getCode()));
+            indexLocked(event.getCodeSnippetId(), tokens, event.getLanguage(), event.getAuthorName());
+        }
+        compactIfNeeded();
+    }
+
+    private void indexLocked(final Long codeSnippetId, final Set<String> tokens,
+                             final String language, final String authorName) {
+        removeLocked(codeSnippetId);
+
+        final int ordinal = documents.size();
+        documents.add(new IndexedDocument(codeSnippetId, language, authorName));
+        liveOrdinals.put(codeSnippetId, ordinal);
+        for (final String token : tokens) {
+            postings.computeIfAbsent(token, key -> new PostingList()).add(ordinal);
+        }
+    }
+
+    private void removeLocked(final Long codeSnippetId) {
+        final Integer ordinal = liveOrdinals.remove(codeSnippetId);
+        if (ordinal != null) {
+            documents.set(ordinal, null);
+            deadCount++;
+        }
+    }
+
+    /**
+     * 무효 문서가 유효 문서보다 많아지면 유효 문서에 0부터 번호를 다시 매기고,
+     * 문서 목록과 포스팅 리스트에서 무효 번호를 제거합니다.
+     * 유효 문서의 순서는 그대로이므로 포스팅 리스트는 오름차순을 유지합니다.
+     */
+    private void compactIfNeeded() {
+        if (deadCount < COMPACTION_MIN_DEAD || deadCount <= liveOrdinals.size()) {
+            return;
+        }
+
+        final int[] renumbered = new int[documents.size()];
+        final List<IndexedDocument> compactedDocuments = new ArrayList<>(liveOrdinals.size());
+        for (int ordinal = 0; ordinal < documents.size(); ordinal++) {
+            final IndexedDocument document = documents.get(ordinal);
+            if (document == null) {
+                renumbered[ordinal] = -1;
+            } else {
+                renumbered[ordinal] = compactedDocuments.size();
+                liveOrdinals.put(document.codeSnippetId(), compactedDocuments.size());
+                compactedDocuments.add(document);
+            }
+        }
+
+        final Iterator<Map.Entry<String, PostingList>> iterator = postings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, PostingList> entry = iterator.next();
+            final PostingList compacted = entry.getValue().renumber(renumbered);
+            if (compacted.size() == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+        log.debug("Compacted snippet search index: removed {} dead documents, {} remain",
+                deadCount, compactedDocuments.size());
+        documents = compactedDocuments;
+        deadCount = 0;
+    }
+
+    /**
+     * 무효 문서를 포함해 부여된 문서 번호 수를 반환합니다.
+     *
+     * @return 문서 목록 크기
+     */
+    int documentSlots() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 토큰과 일치하는 문서 번호를 오름차순으로 반환합니다.
+     */
+    private int[] lookup(final String token) {
+        if (token.length() < MIN_PREFIX_LENGTH) {
+            final PostingList exact = postings.get(token);
+            return exact == null ? new int[0] : exact.toArray();
+        }
+
+        final Collection<PostingList> expansions =
+                postings.subMap(token, true, token + Character.MAX_VALUE, false).values();
+        if (expansions.size() >= BITMAP_UNION_MIN_TOKENS) {
+            // 병합 정렬 비용이 토큰 수에 따라 커지므로 문서 번호 범위의 비트 집합으로 합칩니다.
+            final BitSet union = new BitSet(documents.size());
+            expansions.forEach(postingList -> postingList.addTo(union));
+            return union.stream().toArray();
+        }
+
+        final List<int[]> lists = new ArrayList<>(expansions.size());
+        for (final PostingList postingList : expansions) {
+            lists.add(postingList.toArray());
+        }
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+        return lists.stream()
+                .flatMapToInt(IntStream::of)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private static int[] intersect(final int[] left, final int[] right) {
+        final int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 색인된 문서의 필터 정보.
+     */
+    private record IndexedDocument(long codeSnippetId, String language, String authorName) {
+
+        boolean matches(final String languageFilter, final String authorFilter) {
+            return (languageFilter == null || languageFilter.equals(language))
+                    && (authorFilter == null || authorFilter.equals(authorName));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.codeplayground.service.search;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.repository.CodeSnippetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIKE 기반 검색 엔진.
+ * 모든 데이터베이스에서 동작하지만 인덱스를 사용할 수 없어 전체 스캔이 발생합니다.
+ * H2를 사용하는 로컬/테스트 환경의 기본 검색 엔진입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "code-playground.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeSnippetSearchEngine implements SnippetSearchEngine {
+
+    private final CodeSnippetRepository codeSnippetRepository;
+
+    @Override
+    public Page<CodeSnippet> search(final String keyword, final String language,
+                                    final String authorName, final Pageable pageable) {
+        return codeSnippetRepository.searchByKeywordAndFilters(keyword, language, authorName, pageable);
+    }
+}
@@ -0,0 +1,29 @@
+package com.codeplayground.service.search;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.repository.CodeSnippetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 전문 검색 엔진.
+ * search_vector(tsvector) GIN 인덱스로 단어 단위 검색을, pg_trgm GIN 인덱스로
+ * 식별자 일부 문자열 검색을 처리하고 관련도 순으로 정렬합니다.
+ * V3 마이그레이션이 적용된 PostgreSQL에서만 사용할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "code-playground.search.engine", havingValue = "postgres")
+public class PostgresSnippetSearchEngine implements SnippetSearchEngine {
+
+    private final CodeSnippetRepository codeSnippetRepository;
+
+    @Override
+    public Page<CodeSnippet> search(final String keyword, final String language,
+                                    final String authorName, final Pageable pageable) {
+        return codeSnippetRepository.fullTextSearch(keyword.trim(), language, authorName, pageable);
+    }
+}
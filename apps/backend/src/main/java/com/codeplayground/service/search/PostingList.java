@@ -0,0 +1,123 @@
+package com.codeplayground.service.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 압축된 포스팅 리스트.
+ * 오름차순 문서 번호를 이전 값과의 차이(delta)로 바꾸어 가변 길이 정수(varint)로 저장합니다.
+ * 문서 번호는 항상 증가하는 순서로만 추가되므로 추가는 O(1)이며,
+ * 대부분의 delta가 1~2바이트에 저장됩니다.
+ *
+ * <p>스레드 안전하지 않으므로 호출자가 동기화해야 합니다.</p>
+ */
+final class PostingList {
+
+    private byte[] data = new byte[4];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    /**
+     * 문서 번호를 추가합니다.
+     *
+     * @param ordinal 마지막으로 추가된 번호보다 큰 문서 번호
+     */
+    void add(final int ordinal) {
+        if (ordinal <= last) {
+            throw new IllegalArgumentException("Posting ordinals must be strictly increasing: " + ordinal);
+        }
+
+        int delta = ordinal - last;
+        ensureCapacity(length + 5);
+        while ((delta & ~0x7F) != 0) {
+            data[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+        last = ordinal;
+        size++;
+    }
+
+    /**
+     * 저장된 문서 번호 개수를 반환합니다.
+     *
+     * @return 문서 번호 개수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 압축된 데이터의 바이트 크기를 반환합니다.
+     *
+     * @return 바이트 크기
+     */
+    int byteSize() {
+        return length;
+    }
+
+    /**
+     * 모든 문서 번호를 오름차순 배열로 복원합니다.
+     *
+     * @return 문서 번호 배열
+     */
+    int[] toArray() {
+        final int[] ordinals = new int[size];
+        int position = 0;
+        int value = -1;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            value += delta;
+            ordinals[i] = value;
+        }
+        return ordinals;
+    }
+
+    /**
+     * 모든 문서 번호를 비트 집합에 더합니다.
+     *
+     * @param target 문서 번호를 더할 비트 집합
+     */
+    void addTo(final BitSet target) {
+        for (final int ordinal : toArray()) {
+            target.set(ordinal);
+        }
+    }
+
+    /**
+     * 문서 번호를 새 번호로 바꾼 포스팅 리스트를 만듭니다. 새 번호가 음수인 문서는 제외합니다.
+     *
+     * @param renumbered 이전 번호를 인덱스로 하는 새 번호 배열 (유효 문서 사이의 순서를 유지해야 함)
+     * @return 압축된 새 포스팅 리스트
+     */
+    PostingList renumber(final int[] renumbered) {
+        final PostingList compacted = new PostingList();
+        for (final int ordinal : toArray()) {
+            if (renumbered[ordinal] >= 0) {
+                compacted.add(renumbered[ordinal]);
+            }
+        }
+        compacted.trimToSize();
+        return compacted;
+    }
+
+    private void trimToSize() {
+        if (data.length > length) {
+            data = Arrays.copyOf(data, Math.max(length, 1));
+        }
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length + (data.length >> 1)));
+        }
+    }
+}
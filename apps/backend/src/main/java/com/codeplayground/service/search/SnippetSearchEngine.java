@@ -0,0 +1,23 @@
+package com.codeplayground.service.search;
+
+import com.codeplayground.entity.CodeSnippet;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 코드 스니펫 검색 엔진.
+ * {@code code-playground.search.engine} 설정값에 따라 구현체가 선택됩니다.
+ */
+public interface SnippetSearchEngine {
+
+    /**
+     * 키워드로 활성 상태인 코드 스니펫을 검색합니다.
+     *
+     * @param keyword    검색 키워드
+     * @param language   프로그래밍 언어 필터 (null이면 전체)
+     * @param authorName 작성자 필터 (null이면 전체)
+     * @param pageable   페이징 정보
+     * @return 코드 스니펫 페이지
+     */
+    Page<CodeSnippet> search(String keyword, String language, String authorName, Pageable pageable);
+}
@@ -0,0 +1,25 @@
+-- Snippet version history stored as line deltas with periodic full checkpoints
+-- Rebuilding a version reads at most one checkpoint interval of rows
+
+ALTER TABLE code_snippets ADD COLUMN current_version INTEGER NOT NULL DEFAULT 1;
+
+CREATE TABLE code_snippet_versions (
+    code_snippet_id BIGINT NOT NULL REFERENCES code_snippets(id) ON DELETE CASCADE,
+    version INTEGER NOT NULL,
+    checkpoint BOOLEAN NOT NULL,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    PRIMARY KEY (code_snippet_id, version)
+);
+
+-- Existing code becomes version 1 of every snippet
+INSERT INTO code_snippet_versions (code_snippet_id, version, checkpoint, content, created_at)
+SELECT id, 1, true, code, updated_at
+FROM code_snippets;
+
+-- Executions remember the snippet version they ran; NULL for custom code and older rows
+ALTER TABLE executions ADD COLUMN code_version INTEGER;
+
+COMMENT ON TABLE code_snippet_versions IS 'Full code on checkpoints, line edit script against the previous version otherwise';
+COMMENT ON COLUMN code_snippets.current_version IS 'Version number of the current code';
+COMMENT ON COLUMN executions.code_version IS 'Snippet version that was executed; NULL when custom code was run';
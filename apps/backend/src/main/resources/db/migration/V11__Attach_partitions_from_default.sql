@@ -0,0 +1,47 @@
+-- Month partitions can be created after rows for that month reached executions_default
+-- (e.g. the retention job was down over a month boundary). CREATE TABLE ... PARTITION OF
+-- fails in that case, so the partition is built detached, the rows are moved out of the
+-- default partition and the partition is attached in one transaction.
+
+CREATE OR REPLACE FUNCTION create_executions_partition(month_start DATE)
+RETURNS VOID AS $$
+DECLARE
+    lower_bound DATE := date_trunc('month', month_start)::DATE;
+    upper_bound DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'executions_' || to_char(lower_bound, '"y"YYYY"m"MM');
+    moved_rows BIGINT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE executions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+
+    -- Locks the default partition until commit so no new row for the month can slip in
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM executions_default WHERE created_at >= %L AND created_at < %L RETURNING *) ' ||
+        'INSERT INTO %I SELECT * FROM moved',
+        lower_bound, upper_bound, partition_name);
+    GET DIAGNOSTICS moved_rows = ROW_COUNT;
+
+    EXECUTE format(
+        'ALTER TABLE executions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name, lower_bound, upper_bound);
+
+    IF moved_rows > 0 THEN
+        RAISE NOTICE 'Moved % rows from executions_default into %', moved_rows, partition_name;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Give rows that already sit in the default partition a partition of their own
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', created_at)::DATE FROM executions_default
+    LOOP
+        PERFORM create_executions_partition(month_start);
+    END LOOP;
+END $$;
@@ -0,0 +1,12 @@
+-- Forward-decay epoch for popularity scores, shared by all instances
+-- Rebasing moves the epoch forward and rescales every stored score in the same transaction
+
+CREATE TABLE popularity_decay (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    decay_epoch TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+-- Existing scores were accumulated against the fixed 2024-01-01 epoch
+INSERT INTO popularity_decay (id, decay_epoch) VALUES (1, TIMESTAMP '2024-01-01 00:00:00');
+
+COMMENT ON TABLE popularity_decay IS 'Single row holding the epoch popularity score weights are relative to';
@@ -0,0 +1,13 @@
+-- Materialized popularity score for the popular snippets listing
+-- Replaces ORDER BY SIZE(executions) with an index range scan
+
+ALTER TABLE code_snippets ADD COLUMN popularity_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+-- Backfill from existing execution history (one point per execution)
+UPDATE code_snippets cs
+SET popularity_score = (SELECT COUNT(*) FROM executions e WHERE e.code_snippet_id = cs.id);
+
+CREATE INDEX idx_code_snippets_active_popularity
+    ON code_snippets(is_active, popularity_score DESC, created_at DESC);
+
+COMMENT ON COLUMN code_snippets.popularity_score IS 'Incrementally maintained popularity score, optionally time-decayed';
@@ -0,0 +1,19 @@
+-- Full-text and trigram search indexes for code snippet search
+-- Replaces LOWER(...) LIKE '%keyword%' sequential scans over code bodies
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Word-level search: title weighted above code, 'simple' config keeps identifiers unstemmed
+ALTER TABLE code_snippets ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', title), 'A') ||
+        setweight(to_tsvector('simple', code), 'B')
+    ) STORED;
+
+CREATE INDEX idx_code_snippets_search_vector ON code_snippets USING GIN (search_vector);
+
+-- Substring search on identifiers (serves ILIKE '%keyword%')
+CREATE INDEX idx_code_snippets_title_trgm ON code_snippets USING GIN (title gin_trgm_ops);
+CREATE INDEX idx_code_snippets_code_trgm ON code_snippets USING GIN (code gin_trgm_ops);
+
+COMMENT ON COLUMN code_snippets.search_vector IS 'Generated full-text search vector (title weight A, code weight B)';
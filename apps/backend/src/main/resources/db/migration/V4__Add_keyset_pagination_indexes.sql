@@ -0,0 +1,26 @@
+-- Composite indexes for keyset (cursor) pagination on (created_at DESC, id DESC)
+-- Each list query seeks to the cursor position and reads one page, independent of page depth
+
+-- Extend the existing author/language indexes with id as the tie-breaker
+DROP INDEX IF EXISTS idx_code_snippets_active_author;
+CREATE INDEX idx_code_snippets_active_author
+    ON code_snippets(is_active, author_name, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_code_snippets_active_language;
+CREATE INDEX idx_code_snippets_active_language
+    ON code_snippets(is_active, language, created_at DESC, id DESC);
+
+CREATE INDEX idx_code_snippets_active_created
+    ON code_snippets(is_active, created_at DESC, id DESC);
+
+-- Execution history per snippet and per status
+CREATE INDEX idx_executions_snippet_created
+    ON executions(code_snippet_id, created_at DESC, id DESC);
+CREATE INDEX idx_executions_status_created
+    ON executions(status, created_at DESC, id DESC);
+
+-- Recent shares and shares per snippet
+CREATE INDEX idx_shared_codes_active_created
+    ON shared_codes(is_active, created_at DESC, id DESC);
+CREATE INDEX idx_shared_codes_snippet_active_created
+    ON shared_codes(code_snippet_id, is_active, created_at DESC, id DESC);
@@ -0,0 +1,74 @@
+-- Monthly range partitioning of executions on created_at
+-- Retention drops whole expired partitions instead of deleting rows one by one
+
+-- Creates the partition covering the month that contains the given date (no-op if it exists)
+CREATE OR REPLACE FUNCTION create_executions_partition(month_start DATE)
+RETURNS VOID AS $$
+DECLARE
+    lower_bound DATE := date_trunc('month', month_start)::DATE;
+    upper_bound DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'executions_' || to_char(lower_bound, '"y"YYYY"m"MM');
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF executions FOR VALUES FROM (%L) TO (%L)',
+        partition_name, lower_bound, upper_bound);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Move the existing table aside; the id sequence is kept for the new table
+ALTER TABLE executions RENAME TO executions_legacy;
+ALTER SEQUENCE executions_id_seq OWNED BY NONE;
+ALTER TABLE executions_legacy ALTER COLUMN id DROP DEFAULT;
+
+-- The partition key must be part of the primary key
+CREATE TABLE executions (
+    id BIGINT NOT NULL DEFAULT nextval('executions_id_seq'),
+    code_snippet_id BIGINT NOT NULL,
+    output TEXT,
+    error_message TEXT,
+    execution_time BIGINT NOT NULL DEFAULT 0 CHECK (execution_time >= 0),
+    memory_usage BIGINT CHECK (memory_usage >= 0),
+    status VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+    FOREIGN KEY (code_snippet_id) REFERENCES code_snippets(id) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+-- Rows outside the pre-created months land here until the retention job creates their partition
+CREATE TABLE executions_default PARTITION OF executions DEFAULT;
+
+-- One partition per month from the oldest execution up to two months ahead
+DO $$
+DECLARE
+    month_cursor DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM executions_legacy), NOW()))::DATE;
+    last_month DATE := (date_trunc('month', NOW()) + INTERVAL '2 months')::DATE;
+BEGIN
+    WHILE month_cursor <= last_month LOOP
+        PERFORM create_executions_partition(month_cursor);
+        month_cursor := (month_cursor + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO executions (id, code_snippet_id, output, error_message, execution_time, memory_usage,
+                        status, created_at, updated_at)
+SELECT id, code_snippet_id, output, error_message, execution_time, memory_usage,
+       status, created_at, updated_at
+FROM executions_legacy;
+
+DROP TABLE executions_legacy;
+
+ALTER SEQUENCE executions_id_seq OWNED BY executions.id;
+ALTER TABLE executions ADD CONSTRAINT executions_pkey PRIMARY KEY (id, created_at);
+
+-- Recreate indexes on the partitioned table (propagated to every partition)
+CREATE INDEX idx_executions_code_snippet_id ON executions(code_snippet_id);
+CREATE INDEX idx_executions_status ON executions(status);
+CREATE INDEX idx_executions_created_at ON executions(created_at);
+CREATE INDEX idx_executions_snippet_status ON executions(code_snippet_id, status, created_at DESC);
+CREATE INDEX idx_executions_snippet_created ON executions(code_snippet_id, created_at DESC, id DESC);
+CREATE INDEX idx_executions_status_created ON executions(status, created_at DESC, id DESC);
+
+COMMENT ON TABLE executions IS 'Records code execution results and performance metrics, partitioned by month of created_at';
+COMMENT ON COLUMN executions.status IS 'Execution status: SUCCESS, ERROR, TIMEOUT';
+COMMENT ON COLUMN executions.execution_time IS 'Execution time in milliseconds';
+COMMENT ON COLUMN executions.memory_usage IS 'Memory usage in bytes';
@@ -0,0 +1,8 @@
+-- Pooled id allocation for executions so inserts can be JDBC-batched
+-- Hibernate reserves blocks of 50 ids per sequence call (allocationSize = 50)
+
+ALTER SEQUENCE executions_id_seq INCREMENT BY 50;
+
+-- Ids are always assigned by the application; a column default calling nextval
+-- would hand out values inside a block already reserved by Hibernate
+ALTER TABLE executions ALTER COLUMN id DROP DEFAULT;
@@ -0,0 +1,37 @@
+-- Move execution output bodies out of the executions rows
+-- History and status listings read only a short preview and the byte length
+
+CREATE TABLE execution_outputs (
+    execution_id BIGINT PRIMARY KEY,
+    output TEXT,
+    error_message TEXT,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+-- No foreign key: executions is partitioned and its primary key is (id, created_at).
+-- Rows are removed together with executions by the retention job using created_at.
+CREATE INDEX idx_execution_outputs_created_at ON execution_outputs(created_at);
+
+INSERT INTO execution_outputs (execution_id, output, error_message, created_at)
+SELECT id, output, error_message, created_at
+FROM executions
+WHERE output IS NOT NULL OR error_message IS NOT NULL;
+
+ALTER TABLE executions ADD COLUMN output_preview VARCHAR(200);
+ALTER TABLE executions ADD COLUMN output_bytes INTEGER;
+ALTER TABLE executions ADD COLUMN error_preview VARCHAR(200);
+ALTER TABLE executions ADD COLUMN error_bytes INTEGER;
+
+UPDATE executions
+SET output_preview = LEFT(output, 200),
+    output_bytes = OCTET_LENGTH(output),
+    error_preview = LEFT(error_message, 200),
+    error_bytes = OCTET_LENGTH(error_message)
+WHERE output IS NOT NULL OR error_message IS NOT NULL;
+
+ALTER TABLE executions DROP COLUMN output;
+ALTER TABLE executions DROP COLUMN error_message;
+
+COMMENT ON TABLE execution_outputs IS 'Full execution output and error bodies, loaded only on detail views';
+COMMENT ON COLUMN executions.output_preview IS 'First 200 characters of the output';
+COMMENT ON COLUMN executions.output_bytes IS 'UTF-8 byte length of the full output';
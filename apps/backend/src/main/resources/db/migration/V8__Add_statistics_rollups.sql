@@ -0,0 +1,29 @@
+-- Incrementally maintained statistics rollups
+-- Dashboards read minute/hour/day buckets instead of aggregating executions and shared_codes
+-- The application fills these tables from the source tables on startup when they are empty
+
+CREATE TABLE execution_rollups (
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    language VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    execution_count BIGINT NOT NULL DEFAULT 0,
+    total_execution_time BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, bucket_start, language, status)
+);
+
+CREATE TABLE share_rollups (
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    created_shares BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, bucket_start)
+);
+
+CREATE TABLE share_expiry_buckets (
+    bucket_start TIMESTAMP WITHOUT TIME ZONE PRIMARY KEY,
+    active_shares BIGINT NOT NULL DEFAULT 0
+);
+
+COMMENT ON TABLE execution_rollups IS 'Execution counts and total execution time per MINUTE/HOUR/DAY bucket, language and status';
+COMMENT ON TABLE share_rollups IS 'Created share counts per MINUTE/HOUR/DAY bucket';
+COMMENT ON TABLE share_expiry_buckets IS 'Active share counts per expiry minute; permanent shares use 9999-12-31';
@@ -0,0 +1,37 @@
+-- Store execution output and error bodies once per distinct content
+-- Identical bodies (e.g. "Hello, World!" or the same compile error) share one content_blobs row
+-- execution_outputs keeps only SHA-256 references; ref_count tracks how many references point at each blob
+
+CREATE TABLE content_blobs (
+    hash VARCHAR(64) PRIMARY KEY,
+    content TEXT NOT NULL,
+    byte_size INTEGER NOT NULL,
+    ref_count BIGINT NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+ALTER TABLE execution_outputs ADD COLUMN output_hash VARCHAR(64);
+ALTER TABLE execution_outputs ADD COLUMN error_hash VARCHAR(64);
+
+UPDATE execution_outputs
+SET output_hash = CASE WHEN output IS NULL THEN NULL ELSE encode(sha256(convert_to(output, 'UTF8')), 'hex') END,
+    error_hash = CASE WHEN error_message IS NULL THEN NULL
+                      ELSE encode(sha256(convert_to(error_message, 'UTF8')), 'hex') END;
+
+WITH refs AS (
+    SELECT output_hash AS hash, output AS content, created_at FROM execution_outputs WHERE output_hash IS NOT NULL
+    UNION ALL
+    SELECT error_hash, error_message, created_at FROM execution_outputs WHERE error_hash IS NOT NULL
+)
+INSERT INTO content_blobs (hash, content, byte_size, ref_count, created_at)
+SELECT hash, MIN(content), OCTET_LENGTH(MIN(content)), COUNT(*), MIN(created_at)
+FROM refs
+GROUP BY hash;
+
+ALTER TABLE execution_outputs DROP COLUMN output;
+ALTER TABLE execution_outputs DROP COLUMN error_message;
+
+COMMENT ON TABLE content_blobs IS 'Deduplicated execution bodies keyed by the SHA-256 of their UTF-8 content';
+COMMENT ON COLUMN content_blobs.ref_count IS 'Number of execution_outputs references; unreferenced rows are deleted';
+COMMENT ON COLUMN execution_outputs.output_hash IS 'content_blobs.hash of the full output';
+COMMENT ON COLUMN execution_outputs.error_hash IS 'content_blobs.hash of the full error message';
@@ -0,0 +1,63 @@
+package com.codeplayground.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 속도 제한 판정 비용 벤치마크.
+ * 허용/거부가 섞이도록 용량보다 많이 호출하는 클라이언트 키 1,000개로 {@link RateLimiter#tryAcquire}를 반복 호출해
+ * 호출당 평균 시간이 1µs 미만인지 확인합니다.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class RateLimiterBenchmarkTest {
+
+    private static final String GROUP = "execute";
+    private static final int CLIENTS = 1_000;
+    private static final int CALLS = 5_000_000;
+    private static final double MAX_NANOS_PER_CALL = 1_000;
+
+    @Test
+    void tryAcquireTakesLessThanOneMicrosecond() {
+        final RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setCapacity(10);
+        group.setRefillInterval(Duration.ofMillis(1));
+        final RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put(GROUP, group);
+        final RateLimiter rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+        final String[] clientKeys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientKeys[i] = "ip:10.0." + i / 256 + "." + i % 256;
+        }
+
+        // 워밍업
+        measure(rateLimiter, clientKeys);
+        final Result result = measure(rateLimiter, clientKeys);
+        System.out.printf("rate limiter: %.1f ns/tryAcquire over %d calls (%d allowed, %d rejected)%n",
+                result.nanosPerCall(), CALLS, result.allowed(), CALLS - result.allowed());
+
+        assertThat(result.allowed()).isPositive().isLessThan(CALLS);
+        assertThat(result.nanosPerCall()).isLessThan(MAX_NANOS_PER_CALL);
+    }
+
+    private static Result measure(final RateLimiter rateLimiter, final String[] clientKeys) {
+        int allowed = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            if (rateLimiter.tryAcquire(GROUP, clientKeys[i % clientKeys.length]).allowed()) {
+                allowed++;
+            }
+        }
+        return new Result((double) (System.nanoTime() - start) / CALLS, allowed);
+    }
+
+    private record Result(double nanosPerCall, int allowed) {
+    }
+}
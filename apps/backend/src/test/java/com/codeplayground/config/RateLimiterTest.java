@@ -0,0 +1,108 @@
+package com.codeplayground.config;
+
+import com.codeplayground.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 클라이언트별 속도 제한기 테스트.
+ */
+class RateLimiterTest {
+
+    private static final String GROUP = "execute";
+    private static final String ISSUED_KEY = "issued-key";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void limitedClientStaysLimitedWhenOtherKeysFillTheGroup() {
+        final RateLimiter rateLimiter = rateLimiter(2, Duration.ofHours(1));
+        assertThat(rateLimiter.tryAcquire(GROUP, "ip:limited").allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(GROUP, "ip:limited").allowed()).isFalse();
+
+        for (int i = 0; i < 1_000; i++) {
+            rateLimiter.tryAcquire(GROUP, "ip:flood-" + i);
+        }
+
+        assertThat(rateLimiter.tryAcquire(GROUP, "ip:limited").allowed()).isFalse();
+    }
+
+    @Test
+    void newClientsShareOneBucketOnceMaxKeysIsReached() {
+        final RateLimiter rateLimiter = rateLimiter(1, Duration.ofHours(1));
+        rateLimiter.tryAcquire(GROUP, "ip:first");
+
+        assertThat(rateLimiter.tryAcquire(GROUP, "ip:second").allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(GROUP, "ip:third").allowed()).isFalse();
+        assertThat(overflowCount()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredBucketsFreeRoomForNewClients() {
+        final RateLimiter rateLimiter = rateLimiter(1, Duration.ofMillis(10));
+        rateLimiter.tryAcquire(GROUP, "ip:first");
+
+        // 첫 버킷이 가득 차 만료되면 새 클라이언트가 공용 버킷 대신 자기 버킷을 받습니다.
+        await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(5)).until(() -> {
+            final double overflowed = overflowCount();
+            rateLimiter.tryAcquire(GROUP, "ip:second");
+            return overflowCount() == overflowed;
+        });
+    }
+
+    @Test
+    void onlyIssuedApiKeysSeparateClients() throws Exception {
+        final RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter(100, Duration.ofHours(1)),
+                "X-API-Key", Set.of(ISSUED_KEY));
+        final HandlerMethod handler = new HandlerMethod(new Handler(), Handler.class.getMethod("execute"));
+
+        assertThat(interceptor.preHandle(request(null), new MockHttpServletResponse(), handler)).isTrue();
+        // 발급되지 않은 키는 같은 IP의 버킷을 씁니다.
+        assertThatThrownBy(() -> interceptor.preHandle(request("made-up-key"), new MockHttpServletResponse(),
+                handler)).isInstanceOf(RateLimitExceededException.class);
+        assertThat(interceptor.preHandle(request(ISSUED_KEY), new MockHttpServletResponse(), handler)).isTrue();
+    }
+
+    private RateLimiter rateLimiter(final long maxKeys, final Duration refillInterval) {
+        final RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setCapacity(1);
+        group.setRefillInterval(refillInterval);
+        final RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxKeys(maxKeys);
+        properties.getGroups().put(GROUP, group);
+        return new RateLimiter(properties, meterRegistry);
+    }
+
+    private double overflowCount() {
+        return meterRegistry.counter("code_playground.rate_limit.overflow", "group", GROUP).count();
+    }
+
+    private static MockHttpServletRequest request(final String apiKey) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/executions/execute");
+        request.setRemoteAddr("203.0.113.7");
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+
+    /**
+     * 속도 제한 그룹이 붙은 컨트롤러 메서드.
+     */
+    static class Handler {
+
+        @RateLimited(GROUP)
+        public void execute() {
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.codeplayground.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 테스트.
+ * H2 데이터베이스에 PostgreSQL 복제 상태 함수를 흉내 낸 함수를 정의하고 복제 지연을 조절합니다.
+ * 실제 스트리밍 복제는 {@link ReplicaStreamingReplicationTest}에서 확인합니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MILLIS = 1000;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = node("primary");
+        replica = node("replica-1");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_state (lag_millis BIGINT NOT NULL)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_state VALUES (0)");
+        Map.of("pg_is_in_recovery", "pgIsInRecovery",
+                "pg_last_wal_receive_lsn", "pgLastWalReceiveLsn",
+                "pg_last_wal_replay_lsn", "pgLastWalReplayLsn",
+                "pg_last_xact_replay_timestamp", "pgLastXactReplayTimestamp").forEach((function, method) ->
+                new JdbcTemplate(replica).execute("CREATE ALIAS " + function + " FOR \""
+                        + ReplicaFunctions.class.getName() + "." + method + "\""));
+
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), MAX_LAG_MILLIS, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadRoutingContext.clear();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToHealthyReplica() {
+        // 지연 연결 프록시가 생성 시 기본 연결 속성을 확인하느라 주 DB 연결을 한 번 얻습니다.
+        final double primaryBefore = routed(ReplicaRoutingDataSource.PRIMARY);
+
+        assertThat(readNode()).isEqualTo("replica-1");
+        assertThat(writeNode()).isEqualTo("primary");
+        assertThat(routed("replica-1")).isEqualTo(1);
+        assertThat(routed(ReplicaRoutingDataSource.PRIMARY) - primaryBefore).isEqualTo(1);
+    }
+
+    @Test
+    void pinnedReadsGoToPrimary() {
+        final String node = ReadRoutingContext.callOnPrimary(this::readNode);
+
+        assertThat(node).isEqualTo("primary");
+        assertThat(readNode()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void lagAboveLimitFallsBackToPrimaryUntilReplicaCatchesUp() {
+        setReplicaLag(5000);
+        routingDataSource.checkReplicas();
+
+        assertThat(readNode()).isEqualTo("primary");
+        assertThat(gauge("code_playground.datasource.replica.healthy")).isZero();
+        assertThat(gauge("code_playground.datasource.replica.lag")).isGreaterThan(4.0);
+        assertThat(meterRegistry.counter("code_playground.datasource.replica.fallback").count()).isEqualTo(1);
+
+        setReplicaLag(0);
+        routingDataSource.checkReplicas();
+
+        assertThat(readNode()).isEqualTo("replica-1");
+        assertThat(gauge("code_playground.datasource.replica.healthy")).isEqualTo(1);
+    }
+
+    @Test
+    void lagWithinLimitKeepsReplica() {
+        setReplicaLag(MAX_LAG_MILLIS / 2);
+        routingDataSource.checkReplicas();
+
+        assertThat(readNode()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        replica.close();
+        routingDataSource.checkReplicas();
+
+        assertThat(readNode()).isEqualTo("primary");
+        assertThat(gauge("code_playground.datasource.replica.healthy")).isZero();
+    }
+
+    private void setReplicaLag(final long lagMillis) {
+        new JdbcTemplate(replica).update("UPDATE replica_state SET lag_millis = ?", lagMillis);
+    }
+
+    private String readNode() {
+        return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node",
+                String.class));
+    }
+
+    private String writeNode() {
+        return writeTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node",
+                String.class));
+    }
+
+    private double routed(final String pool) {
+        return meterRegistry.counter("code_playground.datasource.routed", "pool", pool).count();
+    }
+
+    private double gauge(final String name) {
+        return meterRegistry.get(name).tag("pool", "replica-1").gauge().value();
+    }
+
+    private static HikariDataSource node(final String name) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        new JdbcTemplate(dataSource).execute("CREATE TABLE node (name VARCHAR(20) NOT NULL)");
+        new JdbcTemplate(dataSource).update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * H2에 등록하는 PostgreSQL 복제 상태 함수.
+     * H2가 리플렉션으로 호출하므로 public 클래스여야 합니다.
+     */
+    public static final class ReplicaFunctions {
+
+        private ReplicaFunctions() {
+        }
+
+        /**
+         * 복제본 흉내용 pg_is_in_recovery().
+         *
+         * @return 항상 true
+         */
+        public static boolean pgIsInRecovery() {
+            return true;
+        }
+
+        /**
+         * 복제본 흉내용 pg_last_wal_receive_lsn().
+         * 지연이 있으면 재생 위치보다 앞선 위치를 돌려줍니다.
+         *
+         * @param connection 현재 연결
+         * @return WAL 수신 위치
+         * @throws SQLException 상태 조회에 실패한 경우
+         */
+        public static String pgLastWalReceiveLsn(final Connection connection) throws SQLException {
+            return lagMillis(connection) > 0 ? "0/2000000" : "0/1000000";
+        }
+
+        /**
+         * 복제본 흉내용 pg_last_wal_replay_lsn().
+         *
+         * @return WAL 재생 위치
+         */
+        public static String pgLastWalReplayLsn() {
+            return "0/1000000";
+        }
+
+        /**
+         * 복제본 흉내용 pg_last_xact_replay_timestamp().
+         *
+         * @param connection 현재 연결
+         * @return 마지막으로 재생한 트랜잭션의 커밋 시각
+         * @throws SQLException 상태 조회에 실패한 경우
+         */
+        public static Timestamp pgLastXactReplayTimestamp(final Connection connection) throws SQLException {
+            return Timestamp.from(Instant.now().minusMillis(lagMillis(connection)));
+        }
+
+        private static long lagMillis(final Connection connection) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT lag_millis FROM replica_state")) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.codeplayground.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 스트리밍 복제 환경의 읽기 복제본 라우팅 테스트.
+ * 주 DB 컨테이너를 pg_basebackup으로 복제한 대기 서버를 띄우고,
+ * 복제본의 WAL 재생을 멈춰 실제 복제 지연을 만든 뒤 라우팅을 확인합니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaStreamingReplicationTest {
+
+    private static final long MAX_LAG_MILLIS = 500;
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCopyToContainer(Transferable.of(
+                    "echo 'host replication all all trust' >> \"$PGDATA/pg_hba.conf\"\n", 0755),
+                    "/docker-entrypoint-initdb.d/replication.sh");
+
+    @Container
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>("postgres:15-alpine")
+            .dependsOn(PRIMARY)
+            .withNetwork(NETWORK)
+            .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+            .withCommand("sh", "-c", "pg_basebackup -h primary -U test -D \"$PGDATA\" -R -X stream "
+                    + "&& chmod 700 \"$PGDATA\" && exec postgres")
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+    private TransactionTemplate readOnlyTransaction;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUpPools() {
+        primaryPool = pool(ReplicaRoutingDataSource.PRIMARY, PRIMARY.getJdbcUrl());
+        replicaPool = pool("replica-1", "jdbc:postgresql://" + REPLICA.getHost() + ":"
+                + REPLICA.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + PRIMARY.getDatabaseName());
+        new JdbcTemplate(primaryPool).execute("CREATE TABLE IF NOT EXISTS replicated (id BIGSERIAL PRIMARY KEY)");
+        awaitReplicaCaughtUp();
+    }
+
+    @AfterAll
+    static void closePools() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(primaryPool, List.of(replicaPool), MAX_LAG_MILLIS,
+                meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction.setReadOnly(true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void resumeReplay() {
+        new JdbcTemplate(replicaPool).execute("SELECT pg_wal_replay_resume()");
+        awaitReplicaCaughtUp();
+    }
+
+    @Test
+    void readOnlyTransactionsReadReplicatedRowsFromStandby() {
+        final Long id = jdbcTemplate.queryForObject("INSERT INTO replicated DEFAULT VALUES RETURNING id", Long.class);
+        awaitReplicaCaughtUp();
+
+        assertThat(readOnlyReadsFromStandby()).isTrue();
+        final Long count = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM replicated WHERE id = ?", Long.class, id));
+        assertThat(count).isEqualTo(1);
+        assertThat(readsFromStandby()).isFalse();
+        assertThat(meterRegistry.counter("code_playground.datasource.routed", "pool", "replica-1").count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void lagBeyondLimitSendsReadsToPrimaryUntilReplayCatchesUp() throws InterruptedException {
+        new JdbcTemplate(replicaPool).execute("SELECT pg_wal_replay_pause()");
+        new JdbcTemplate(primaryPool).update("INSERT INTO replicated DEFAULT VALUES");
+        Thread.sleep(MAX_LAG_MILLIS * 3);
+        routingDataSource.checkReplicas();
+
+        assertThat(readOnlyReadsFromStandby()).isFalse();
+        assertThat(meterRegistry.get("code_playground.datasource.replica.lag").tag("pool", "replica-1")
+                .gauge().value()).isGreaterThan(MAX_LAG_MILLIS / 1000.0);
+        assertThat(meterRegistry.counter("code_playground.datasource.replica.fallback").count()).isEqualTo(1);
+
+        new JdbcTemplate(replicaPool).execute("SELECT pg_wal_replay_resume()");
+        awaitReplicaCaughtUp();
+        routingDataSource.checkReplicas();
+
+        assertThat(readOnlyReadsFromStandby()).isTrue();
+    }
+
+    private Boolean readOnlyReadsFromStandby() {
+        return readOnlyTransaction.execute(status -> readsFromStandby());
+    }
+
+    private Boolean readsFromStandby() {
+        return jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class);
+    }
+
+    private static void awaitReplicaCaughtUp() {
+        final String primaryLsn = new JdbcTemplate(primaryPool)
+                .queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+        await().atMost(Duration.ofSeconds(30)).until(() -> Boolean.TRUE.equals(new JdbcTemplate(replicaPool)
+                .queryForObject("SELECT pg_last_wal_replay_lsn() >= ?::pg_lsn", Boolean.class, primaryLsn)));
+    }
+
+    private static HikariDataSource pool(final String name, final String jdbcUrl) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(jdbcUrl);
+        dataSource.setUsername(PRIMARY.getUsername());
+        dataSource.setPassword(PRIMARY.getPassword());
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -0,0 +1,117 @@
+package com.codeplayground.config;
+
+import com.codeplayground.dto.ExecutionResponse;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.support.ApiIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 형식별 직렬화 벤치마크.
+ * 애플리케이션의 JSON, CBOR, Smile 메시지 변환기가 쓰는 ObjectMapper로 실행 기록 목록을 직렬화하고 다시 읽어
+ * 크기와 시간을 비교합니다. 출력이 짧은 실행 기록과 출력이 긴 실행 기록을 따로 측정합니다.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class ResponseFormatBenchmarkTest extends ApiIntegrationTest {
+
+    private static final int EXECUTIONS = 100;
+    private static final int RUNS = 2_000;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jsonConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Test
+    void binaryFormatsAreSmallerThanJson() throws Exception {
+        for (final int outputLines : new int[]{1, 100}) {
+            final List<ExecutionResponse> executions = executions(outputLines);
+            final Map<String, Sample> samples = new LinkedHashMap<>();
+            samples.put("json", measure(jsonConverter.getObjectMapper(), executions));
+            samples.put("cbor", measure(cborConverter.getObjectMapper(), executions));
+            samples.put("smile", measure(smileConverter.getObjectMapper(), executions));
+
+            final Sample json = samples.get("json");
+            final StringBuilder line = new StringBuilder(String.format("%d executions x %d output lines:",
+                    EXECUTIONS, outputLines));
+            samples.forEach((format, sample) -> line.append(String.format(
+                    " %s %d bytes (%.0f%%), write %.1f us, read %.1f us;", format, sample.bytes(),
+                    100.0 * sample.bytes() / json.bytes(), sample.writeMicros(), sample.readMicros())));
+            System.out.println(line);
+
+            assertThat(samples.get("cbor").bytes()).isLessThan(json.bytes());
+            assertThat(samples.get("smile").bytes()).isLessThan(json.bytes());
+        }
+    }
+
+    private static Sample measure(final ObjectMapper objectMapper, final List<ExecutionResponse> executions)
+            throws Exception {
+        byte[] bytes = objectMapper.writeValueAsBytes(executions);
+        for (int i = 0; i < RUNS; i++) {
+            bytes = objectMapper.writeValueAsBytes(executions);
+            objectMapper.readTree(bytes);
+        }
+
+        final long writeStart = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            bytes = objectMapper.writeValueAsBytes(executions);
+        }
+        final long writeNanos = System.nanoTime() - writeStart;
+
+        final long readStart = System.nanoTime();
+        int items = 0;
+        for (int i = 0; i < RUNS; i++) {
+            items += objectMapper.readTree(bytes).size();
+        }
+        final long readNanos = System.nanoTime() - readStart;
+
+        assertThat(items).isEqualTo(EXECUTIONS * RUNS);
+        return new Sample(bytes.length, writeNanos / 1_000.0 / RUNS, readNanos / 1_000.0 / RUNS);
+    }
+
+    private static List<ExecutionResponse> executions(final int outputLines) {
+        final LocalDateTime createdAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+        final List<ExecutionResponse> executions = new ArrayList<>(EXECUTIONS);
+        for (int i = 0; i < EXECUTIONS; i++) {
+            final StringBuilder output = new StringBuilder();
+            for (int line = 0; line < outputLines; line++) {
+                output.append("iteration ").append(line).append(": ").append(i * line).append('\n');
+            }
+            executions.add(ExecutionResponse.builder()
+                    .id(1_000_000L + i)
+                    .codeSnippetId(42L)
+                    .codeVersion(3)
+                    .status(ExecutionStatus.SUCCESS)
+                    .output(output.toString())
+                    .outputBytes(output.length())
+                    .truncated(false)
+                    .executionTime(12L + i % 50)
+                    .memoryUsage(24_576L + i)
+                    .createdAt(createdAt.plusSeconds(i))
+                    .build());
+        }
+        return executions;
+    }
+
+    private record Sample(int bytes, double writeMicros, double readMicros) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.dto.CodeSnippetRequest;
+import com.codeplayground.dto.CodeSnippetResponse;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 코드 스니펫 조회 API의 {@link com.codeplayground.config.QueryBudget} 회귀 테스트.
+ * 스니펫마다 실행 기록과 공유를 만들어, 목록 크기에 따라 쿼리 수가 늘어나면 실패하도록 합니다.
+ */
+class CodeSnippetControllerQueryBudgetTest extends ApiIntegrationTest {
+
+    private final String author = "budget-" + UUID.randomUUID().toString().substring(0, 8);
+    private final String language = "lang-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<CodeSnippetResponse> snippets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        snippets.clear();
+        for (int i = 0; i < 3; i++) {
+            final CodeSnippetResponse snippet = createSnippet("Budget " + i, language, author);
+            execute(snippet.getId());
+            share(snippet.getId());
+            snippets.add(snippet);
+        }
+    }
+
+    @Test
+    void getCodeSnippetsByIds() throws Exception {
+        mockMvc.perform(get("/api/v1/snippets").param("ids", snippets.get(0).getId() + ","
+                        + snippets.get(1).getId() + ",0," + snippets.get(2).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foundCount").value(3))
+                .andExpect(jsonPath("$.items[2].found").value(false))
+                .andExpect(jsonPath("$.items[3].data.executionCount").value(1));
+    }
+
+    @Test
+    void getCodeSnippetAndConditionalGet() throws Exception {
+        final String etag = mockMvc.perform(get("/api/v1/snippets/{id}", snippets.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shareCount").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/snippets/{id}", snippets.get(0).getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getCodeSnippetVersion() throws Exception {
+        final CodeSnippetRequest request = new CodeSnippetRequest();
+        request.setTitle("Budget updated");
+        request.setCode("print('hello again')");
+        request.setLanguage(language);
+        request.setAuthorName(author);
+        codeSnippetService.updateCodeSnippet(snippets.get(0).getId(), request);
+
+        mockMvc.perform(get("/api/v1/snippets/{id}/versions/{version}", snippets.get(0).getId(), 1))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, private"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?cursor=", "?fields=", "?fields=id,title&cursor="})
+    void getAllCodeSnippets(final String query) throws Exception {
+        mockMvc.perform(get("/api/v1/snippets" + query))
+                .andExpect(status().isOk());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?cursor=", "?fields=", "?fields=id,title&cursor="})
+    void getCodeSnippetsByAuthor(final String query) throws Exception {
+        mockMvc.perform(get("/api/v1/snippets/author/" + author + query))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?cursor=", "?fields=", "?fields=id,title&cursor="})
+    void getCodeSnippetsByLanguage(final String query) throws Exception {
+        mockMvc.perform(get("/api/v1/snippets/language/" + language + query))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?fields=", "?fields=id,title"})
+    void getPopularCodeSnippets(final String query) throws Exception {
+        mockMvc.perform(get("/api/v1/snippets/popular" + query))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,149 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.dto.ExecutionResponse;
+import com.codeplayground.support.ApiIntegrationTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 데이터 내보내기 API 테스트.
+ * NDJSON과 CSV 출력, 스니펫 필터, 응답을 시작하기 전의 404 처리를 확인합니다.
+ */
+class DataExportTest extends ApiIntegrationTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String author;
+
+    @BeforeEach
+    void setUp() {
+        author = "exporter-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void snippetsAreExportedAsNdjsonNewestFirst() throws Exception {
+        final Long first = createSnippet("First", "python", author).getId();
+        final Long second = createSnippet("Second", "javascript", author).getId();
+
+        final List<JsonNode> rows = ndjson(get("/api/v1/snippets/export").param("authorName", author));
+
+        assertThat(rows).extracting(row -> row.get("id").asLong()).containsExactly(second, first);
+        assertThat(rows.get(1).get("title").asText()).isEqualTo("First");
+        assertThat(rows.get(1).get("code").asText()).isEqualTo("print('hello world')");
+        assertThat(rows.get(1).get("language").asText()).isEqualTo("python");
+        assertThat(rows.get(1).get("authorName").asText()).isEqualTo(author);
+    }
+
+    @Test
+    void snippetFiltersNarrowExport() throws Exception {
+        final Long python = createSnippet("Python", "python", author).getId();
+        createSnippet("JavaScript", "javascript", author);
+
+        assertThat(ndjson(get("/api/v1/snippets/export").param("authorName", author).param("language", "python")))
+                .extracting(row -> row.get("id").asLong())
+                .containsExactly(python);
+        assertThat(ndjson(get("/api/v1/snippets/export")
+                .param("authorName", author)
+                .param("from", LocalDateTime.now().plusDays(1).toString())))
+                .isEmpty();
+        assertThat(ndjson(get("/api/v1/snippets/export")
+                .param("authorName", author)
+                .param("to", LocalDateTime.now().minusDays(1).toString())))
+                .isEmpty();
+    }
+
+    @Test
+    void snippetsAreExportedAsCsvWithHeader() throws Exception {
+        final Long id = createSnippet("Hello, \"world\"", "python", author).getId();
+
+        final String[] lines = export(get("/api/v1/snippets/export")
+                .param("format", "CSV")
+                .param("authorName", author), "text/csv").split("\r\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("id,title,code,language,authorName,popularityScore,createdAt,updatedAt");
+        assertThat(lines[1]).startsWith(id + ",\"Hello, \"\"world\"\"\",print('hello world'),python," + author + ",");
+    }
+
+    @Test
+    void csvCellsStartingWithFormulaCharactersAreNeutralized() throws Exception {
+        createSnippet("=HYPERLINK(\"http://example.com\",\"x\")", "python", author);
+        createSnippet("@SUM(A1)", "python", author);
+        createSnippet("-2+3", "python", author);
+
+        final String csv = export(get("/api/v1/snippets/export")
+                .param("format", "CSV")
+                .param("authorName", author), "text/csv");
+
+        assertThat(csv)
+                .contains(",\"'-2+3\",")
+                .contains(",\"'@SUM(A1)\",")
+                .contains(",\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\",")
+                .doesNotContain(",=")
+                .doesNotContain(",@");
+    }
+
+    @Test
+    void executionsAreExportedWithOutput() throws Exception {
+        final Long codeSnippetId = createSnippet("Executed", "python", author).getId();
+        final ExecutionResponse execution = execute(codeSnippetId);
+
+        final List<JsonNode> rows = ndjson(get("/api/v1/executions/snippet/{id}/export", codeSnippetId));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).get("id").asLong()).isEqualTo(execution.getId());
+        assertThat(rows.get(0).get("codeSnippetId").asLong()).isEqualTo(codeSnippetId);
+        assertThat(rows.get(0).get("status").asText()).isEqualTo("SUCCESS");
+        assertThat(rows.get(0).get("output").asText()).isEqualTo(execution.getOutput());
+    }
+
+    @Test
+    void missingSnippetIsRejectedBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/api/v1/executions/snippet/{id}/export", Long.MAX_VALUE).param("format", "CSV"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("Content-Disposition"))
+                .andExpect(content().contentTypeCompatibleWith("application/json"));
+    }
+
+    private List<JsonNode> ndjson(final MockHttpServletRequestBuilder request) throws Exception {
+        final List<JsonNode> rows = new ArrayList<>();
+        for (final String line : export(request, "application/x-ndjson").split("\n")) {
+            if (!line.isEmpty()) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return rows;
+    }
+
+    private String export(final MockHttpServletRequestBuilder request, final String contentType) throws Exception {
+        final MvcResult started = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andExpect(header().exists("Content-Disposition"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.entity.Execution;
+import com.codeplayground.exception.ExecutionNotAcknowledgedException;
+import com.codeplayground.service.ExecutionBatchWriter;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실행 기록 저장 확인이 늦을 때의 코드 실행 API 응답 테스트.
+ */
+class ExecutionControllerAcknowledgeTest extends ApiIntegrationTest {
+
+    @MockBean
+    private ExecutionBatchWriter executionBatchWriter;
+
+    @Test
+    void unacknowledgedWriteIsAcceptedNotFailed() throws Exception {
+        given(executionBatchWriter.write(any())).willAnswer(invocation -> {
+            final Execution execution = invocation.getArgument(0);
+            throw new ExecutionNotAcknowledgedException("timeout", execution, new TimeoutException());
+        });
+        final Long codeSnippetId = createSnippet("Slow storage", "python", "acker").getId();
+
+        mockMvc.perform(post("/api/v1/executions/execute")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"codeSnippetId\": " + codeSnippetId + "}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.pending").value(true))
+                .andExpect(jsonPath("$.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.output").exists())
+                .andExpect(jsonPath("$.id").doesNotExist());
+    }
+}
@@ -0,0 +1,77 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.dto.ExecutionResponse;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실행 기록 조회 API의 {@link com.codeplayground.config.QueryBudget} 회귀 테스트.
+ */
+class ExecutionControllerQueryBudgetTest extends ApiIntegrationTest {
+
+    private static final long RETENTION_DAYS = 90;
+
+    private Long codeSnippetId;
+    private final List<ExecutionResponse> executions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executions.clear();
+        codeSnippetId = createSnippet("Execution budget", "python", "budget-runner").getId();
+        for (int i = 0; i < 3; i++) {
+            executions.add(execute(codeSnippetId));
+        }
+    }
+
+    @Test
+    void getExecutionsByIds() throws Exception {
+        mockMvc.perform(get("/api/v1/executions").param("ids", executions.get(0).getId() + ","
+                        + executions.get(1).getId() + "," + executions.get(2).getId() + ",0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foundCount").value(3))
+                .andExpect(jsonPath("$.items[3].found").value(false));
+    }
+
+    @Test
+    void getExecutionAndConditionalGet() throws Exception {
+        final String etag = mockMvc.perform(get("/api/v1/executions/{executionId}", executions.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.codeSnippetId").value(codeSnippetId))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, matchesPattern(
+                        "max-age=(\\d+), private, immutable")))
+                .andExpect(result -> assertThat(maxAge(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)))
+                        .isPositive().isLessThanOrEqualTo(Duration.ofDays(RETENTION_DAYS).toSeconds()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/executions/{executionId}", executions.get(0).getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?cursor=", "?fields=", "?fields=id,status&cursor="})
+    void getExecutionHistory(final String query) throws Exception {
+        mockMvc.perform(get("/api/v1/executions/snippet/" + codeSnippetId + query))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3));
+    }
+
+    private static long maxAge(final String cacheControl) {
+        return Long.parseLong(cacheControl.replaceFirst("^max-age=(\\d+),.*$", "$1"));
+    }
+}
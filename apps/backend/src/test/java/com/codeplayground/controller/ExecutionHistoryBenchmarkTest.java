@@ -0,0 +1,86 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.service.ExecutionBatchWriter;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 출력이 큰 실행 기록의 목록 조회 벤치마크.
+ * 미리보기만 읽는 실행 기록 페이지와, 같은 실행 기록을 전체 본문과 함께 읽는 일괄 조회를 비교합니다.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class ExecutionHistoryBenchmarkTest extends ApiIntegrationTest {
+
+    private static final int EXECUTIONS = 20;
+    private static final int OUTPUT_BYTES = 256 * 1024;
+    private static final int RUNS = 50;
+
+    @Autowired
+    private ExecutionBatchWriter executionBatchWriter;
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    @Test
+    void historyPageSkipsOutputBodies() throws Exception {
+        final CodeSnippet codeSnippet = codeSnippetRepository
+                .findById(createSnippet("Large output", "python", "bench").getId()).orElseThrow();
+        final List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < EXECUTIONS; i++) {
+            // 실행마다 본문이 달라야 내용 주소 저장소에서 중복 제거되지 않습니다.
+            final String output = i + "x".repeat(OUTPUT_BYTES);
+            ids.add(executionBatchWriter.write(Execution.builder()
+                    .codeSnippet(codeSnippet)
+                    .status(ExecutionStatus.SUCCESS)
+                    .output(output)
+                    .executionTime(10L)
+                    .memoryUsage(1024L)
+                    .build()).getId());
+        }
+
+        final Sample history = measure(get("/api/v1/executions/snippet/{id}", codeSnippet.getId())
+                .param("size", String.valueOf(EXECUTIONS)));
+        final Sample full = measure(get("/api/v1/executions")
+                .param("ids", ids.stream().map(String::valueOf).collect(Collectors.joining(","))));
+        System.out.printf("%d executions x %d KB output: history page %.2f ms / %d bytes, "
+                        + "full bodies %.2f ms / %d bytes%n", EXECUTIONS, OUTPUT_BYTES / 1024,
+                history.millis(), history.bytes(), full.millis(), full.bytes());
+
+        assertThat(history.bytes()).isLessThan(full.bytes() / 100);
+        assertThat(history.millis()).isLessThan(full.millis());
+    }
+
+    private Sample measure(final RequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        final double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            final long start = System.nanoTime();
+            response = mockMvc.perform(request).andReturn().getResponse();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        assertThat(response.getStatus()).isEqualTo(200);
+        Arrays.sort(samples);
+        return new Sample(samples[RUNS / 2], response.getContentAsByteArray().length);
+    }
+
+    private record Sample(double millis, int bytes) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.dto.CodeSnippetResponse;
+import com.codeplayground.dto.PageCursor;
+import com.codeplayground.dto.PageResponse;
+import com.codeplayground.service.EntityCacheEvictor;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 키셋(커서) 페이징 테스트.
+ * 생성 일시가 같은 항목이 페이지 경계에 걸쳐도 빠지거나 겹치지 않고, 마지막 페이지에서 다음 커서가 없는지 확인합니다.
+ */
+class KeysetPaginationTest extends ApiIntegrationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    private String author;
+    private List<Long> ids;
+
+    /**
+     * 스니펫 다섯 개를 만들고 가운데 세 개의 생성 일시를 같게 맞춥니다.
+     * 기대 순서는 (생성 일시 DESC, ID DESC)이므로 ids[0], ids[3], ids[2], ids[1], ids[4]입니다.
+     */
+    @BeforeEach
+    void setUp() {
+        author = "keyset-" + UUID.randomUUID().toString().substring(0, 8);
+        ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(createSnippet("Snippet " + i, "python", author).getId());
+        }
+        setCreatedAt(ids.get(0), BASE.plusMinutes(2));
+        setCreatedAt(ids.get(1), BASE.plusMinutes(1));
+        setCreatedAt(ids.get(2), BASE.plusMinutes(1));
+        setCreatedAt(ids.get(3), BASE.plusMinutes(1));
+        setCreatedAt(ids.get(4), BASE);
+        entityCacheEvictor.evictCodeSnippets(ids);
+    }
+
+    @Test
+    void tiesOnCreatedAtAreOrderedByIdAcrossPages() {
+        final PageResponse<CodeSnippetResponse> first = page(PageCursor.decode(null), 2);
+        final PageResponse<CodeSnippetResponse> second = page(PageCursor.decode(first.getNextCursor()), 2);
+        final PageResponse<CodeSnippetResponse> third = page(PageCursor.decode(second.getNextCursor()), 2);
+
+        assertThat(ids(first)).containsExactly(ids.get(0), ids.get(3));
+        assertThat(ids(second)).containsExactly(ids.get(2), ids.get(1));
+        assertThat(ids(third)).containsExactly(ids.get(4));
+        assertThat(first.getFirst()).isTrue();
+        assertThat(first.getLast()).isFalse();
+        assertThat(second.getFirst()).isFalse();
+        assertThat(third.getLast()).isTrue();
+        assertThat(third.getNextCursor()).isNull();
+    }
+
+    @Test
+    void exactlyFullLastPageHasNoNextCursor() {
+        final PageResponse<CodeSnippetResponse> all = page(PageCursor.decode(null), 5);
+
+        assertThat(ids(all)).containsExactly(ids.get(0), ids.get(3), ids.get(2), ids.get(1), ids.get(4));
+        assertThat(all.getLast()).isTrue();
+        assertThat(all.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorEndpointFollowsNextCursor() throws Exception {
+        final String next = page(PageCursor.decode(null), 3).getNextCursor();
+
+        mockMvc.perform(get("/api/v1/snippets/author/{author}", author)
+                        .param("cursor", next)
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(ids.get(1)))
+                .andExpect(jsonPath("$.content[1].id").value(ids.get(4)))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void tamperedCursorIsBadRequest() throws Exception {
+        final String next = page(PageCursor.decode(null), 2).getNextCursor();
+
+        mockMvc.perform(get("/api/v1/snippets/author/{author}", author).param("cursor", next + "!"))
+                .andExpect(status().isBadRequest());
+        final String payload = new String(Base64.getUrlDecoder().decode(next), StandardCharsets.UTF_8);
+        final String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.replace('|', ';').getBytes(StandardCharsets.UTF_8));
+        mockMvc.perform(get("/api/v1/snippets/author/{author}", author).param("cursor", forged))
+                .andExpect(status().isBadRequest());
+    }
+
+    private PageResponse<CodeSnippetResponse> page(final PageCursor cursor, final int size) {
+        return codeSnippetService.getCodeSnippetsByAuthor(author, cursor, size);
+    }
+
+    private static List<Long> ids(final PageResponse<CodeSnippetResponse> page) {
+        return page.getContent().stream().map(CodeSnippetResponse::getId).toList();
+    }
+
+    private void setCreatedAt(final Long id, final LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE code_snippets SET created_at = ? WHERE id = ?", createdAt, id);
+    }
+}
@@ -0,0 +1,80 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.config.ResponseFormatNegotiator;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 응답 형식별 ETag 테스트.
+ * JSON, CBOR, Smile 표현이 서로 다른 강한 ETag를 갖고, 조건부 요청이 같은 형식의 ETag에만 304로 응답하는지 확인합니다.
+ */
+class ResponseFormatETagTest extends ApiIntegrationTest {
+
+    private Long executionId;
+    private String shareId;
+
+    @BeforeEach
+    void setUp() {
+        final Long codeSnippetId = createSnippet("Formats", "python", "format-etag").getId();
+        executionId = execute(codeSnippetId).getId();
+        shareId = share(codeSnippetId).getShareId();
+    }
+
+    @Test
+    void eachFormatHasItsOwnETag() throws Exception {
+        final String json = etag(get("/api/v1/executions/{id}", executionId), MediaType.APPLICATION_JSON);
+        final String cbor = etag(get("/api/v1/executions/{id}", executionId),
+                ResponseFormatNegotiator.APPLICATION_CBOR);
+        final String smile = etag(get("/api/v1/executions/{id}", executionId),
+                ResponseFormatNegotiator.APPLICATION_SMILE);
+
+        assertThat(json).doesNotContain("-");
+        assertThat(cbor).isEqualTo(json.replaceFirst("\"$", "-cbor\""));
+        assertThat(smile).isEqualTo(json.replaceFirst("\"$", "-smile\""));
+    }
+
+    @Test
+    void conditionalGetMatchesOnlySameFormat() throws Exception {
+        final String json = etag(get("/api/v1/executions/{id}", executionId), MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(get("/api/v1/executions/{id}", executionId)
+                        .accept(ResponseFormatNegotiator.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ResponseFormatNegotiator.APPLICATION_CBOR));
+        mockMvc.perform(get("/api/v1/executions/{id}", executionId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shareETagFollowsNegotiatedFormat() throws Exception {
+        final String smile = etag(get("/api/v1/shares/{shareId}", shareId), ResponseFormatNegotiator.APPLICATION_SMILE);
+
+        mockMvc.perform(get("/api/v1/shares/{shareId}", shareId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, smile))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/shares/{shareId}", shareId)
+                        .accept(ResponseFormatNegotiator.APPLICATION_SMILE)
+                        .header(HttpHeaders.IF_NONE_MATCH, smile))
+                .andExpect(status().isNotModified());
+    }
+
+    private String etag(final MockHttpServletRequestBuilder request, final MediaType accept) throws Exception {
+        return mockMvc.perform(request.accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(accept))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
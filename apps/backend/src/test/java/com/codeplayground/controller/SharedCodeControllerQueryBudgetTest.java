@@ -0,0 +1,107 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.dto.ShareRequest;
+import com.codeplayground.dto.ShareResponse;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 공유 조회 API의 {@link com.codeplayground.config.QueryBudget} 회귀 테스트.
+ * 공유마다 원본 스니펫과 실행 기록이 달려 있어, 스니펫 정보를 공유별로 따로 읽으면 실패합니다.
+ */
+class SharedCodeControllerQueryBudgetTest extends ApiIntegrationTest {
+
+    private Long codeSnippetId;
+    private final List<ShareResponse> shares = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        shares.clear();
+        codeSnippetId = createSnippet("Share budget", "python", "budget-sharer").getId();
+        execute(codeSnippetId);
+        for (int i = 0; i < 3; i++) {
+            shares.add(share(codeSnippetId));
+        }
+        for (int i = 0; i < 2; i++) {
+            final Long otherId = createSnippet("Share budget other " + i, "python", "budget-sharer").getId();
+            final ShareRequest request = new ShareRequest();
+            request.setCodeSnippetId(otherId);
+            request.setExpirationDays(1);
+            shares.add(sharedCodeService.createShare(request));
+        }
+    }
+
+    @Test
+    void getSharedCodesByIds() throws Exception {
+        mockMvc.perform(get("/api/v1/shares").param("ids", shares.get(0).getShareId() + ","
+                        + shares.get(3).getShareId() + ",missing," + shares.get(4).getShareId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foundCount").value(3))
+                .andExpect(jsonPath("$.items[0].data.codeSnippet.executionCount").value(1))
+                .andExpect(jsonPath("$.items[2].found").value(false));
+    }
+
+    @Test
+    void getSharedCode() throws Exception {
+        mockMvc.perform(get("/api/v1/shares/{shareId}", shares.get(0).getShareId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.codeSnippet.id").value(codeSnippetId));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?cursor=", "?fields=", "?fields=shareId,expiresAt&cursor="})
+    void getSharesByCodeSnippet(final String query) throws Exception {
+        mockMvc.perform(get("/api/v1/shares/snippet/" + codeSnippetId + query))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?cursor=", "?fields=", "?fields=shareId,expiresAt&cursor="})
+    void getRecentShares(final String query) throws Exception {
+        mockMvc.perform(get("/api/v1/shares/recent" + query))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getSoonToExpireShares() throws Exception {
+        mockMvc.perform(get("/api/v1/shares/expiring-soon"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].shareId").value(hasItem(shares.get(3).getShareId())));
+    }
+
+    @Test
+    void getShareStatistics() throws Exception {
+        mockMvc.perform(get("/api/v1/shares/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.activeShares").isNumber());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?cursor=", "?fields=", "?fields=shareId,expiresAt&cursor="})
+    void listsSkipSharesOfDeletedSnippets(final String query) throws Exception {
+        codeSnippetService.deleteCodeSnippet(codeSnippetId);
+
+        mockMvc.perform(get("/api/v1/shares/recent" + query))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].shareId").value(not(hasItem(shares.get(0).getShareId()))))
+                .andExpect(jsonPath("$.content[*].shareId").value(hasItem(shares.get(3).getShareId())));
+        mockMvc.perform(get("/api/v1/shares/snippet/" + codeSnippetId + query))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+        mockMvc.perform(get("/api/v1/shares/{shareId}", shares.get(0).getShareId()))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,55 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * NDJSON 코드 스니펫 가져오기 테스트.
+ */
+class SnippetImportTest extends ApiIntegrationTest {
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    @Test
+    void invalidLinesAreReportedWithoutAbortingImport() throws Exception {
+        final String author = "importer-" + UUID.randomUUID().toString().substring(0, 8);
+        final String body = String.join("\n",
+                line("First", author),
+                "{not json",
+                "",
+                "{\"title\":\"\",\"code\":\"x\",\"language\":\"python\",\"authorName\":\"" + author + "\"}",
+                line("Second", author)) + "\n";
+
+        mockMvc.perform(post("/api/v1/snippets/import")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalLines").value(4))
+                .andExpect(jsonPath("$.importedCount").value(2))
+                .andExpect(jsonPath("$.failedCount").value(2))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[1].line").value(4));
+
+        assertThat(codeSnippetRepository.findAll())
+                .filteredOn(codeSnippet -> author.equals(codeSnippet.getAuthorName()))
+                .extracting("title")
+                .containsExactlyInAnyOrder("First", "Second");
+    }
+
+    private static String line(final String title, final String author) {
+        return "{\"title\":\"" + title + "\",\"code\":\"print(1)\",\"language\":\"python\",\"authorName\":\""
+                + author + "\"}";
+    }
+}
@@ -0,0 +1,153 @@
+package com.codeplayground.controller;
+
+import com.codeplayground.config.QueryStatisticsResponseAdvice;
+import com.codeplayground.dto.CodeSnippetRequest;
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.service.ExecutionBatchWriter;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 요약 프로젝션과 {@code fields=} 응답의 크기와 DB 읽기량 벤치마크.
+ * 같은 목록을 전체 응답과 요약 응답으로 조회해 응답 바이트, SQL 수, 읽은 행 수, 읽은 값 크기
+ * ({@code X-Query-*} 헤더), 응답 시간 중앙값을 비교합니다.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class SummaryProjectionBenchmarkTest extends ApiIntegrationTest {
+
+    private static final int ITEMS = 50;
+    private static final int CODE_LINES = 120;
+    private static final int OUTPUT_LINES = 100;
+    private static final int RUNS = 30;
+
+    @Autowired
+    private ExecutionBatchWriter executionBatchWriter;
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    private String authorName;
+    private CodeSnippet codeSnippet;
+
+    @BeforeEach
+    void setUp() {
+        authorName = "summary-bench-" + System.nanoTime();
+        for (int i = 0; i < ITEMS; i++) {
+            final CodeSnippetRequest request = new CodeSnippetRequest();
+            request.setTitle("Summary bench " + i);
+            request.setCode(program(i));
+            request.setLanguage("python");
+            request.setAuthorName(authorName);
+            final Long id = codeSnippetService.createCodeSnippet(request).getId();
+            if (codeSnippet == null) {
+                codeSnippet = codeSnippetRepository.findById(id).orElseThrow();
+            }
+        }
+        for (int i = 0; i < ITEMS; i++) {
+            executionBatchWriter.write(Execution.builder()
+                    .codeSnippet(codeSnippet)
+                    .status(ExecutionStatus.SUCCESS)
+                    .output(output(i))
+                    .executionTime(10L)
+                    .memoryUsage(1024L)
+                    .build());
+            share(codeSnippet.getId());
+        }
+    }
+
+    @Test
+    void snippetSummariesSkipCode() throws Exception {
+        compare("snippets by author",
+                get("/api/v1/snippets/author/{authorName}", authorName).param("size", String.valueOf(ITEMS)),
+                get("/api/v1/snippets/author/{authorName}", authorName).param("size", String.valueOf(ITEMS))
+                        .param("fields", "id,title,language,updatedAt"));
+    }
+
+    @Test
+    void executionSummariesSkipOutputPreviews() throws Exception {
+        compare("execution history",
+                get("/api/v1/executions/snippet/{id}", codeSnippet.getId()).param("size", String.valueOf(ITEMS)),
+                get("/api/v1/executions/snippet/{id}", codeSnippet.getId()).param("size", String.valueOf(ITEMS))
+                        .param("fields", "id,status,executionTime,createdAt"));
+    }
+
+    @Test
+    void shareSummariesSkipSnippetCode() throws Exception {
+        compare("shares by snippet",
+                get("/api/v1/shares/snippet/{id}", codeSnippet.getId()).param("size", String.valueOf(ITEMS)),
+                get("/api/v1/shares/snippet/{id}", codeSnippet.getId()).param("size", String.valueOf(ITEMS))
+                        .param("fields", "shareId,shareUrl,title,expiresAt"));
+    }
+
+    private void compare(final String name, final RequestBuilder full, final RequestBuilder summary)
+            throws Exception {
+        final Sample fullSample = measure(full);
+        final Sample summarySample = measure(summary);
+        System.out.printf("%s (%d items): full %s | fields= %s%n", name, ITEMS, fullSample, summarySample);
+
+        assertThat(summarySample.bytes()).isLessThan(fullSample.bytes() / 2);
+        assertThat(summarySample.readBytes()).isLessThan(fullSample.readBytes() / 2);
+        assertThat(summarySample.queries()).isLessThanOrEqualTo(fullSample.queries());
+    }
+
+    private Sample measure(final RequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        final double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            final long start = System.nanoTime();
+            response = mockMvc.perform(request).andReturn().getResponse();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        assertThat(response.getStatus()).isEqualTo(200);
+        Arrays.sort(samples);
+        return new Sample(samples[RUNS / 2], response.getContentAsByteArray().length,
+                header(response, QueryStatisticsResponseAdvice.QUERY_COUNT_HEADER),
+                header(response, QueryStatisticsResponseAdvice.QUERY_ROWS_HEADER),
+                header(response, QueryStatisticsResponseAdvice.QUERY_READ_BYTES_HEADER));
+    }
+
+    private static long header(final MockHttpServletResponse response, final String name) {
+        return Long.parseLong(response.getHeader(name));
+    }
+
+    private static String program(final int seed) {
+        final StringBuilder code = new StringBuilder("import math\n\n");
+        for (int line = 0; line < CODE_LINES; line++) {
+            code.append("value_").append(line).append(" = math.sqrt(").append(seed * line + 1)
+                    .append(")  # step ").append(line).append('\n');
+        }
+        return code.append("print('done')\n").toString();
+    }
+
+    private static String output(final int seed) {
+        final StringBuilder output = new StringBuilder();
+        for (int line = 0; line < OUTPUT_LINES; line++) {
+            output.append("iteration ").append(line).append(": ").append(seed * line).append('\n');
+        }
+        return output.toString();
+    }
+
+    private record Sample(double millis, int bytes, long queries, long rows, long readBytes) {
+
+        @Override
+        public String toString() {
+            return String.format("%d bytes, %d queries, %d rows, %d bytes read, %.2f ms",
+                    bytes, queries, rows, readBytes, millis);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.codeplayground.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키셋 페이징 커서 토큰 테스트.
+ */
+class PageCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePosition() {
+        final LocalDateTime createdAt = LocalDateTime.of(2026, 10, 1, 12, 30, 15, 123_456_789);
+
+        final String token = PageCursor.after(createdAt, 42L).encode();
+        final PageCursor decoded = PageCursor.decode(token);
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.isFirst()).isFalse();
+    }
+
+    @Test
+    void cursorsOnSameTimestampDifferOnlyById() {
+        final LocalDateTime createdAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+        final String first = PageCursor.after(createdAt, 7L).encode();
+        final String second = PageCursor.after(createdAt, 8L).encode();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(PageCursor.decode(first).getId()).isEqualTo(7L);
+        assertThat(PageCursor.decode(second).getId()).isEqualTo(8L);
+    }
+
+    @Test
+    void blankTokenIsFirstPage() {
+        assertThat(PageCursor.decode(null).isFirst()).isTrue();
+        assertThat(PageCursor.decode("").isFirst()).isTrue();
+        assertThat(PageCursor.decode("  ").isFirst()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "MjAyNi0xMC0wMVQxMjowMHw0M"})
+    void malformedTokenIsRejected(final String token) {
+        assertRejected(token);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2026-10-01T12:00", "2026-13-01T12:00|42", "2026-10-01T12:00|4x2", "2026-10-01T12:00|",
+            "|42"})
+    void tamperedPayloadIsRejected(final String payload) {
+        assertRejected(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertRejected(final String token) {
+        assertThatThrownBy(() -> PageCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다");
+    }
+}
@@ -0,0 +1,241 @@
+package com.codeplayground.service;
+
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 본문 내용 주소 저장의 저장 공간 절감과 쓰기 비용 벤치마크.
+ * 플레이그라운드 실행 패턴을 흉내 낸 데이터(같은 코드의 반복 실행, 흔한 에러 메시지, 실행마다 다른 출력)로
+ * 이전 방식(execution_outputs에 본문을 그대로 저장)과 {@link ContentBlobStore}를 비교합니다.
+ *
+ * <p>저장 공간은 본문의 UTF-8 바이트 합계와 content_blobs 바이트 합계에 참조 해시(64바이트) 비용을 더한 값으로 비교합니다.
+ * 플레이그라운드 출력은 대부분 짧아 참조 해시 비용이 절감분의 상당 부분을 차지하므로 이를 빼지 않고 비교합니다.
+ * 쓰기 비용은 기록 저장기와 같은 50건 묶음 트랜잭션으로 측정하며,
+ * 중복이 없는 본문에서 해시 계산과 참조 수 갱신이 더하는 최악의 비용도 함께 출력합니다.
+ * H2 인메모리 DB에서 측정하므로 절대값보다 두 방식의 비율을 참고합니다.
+ * {@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class ContentBlobStorageBenchmarkTest extends ApiIntegrationTest {
+
+    private static final int SNIPPETS = 300;
+    private static final int RUNS_PER_SNIPPET = 10;
+    private static final int BATCH_SIZE = 50;
+    private static final int HASH_BYTES = 64;
+    private static final double MAX_WRITE_MICROS = 1_000;
+
+    private static final List<String> COMMON_ERRORS = List.of(
+            "Traceback (most recent call last):\n  File \"main.py\", line %d, in <module>\n"
+                    + "NameError: name 'pritn' is not defined. Did you mean: 'print'?\n",
+            "  File \"main.py\", line %d\n    if x == 1\n             ^\nSyntaxError: expected ':'\n",
+            "Traceback (most recent call last):\n  File \"main.py\", line %d, in <module>\n"
+                    + "ZeroDivisionError: division by zero\n",
+            "/tmp/Main.java:%d: error: ';' expected\n        System.out.println(\"hi\")\n"
+                    + "                                 ^\n1 error\n",
+            "Exception in thread \"main\" java.lang.ArrayIndexOutOfBoundsException: "
+                    + "Index 10 out of bounds for length 10\n\tat Main.main(Main.java:%d)\n",
+            "/tmp/main.js:%d\nconsole.log(foo);\n            ^\n\nReferenceError: foo is not defined\n"
+                    + "    at Object.<anonymous> (/tmp/main.js:5:13)\n");
+
+    @Autowired
+    private ContentBlobStore contentBlobStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private final List<String> retainedHashes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.execute("CREATE TABLE bench_inline_outputs (output TEXT, error_message TEXT)");
+        jdbcTemplate.execute("CREATE TABLE bench_blob_refs (output_hash VARCHAR(64), error_hash VARCHAR(64))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 다른 테스트와 같은 DB를 쓰므로 늘린 참조 수를 되돌립니다.
+        transactionTemplate.executeWithoutResult(status -> contentBlobStore.releaseAll(retainedHashes));
+        jdbcTemplate.execute("DROP TABLE bench_inline_outputs");
+        jdbcTemplate.execute("DROP TABLE bench_blob_refs");
+    }
+
+    @Test
+    void deduplicationShrinksRealisticOutputs() {
+        final List<String[]> executions = realisticExecutions();
+        final long logicalBytes = executions.stream()
+                .flatMap(Arrays::stream)
+                .filter(Objects::nonNull)
+                .mapToLong(body -> body.getBytes(StandardCharsets.UTF_8).length)
+                .sum();
+        final long references = executions.stream()
+                .flatMap(Arrays::stream)
+                .filter(Objects::nonNull)
+                .count();
+
+        final long blobBytesBefore = blobBytes();
+        final long blobsBefore = blobCount();
+        writeBlobs(executions);
+        final long storedBytes = blobBytes() - blobBytesBefore + references * HASH_BYTES;
+        final long storedBlobs = blobCount() - blobsBefore;
+
+        final double reduction = 1 - (double) storedBytes / logicalBytes;
+        System.out.printf("%d executions, %d bodies: inline %d bytes, content_blobs %d bytes in %d blobs "
+                        + "+ %d hash bytes = %d bytes (%.1f%% smaller)%n",
+                executions.size(), references, logicalBytes, storedBytes - references * HASH_BYTES, storedBlobs,
+                references * HASH_BYTES, storedBytes, reduction * 100);
+
+        assertThat(reduction).isGreaterThan(0.25);
+    }
+
+    @Test
+    void writeCostIsSmallNextToExecutionTime() {
+        final List<String[]> realistic = realisticExecutions();
+        final List<String[]> unique = uniqueExecutions(realistic.size());
+
+        // 워밍업
+        writeInline(realistic);
+        writeBlobs(unique);
+
+        final double inline = writeInline(realistic);
+        final double blobRealistic = writeBlobs(realisticExecutions());
+        final double blobUnique = writeBlobs(uniqueExecutions(realistic.size()));
+        System.out.printf("execution body writes (us/execution, batch %d): inline %.1f, "
+                        + "content_blobs realistic %.1f (x%.2f), content_blobs all unique %.1f (x%.2f)%n",
+                BATCH_SIZE, inline, blobRealistic, blobRealistic / inline, blobUnique, blobUnique / inline);
+
+        // 샌드박스 실행 한 번은 수십 ms가 걸리므로 본문 저장 비용은 1ms 안쪽이면 충분합니다.
+        assertThat(blobRealistic).isLessThan(MAX_WRITE_MICROS);
+    }
+
+    /**
+     * 이전 방식처럼 본문을 참조 행에 그대로 저장합니다.
+     *
+     * @return 실행 기록 한 건당 마이크로초
+     */
+    private double writeInline(final List<String[]> executions) {
+        final long start = System.nanoTime();
+        for (int from = 0; from < executions.size(); from += BATCH_SIZE) {
+            final List<String[]> batch = executions.subList(from, Math.min(from + BATCH_SIZE, executions.size()));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO bench_inline_outputs (output, error_message) VALUES (?, ?)",
+                    batch.stream().map(bodies -> new Object[]{bodies[0], bodies[1]}).toList()));
+        }
+        return microsPerExecution(executions.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * 기록 저장기처럼 묶음의 본문을 한 번에 content_blobs에 저장하고 해시만 참조 행에 저장합니다.
+     *
+     * @return 실행 기록 한 건당 마이크로초
+     */
+    private double writeBlobs(final List<String[]> executions) {
+        final long start = System.nanoTime();
+        for (int from = 0; from < executions.size(); from += BATCH_SIZE) {
+            final List<String[]> batch = executions.subList(from, Math.min(from + BATCH_SIZE, executions.size()));
+            final List<String> bodies = new ArrayList<>(batch.size() * 2);
+            batch.forEach(pair -> {
+                bodies.add(pair[0]);
+                bodies.add(pair[1]);
+            });
+            transactionTemplate.executeWithoutResult(status -> {
+                final List<String> hashes = contentBlobStore.retainAll(bodies);
+                final List<Object[]> refs = new ArrayList<>(batch.size());
+                for (int i = 0; i < hashes.size(); i += 2) {
+                    refs.add(new Object[]{hashes.get(i), hashes.get(i + 1)});
+                }
+                jdbcTemplate.batchUpdate("INSERT INTO bench_blob_refs (output_hash, error_hash) VALUES (?, ?)", refs);
+                hashes.stream().filter(Objects::nonNull).forEach(retainedHashes::add);
+            });
+        }
+        return microsPerExecution(executions.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * 스니펫마다 여러 번 실행한 기록을 실행 순서대로 섞어 만듭니다.
+     * 절반은 매번 같은 출력을 내는 결정적 프로그램, 5분의 1은 흔한 컴파일/런타임 에러,
+     * 나머지는 난수나 시각을 출력해 실행마다 출력이 다른 프로그램입니다.
+     *
+     * @return 실행 기록별 {출력, 에러 메시지}
+     */
+    private static List<String[]> realisticExecutions() {
+        final Random random = new Random(42);
+        final List<String[]> executions = new ArrayList<>(SNIPPETS * RUNS_PER_SNIPPET);
+        for (int run = 0; run < RUNS_PER_SNIPPET; run++) {
+            for (int snippet = 0; snippet < SNIPPETS; snippet++) {
+                final int kind = snippet % 10;
+                if (kind < 5) {
+                    executions.add(new String[]{deterministicOutput(snippet), null});
+                } else if (kind < 7) {
+                    final String error = COMMON_ERRORS.get(snippet % COMMON_ERRORS.size()).formatted(snippet % 4 + 1);
+                    executions.add(new String[]{null, error});
+                } else {
+                    executions.add(new String[]{randomOutput(random, snippet), null});
+                }
+            }
+        }
+        return executions;
+    }
+
+    private static List<String[]> uniqueExecutions(final int count) {
+        final Random random = new Random();
+        final List<String[]> executions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            executions.add(new String[]{randomOutput(random, i) + UUID.randomUUID(), null});
+        }
+        return executions;
+    }
+
+    private static String deterministicOutput(final int snippet) {
+        if (snippet % 5 == 0) {
+            return "Hello, World!\n";
+        }
+        final StringBuilder output = new StringBuilder();
+        for (int i = 1; i <= snippet % 40 + 1; i++) {
+            output.append(i).append(" * ").append(i).append(" = ").append(i * i).append('\n');
+        }
+        return output.toString();
+    }
+
+    private static String randomOutput(final Random random, final int snippet) {
+        final StringBuilder output = new StringBuilder("Rolled dice for snippet ").append(snippet).append(":\n");
+        for (int i = 0; i < 10; i++) {
+            output.append("roll ").append(i).append(": ").append(random.nextInt(6) + 1).append('\n');
+        }
+        return output.append("elapsed ").append(random.nextInt(1000)).append(" ms\n").toString();
+    }
+
+    private long blobBytes() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(byte_size), 0) FROM content_blobs", Long.class));
+    }
+
+    private long blobCount() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM content_blobs", Long.class));
+    }
+
+    private static double microsPerExecution(final int count, final long nanos) {
+        return nanos / 1_000.0 / count;
+    }
+}
@@ -0,0 +1,163 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.CodeSnippetRequest;
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.SharedCode;
+import com.codeplayground.exception.ResourceNotFoundException;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.repository.SharedCodeRepository;
+import com.codeplayground.support.ApiIntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 2차 캐시 무효화 테스트.
+ * 엔티티로 캐시된 스니펫과 공유를 엔티티 저장 또는 JDBC로 바꾼 뒤, 캐시되는 조회가 바뀐 값을 읽는지 확인합니다.
+ */
+class EntityCacheInvalidationTest extends ApiIntegrationTest {
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    @Autowired
+    private SharedCodeRepository sharedCodeRepository;
+
+    @Autowired
+    private ShareExpiryService shareExpiryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Cache cache;
+    private String author;
+
+    @BeforeEach
+    void setUp() {
+        cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        author = "cache-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void updatedSnippetIsReadFresh() {
+        final Long id = cachedSnippet();
+
+        final CodeSnippetRequest request = new CodeSnippetRequest();
+        request.setTitle("Updated");
+        request.setCode("print('updated')");
+        request.setLanguage("python");
+        request.setAuthorName(author);
+        codeSnippetService.updateCodeSnippet(id, request);
+
+        final CodeSnippet codeSnippet = codeSnippetRepository.findByIdAndIsActiveTrue(id).orElseThrow();
+        assertThat(codeSnippet.getTitle()).isEqualTo("Updated");
+        assertThat(codeSnippet.getCode()).isEqualTo("print('updated')");
+        assertThat(codeSnippet.getCurrentVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void deletedSnippetIsNotFound() {
+        final Long id = cachedSnippet();
+
+        codeSnippetService.deleteCodeSnippet(id);
+
+        assertThat(codeSnippetRepository.findByIdAndIsActiveTrue(id)).isEmpty();
+        assertThatThrownBy(() -> codeSnippetService.getCodeSnippet(id))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void deactivatedShareIsReadInactive() {
+        final String shareId = cachedShare();
+
+        sharedCodeService.deactivateShare(shareId);
+
+        assertThat(sharedCodeRepository.findByShareId(shareId)).get()
+                .extracting(SharedCode::getIsActive)
+                .isEqualTo(false);
+        assertThatThrownBy(() -> sharedCodeService.getSharedCode(shareId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void popularityIncrementEvictsCachedSnippet() {
+        final Long id = cachedSnippet();
+
+        execute(id);
+
+        assertThat(codeSnippetRepository.findByIdAndIsActiveTrue(id).orElseThrow().getPopularityScore())
+                .isGreaterThan(0);
+    }
+
+    @Test
+    void importedSnippetReplacesCachedMiss() throws Exception {
+        final long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM code_snippets", Long.class)
+                + 1;
+        LongStream.range(next, next + 10)
+                .forEach(id -> assertThat(codeSnippetRepository.findByIdAndIsActiveTrue(id)).isEmpty());
+
+        mockMvc.perform(post("/api/v1/snippets/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"title\":\"Imported\",\"code\":\"print(1)\",\"language\":\"python\","
+                                + "\"authorName\":\"" + author + "\"}\n"))
+                .andExpect(status().isOk());
+
+        final Long id = jdbcTemplate.queryForObject("SELECT id FROM code_snippets WHERE author_name = ?",
+                Long.class, author);
+        assertThat(id).isBetween(next, next + 9);
+        assertThat(codeSnippetRepository.findByIdAndIsActiveTrue(id)).get()
+                .extracting(CodeSnippet::getTitle)
+                .isEqualTo("Imported");
+    }
+
+    @Test
+    void purgedShareIsNotFound() {
+        final String shareId = cachedShare();
+        sharedCodeService.deactivateShare(shareId);
+        jdbcTemplate.update("UPDATE shared_codes SET updated_at = ?, expires_at = NULL WHERE share_id = ?",
+                LocalDateTime.of(2000, 1, 1, 0, 0), shareId);
+        final Long id = sharedCodeRepository.findByShareId(shareId).orElseThrow().getId();
+        assertThat(cache.containsEntity(SharedCode.class, id)).isTrue();
+
+        assertThat(shareExpiryService.purgeInactiveShares()).isPositive();
+
+        assertThat(cache.containsEntity(SharedCode.class, id)).isFalse();
+        assertThat(sharedCodeRepository.findByShareId(shareId)).isEmpty();
+    }
+
+    /**
+     * 코드 스니펫을 만들고 캐시되는 조회로 한 번 읽어 엔티티와 쿼리 결과를 캐시에 넣습니다.
+     */
+    private Long cachedSnippet() {
+        final Long id = createSnippet("Cached", "python", author).getId();
+        assertThat(codeSnippetRepository.findByIdAndIsActiveTrue(id)).isPresent();
+        assertThat(cache.containsEntity(CodeSnippet.class, id)).isTrue();
+        return id;
+    }
+
+    /**
+     * 공유를 만들고 캐시되는 조회로 한 번 읽어 엔티티와 쿼리 결과를 캐시에 넣습니다.
+     */
+    private String cachedShare() {
+        final String shareId = share(cachedSnippet()).getShareId();
+        assertThat(sharedCodeService.getSharedCode(shareId).getShareId()).isEqualTo(shareId);
+        assertThat(sharedCodeRepository.findByShareId(shareId)).isPresent();
+        return shareId;
+    }
+}
@@ -0,0 +1,131 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.CodeSnippetRequest;
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.repository.ExecutionRepository;
+import com.codeplayground.support.PostgresIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 기록 배치 저장기 벤치마크 (PostgreSQL).
+ * 동시 요청이 많을 때 묶음 저장(batch-size 50)과 한 건씩 저장(batch-size 1)의 처리량을 비교합니다.
+ *
+ * <p>커밋과 왕복 비용이 없는 H2 인메모리 DB에서는 두 방식의 차이가 거의 없으므로 PostgreSQL에서 측정합니다.
+ * {@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class ExecutionBatchWriterBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 32;
+    private static final int WRITES_PER_THREAD = 200;
+
+    @Autowired
+    private CodeSnippetService codeSnippetService;
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PopularityScoreCalculator popularityScoreCalculator;
+
+    @Autowired
+    private PopularityDecayService popularityDecayService;
+
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Autowired
+    private ExecutionMetricsService executionMetricsService;
+
+    @Autowired
+    private ContentBlobStore contentBlobStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void batchedWritesOutperformSingleWrites() throws Exception {
+        final List<CodeSnippet> snippets = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final CodeSnippetRequest request = new CodeSnippetRequest();
+            request.setTitle("Bench " + i);
+            request.setCode("print('hello world')");
+            request.setLanguage("python");
+            request.setAuthorName("bench");
+            snippets.add(codeSnippetRepository.findById(codeSnippetService.createCodeSnippet(request).getId())
+                    .orElseThrow());
+        }
+
+        // 워밍업
+        measure(1, 1, snippets);
+        measure(50, 20, snippets);
+
+        final double single = measure(1, 0, snippets);
+        final double batched = measure(50, 20, snippets);
+        System.out.printf("execution writes/s: batch-size 1 %.0f, batch-size 50 %.0f (x%.1f)%n",
+                single, batched, batched / single);
+
+        assertThat(batched).isGreaterThan(single);
+    }
+
+    private double measure(final int batchSize, final long maxDelayMillis, final List<CodeSnippet> snippets)
+            throws Exception {
+        final ExecutionBatchWriter writer = new ExecutionBatchWriter(executionRepository, jdbcTemplate,
+                popularityScoreCalculator, popularityDecayService, entityCacheEvictor, statisticsRollupService,
+                executionMetricsService, contentBlobStore, transactionManager, new SimpleMeterRegistry(), 10_000,
+                batchSize, maxDelayMillis, 60_000);
+        writer.start();
+
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final long start = System.nanoTime();
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final CodeSnippet snippet = snippets.get(t % snippets.size());
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                        writer.write(Execution.builder()
+                                .codeSnippet(snippet)
+                                .status(ExecutionStatus.SUCCESS)
+                                .output("Hello, World! " + i)
+                                .executionTime(10L)
+                                .memoryUsage(1024L)
+                                .build());
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            return THREADS * WRITES_PER_THREAD / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            pool.shutdown();
+            writer.shutdown();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.codeplayground.service;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.exception.ExecutionNotAcknowledgedException;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.repository.ExecutionRepository;
+import com.codeplayground.support.ApiIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실행 기록 배치 저장기 테스트.
+ */
+class ExecutionBatchWriterTest extends ApiIntegrationTest {
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PopularityScoreCalculator popularityScoreCalculator;
+
+    @Autowired
+    private PopularityDecayService popularityDecayService;
+
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Autowired
+    private ExecutionMetricsService executionMetricsService;
+
+    @Autowired
+    private ContentBlobStore contentBlobStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CodeSnippet codeSnippet;
+
+    @BeforeEach
+    void setUp() {
+        codeSnippet = codeSnippetRepository.findById(createSnippet("Writer", "python", "writer").getId())
+                .orElseThrow();
+    }
+
+    @Test
+    void writeAfterShutdownIsPersistedByCaller() throws InterruptedException {
+        final ExecutionBatchWriter writer = newWriter();
+        writer.start();
+        writer.shutdown();
+
+        final Execution saved = writer.write(execution("after shutdown"));
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(executionRepository.findById(saved.getId())).isPresent();
+    }
+
+    @Test
+    void queuedWritesAreFlushedOnShutdown() throws InterruptedException {
+        final ExecutionBatchWriter writer = newWriter();
+        writer.start();
+
+        final Execution saved = writer.write(execution("queued"));
+        writer.shutdown();
+
+        assertThat(executionRepository.findById(saved.getId())).isPresent();
+    }
+
+    @Test
+    void unacknowledgedWriteReturnsCopyUntouchedByFlush() throws InterruptedException {
+        // 저장 스레드가 ID를 채운 뒤 롤업 반영에서 멈추게 해 확인 대기 시간을 넘깁니다.
+        final CountDownLatch idAssigned = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final StatisticsRollupService blockingRollups = mock(StatisticsRollupService.class);
+        doAnswer(invocation -> {
+            idAssigned.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(blockingRollups).recordExecutions(anyList());
+        final ExecutionBatchWriter writer = new ExecutionBatchWriter(executionRepository, jdbcTemplate,
+                popularityScoreCalculator, popularityDecayService, entityCacheEvictor, blockingRollups,
+                executionMetricsService, contentBlobStore, transactionManager, new SimpleMeterRegistry(), 100, 50, 20,
+                100);
+        writer.start();
+        final Execution execution = execution("slow flush");
+
+        final ExecutionNotAcknowledgedException e = catchThrowableOfType(() -> writer.write(execution),
+                ExecutionNotAcknowledgedException.class);
+
+        assertThat(idAssigned.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(execution.getId()).isNotNull();
+        assertThat(e.getExecution()).isNotSameAs(execution);
+        assertThat(e.getExecution().getId()).isNull();
+        assertThat(e.getExecution().getCreatedAt()).isNull();
+        assertThat(e.getExecution().getOutput()).isEqualTo("slow flush");
+        assertThat(e.getExecution().getOutputBytes()).isEqualTo("slow flush".length());
+
+        release.countDown();
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> executionRepository.findById(execution.getId()).isPresent());
+        writer.shutdown();
+        assertThat(e.getExecution().getId()).isNull();
+    }
+
+    private ExecutionBatchWriter newWriter() {
+        return new ExecutionBatchWriter(executionRepository, jdbcTemplate, popularityScoreCalculator,
+                popularityDecayService, entityCacheEvictor, statisticsRollupService, executionMetricsService,
+                contentBlobStore, transactionManager, new SimpleMeterRegistry(), 100, 50, 20, 10_000);
+    }
+
+    private Execution execution(final String output) {
+        return Execution.builder()
+                .codeSnippet(codeSnippet)
+                .status(ExecutionStatus.SUCCESS)
+                .output(output)
+                .executionTime(10L)
+                .memoryUsage(1024L)
+                .build();
+    }
+}
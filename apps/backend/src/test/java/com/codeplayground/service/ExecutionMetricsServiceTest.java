@@ -0,0 +1,114 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.ExecutionMetricsResponse;
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.ExecutionRollup;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.entity.enums.RollupGranularity;
+import com.codeplayground.repository.ExecutionRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실시간 실행 메트릭 저장소 테스트.
+ */
+class ExecutionMetricsServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutionRollupRepository executionRollupRepository = mock(ExecutionRollupRepository.class);
+    private final ExecutionMetricsService executionMetricsService = new ExecutionMetricsService(meterRegistry,
+            executionRollupRepository, List.of("javascript", "python", "java"));
+
+    @Test
+    void languagesAreLowerCasedAndUnknownOnesGroupedAsOther() {
+        executionMetricsService.record(execution("Python", ExecutionStatus.SUCCESS, 10), 0);
+        executionMetricsService.record(execution("python", ExecutionStatus.SUCCESS, 20), 0);
+        executionMetricsService.record(execution("Brainfuck", ExecutionStatus.ERROR, 30), 0);
+        executionMetricsService.record(execution("cobol", ExecutionStatus.ERROR, 40), 0);
+
+        assertThat(meterRegistry.find("code_playground.executions.time").timers())
+                .extracting(timer -> timer.getId().getTag("language"))
+                .containsExactlyInAnyOrder("python", "other");
+        assertThat(meterRegistry.get("code_playground.executions.time")
+                .tags("language", "python", "status", "SUCCESS").timer().count()).isEqualTo(2);
+        assertThat(executionMetricsService.getMetrics("PYTHON", null, 5).getTotalExecutions()).isEqualTo(2);
+        assertThat(executionMetricsService.getMetrics("cobol", null, 5).getTotalExecutions()).isEqualTo(2);
+    }
+
+    @Test
+    void metricsAggregateAcrossLanguagesAndStatuses() {
+        executionMetricsService.record(execution("java", ExecutionStatus.SUCCESS, 100), 0);
+        executionMetricsService.record(execution("javascript", ExecutionStatus.SUCCESS, 300), 0);
+        executionMetricsService.record(execution("javascript", ExecutionStatus.TIMEOUT, 5_000), 0);
+
+        final ExecutionMetricsResponse all = executionMetricsService.getMetrics(null, null, 5);
+        assertThat(all.getTotalExecutions()).isEqualTo(3);
+        assertThat(all.getSuccessCount()).isEqualTo(2);
+        assertThat(all.getTimeoutCount()).isEqualTo(1);
+        assertThat(all.getExecutionTime().getSampleCount()).isEqualTo(3);
+        assertThat(all.getExecutionTime().getMean()).isEqualTo(1_800.0);
+        assertThat(all.getExecutionTime().getMax()).isBetween(4_995L, 5_005L);
+
+        final ExecutionMetricsResponse successes = executionMetricsService.getMetrics(null,
+                ExecutionStatus.SUCCESS, 5);
+        assertThat(successes.getTotalExecutions()).isEqualTo(2);
+        assertThat(successes.getExecutionTime().getMean()).isEqualTo(200.0);
+        assertThat(executionMetricsService.getMetrics("python", null, 5).getTotalExecutions()).isZero();
+    }
+
+    @Test
+    void seedingFromRollupsUsesTheSameLanguageKeys() {
+        final LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        given(executionRollupRepository.findBucketsSince(any(), any())).willReturn(List.of(
+                rollup(minute, "Python", 3, 30),
+                rollup(minute, "Rust", 2, 20)));
+
+        executionMetricsService.seedFromRollups();
+        executionMetricsService.record(execution("python", ExecutionStatus.SUCCESS, 10), 0);
+
+        assertThat(executionMetricsService.getMetrics("python", null, 5).getTotalExecutions()).isEqualTo(4);
+        assertThat(executionMetricsService.getMetrics(ExecutionMetricsService.OTHER_LANGUAGE, null, 5)
+                .getTotalExecutions()).isEqualTo(2);
+    }
+
+    @Test
+    void windowOutsideRetentionIsRejected() {
+        assertThatThrownBy(() -> executionMetricsService.getMetrics(null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> executionMetricsService.getMetrics(null, null,
+                ExecutionMetricsService.RETAINED_MINUTES + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Execution execution(final String language, final ExecutionStatus status,
+                                       final long executionTime) {
+        final CodeSnippet codeSnippet = new CodeSnippet();
+        codeSnippet.setLanguage(language);
+        return Execution.builder()
+                .codeSnippet(codeSnippet)
+                .status(status)
+                .executionTime(executionTime)
+                .memoryUsage(1024L)
+                .build();
+    }
+
+    private static ExecutionRollup rollup(final LocalDateTime minute, final String language, final long count,
+                                          final long totalExecutionTime) {
+        final ExecutionRollup rollup = new ExecutionRollup();
+        rollup.setId(new ExecutionRollup.Key(RollupGranularity.MINUTE, minute, language, ExecutionStatus.SUCCESS));
+        rollup.setExecutionCount(count);
+        rollup.setTotalExecutionTime(totalExecutionTime);
+        return rollup;
+    }
+}
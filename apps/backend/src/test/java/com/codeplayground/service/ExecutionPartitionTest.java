@@ -0,0 +1,62 @@
+package com.codeplayground.service;
+
+import com.codeplayground.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * executions 월별 파티션 테스트 (PostgreSQL).
+ */
+class ExecutionPartitionTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ExecutionRetentionService executionRetentionService;
+
+    @Test
+    void createsPartitionForMonthWithRowsInDefaultPartition() {
+        final YearMonth month = YearMonth.now(ZoneOffset.UTC).plusMonths(12);
+        final String partition = String.format("executions_y%04dm%02d", month.getYear(), month.getMonthValue());
+        final Long snippetId = jdbcTemplate.queryForObject("INSERT INTO code_snippets " +
+                "(title, code, language, author_name) VALUES ('Partition', 'print(1)', 'python', 'partitioner') " +
+                "RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO executions (id, code_snippet_id, status, created_at) " +
+                "VALUES (nextval('executions_id_seq'), ?, 'SUCCESS', ?)", snippetId, month.atDay(10).atTime(12, 0));
+        assertThat(countRows("executions_default", snippetId)).isEqualTo(1);
+
+        jdbcTemplate.queryForList("SELECT create_executions_partition(?)", Date.valueOf(month.atDay(1)));
+
+        assertThat(countRows("executions_default", snippetId)).isZero();
+        assertThat(countRows(partition, snippetId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM executions WHERE code_snippet_id = ?",
+                Long.class, snippetId)).isEqualTo(1);
+    }
+
+    @Test
+    void precreatesUpcomingPartitionsInUtc() {
+        executionRetentionService.prepareUpcomingPartitions();
+
+        final YearMonth current = YearMonth.from(LocalDateTime.now(ZoneOffset.UTC));
+        for (int i = 0; i <= 2; i++) {
+            final YearMonth month = current.plusMonths(i);
+            final String partition = String.format("executions_y%04dm%02d", month.getYear(), month.getMonthValue());
+            assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))
+                    .as(partition).isTrue();
+        }
+    }
+
+    private long countRows(final String table, final Long snippetId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE code_snippet_id = ?",
+                Long.class, snippetId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.codeplayground.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 줄 단위 차이 인코더 테스트.
+ */
+class LineDeltaTest {
+
+    @Test
+    void editsRoundTrip() {
+        final String base = "def main():\n    x = 1\n    y = 2\n    return x + y\n";
+
+        assertRoundTrip(base, base);
+        assertRoundTrip(base, "# header\n" + base);
+        assertRoundTrip(base, base + "main()\n");
+        assertRoundTrip(base, "def main():\n    x = 1\n    z = 3\n    y = 2\n    return x + y\n");
+        assertRoundTrip(base, "def main():\n    return 3\n");
+        assertRoundTrip(base, "");
+        assertRoundTrip("", base);
+        assertRoundTrip(base, base.replace("\n", "\r\n"));
+        assertRoundTrip(base, base.stripTrailing());
+    }
+
+    @Test
+    void insertedLinesLookingLikeOperationsRoundTrip() {
+        assertRoundTrip("a\nb", "a\n=1\n-2\n+3\nb");
+        assertRoundTrip("=1\n+1", "+1\n=1\n\n");
+    }
+
+    @Test
+    void unchangedCodeNeedsOnlyCopyOperation() {
+        assertThat(LineDelta.diff("a\nb\nc", "a\nb\nc")).isEqualTo("=3");
+        assertThat(LineDelta.diff("a\nb\nc", "a\nx\nc")).isEqualTo("=1\n-1\n+1\nx\n=1");
+    }
+
+    @Test
+    void oversizedMiddleIsReplacedWholesale() {
+        final String from = lines("old", 1_500);
+        final String to = lines("new", 1_500);
+
+        assertThat(LineDelta.diff(from, to)).startsWith("-1500\n+1500\n");
+        assertRoundTrip(from, to);
+    }
+
+    @Test
+    void randomEditsRoundTrip() {
+        final Random random = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            final List<String> from = randomLines(random);
+            final List<String> to = new ArrayList<>(from);
+            for (int edit = random.nextInt(6); edit > 0; edit--) {
+                final int position = random.nextInt(to.size() + 1);
+                switch (random.nextInt(3)) {
+                    case 0 -> to.add(position, "line " + random.nextInt(5));
+                    case 1 -> {
+                        if (position < to.size()) {
+                            to.remove(position);
+                        }
+                    }
+                    default -> {
+                        if (position < to.size()) {
+                            to.set(position, "changed " + random.nextInt(5));
+                        }
+                    }
+                }
+            }
+            assertRoundTrip(String.join("\n", from), String.join("\n", to));
+        }
+    }
+
+    @Test
+    void malformedScriptIsRejected() {
+        assertThatThrownBy(() -> LineDelta.apply("a", "*1"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void assertRoundTrip(final String from, final String to) {
+        assertThat(LineDelta.apply(from, LineDelta.diff(from, to))).isEqualTo(to);
+    }
+
+    private static List<String> randomLines(final Random random) {
+        final List<String> lines = new ArrayList<>();
+        for (int i = random.nextInt(12); i >= 0; i--) {
+            lines.add("line " + random.nextInt(5));
+        }
+        return lines;
+    }
+
+    private static String lines(final String prefix, final int count) {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(prefix).append(' ').append(i).append('\n');
+        }
+        return text.toString();
+    }
+}
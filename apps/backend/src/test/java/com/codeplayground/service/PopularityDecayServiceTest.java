@@ -0,0 +1,80 @@
+package com.codeplayground.service;
+
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기도 감쇠 기준 시점 서비스 테스트.
+ */
+class PopularityDecayServiceTest extends ApiIntegrationTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    private PopularityDecayService popularityDecayService;
+
+    @BeforeEach
+    void setUp() {
+        popularityDecayService = new PopularityDecayService(jdbcTemplate, new PopularityScoreCalculator(1),
+                entityCacheEvictor, transactionManager);
+        jdbcTemplate.update("UPDATE popularity_decay SET decay_epoch = ?", EPOCH);
+    }
+
+    @AfterEach
+    void restoreEpoch() {
+        jdbcTemplate.update("UPDATE popularity_decay SET decay_epoch = ?", PopularityScoreCalculator.DEFAULT_EPOCH);
+    }
+
+    @Test
+    void rebaseMovesEpochAndRescalesScores() {
+        final Long busy = createSnippet("Busy", "python", "decay").getId();
+        final Long quiet = createSnippet("Quiet", "python", "decay").getId();
+        setScore(busy, Math.pow(2, 70));
+        setScore(quiet, Math.pow(2, 66));
+        assertThat(codeSnippetRepository.findByIdAndIsActiveTrue(busy).orElseThrow().getPopularityScore())
+                .isEqualTo(Math.pow(2, 70));
+
+        assertThat(popularityDecayService.rebaseIfDue(EPOCH.plusHours(63))).isEmpty();
+        assertThat(popularityDecayService.rebaseIfDue(EPOCH.plusHours(72).plusMinutes(10)))
+                .contains(EPOCH.plusHours(72));
+
+        assertThat(score(busy)).isEqualTo(0.25);
+        assertThat(score(quiet)).isEqualTo(1.0 / 64);
+        assertThat(codeSnippetRepository.findByIdAndIsActiveTrue(busy).orElseThrow().getPopularityScore())
+                .isEqualTo(0.25);
+        final LocalDateTime lockedEpoch = new TransactionTemplate(transactionManager)
+                .execute(status -> popularityDecayService.lockEpoch());
+        assertThat(lockedEpoch).isEqualTo(EPOCH.plusHours(72));
+    }
+
+    private void setScore(final Long codeSnippetId, final double score) {
+        jdbcTemplate.update("UPDATE code_snippets SET popularity_score = ? WHERE id = ?", score, codeSnippetId);
+    }
+
+    private double score(final Long codeSnippetId) {
+        return jdbcTemplate.queryForObject("SELECT popularity_score FROM code_snippets WHERE id = ?",
+                Double.class, codeSnippetId);
+    }
+}
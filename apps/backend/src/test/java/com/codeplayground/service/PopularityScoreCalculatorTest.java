@@ -0,0 +1,80 @@
+package com.codeplayground.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 인기도 점수 계산기 테스트.
+ */
+class PopularityScoreCalculatorTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final PopularityScoreCalculator calculator = new PopularityScoreCalculator(24);
+
+    @Test
+    void weightIsOneWithoutHalfLife() {
+        final PopularityScoreCalculator counting = new PopularityScoreCalculator(0);
+
+        assertThat(counting.weightAt(EPOCH.plusYears(10), EPOCH)).isEqualTo(1.0);
+        assertThat(counting.rebasedEpoch(EPOCH, EPOCH.plusYears(10))).isEmpty();
+    }
+
+    @Test
+    void weightDoublesEveryHalfLife() {
+        assertThat(calculator.weightAt(EPOCH, EPOCH)).isEqualTo(1.0);
+        assertThat(calculator.weightAt(EPOCH.plusHours(24), EPOCH)).isEqualTo(2.0);
+        assertThat(calculator.weightAt(EPOCH.plusHours(72), EPOCH)).isEqualTo(8.0);
+    }
+
+    @Test
+    void epochIsRebasedOnlyAfterRebaseExponent() {
+        final LocalDateTime due = EPOCH.plusHours((long) (24 * PopularityScoreCalculator.REBASE_EXPONENT));
+
+        assertThat(calculator.rebasedEpoch(EPOCH, due.minusHours(1))).isEmpty();
+        assertThat(calculator.rebasedEpoch(EPOCH, due.plusMinutes(30))).contains(due);
+    }
+
+    @Test
+    void rebaseKeepsOrderingAcrossTheDecayBoundary() {
+        // 오래전에 많이 실행된 스니펫과 최근에 조금 실행된 스니펫
+        final LocalDateTime rebaseAt = EPOCH.plusDays(80);
+        final double oldBusy = 50 * calculator.weightAt(rebaseAt.minusDays(10), EPOCH);
+        final double recentQuiet = 5 * calculator.weightAt(rebaseAt.minusDays(1), EPOCH);
+
+        final LocalDateTime newEpoch = calculator.rebasedEpoch(EPOCH, rebaseAt).orElseThrow();
+        final double factor = calculator.rescaleFactor(EPOCH, newEpoch);
+        final LocalDateTime later = rebaseAt.plusDays(2);
+        final double oldBusyAfter = oldBusy * factor + calculator.weightAt(later, newEpoch);
+        final double recentQuietAfter = recentQuiet * factor + calculator.weightAt(later, newEpoch);
+
+        // 기준 시점을 옮기지 않고 계산한 점수와 비율이 같아야 합니다.
+        final double oldBusyReference = oldBusy + calculator.weightAt(later, EPOCH);
+        final double recentQuietReference = recentQuiet + calculator.weightAt(later, EPOCH);
+        assertThat(oldBusyAfter / recentQuietAfter)
+                .isCloseTo(oldBusyReference / recentQuietReference, within(1e-9));
+        assertThat(recentQuietAfter).isGreaterThan(oldBusyAfter);
+        assertThat(calculator.weightAt(later, newEpoch)).isEqualTo(4.0);
+    }
+
+    @Test
+    void rebaseRecoversFromSaturatedWeights() {
+        // 반감기 1시간으로 기준 시점에서 2년이 지나면 지수가 최대값을 넘습니다.
+        final PopularityScoreCalculator hourly = new PopularityScoreCalculator(1);
+        final LocalDateTime now = EPOCH.plusYears(2);
+        final double saturated = hourly.weightAt(now, EPOCH);
+        assertThat(hourly.weightAt(now.minusDays(1), EPOCH)).isEqualTo(saturated);
+
+        final LocalDateTime newEpoch = hourly.rebasedEpoch(EPOCH, now).orElseThrow();
+        final double rescaledOldScore = 1_000 * saturated * hourly.rescaleFactor(EPOCH, newEpoch);
+
+        assertThat(Double.isFinite(rescaledOldScore)).isTrue();
+        assertThat(hourly.weightAt(now.plusHours(1), newEpoch))
+                .isGreaterThan(hourly.weightAt(now, newEpoch))
+                .isGreaterThan(rescaledOldScore);
+    }
+}
@@ -0,0 +1,95 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.ShareRequest;
+import com.codeplayground.repository.SharedCodeRepository;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공유 ID 생성과 공유 생성 처리량 벤치마크.
+ * 이전 방식(잘린 UUID를 만들고 existsByShareId로 중복을 확인)과 구성상 고유한 {@link ShareIdGenerator}를 비교합니다.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class ShareCreationBenchmarkTest extends ApiIntegrationTest {
+
+    private static final int IDS = 1_000_000;
+    private static final int SHARES = 2_000;
+
+    @Autowired
+    private ShareIdGenerator shareIdGenerator;
+
+    @Autowired
+    private SharedCodeRepository sharedCodeRepository;
+
+    @Test
+    void generatorIsFasterThanTruncatedUuid() {
+        // 워밍업
+        measureIds(shareIdGenerator::nextShareId);
+        measureIds(ShareCreationBenchmarkTest::truncatedUuid);
+
+        final double generator = measureIds(shareIdGenerator::nextShareId);
+        final double uuid = measureIds(ShareCreationBenchmarkTest::truncatedUuid);
+        System.out.printf("share id generation: generator %.1f ns/id, truncated UUID %.1f ns/id%n", generator, uuid);
+
+        assertThat(generator).isLessThan(uuid);
+    }
+
+    @Test
+    void shareCreationSkipsExistenceCheck() {
+        final Long codeSnippetId = createSnippet("Share bench", "python", "share-bench").getId();
+        final ShareRequest request = new ShareRequest();
+        request.setCodeSnippetId(codeSnippetId);
+        for (int i = 0; i < SHARES / 10; i++) {
+            sharedCodeService.createShare(request);
+        }
+
+        final long checkedStart = System.nanoTime();
+        for (int i = 0; i < SHARES; i++) {
+            // 이전 createShare: 후보 ID마다 존재 여부를 조회한 뒤 INSERT
+            String shareId;
+            do {
+                shareId = truncatedUuid();
+            } while (sharedCodeRepository.findByShareId(shareId).isPresent());
+            sharedCodeService.createShare(request);
+        }
+        final double checked = perSecond(SHARES, System.nanoTime() - checkedStart);
+
+        final long generatedStart = System.nanoTime();
+        for (int i = 0; i < SHARES; i++) {
+            sharedCodeService.createShare(request);
+        }
+        final double generated = perSecond(SHARES, System.nanoTime() - generatedStart);
+
+        System.out.printf("%d shares: existence check + insert %.0f shares/s, generated id insert %.0f shares/s%n",
+                SHARES, checked, generated);
+        assertThat(generated).isGreaterThan(checked);
+    }
+
+    private static double measureIds(final Supplier<String> generator) {
+        int length = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < IDS; i++) {
+            length += generator.get().length();
+        }
+        final long elapsed = System.nanoTime() - start;
+        assertThat(length).isPositive();
+        return (double) elapsed / IDS;
+    }
+
+    private static double perSecond(final int count, final long nanos) {
+        return count * 1_000_000_000.0 / nanos;
+    }
+
+    private static String truncatedUuid() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+}
@@ -0,0 +1,80 @@
+package com.codeplayground.service;
+
+import com.codeplayground.entity.SharedCode;
+import com.codeplayground.repository.SharedCodeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 공유 만료 서비스 테스트.
+ */
+class ShareExpiryServiceTest {
+
+    private static final long SHARED_CODE_ID = 1L;
+
+    private SharedCodeRepository sharedCodeRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ShareExpiryService shareExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        sharedCodeRepository = mock(SharedCodeRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        shareExpiryService = new ShareExpiryService(sharedCodeRepository, mock(StatisticsRollupService.class),
+                mock(ShareResponseCache.class), mock(EntityCacheEvictor.class), mock(JdbcTemplate.class),
+                mock(PlatformTransactionManager.class), meterRegistry, 10, 60, 100, 10, 90, 1000);
+    }
+
+    @Test
+    void failedBatchIsRetriedOnNextTick() {
+        loadExpiration(LocalDateTime.now(ZoneOffset.UTC).minusSeconds(1));
+        when(sharedCodeRepository.findExpiredByIdInForUpdate(anyCollection(), any()))
+                .thenThrow(new IllegalStateException("entity listener failed"))
+                .thenReturn(List.of(mock(SharedCode.class)));
+
+        assertThatCode(shareExpiryService::tick).doesNotThrowAnyException();
+        shareExpiryService.tick();
+
+        verify(sharedCodeRepository, times(2)).findExpiredByIdInForUpdate(eq(List.of(SHARED_CODE_ID)), any());
+        assertThat(meterRegistry.counter("code_playground.shares.expired").count()).isEqualTo(1);
+    }
+
+    @Test
+    void expiryTimeIsReadAsUtcRegardlessOfDefaultZone() {
+        final TimeZone defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+        try {
+            loadExpiration(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(5));
+            shareExpiryService.tick();
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+
+        verify(sharedCodeRepository, never()).findExpiredByIdInForUpdate(anyCollection(), any());
+    }
+
+    private void loadExpiration(final LocalDateTime expiresAt) {
+        when(sharedCodeRepository.findUpcomingExpirations(any(), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{SHARED_CODE_ID, expiresAt}));
+        shareExpiryService.loadOnStartup();
+    }
+}
@@ -0,0 +1,154 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.ShareResponse;
+import com.codeplayground.event.CodeSnippetChangedEvent;
+import com.codeplayground.support.ApiIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 공유 조회 응답 캐시 테스트.
+ */
+class ShareResponseCacheTest extends ApiIntegrationTest {
+
+    private static final long SNIPPET_ID = 1L;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ShareResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ShareResponseCache(transactionManager, new SimpleMeterRegistry(), 100, 300, 30);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void cachedResponseIsServedWithoutLoading() {
+        cache.get("share-a", this::load);
+        cache.get("share-a", this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictRemovesResponse() {
+        cache.get("share-a", this::load);
+        cache.evict("share-a");
+        cache.get("share-a", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void snippetChangeRemovesOnlyItsShares() {
+        cache.get("share-a", this::load);
+        cache.get("share-b", shareId -> Optional.of(response(shareId, 2L)));
+
+        cache.onCodeSnippetChanged(CodeSnippetChangedEvent.deleted(SNIPPET_ID));
+        cache.get("share-a", this::load);
+        cache.get("share-b", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loadStartedBeforeEvictIsNotCached() throws Exception {
+        final Optional<ShareResponse> loaded = loadWhile("share-a", () -> cache.evict("share-a"));
+
+        assertThat(loaded).isPresent();
+        cache.get("share-a", this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loadStartedBeforeSnippetChangeIsNotCached() throws Exception {
+        loadWhile("share-a", () -> cache.onCodeSnippetChanged(CodeSnippetChangedEvent.deleted(SNIPPET_ID)));
+
+        cache.get("share-a", this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void bulkLoadStartedBeforeEvictIsNotCached() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch evicted = new CountDownLatch(1);
+        final CompletableFuture<Void> bulk = CompletableFuture.runAsync(() -> cache.getAll(Set.of("share-a",
+                "share-b"), shareIds -> {
+                    loading.countDown();
+                    awaitQuietly(evicted);
+                    return shareIds.stream().collect(Collectors.toMap(Function.identity(), this::loadedResponse));
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.evict("share-a");
+        evicted.countDown();
+        bulk.get(5, TimeUnit.SECONDS);
+
+        cache.get("share-a", this::load);
+        cache.get("share-b", this::load);
+        assertThat(loads).hasValue(3);
+    }
+
+    private Optional<ShareResponse> loadWhile(final String shareId, final Runnable invalidation) throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch invalidated = new CountDownLatch(1);
+        final CompletableFuture<Optional<ShareResponse>> load = CompletableFuture.supplyAsync(
+                () -> cache.get(shareId, key -> {
+                    loading.countDown();
+                    awaitQuietly(invalidated);
+                    return load(key);
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 같은 키를 로딩하는 동안 항목 제거는 로딩이 끝나기를 기다리므로, 막히거나 끝날 때 로더를 풀어 줍니다.
+        final Thread invalidator = new Thread(invalidation);
+        invalidator.start();
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> invalidator.getState() == Thread.State.BLOCKED || !invalidator.isAlive());
+        invalidated.countDown();
+        invalidator.join();
+        return load.get(5, TimeUnit.SECONDS);
+    }
+
+    private Optional<ShareResponse> load(final String shareId) {
+        return Optional.of(loadedResponse(shareId));
+    }
+
+    private ShareResponse loadedResponse(final String shareId) {
+        loads.incrementAndGet();
+        return response(shareId, SNIPPET_ID);
+    }
+
+    private static ShareResponse response(final String shareId, final Long codeSnippetId) {
+        return ShareResponse.builder()
+                .shareId(shareId)
+                .codeSnippetId(codeSnippetId)
+                .isActive(true)
+                .build();
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
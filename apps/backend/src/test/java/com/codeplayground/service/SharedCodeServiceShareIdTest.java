@@ -0,0 +1,84 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.ShareRequest;
+import com.codeplayground.dto.ShareResponse;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.repository.SharedCodeRepository;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 공유 ID 충돌 시 공유 생성 재시도 테스트.
+ */
+class SharedCodeServiceShareIdTest extends ApiIntegrationTest {
+
+    @Autowired
+    private SharedCodeRepository sharedCodeRepository;
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Autowired
+    private ShareResponseCache shareResponseCache;
+
+    @Autowired
+    private ShareExpiryService shareExpiryService;
+
+    @Autowired
+    private ShareIdGenerator shareIdGenerator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ShareIdGenerator stubGenerator;
+    private SharedCodeService service;
+    private ShareRequest request;
+    private String existingShareId;
+
+    @BeforeEach
+    void setUp() {
+        // 스프링 컨텍스트를 새로 만들지 않도록 공유 ID 생성기만 바꾼 서비스를 직접 만듭니다.
+        stubGenerator = mock(ShareIdGenerator.class);
+        service = new SharedCodeService(sharedCodeRepository, codeSnippetRepository, codeSnippetService,
+                statisticsRollupService, shareResponseCache, stubGenerator, shareExpiryService, transactionManager);
+
+        request = new ShareRequest();
+        request.setCodeSnippetId(createSnippet("Share ID", "python", "share-id").getId());
+        existingShareId = share(request.getCodeSnippetId()).getShareId();
+    }
+
+    @Test
+    void collidingShareIdIsRetriedWithNewId() {
+        final String freshShareId = shareIdGenerator.nextShareId();
+        when(stubGenerator.nextShareId()).thenReturn(existingShareId, freshShareId);
+
+        final ShareResponse response = service.createShare(request);
+
+        assertThat(response.getShareId()).isEqualTo(freshShareId);
+        assertThat(sharedCodeRepository.findByShareId(freshShareId)).isPresent();
+    }
+
+    @Test
+    void persistentCollisionFailsAfterMaxAttempts() {
+        when(stubGenerator.nextShareId()).thenReturn(existingShareId);
+
+        assertThatThrownBy(() -> service.createShare(request)).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shareIdMatchesExistingFormat() {
+        assertThat(existingShareId).hasSize(ShareIdGenerator.SHARE_ID_LENGTH).matches("^[a-zA-Z0-9]{8,50}$");
+    }
+}
@@ -0,0 +1,73 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.SnippetImportResponse;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NDJSON 코드 스니펫 가져오기 처리량 벤치마크.
+ * 목표는 노트북에서 분당 5만 건 이상입니다. 입력은 읽는 만큼만 만들어 스트리밍 처리를 그대로 거칩니다.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class SnippetImportBenchmarkTest extends ApiIntegrationTest {
+
+    private static final int SNIPPETS = 100_000;
+    private static final double TARGET_PER_MINUTE = 50_000;
+
+    @Autowired
+    private SnippetImportService snippetImportService;
+
+    @Test
+    void importsAtLeastFiftyThousandSnippetsPerMinute() throws Exception {
+        snippetImportService.importSnippets(new NdjsonStream(1_000));
+
+        final long start = System.nanoTime();
+        final SnippetImportResponse response = snippetImportService.importSnippets(new NdjsonStream(SNIPPETS));
+        final double minutes = (System.nanoTime() - start) / 60_000_000_000.0;
+        final double perMinute = SNIPPETS / minutes;
+        System.out.printf("imported %d snippets in %.2f s: %.0f snippets/minute (target %.0f)%n",
+                response.getImportedCount(), minutes * 60, perMinute, TARGET_PER_MINUTE);
+
+        assertThat(response.getImportedCount()).isEqualTo(SNIPPETS);
+        assertThat(perMinute).isGreaterThanOrEqualTo(TARGET_PER_MINUTE);
+    }
+
+    /**
+     * 요청한 줄 수만큼 NDJSON을 필요할 때 만들어 내는 입력 스트림.
+     */
+    private static final class NdjsonStream extends InputStream {
+
+        private final int lines;
+        private int line;
+        private byte[] current = new byte[0];
+        private int position;
+
+        NdjsonStream(final int lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int read() {
+            if (position >= current.length) {
+                if (line >= lines) {
+                    return -1;
+                }
+                line++;
+                current = ("{\"title\":\"Imported " + line + "\",\"code\":\"def f():\\n    return " + line
+                        + "\\n\\nprint(f())\",\"language\":\"python\",\"authorName\":\"bulk-import\"}\n")
+                        .getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return current[position++] & 0xFF;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.codeplayground.service;
+
+import com.codeplayground.dto.SnippetVersionResponse;
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.CodeSnippetVersion;
+import com.codeplayground.exception.ResourceNotFoundException;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.repository.CodeSnippetVersionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 코드 스니펫 버전 저장과 복원 테스트.
+ * 버전 리포지토리는 저장된 행을 메모리에 두고 체크포인트부터의 복원 범위를 그대로 흉내 냅니다.
+ */
+class SnippetVersionServiceTest {
+
+    private static final int CHECKPOINT_INTERVAL = 5;
+
+    private final CodeSnippetVersionRepository codeSnippetVersionRepository = mock(CodeSnippetVersionRepository.class);
+    private final CodeSnippetRepository codeSnippetRepository = mock(CodeSnippetRepository.class);
+    private final List<CodeSnippetVersion> rows = new ArrayList<>();
+    private final SnippetVersionService snippetVersionService = new SnippetVersionService(
+            codeSnippetVersionRepository, codeSnippetRepository, new SimpleMeterRegistry(), 100, CHECKPOINT_INTERVAL);
+
+    private CodeSnippet codeSnippet;
+
+    @BeforeEach
+    void setUp() {
+        given(codeSnippetVersionRepository.save(any())).willAnswer(invocation -> {
+            rows.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        given(codeSnippetVersionRepository.findLatestCheckpointVersion(anyLong())).willAnswer(invocation ->
+                rows.stream().filter(CodeSnippetVersion::isCheckpoint)
+                        .map(row -> row.getId().getVersion())
+                        .max(Integer::compare)
+                        .orElse(null));
+        given(codeSnippetVersionRepository.findReconstructionChain(anyLong(), anyInt())).willAnswer(invocation -> {
+            final int version = invocation.getArgument(1);
+            final int checkpoint = rows.stream()
+                    .filter(row -> row.isCheckpoint() && row.getId().getVersion() <= version)
+                    .mapToInt(row -> row.getId().getVersion())
+                    .max()
+                    .orElse(Integer.MAX_VALUE);
+            return rows.stream()
+                    .filter(row -> row.getId().getVersion() >= checkpoint && row.getId().getVersion() <= version)
+                    .toList();
+        });
+
+        codeSnippet = CodeSnippet.builder()
+                .id(7L)
+                .title("Versions")
+                .code(code(0))
+                .language("python")
+                .authorName("versioner")
+                .isActive(true)
+                .build();
+        given(codeSnippetRepository.findByIdAndIsActiveTrue(7L)).willReturn(Optional.of(codeSnippet));
+    }
+
+    @Test
+    void builtSnippetStartsAtVersionOne() {
+        assertThat(codeSnippet.getCurrentVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void everyVersionIsReconstructed() {
+        snippetVersionService.recordInitialVersion(codeSnippet);
+        for (int i = 1; i < 12; i++) {
+            snippetVersionService.updateCode(codeSnippet, code(i));
+        }
+
+        assertThat(codeSnippet.getCurrentVersion()).isEqualTo(12);
+        assertThat(rows).filteredOn(CodeSnippetVersion::isCheckpoint)
+                .extracting(row -> row.getId().getVersion())
+                .containsExactly(1, 6, 11);
+        for (int version = 1; version <= 12; version++) {
+            final SnippetVersionResponse response = snippetVersionService.getVersion(7L, version);
+            assertThat(response.getVersion()).isEqualTo(version);
+            assertThat(response.getCode()).isEqualTo(code(version - 1));
+        }
+    }
+
+    @Test
+    void unchangedCodeDoesNotCreateVersion() {
+        snippetVersionService.recordInitialVersion(codeSnippet);
+        snippetVersionService.updateCode(codeSnippet, code(0));
+
+        assertThat(codeSnippet.getCurrentVersion()).isEqualTo(1);
+        assertThat(rows).hasSize(1);
+    }
+
+    @Test
+    void unknownVersionIsNotFound() {
+        snippetVersionService.recordInitialVersion(codeSnippet);
+        snippetVersionService.updateCode(codeSnippet, code(1));
+
+        assertThatThrownBy(() -> snippetVersionService.getVersion(7L, 0))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> snippetVersionService.getVersion(7L, 3))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> snippetVersionService.getVersion(8L, 1))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    /**
+     * 버전마다 한 줄만 바뀌어 차이가 코드 전체보다 작은 코드.
+     */
+    private static String code(final int revision) {
+        final StringBuilder code = new StringBuilder();
+        for (int line = 0; line < 10; line++) {
+            code.append("print('line ").append(line).append(line == revision % 10 ? " edited " + revision : "")
+                    .append("')\n");
+        }
+        return code.toString();
+    }
+}
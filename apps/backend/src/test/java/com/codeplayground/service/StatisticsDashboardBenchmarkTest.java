@@ -0,0 +1,119 @@
+package com.codeplayground.service;
+
+import com.codeplayground.repository.ExecutionRepository;
+import com.codeplayground.repository.SharedCodeRepository;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 통계 대시보드 벤치마크.
+ * 실행 기록을 1만, 10만, 100만 건으로 늘려 가며 롤업 기반 통계 조회(실행 + 공유)와
+ * 이전의 원본 테이블 집계 쿼리(findExecutionStatistics + findSharingStatistics)의 지연 시간을 비교합니다.
+ *
+ * <p>H2는 데이터가 바뀌지 않으면 같은 쿼리의 결과를 재사용하므로 결과 재사용을 끈 별도 DB에서 측정합니다.</p>
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = "spring.datasource.url="
+        + "jdbc:h2:mem:dashboard-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;OPTIMIZE_REUSE_RESULTS=FALSE")
+class StatisticsDashboardBenchmarkTest extends ApiIntegrationTest {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final String[] STATUSES = {"SUCCESS", "SUCCESS", "SUCCESS", "ERROR", "TIMEOUT"};
+    private static final long ID_OFFSET = 1_000_000_000L;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private SharedCodeRepository sharedCodeRepository;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Test
+    void dashboardStaysFlatAsExecutionsGrow() throws Exception {
+        final Long codeSnippetId = createSnippet("Dashboard", "python", "dashboard").getId();
+        final double[] rollupMillis = new double[SIZES.length];
+        final double[] scanMillis = new double[SIZES.length];
+
+        int seeded = 0;
+        for (int i = 0; i < SIZES.length; i++) {
+            seed(codeSnippetId, seeded, SIZES[i]);
+            seeded = SIZES[i];
+            statisticsRollupService.rebuild();
+
+            rollupMillis[i] = medianMillis(() -> {
+                statisticsRollupService.getExecutionStatistics(null);
+                statisticsRollupService.getShareStatistics();
+            });
+            scanMillis[i] = medianMillis(() -> {
+                executionRepository.findExecutionStatistics();
+                sharedCodeRepository.findSharingStatistics();
+            });
+            System.out.printf("%,9d executions: rollups %7.2f ms, full-table aggregates %8.2f ms%n",
+                    SIZES[i], rollupMillis[i], scanMillis[i]);
+        }
+
+        mockMvc.perform(get("/api/v1/statistics/executions")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/shares/statistics")).andExpect(status().isOk());
+
+        final int last = SIZES.length - 1;
+        assertThat(rollupMillis[last]).isLessThan(Math.max(rollupMillis[0] * 3, rollupMillis[0] + 5));
+        assertThat(rollupMillis[last]).isLessThan(scanMillis[last]);
+    }
+
+    /**
+     * 최근 30일에 고르게 퍼진 실행 기록을 [from, to) 번호로 추가합니다.
+     */
+    private void seed(final Long codeSnippetId, final int from, final int to) {
+        final LocalDateTime now = LocalDateTime.now();
+        final int chunk = 10_000;
+        for (int start = from; start < to; start += chunk) {
+            final List<Object[]> rows = new ArrayList<>(chunk);
+            for (int n = start; n < Math.min(start + chunk, to); n++) {
+                final Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(n % (30 * 24 * 60)));
+                rows.add(new Object[]{ID_OFFSET + n, codeSnippetId, STATUSES[n % STATUSES.length],
+                        (long) (n % 2000), createdAt, createdAt});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO executions (id, code_snippet_id, status, execution_time, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private static double medianMillis(final ThrowingRunnable action) throws Exception {
+        action.run();
+        final double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            final long start = System.nanoTime();
+            action.run();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,122 @@
+package com.codeplayground.service;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.entity.Execution;
+import com.codeplayground.entity.SharedCode;
+import com.codeplayground.entity.enums.ExecutionStatus;
+import com.codeplayground.entity.enums.RollupGranularity;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.support.ApiIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통계 롤업 서비스 테스트 (H2 갱신 경로).
+ */
+class StatisticsRollupServiceTest extends ApiIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentFirstWritesToSameBucketDoNotFail() throws Exception {
+        final String language = "race-" + UUID.randomUUID().toString().substring(0, 8);
+        final CodeSnippet codeSnippet = codeSnippetRepository
+                .findById(createSnippet("Rollup race", language, "roller").getId()).orElseThrow();
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        // 매 라운드 새 분 버킷을 만들어 모든 스레드가 같은 행을 처음 INSERT하도록 합니다.
+                        final Execution execution = Execution.builder()
+                                .codeSnippet(codeSnippet)
+                                .status(ExecutionStatus.SUCCESS)
+                                .executionTime(5L)
+                                .build();
+                        execution.setCreatedAt(LocalDateTime.now().minusMinutes(round));
+                        barrier.await();
+                        transactionTemplate.executeWithoutResult(status ->
+                                statisticsRollupService.recordExecutions(List.of(execution)));
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(statisticsRollupService.getExecutionStatistics(language).getTotalExecutions())
+                .isEqualTo((long) THREADS * ROUNDS);
+    }
+
+    @Test
+    void rebuildKeepsDayBucketsOlderThanRetention() {
+        final String language = "old-" + UUID.randomUUID().toString().substring(0, 8);
+        final Long codeSnippetId = createSnippet("Rollup history", language, "roller").getId();
+        final CodeSnippet codeSnippet = codeSnippetRepository.findById(codeSnippetId).orElseThrow();
+        final LocalDateTime oldDay = LocalDate.now().minusDays(200).atStartOfDay();
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 보존 정리로 원본이 삭제된 뒤 롤업에만 남은 실행과 공유를 만듭니다.
+        final Execution purgedExecution = Execution.builder()
+                .codeSnippet(codeSnippet)
+                .status(ExecutionStatus.SUCCESS)
+                .executionTime(5L)
+                .build();
+        purgedExecution.setCreatedAt(oldDay.plusHours(3));
+        final SharedCode purgedShare = new SharedCode(codeSnippet, "purged", oldDay);
+        purgedShare.setCreatedAt(oldDay.plusHours(1));
+        final long oldSharesBefore = createdShares(oldDay);
+        transactionTemplate.executeWithoutResult(status -> {
+            statisticsRollupService.recordExecutions(List.of(purgedExecution));
+            statisticsRollupService.recordShareCreated(purgedShare);
+        });
+        execute(codeSnippetId);
+
+        statisticsRollupService.rebuild();
+
+        assertThat(statisticsRollupService.getExecutionSeries(RollupGranularity.DAY, oldDay, oldDay.plusDays(1),
+                        language))
+                .singleElement()
+                .satisfies(bucket -> assertThat(bucket.getTotalExecutions()).isEqualTo(1));
+        assertThat(statisticsRollupService.getExecutionStatistics(language).getTotalExecutions()).isEqualTo(2);
+        assertThat(createdShares(oldDay)).isEqualTo(oldSharesBefore + 1);
+    }
+
+    private long createdShares(final LocalDateTime day) {
+        return statisticsRollupService.getShareSeries(RollupGranularity.DAY, day, day.plusDays(1)).stream()
+                .mapToLong(bucket -> bucket.getCreatedShares() == null ? 0 : bucket.getCreatedShares())
+                .sum();
+    }
+}
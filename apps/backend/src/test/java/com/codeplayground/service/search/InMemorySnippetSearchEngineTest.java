@@ -0,0 +1,145 @@
+package com.codeplayground.service.search;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.event.CodeSnippetChangedEvent;
+import com.codeplayground.repository.CodeSnippetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 프로세스 내 역색인 검색 엔진 테스트.
+ */
+class InMemorySnippetSearchEngineTest {
+
+    private final CodeSnippetRepository codeSnippetRepository = mock(CodeSnippetRepository.class);
+    private final InMemorySnippetSearchEngine engine = new InMemorySnippetSearchEngine(codeSnippetRepository,
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void findsSnippetsByExactAndPrefixTokens() {
+        load(row(1L, "Quick sort", "def quickSort(items):\n    return items", "python", "alice"),
+                row(2L, "Binary search", "function binarySearch(values) {}", "javascript", "bob"));
+
+        assertThat(ids("sort")).containsExactly(1L);
+        assertThat(ids("quick items")).containsExactly(1L);
+        assertThat(ids("bin")).containsExactly(2L);
+        assertThat(ids("search")).containsExactly(2L);
+        assertThat(ids("quick binary")).isEmpty();
+        assertThat(ids("qu")).isEmpty();
+        assertThat(ids("return", "javascript", null)).isEmpty();
+        assertThat(ids("return", "python", "alice")).containsExactly(1L);
+    }
+
+    @Test
+    void resultsAreNewestFirst() {
+        load(row(1L, "First", "shared", "python", "alice"),
+                row(5L, "Second", "shared", "python", "alice"),
+                row(3L, "Third", "shared", "python", "alice"));
+
+        assertThat(ids("shared")).containsExactly(5L, 3L, 1L);
+    }
+
+    @Test
+    void updateReplacesTokensAndDeleteRemovesSnippet() {
+        load(row(1L, "Greeting", "print('hello')", "python", "alice"),
+                row(2L, "Farewell", "print('goodbye')", "python", "alice"));
+
+        engine.onCodeSnippetChanged(saved(1L, "print('welcome')"));
+        assertThat(ids("hello")).isEmpty();
+        assertThat(ids("welcome")).containsExactly(1L);
+        assertThat(ids("print")).containsExactly(2L, 1L);
+
+        engine.onCodeSnippetChanged(CodeSnippetChangedEvent.deleted(2L));
+        assertThat(ids("goodbye")).isEmpty();
+        assertThat(ids("print")).containsExactly(1L);
+    }
+
+    @Test
+    void compactionRenumbersDocuments() {
+        load(row(1L, "Counter", "counter0", "python", "alice"),
+                row(2L, "Stable", "stable", "python", "alice"));
+
+        for (int i = 1; i <= 10_050; i++) {
+            engine.onCodeSnippetChanged(saved(1L, "counter" + i));
+        }
+
+        assertThat(engine.documentSlots()).isLessThan(100);
+        assertThat(ids("stable")).containsExactly(2L);
+        assertThat(ids("counter10050")).containsExactly(1L);
+        assertThat(ids("counter0")).isEmpty();
+        assertThat(ids("counter")).containsExactly(1L);
+    }
+
+    @Test
+    void prefixMatchingManyTokensMissesNothing() {
+        final List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            rows.add(row(id, "T", "handler" + letters(id), "python", "alice"));
+        }
+        load(rows.toArray(Object[][]::new));
+
+        assertThat(search("handler").getTotalElements()).isEqualTo(1_000);
+        assertThat(search("handlera").getTotalElements()).isEqualTo(26 * 26);
+        assertThat(search("handlerb").getTotalElements()).isEqualTo(1_000 - 26 * 26);
+        assertThat(search("handlerbc").getTotalElements()).isEqualTo(26);
+    }
+
+    private void load(final Object[]... rows) {
+        given(codeSnippetRepository.streamActiveSearchFields()).willReturn(List.of(rows).stream());
+        given(codeSnippetRepository.findAllById(anyIterable())).willAnswer(invocation -> {
+            final List<CodeSnippet> snippets = new ArrayList<>();
+            for (final Object id : (Iterable<?>) invocation.getArgument(0)) {
+                snippets.add(CodeSnippet.builder().id((Long) id).isActive(true).build());
+            }
+            return snippets;
+        });
+        engine.loadIndex();
+    }
+
+    private Page<CodeSnippet> search(final String keyword) {
+        return engine.search(keyword, null, null, PageRequest.of(0, 20));
+    }
+
+    private List<Long> ids(final String keyword) {
+        return ids(keyword, null, null);
+    }
+
+    private List<Long> ids(final String keyword, final String language, final String authorName) {
+        return engine.search(keyword, language, authorName, PageRequest.of(0, 20)).getContent().stream()
+                .map(CodeSnippet::getId)
+                .toList();
+    }
+
+    private static Object[] row(final Long id, final String title, final String code, final String language,
+                                final String authorName) {
+        return new Object[]{id, title, code, language, authorName};
+    }
+
+    private static CodeSnippetChangedEvent saved(final Long id, final String code) {
+        return CodeSnippetChangedEvent.saved(CodeSnippet.builder()
+                .id(id)
+                .title("Updated")
+                .code(code)
+                .language("python")
+                .authorName("alice")
+                .build());
+    }
+
+    /**
+     * 숫자나 대문자 없이 토큰이 나뉘지 않는 세 글자 접미사 (aaa, aab, ...).
+     */
+    private static String letters(final long id) {
+        final long value = id - 1;
+        return "" + (char) ('a' + value / 676) + (char) ('a' + value / 26 % 26) + (char) ('a' + value % 26);
+    }
+}
@@ -0,0 +1,93 @@
+package com.codeplayground.service.search;
+
+import com.codeplayground.entity.CodeSnippet;
+import com.codeplayground.repository.CodeSnippetRepository;
+import com.codeplayground.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스니펫 검색 벤치마크 (PostgreSQL, 스니펫 100만 건).
+ * 같은 데이터에서 LIKE 검색과 전문/트라이그램 검색의 지연 시간을 비교하고, 실행 계획이 인덱스를 쓰는지 확인합니다.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다. 데이터 적재에 수 분이 걸립니다.</p>
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SnippetSearchBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int SNIPPETS = 1_000_000;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CodeSnippetRepository codeSnippetRepository;
+
+    @Autowired
+    private SnippetSearchEngine searchEngine;
+
+    @BeforeAll
+    void seed() {
+        // 스니펫마다 고유 식별자(parseConfig<n>)와 흔한 단어(print)를 넣고, 1000건에 한 번 드문 단어를 넣습니다.
+        jdbcTemplate.update("INSERT INTO code_snippets (title, code, language, author_name, created_at, updated_at) " +
+                "SELECT 'Snippet ' || g, " +
+                "'def parseConfig' || g || '(path):' || chr(10) || '    print(path)' || " +
+                "CASE WHEN g % 1000 = 0 THEN chr(10) || '    return quicksortRare(path)' ELSE '' END, " +
+                "CASE WHEN g % 2 = 0 THEN 'python' ELSE 'javascript' END, 'author' || (g % 500), " +
+                "NOW() - g * INTERVAL '1 second', NOW() " +
+                "FROM generate_series(1, ?) AS g", SNIPPETS);
+        jdbcTemplate.execute("ANALYZE code_snippets");
+    }
+
+    @Test
+    void fullTextSearchBeatsLikeScan() {
+        final SnippetSearchEngine likeEngine = new LikeSnippetSearchEngine(codeSnippetRepository);
+        assertThat(searchEngine).isInstanceOf(PostgresSnippetSearchEngine.class);
+
+        for (final String keyword : List.of("quicksortRare", "parseConfig424242", "Config42424")) {
+            final double likeMs = medianMillis(() -> likeEngine.search(keyword, null, null, PageRequest.of(0, 20)));
+            final double indexedMs = medianMillis(() -> searchEngine.search(keyword, null, null,
+                    PageRequest.of(0, 20)));
+            System.out.printf("search %-18s like %8.1f ms  postgres %8.1f ms%n", keyword, likeMs, indexedMs);
+
+            assertThat(indexedMs).as("indexed search for %s", keyword).isLessThan(likeMs);
+        }
+    }
+
+    @Test
+    void searchUsesIndexes() {
+        final String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM code_snippets cs WHERE cs.is_active = TRUE AND " +
+                        "(cs.search_vector @@ websearch_to_tsquery('simple', 'quicksortRare') OR " +
+                        "cs.title ILIKE '%quicksortRare%' OR cs.code ILIKE '%quicksortRare%')", String.class));
+
+        assertThat(plan).contains("idx_code_snippets_search_vector", "idx_code_snippets_code_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    private static double medianMillis(final Supplier<Page<CodeSnippet>> search) {
+        search.get();
+        final double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            final long start = System.nanoTime();
+            search.get();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+}
@@ -0,0 +1,83 @@
+package com.codeplayground.support;
+
+import com.codeplayground.dto.CodeSnippetRequest;
+import com.codeplayground.dto.CodeSnippetResponse;
+import com.codeplayground.dto.ExecutionRequest;
+import com.codeplayground.dto.ExecutionResponse;
+import com.codeplayground.dto.ShareRequest;
+import com.codeplayground.dto.ShareResponse;
+import com.codeplayground.service.CodeSnippetService;
+import com.codeplayground.service.ExecutionService;
+import com.codeplayground.service.SharedCodeService;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * API 통합 테스트 기반 클래스.
+ * H2 테스트 프로필로 애플리케이션 전체를 띄우고, 모든 요청에 {@link QueryBudgetExtension} 검증을 적용합니다.
+ *
+ * <p>애플리케이션 컨텍스트와 데이터베이스는 테스트 클래스끼리 공유되므로, 테스트는 자신이 만든 데이터만 검증해야 합니다.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(QueryBudgetExtension.class)
+public abstract class ApiIntegrationTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected CodeSnippetService codeSnippetService;
+
+    @Autowired
+    protected ExecutionService executionService;
+
+    @Autowired
+    protected SharedCodeService sharedCodeService;
+
+    /**
+     * 코드 스니펫을 만듭니다.
+     *
+     * @param title      제목
+     * @param language   프로그래밍 언어
+     * @param authorName 작성자 이름
+     * @return 생성된 코드 스니펫
+     */
+    protected CodeSnippetResponse createSnippet(final String title, final String language, final String authorName) {
+        final CodeSnippetRequest request = new CodeSnippetRequest();
+        request.setTitle(title);
+        request.setCode("print('hello world')");
+        request.setLanguage(language);
+        request.setAuthorName(authorName);
+        return codeSnippetService.createCodeSnippet(request);
+    }
+
+    /**
+     * 코드 스니펫을 실행합니다. 모킹된 실행기는 hello world 코드를 항상 성공으로 처리합니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @return 저장된 실행 기록
+     */
+    protected ExecutionResponse execute(final Long codeSnippetId) {
+        final ExecutionRequest request = new ExecutionRequest();
+        request.setCodeSnippetId(codeSnippetId);
+        return executionService.executeCode(request);
+    }
+
+    /**
+     * 코드 스니펫의 공유를 만듭니다.
+     *
+     * @param codeSnippetId 코드 스니펫 ID
+     * @return 생성된 공유
+     */
+    protected ShareResponse share(final Long codeSnippetId) {
+        final ShareRequest request = new ShareRequest();
+        request.setCodeSnippetId(codeSnippetId);
+        return sharedCodeService.createShare(request);
+    }
+}
@@ -0,0 +1,38 @@
+package com.codeplayground.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL 통합 테스트 기반 클래스.
+ * 운영과 같은 버전의 PostgreSQL 컨테이너에 Flyway 마이그레이션을 적용하고 애플리케이션 전체를 띄웁니다.
+ * 파티션, 전문 검색처럼 H2로 검증할 수 없는 동작을 확인할 때 사용합니다.
+ *
+ * <p>컨테이너는 JVM당 한 번만 시작해 스프링 컨텍스트 캐시와 함께 재사용하며,
+ * Docker를 사용할 수 없는 환경에서는 테스트를 건너뜁니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("codeplayground");
+
+    @DynamicPropertySource
+    static void postgresProperties(final DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("code-playground.search.engine", () -> "postgres");
+    }
+}
@@ -0,0 +1,67 @@
+package com.codeplayground.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@link com.codeplayground.config.QueryBudget} 검증 JUnit 확장.
+ * 테스트 중에 처리된 요청 중 하나라도 컨트롤러 메서드의 최대 SQL 실행 수를 넘으면 테스트를 실패시킵니다.
+ *
+ * <p>요청별 SQL 수는 애플리케이션의 datasource-proxy 집계를 그대로 사용하며,
+ * {@code code_playground.http.db.budget.exceeded} 카운터가 테스트 전후로 늘었는지 확인합니다.
+ * 응답 본문이 없는 304 응답처럼 응답 헤더로 확인할 수 없는 요청도 검증됩니다.</p>
+ *
+ * <pre>{@code
+ * @SpringBootTest
+ * @ExtendWith(QueryBudgetExtension.class)
+ * class CodeSnippetControllerQueryBudgetTest { ... }
+ * }</pre>
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final String EXCEEDED_COUNTER = "code_playground.http.db.budget.exceeded";
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        context.getStore(NAMESPACE).put(EXCEEDED_COUNTER, exceededCounts(meterRegistry(context)));
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) {
+        @SuppressWarnings("unchecked")
+        final Map<String, Double> before = context.getStore(NAMESPACE).get(EXCEEDED_COUNTER, Map.class);
+        final Map<String, Double> exceeded = new TreeMap<>();
+        exceededCounts(meterRegistry(context)).forEach((handler, count) -> {
+            final double increase = count - before.getOrDefault(handler, 0.0);
+            if (increase > 0) {
+                exceeded.put(handler, increase);
+            }
+        });
+        if (!exceeded.isEmpty()) {
+            throw new AssertionError("@QueryBudget exceeded by " + exceeded
+                    + " (handler=requests); see the 'exceeding its budget' warnings for actual counts");
+        }
+    }
+
+    private static MeterRegistry meterRegistry(final ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(MeterRegistry.class);
+    }
+
+    private static Map<String, Double> exceededCounts(final MeterRegistry meterRegistry) {
+        final Map<String, Double> counts = new HashMap<>();
+        for (final Counter counter : meterRegistry.find(EXCEEDED_COUNTER).counters()) {
+            counts.merge(counter.getId().getTag("handler"), counter.count(), Double::sum);
+        }
+        return counts;
+    }
+}
@@ -7,6 +7,7 @@ import {
   ShareInfo,
   ShareRequest,
   PageResponse,
+  BulkResponse,
   ApiError,
 } from '@/types';
 
@@ -71,6 +72,12 @@ export const codeSnippetApi = {
     return response.data;
   },
 
+  // 여러 코드 스니펫을 한 번에 조회 (최대 100개)
+  getByIds: async (ids: number[]): Promise<BulkResponse<number, CodeSnippet>> => {
+    const response = await api.get(`/snippets?ids=${ids.join(',')}`);
+    return response.data;
+  },
+
   // 코드 스니펫 생성
   create: async (request: CodeSnippetRequest): Promise<CodeSnippet> => {
     const response = await api.post('/snippets', request);
@@ -127,6 +134,12 @@ export const executionApi = {
     return response.data;
   },
 
+  // 여러 실행 기록을 한 번에 조회 (최대 100개)
+  getByIds: async (executionIds: number[]): Promise<BulkResponse<number, ExecutionResult>> => {
+    const response = await api.get(`/executions?ids=${executionIds.join(',')}`);
+    return response.data;
+  },
+
   // 코드 스니펫의 실행 기록 조회
   getHistory: async (codeSnippetId: number, page = 0, size = 20): Promise<PageResponse<ExecutionResult>> => {
     const response = await api.get(`/executions/snippet/${codeSnippetId}?page=${page}&size=${size}`);
@@ -168,6 +181,12 @@ export const shareApi = {
     return response.data;
   },
 
+  // 여러 공유 정보를 한 번에 조회 (최대 100개)
+  getByShareIds: async (shareIds: string[]): Promise<BulkResponse<string, ShareInfo>> => {
+    const response = await api.get(`/shares?ids=${shareIds.map(encodeURIComponent).join(',')}`);
+    return response.data;
+  },
+
   // 공유 비활성화
   deactivate: async (shareId: string): Promise<void> => {
     await api.delete(`/shares/${shareId}`);
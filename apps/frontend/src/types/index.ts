@@ -12,6 +12,7 @@ export interface CodeSnippet {
   language: ProgrammingLanguage;
   authorName: string;
   isActive: boolean;
+  version: number; // 현재 코드 버전
   createdAt: string;
   updatedAt: string;
   executionCount: number;
@@ -30,12 +31,17 @@ export interface CodeSnippetRequest {
 export interface ExecutionResult {
   id: number;
   codeSnippetId: number;
+  codeVersion?: number; // 실행한 스니펫 버전 (사용자 지정 코드면 없음)
   status: ExecutionStatus;
-  output?: string;
-  errorMessage?: string;
+  output?: string; // 목록 응답에서는 미리보기
+  errorMessage?: string; // 목록 응답에서는 미리보기
+  outputBytes?: number;
+  errorMessageBytes?: number;
+  truncated?: boolean; // true이면 상세 조회로 전체 출력 조회 가능
   executionTime: number;
   memoryUsage?: number;
   createdAt: string;
+  pending?: boolean; // 저장 확인 전 응답(202)이면 true, 이때 id와 createdAt 없음
 }
 
 // 실행 요청 타입
@@ -67,12 +73,20 @@ export interface ShareRequest {
 // 페이징 응답 타입
 export interface PageResponse<T> {
   content: T[];
-  page: number;
+  page: number | null; // 커서 요청이면 null
   size: number;
-  totalElements: number;
-  totalPages: number;
+  totalElements: number | null; // 커서 요청이면 null
+  totalPages: number | null; // 커서 요청이면 null
   first: boolean;
   last: boolean;
+  nextCursor: string | null;
+}
+
+// ID 목록 일괄 조회 응답 타입 (items는 요청한 ID 순서)
+export interface BulkResponse<K, T> {
+  items: { id: K; found: boolean; data: T | null }[];
+  requestedCount: number;
+  foundCount: number;
 }
 
 // API 에러 타입
@@ -119,6 +119,10 @@ resource "aws_ecs_task_definition" "backend" {
           name  = "SPRING_DATASOURCE_URL"
           value = "jdbc:postgresql://${aws_db_instance.main.endpoint}/${var.database_name}"
         },
+        {
+          name  = "DATABASE_REPLICA_URLS"
+          value = join(",", [for replica in aws_db_instance.replica : "jdbc:postgresql://${replica.endpoint}/${var.database_name}"])
+        },
         {
           name  = "SPRING_DATASOURCE_USERNAME"
           value = var.database_username
@@ -142,6 +146,12 @@ resource "aws_ecs_task_definition" "backend" {
         {
           name  = "APP_BASE_URL"
           value = "http://${aws_lb.main.dns_name}"
+        },
+        # SHARE_ID_NODE_ID is left unset: each task picks a random node id and
+        # createShare retries with a new id if two tasks ever produce the same one.
+        {
+          name  = "SHARE_ID_SECRET"
+          value = var.share_id_secret
         }
       ]
 
@@ -65,4 +65,27 @@ resource "aws_db_instance" "main" {
     Name = "${var.project_name}-db"
     Environment = var.environment
   }
-}
\ No newline at end of file
+}
+
+# RDS Read Replicas (read-only transactions are routed here by the backend)
+resource "aws_db_instance" "replica" {
+  count = var.rds_read_replica_count
+
+  identifier          = "${var.project_name}-db-replica-${count.index + 1}"
+  replicate_source_db = aws_db_instance.main.identifier
+
+  instance_class    = var.rds_instance_class
+  storage_encrypted = true
+
+  vpc_security_group_ids = [aws_security_group.rds.id]
+
+  backup_retention_period = 0
+
+  skip_final_snapshot = true
+  deletion_protection = false
+
+  tags = {
+    Name = "${var.project_name}-db-replica-${count.index + 1}"
+    Environment = var.environment
+  }
+}
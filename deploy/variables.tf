@@ -78,6 +78,12 @@ variable "rds_allocated_storage" {
   default     = 100
 }
 
+variable "rds_read_replica_count" {
+  description = "Number of RDS read replicas serving read-only transactions (0 disables read routing)"
+  type        = number
+  default     = 0
+}
+
 # ElastiCache Configuration
 variable "redis_node_type" {
   description = "Redis node type"
@@ -157,4 +163,10 @@ variable "jwt_secret" {
   description = "JWT secret key"
   type        = string
   sensitive   = true
+}
+
+variable "share_id_secret" {
+  description = "Secret key used to encrypt generated share IDs"
+  type        = string
+  sensitive   = true
 }
\ No newline at end of file